@@ -0,0 +1,146 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2018 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.transition.util;
+
+import android.animation.Animator;
+import android.animation.AnimatorListenerAdapter;
+import android.animation.ObjectAnimator;
+import android.animation.PropertyValuesHolder;
+import android.os.Build;
+import android.os.Debug;
+import android.view.View;
+import android.view.ViewGroup;
+
+import org.junit.Rule;
+import org.junit.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import androidx.test.filters.SdkSuppress;
+import androidx.test.platform.app.InstrumentationRegistry;
+import androidx.test.rule.ActivityTestRule;
+import universum.studios.android.test.instrumented.InstrumentedTestCase;
+import universum.studios.android.test.instrumented.TestActivity;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.number.OrderingComparison.lessThanOrEqualTo;
+
+/**
+ * Benchmark comparing CPU time spent on the main thread while animating scale and translation of
+ * attached views via {@link ObjectAnimator ObjectAnimators} and via {@link ViewPropertyAnimatorWrapper ViewPropertyAnimatorWrappers}.
+ *
+ * @author Martin Albedinsky
+ */
+@SdkSuppress(minSdkVersion = Build.VERSION_CODES.LOLLIPOP)
+public final class ViewPropertyAnimatorWrapperBenchmarkTest extends InstrumentedTestCase {
+
+	private static final int[] TARGET_COUNTS = {1, 10, 100};
+	private static final long DURATION = 500;
+	private static final int WARM_UP_ROUNDS = 2;
+
+	@Rule public final ActivityTestRule<TestActivity> ACTIVITY_RULE = new ActivityTestRule<>(TestActivity.class);
+
+	@Test public void testAnimateViews() throws Exception {
+		final ViewGroup container = ACTIVITY_RULE.getActivity().findViewById(TestActivity.CONTENT_VIEW_ID);
+		for (final int targetCount : TARGET_COUNTS) {
+			// Arrange:
+			final View[] views = new View[targetCount];
+			InstrumentationRegistry.getInstrumentation().runOnMainSync(new Runnable() {
+
+				@Override public void run() {
+					container.removeAllViews();
+					for (int i = 0; i < views.length; i++) {
+						views[i] = new View(container.getContext());
+						container.addView(views[i], new ViewGroup.LayoutParams(10, 10));
+					}
+				}
+			});
+			waitForIdleSync();
+			for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+				runAnimators(views, false);
+				runAnimators(views, true);
+			}
+			// Act:
+			final long objectAnimatorsTime = runAnimators(views, false);
+			final long viewPropertyAnimatorsTime = runAnimators(views, true);
+			// Assert:
+			assertThat(
+					"targets: " + targetCount +
+							", object animators: " + objectAnimatorsTime / 1000 + " us" +
+							", view property animators: " + viewPropertyAnimatorsTime / 1000 + " us",
+					viewPropertyAnimatorsTime,
+					lessThanOrEqualTo(objectAnimatorsTime)
+			);
+		}
+	}
+
+	/**
+	 * Runs animators for the given views to their end and returns CPU time spent meanwhile on the
+	 * main thread, including drawing of the animated frames.
+	 */
+	private static long runAnimators(final View[] views, final boolean viewPropertyAnimators) throws InterruptedException {
+		final CountDownLatch latch = new CountDownLatch(views.length);
+		final long[] times = new long[2];
+		final Animator.AnimatorListener listener = new AnimatorListenerAdapter() {
+
+			@Override public void onAnimationEnd(final Animator animation) {
+				latch.countDown();
+				if (latch.getCount() == 0) {
+					times[1] = Debug.threadCpuTimeNanos();
+				}
+			}
+		};
+		InstrumentationRegistry.getInstrumentation().runOnMainSync(new Runnable() {
+
+			@Override public void run() {
+				times[0] = Debug.threadCpuTimeNanos();
+				for (final View view : views) {
+					final Animator animator = viewPropertyAnimators ?
+							createViewPropertyAnimator(view) :
+							createObjectAnimator(view);
+					animator.setDuration(DURATION);
+					animator.addListener(listener);
+					animator.start();
+				}
+			}
+		});
+		assertThat(latch.await(DURATION * 10, TimeUnit.MILLISECONDS), is(true));
+		return times[1] - times[0];
+	}
+
+	private static Animator createObjectAnimator(final View view) {
+		return ObjectAnimator.ofPropertyValuesHolder(
+				view,
+				PropertyValuesHolder.ofFloat(View.SCALE_X, 0.5f, 1f),
+				PropertyValuesHolder.ofFloat(View.SCALE_Y, 0.5f, 1f),
+				PropertyValuesHolder.ofFloat(View.TRANSLATION_X, 100f, 0f),
+				PropertyValuesHolder.ofFloat(View.TRANSLATION_Y, 100f, 0f)
+		);
+	}
+
+	private static Animator createViewPropertyAnimator(final View view) {
+		return new ViewPropertyAnimatorWrapper(view)
+				.animateProperty(ViewPropertyAnimatorWrapper.SCALE_X, 0.5f, 1f)
+				.animateProperty(ViewPropertyAnimatorWrapper.SCALE_Y, 0.5f, 1f)
+				.animateProperty(ViewPropertyAnimatorWrapper.TRANSLATION_X, 100f, 0f)
+				.animateProperty(ViewPropertyAnimatorWrapper.TRANSLATION_Y, 100f, 0f);
+	}
+}
@@ -0,0 +1,412 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2018 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.transition.util;
+
+import android.animation.Animator;
+import android.os.Build;
+import android.view.Choreographer;
+
+import androidx.annotation.IntRange;
+import androidx.annotation.NonNull;
+import androidx.annotation.RequiresApi;
+import androidx.annotation.UiThread;
+import androidx.annotation.VisibleForTesting;
+
+/**
+ * Per-frame timing metrics of an animation played by {@link AnimatorWrapper} with requested
+ * {@link AnimatorWrapper#METRICS} feature.
+ * <p>
+ * Metrics are recorded via {@link Choreographer} frame callbacks from the moment the wrapper is
+ * started until its animation ends. Durations of frames are recorded into a preallocated ring buffer
+ * which holds durations of the last {@link #MAX_RECORDED_FRAMES} frames, so recording does not
+ * allocate regardless of length of the animation. A frame is considered as over budget if it took
+ * more than one and half of the {@link #getFrameBudget() frame budget}, that is at least one frame
+ * has been dropped.
+ * <p>
+ * Frame budget is determined when recording starts as the interval between vsync pulses of the
+ * display. The interval is derived from refresh rate specified via {@link #setDisplayRefreshRate(float)}
+ * or from {@link #DEFAULT_FRAME_BUDGET}. As durations of frames are multiples of that interval,
+ * the interval is lowered to the shortest frame recorded by any recording which recorded at least
+ * {@link #MIN_FRAMES_TO_OBSERVE_INTERVAL} frames, so a display with higher refresh rate is detected.
+ * The interval is never raised by a recording, so a recording in which all frames have been
+ * dropped does not hide dropped frames of subsequent recordings.
+ * <p>
+ * All durations are in nanoseconds.
+ *
+ * @author Martin Albedinsky
+ * @since 1.4
+ *
+ * @see AnimatorWrapper#setMetricsReporter(Reporter)
+ */
+@UiThread
+@RequiresApi(Build.VERSION_CODES.JELLY_BEAN)
+public final class AnimationMetrics {
+
+	/*
+	 * Constants ===================================================================================
+	 */
+
+	/**
+	 * Log TAG.
+	 */
+	// private static final String TAG = "AnimationMetrics";
+
+	/**
+	 * Maximum count of the most recent frame durations held by the metrics.
+	 */
+	public static final int MAX_RECORDED_FRAMES = 120;
+
+	/**
+	 * Duration of a single frame at 60 frames per second. Used as frame budget until the vsync
+	 * interval is observed or specified.
+	 */
+	public static final long DEFAULT_FRAME_BUDGET = 1000000000L / 60;
+
+	/**
+	 * Minimum count of frames which a recording needs to record in order to be used to observe
+	 * the vsync interval.
+	 */
+	public static final int MIN_FRAMES_TO_OBSERVE_INTERVAL = 10;
+
+	/*
+	 * Interface ===================================================================================
+	 */
+
+	/**
+	 * Reporter which receives metrics of animations played by wrappers with requested
+	 * {@link AnimatorWrapper#METRICS} feature.
+	 *
+	 * @author Martin Albedinsky
+	 * @since 1.4
+	 */
+	public interface Reporter {
+
+		/**
+		 * Invoked whenever animation of the given <var>animator</var> has ended.
+		 * <p>
+		 * The metrics are reused by the animator for its next run, so they should not be held by
+		 * the reporter.
+		 *
+		 * @param animator The animator of which animation has ended.
+		 * @param metrics  Metrics recorded for the animation.
+		 */
+		void onReportMetrics(@NonNull Animator animator, @NonNull AnimationMetrics metrics);
+	}
+
+	/*
+	 * Static members ==============================================================================
+	 */
+
+	/**
+	 * Interval between vsync pulses of the display used as frame budget for new recordings.
+	 */
+	private static long frameInterval = DEFAULT_FRAME_BUDGET;
+
+	/*
+	 * Members =====================================================================================
+	 */
+
+	/**
+	 * Ring buffer with durations of the most recent frames.
+	 */
+	private final long[] frameDurations = new long[MAX_RECORDED_FRAMES];
+
+	/**
+	 * Callback used to receive frames from {@link Choreographer}.
+	 */
+	private final Choreographer.FrameCallback frameCallback = new Choreographer.FrameCallback() {
+
+		/**
+		 */
+		@Override public void doFrame(final long frameTimeNanos) {
+			if (recording) {
+				onFrame(frameTimeNanos);
+				Choreographer.getInstance().postFrameCallback(this);
+			}
+		}
+	};
+
+	/**
+	 * Boolean flag indicating whether these metrics are being recorded.
+	 */
+	private boolean recording;
+
+	/**
+	 * Time when recording has been started.
+	 */
+	private long startTime;
+
+	/**
+	 * Duration of a single frame determined when recording has been started.
+	 */
+	private long frameBudget = DEFAULT_FRAME_BUDGET;
+
+	/**
+	 * Duration above which is a frame considered as over budget.
+	 */
+	private long overBudgetThreshold = DEFAULT_FRAME_BUDGET + DEFAULT_FRAME_BUDGET / 2;
+
+	/**
+	 * Time of the last recorded frame.
+	 */
+	private long lastFrameTime;
+
+	/**
+	 * Delay between start of the recording and the first frame or {@code -1} if there has been no
+	 * frame recorded yet.
+	 */
+	private long firstFrameDelay = -1;
+
+	/**
+	 * Count of recorded frames.
+	 */
+	private int frameCount;
+
+	/**
+	 * Count of recorded frames that have been over budget.
+	 */
+	private int overBudgetFrameCount;
+
+	/**
+	 * Durations of the shortest and of the longest recorded frame.
+	 */
+	private long minFrameDuration, maxFrameDuration;
+
+	/**
+	 * Total duration of all recorded frames.
+	 */
+	private long totalFrameDuration;
+
+	/*
+	 * Constructors ================================================================================
+	 */
+
+	/**
+	 * Creates a new instance of AnimationMetrics.
+	 */
+	AnimationMetrics() {
+		super();
+	}
+
+	/*
+	 * Methods =====================================================================================
+	 */
+
+	/**
+	 * Specifies refresh rate of the display on which are animations played, so frame budget of
+	 * recordings started from now on may be derived from it. The budget derived from this rate is
+	 * lowered if a subsequent recording observes a shorter vsync interval.
+	 * <p>
+	 * Refresh rate may be obtained via {@link android.view.Display#getRefreshRate() Display.getRefreshRate()}.
+	 *
+	 * @param refreshRate The refresh rate in frames per second. Non-positive rates are ignored.
+	 */
+	public static void setDisplayRefreshRate(final float refreshRate) {
+		if (refreshRate > 0) {
+			frameInterval = Math.round(1000000000d / refreshRate);
+		}
+	}
+
+	/**
+	 * Resets these metrics and starts recording of frames.
+	 *
+	 * @see #stop()
+	 */
+	void start() {
+		this.reset(System.nanoTime());
+		if (!recording) {
+			this.recording = true;
+			Choreographer.getInstance().postFrameCallback(frameCallback);
+		}
+	}
+
+	/**
+	 * Resets these metrics as if recording has been started at the specified <var>startTime</var>.
+	 *
+	 * @param startTime Time when recording has been started.
+	 */
+	@VisibleForTesting void reset(final long startTime) {
+		this.startTime = startTime;
+		this.frameBudget = frameInterval;
+		this.overBudgetThreshold = frameBudget + frameBudget / 2;
+		this.minFrameDuration = 0;
+		this.lastFrameTime = 0;
+		this.firstFrameDelay = -1;
+		this.frameCount = 0;
+		this.overBudgetFrameCount = 0;
+		this.maxFrameDuration = 0;
+		this.totalFrameDuration = 0;
+	}
+
+	/**
+	 * Records a frame which occurred at the specified <var>frameTime</var>.
+	 *
+	 * @param frameTime Time of the frame.
+	 */
+	@VisibleForTesting void onFrame(final long frameTime) {
+		if (firstFrameDelay == -1) {
+			this.firstFrameDelay = Math.max(0, frameTime - startTime);
+		} else {
+			final long duration = frameTime - lastFrameTime;
+			this.frameDurations[frameCount % MAX_RECORDED_FRAMES] = duration;
+			this.frameCount++;
+			this.totalFrameDuration += duration;
+			if (duration > 0 && (minFrameDuration == 0 || duration < minFrameDuration)) {
+				this.minFrameDuration = duration;
+			}
+			if (duration > maxFrameDuration) {
+				this.maxFrameDuration = duration;
+			}
+			if (duration > overBudgetThreshold) {
+				this.overBudgetFrameCount++;
+			}
+		}
+		this.lastFrameTime = frameTime;
+	}
+
+	/**
+	 * Stops recording of frames. The recorded metrics remain available until recording is started
+	 * again.
+	 *
+	 * @see #start()
+	 */
+	void stop() {
+		if (recording) {
+			this.recording = false;
+			Choreographer.getInstance().removeFrameCallback(frameCallback);
+			this.observeFrameInterval();
+		}
+	}
+
+	/**
+	 * Lowers the vsync interval used as frame budget for new recordings to the duration of the
+	 * shortest recorded frame, if enough frames have been recorded and that frame is shorter than
+	 * the current interval.
+	 */
+	@VisibleForTesting void observeFrameInterval() {
+		if (frameCount >= MIN_FRAMES_TO_OBSERVE_INTERVAL && minFrameDuration > 0 && minFrameDuration < frameInterval) {
+			frameInterval = minFrameDuration;
+		}
+	}
+
+	/**
+	 * Checks whether these metrics are being recorded.
+	 *
+	 * @return {@code True} if recording is in progress, {@code false} otherwise.
+	 */
+	public boolean isRecording() {
+		return recording;
+	}
+
+	/**
+	 * Returns the delay between start of the animation and the first frame.
+	 *
+	 * @return First frame delay or {@code -1} if there has been no frame yet.
+	 */
+	public long getFirstFrameDelay() {
+		return firstFrameDelay;
+	}
+
+	/**
+	 * Returns count of frames recorded after the first frame.
+	 *
+	 * @return Count of frames.
+	 */
+	@IntRange(from = 0) public int getFrameCount() {
+		return frameCount;
+	}
+
+	/**
+	 * Returns duration of a single frame determined when recording has been started.
+	 *
+	 * @return Frame budget in nanoseconds.
+	 */
+	public long getFrameBudget() {
+		return frameBudget;
+	}
+
+	/**
+	 * Returns count of frames that took more than one and half of {@link #getFrameBudget()}.
+	 *
+	 * @return Count of frames over budget.
+	 */
+	@IntRange(from = 0) public int getOverBudgetFrameCount() {
+		return overBudgetFrameCount;
+	}
+
+	/**
+	 * Returns duration of the longest frame.
+	 *
+	 * @return Maximum frame duration or {@code 0} if there have been no frames recorded.
+	 */
+	public long getMaxFrameDuration() {
+		return maxFrameDuration;
+	}
+
+	/**
+	 * Returns average duration of all recorded frames.
+	 *
+	 * @return Average frame duration or {@code 0} if there have been no frames recorded.
+	 */
+	public long getAverageFrameDuration() {
+		return frameCount == 0 ? 0 : totalFrameDuration / frameCount;
+	}
+
+	/**
+	 * Returns count of durations held by the ring buffer of these metrics.
+	 *
+	 * @return Count of frame durations which may be obtained via {@link #getFrameDuration(int)}.
+	 */
+	@IntRange(from = 0, to = MAX_RECORDED_FRAMES) public int getRecordedFrameCount() {
+		return Math.min(frameCount, MAX_RECORDED_FRAMES);
+	}
+
+	/**
+	 * Returns duration of a recorded frame at the specified <var>index</var>. Frames are ordered
+	 * from the oldest one still held by the ring buffer to the most recent one.
+	 *
+	 * @param index Index of the desired frame from the range {@code [0, getRecordedFrameCount())}.
+	 * @return Duration of the frame.
+	 * @throws IndexOutOfBoundsException If the index is out of the recorded frames range.
+	 */
+	public long getFrameDuration(final int index) {
+		final int recordedCount = getRecordedFrameCount();
+		if (index < 0 || index >= recordedCount) {
+			throw new IndexOutOfBoundsException("Frame index(" + index + ") is out of range [0, " + recordedCount + ").");
+		}
+		return frameDurations[(frameCount - recordedCount + index) % MAX_RECORDED_FRAMES];
+	}
+
+	/**
+	 */
+	@Override @NonNull public String toString() {
+		return "AnimationMetrics{" +
+				"firstFrameDelay: " + firstFrameDelay / 1000000f + "ms" +
+				", frameBudget: " + frameBudget / 1000000f + "ms" +
+				", frames: " + frameCount +
+				", overBudgetFrames: " + overBudgetFrameCount +
+				", maxFrameDuration: " + maxFrameDuration / 1000000f + "ms" +
+				", averageFrameDuration: " + getAverageFrameDuration() / 1000000f + "ms" +
+				"}";
+	}
+
+	/*
+	 * Inner classes ===============================================================================
+	 */
+}
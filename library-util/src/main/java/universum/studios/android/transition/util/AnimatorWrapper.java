@@ -26,16 +26,27 @@ import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.util.ArrayList;
 
+import androidx.annotation.FloatRange;
 import androidx.annotation.IntDef;
+import androidx.annotation.IntRange;
 import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.RequiresApi;
 import androidx.annotation.VisibleForTesting;
-import androidx.collection.ArrayMap;
 
 /**
  * A {@link Animator} implementation that may be used to wrap an instance of animator in order to
  * 'suppress' some of its features like pausing and resuming for instance.
+ * <p>
+ * Wrappers may be reused via {@link #obtain(Animator)} and {@link #recycle()}. A recycled wrapper
+ * is held in a bounded pool of the current thread until it is obtained again, and any attempt to
+ * use it before that results in {@link IllegalStateException}.
+ * <p>
+ * Durations and start delays of all wrappers are scaled by a process-wide time scale which may be
+ * specified via {@link #setTimeScale(float)}. The current time scale is applied whenever a wrapper
+ * is started, so a changed time scale affects only wrappers which have not been started yet.
+ * Animators which are not driven by duration, like spring animators, are affected only in theirs
+ * start delay.
  *
  * @author Martin Albedinsky
  * @since 1.0
@@ -100,6 +111,19 @@ public class AnimatorWrapper extends Animator {
 	 */
 	public static final int CANCEL = 0x00000001 << 4;
 
+	/**
+	 * Flag for indicating to the animator wrapper that it should record {@link AnimationMetrics}
+	 * of its animation whenever started and report them to the reporter specified via
+	 * {@link #setMetricsReporter(AnimationMetrics.Reporter)} when the animation ends.
+	 * <p>
+	 * <b>Note, that this feature is not part of {@link #ALL} features and is supported only on
+	 * {@link Build.VERSION_CODES#JELLY_BEAN JELLY_BEAN} and above.</b>
+	 *
+	 * @see #getMetrics()
+	 * @since 1.4
+	 */
+	public static final int METRICS = 0x00000001 << 5;
+
 	/**
 	 * Defines an annotation for determining set of allowed features for AnimatorWrapper.
 	 *
@@ -112,7 +136,8 @@ public class AnimatorWrapper extends Animator {
 			PAUSE,
 			RESUME,
 			END,
-			CANCEL
+			CANCEL,
+			METRICS
 	})
 	public @interface WrapperFeatures {}
 
@@ -121,6 +146,11 @@ public class AnimatorWrapper extends Animator {
 	 */
 	public static final int ALL = START | PAUSE | RESUME | END | CANCEL;
 
+	/**
+	 * Maximum count of recycled wrappers held in {@link #POOL} for a single thread.
+	 */
+	@VisibleForTesting static final int MAX_POOL_SIZE = 8;
+
 	/*
 	 * Interface ===================================================================================
 	 */
@@ -129,14 +159,31 @@ public class AnimatorWrapper extends Animator {
 	 * Static members ==============================================================================
 	 */
 
+	/**
+	 * Pool of recycled wrappers used by {@link #obtain(Animator)}.
+	 */
+	@VisibleForTesting static final Pool<AnimatorWrapper> POOL = new Pool<>(MAX_POOL_SIZE);
+
+	/**
+	 * Reporter to which to report metrics recorded by wrappers with requested {@link #METRICS} feature.
+	 */
+	private static AnimationMetrics.Reporter metricsReporter;
+
+	/**
+	 * Scale applied to durations and start delays of all wrappers.
+	 */
+	private static volatile float timeScale = 1f;
+
 	/*
 	 * Members =====================================================================================
 	 */
 
 	/**
 	 * Wrapped animator instance.
+	 *
+	 * @see #replaceWrappedAnimator(Animator)
 	 */
-	private final Animator animator;
+	private Animator animator;
 
 	/**
 	 * Set of feature flags specified for this wrapper.
@@ -144,18 +191,59 @@ public class AnimatorWrapper extends Animator {
 	private int features = ALL;
 
 	/**
-	 * Map containing animator listener wrappers mapped to theirs wrapped listeners used for purpose
-	 * of adding/removing of listeners via {@link #addListener(AnimatorListener)} and
-	 * {@link #removeListener(AnimatorListener)}.
+	 * Duration specified for this wrapper, not scaled by the time scale.
+	 */
+	private long duration;
+
+	/**
+	 * Boolean flag indicating whether {@link #duration} has been specified.
+	 */
+	private boolean durationSpecified;
+
+	/**
+	 * Start delay specified for this wrapper, not scaled by the time scale.
+	 */
+	private long startDelay;
+
+	/**
+	 * Boolean flag indicating whether {@link #startDelay} has been specified.
+	 */
+	private boolean startDelaySpecified;
+
+	/**
+	 * Dispatcher holding listeners added via {@link #addListener(AnimatorListener)}. The dispatcher
+	 * is registered upon the wrapped animator as its only listener while there is at least one
+	 * listener added.
+	 */
+	private ListenerDispatcher listenerDispatcher;
+
+	/**
+	 * Boolean flag indicating whether the listener dispatcher is registered upon the wrapped animator.
+	 */
+	private boolean listenerDispatcherRegistered;
+
+	/**
+	 * Dispatcher holding pause listeners added via {@link #addPauseListener(AnimatorPauseListener)}.
+	 * The dispatcher is registered upon the wrapped animator as its only pause listener while there
+	 * is at least one pause listener added.
+	 */
+	private PauseListenerDispatcher pauseListenerDispatcher;
+
+	/**
+	 * Boolean flag indicating whether this wrapper has been recycled and not obtained again yet.
 	 */
-	private ArrayMap<AnimatorListener, AnimatorListenerWrapper> listenerWrappers;
+	private boolean recycled;
 
 	/**
-	 * Map containing animator pause listener wrappers mapped to theirs wrapped listeners used for
-	 * purpose of adding/removing of pause listeners via {@link #addPauseListener(AnimatorPauseListener)}
-	 * and {@link #removePauseListener(AnimatorPauseListener)}.
+	 * Boolean flag indicating whether this wrapper has been requested to be recycled while it was
+	 * dispatching the end callback, so it should be recycled once the dispatching finishes.
 	 */
-	private ArrayMap<AnimatorPauseListener, AnimatorPauseListenerWrapper> pauseListenerWrappers;
+	private boolean recyclePending;
+
+	/**
+	 * Metrics recorded for the last animation of this wrapper. Reused for each animation.
+	 */
+	private AnimationMetrics metrics;
 
 	/*
 	 * Constructors ================================================================================
@@ -175,17 +263,222 @@ public class AnimatorWrapper extends Animator {
 	 * Methods =====================================================================================
 	 */
 
+	/**
+	 * Obtains a wrapper for the given <var>animator</var>. The wrapper is taken from the pool of
+	 * recycled wrappers of the current thread or created if the pool is empty.
+	 *
+	 * @param animator The animator to be wrapped.
+	 * @return Wrapper with all features requested and no listeners.
+	 *
+	 * @see #recycle()
+	 * @since 1.4
+	 */
+	@NonNull public static AnimatorWrapper obtain(@NonNull final Animator animator) {
+		final AnimatorWrapper wrapper = POOL.acquire();
+		if (wrapper == null) {
+			return new AnimatorWrapper(animator);
+		}
+		wrapper.reuse(animator);
+		return wrapper;
+	}
+
+	/**
+	 * Reuses this recycled wrapper to wrap the given <var>animator</var>.
+	 * <p>
+	 * This should be called by implementations which pool theirs own recycled wrappers, after such
+	 * wrapper has been taken from the pool.
+	 *
+	 * @param animator The animator to be wrapped.
+	 * @throws IllegalStateException If this wrapper has not been recycled.
+	 *
+	 * @see #onRecycle(Animator)
+	 * @since 1.4
+	 */
+	protected final void reuse(@NonNull final Animator animator) {
+		if (!recycled) {
+			throw new IllegalStateException("Cannot reuse wrapper which has not been recycled.");
+		}
+		this.animator = animator;
+		this.recycled = false;
+	}
+
+	/**
+	 * Recycles this wrapper so it may be reused via {@link #obtain(Animator)}. All listeners are
+	 * removed, all features are requested and the wrapped animator is released.
+	 * <p>
+	 * If called while the end callback is being dispatched to the listeners of this wrapper, like
+	 * from {@link AnimatorListener#onAnimationEnd(Animator)}, this wrapper is recycled once the
+	 * callback has been dispatched to all listeners.
+	 * <p>
+	 * <b>Note, that the wrapped animator is not cancelled by this call and that the wrapper must not
+	 * be used after it has been recycled.</b>
+	 *
+	 * @throws IllegalStateException If this wrapper has been already recycled.
+	 *
+	 * @see #isRecycled()
+	 * @since 1.4
+	 */
+	public void recycle() {
+		this.assertNotRecycled();
+		if (listenerDispatcher != null && listenerDispatcher.dispatchingEnd) {
+			this.recyclePending = true;
+		} else {
+			this.performRecycle();
+		}
+	}
+
+	/**
+	 * Performs recycling of this wrapper.
+	 *
+	 * @see #recycle()
+	 */
+	private void performRecycle() {
+		final Animator recycledAnimator = animator;
+		if (metrics != null && Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN) {
+			this.metrics.stop();
+		}
+		if (listenerDispatcher != null) {
+			if (listenerDispatcherRegistered) {
+				recycledAnimator.removeListener(listenerDispatcher);
+				this.listenerDispatcherRegistered = false;
+			}
+			this.listenerDispatcher.removeAllListeners();
+		}
+		if (pauseListenerDispatcher != null && Build.VERSION.SDK_INT >= Build.VERSION_CODES.KITKAT) {
+			if (pauseListenerDispatcher.hasListeners()) {
+				recycledAnimator.removePauseListener(pauseListenerDispatcher);
+			}
+			this.pauseListenerDispatcher.removeAllListeners();
+		}
+		this.features = ALL;
+		this.durationSpecified = false;
+		this.startDelaySpecified = false;
+		this.animator = null;
+		this.recycled = true;
+		this.recyclePending = false;
+		this.onRecycle(recycledAnimator);
+	}
+
+	/**
+	 * Invoked whenever this wrapper has been recycled.
+	 * <p>
+	 * Default implementation releases this wrapper into the pool used by {@link #obtain(Animator)},
+	 * but only if this wrapper is not an instance of subclass of AnimatorWrapper. Implementations
+	 * which want to reuse theirs instances should reset theirs state and release this wrapper into
+	 * theirs own pool.
+	 *
+	 * @param animator The animator which has been wrapped before this wrapper has been recycled.
+	 *
+	 * @see #reuse(Animator)
+	 * @since 1.4
+	 */
+	protected void onRecycle(@NonNull final Animator animator) {
+		if (getClass() == AnimatorWrapper.class) {
+			POOL.release(this);
+		}
+	}
+
+	/**
+	 * Checks whether this wrapper has been recycled.
+	 *
+	 * @return {@code True} if this wrapper has been recycled and not obtained again yet, {@code false}
+	 * otherwise.
+	 *
+	 * @see #recycle()
+	 * @since 1.4
+	 */
+	public final boolean isRecycled() {
+		return recycled;
+	}
+
+	/**
+	 * Asserts that this wrapper has not been recycled.
+	 *
+	 * @throws IllegalStateException If this wrapper has been recycled.
+	 */
+	private void assertNotRecycled() {
+		if (recycled) {
+			throw new IllegalStateException("Cannot use wrapper which has been already recycled.");
+		}
+	}
+
 	/**
 	 * Returns the animator wrapped by this wrapper.
 	 *
 	 * @return The wrapped animator.
+	 * @throws IllegalStateException If this wrapper has been recycled.
 	 *
 	 * @see #AnimatorWrapper(Animator)
+	 * @see #replaceWrappedAnimator(Animator)
 	 */
 	@NonNull public final Animator getWrappedAnimator() {
+		this.assertNotRecycled();
 		return animator;
 	}
 
+	/**
+	 * Replaces the currently wrapped animator with the specified one. All listeners added to this
+	 * wrapper are moved from the current animator to the new one, so they will continue to receive
+	 * callbacks as if there was still only one animation running. Callback about animation start is
+	 * dispatched to the listeners only once until the animation ends.
+	 * <p>
+	 * This may be used by implementations that need to continue an animation via a new animator,
+	 * like when the wrapped animator does not support pausing.
+	 * <p>
+	 * <b>Note, that the current animator is not cancelled by this call, so it should be cancelled
+	 * by the caller after it has been replaced.</b>
+	 *
+	 * @param animator The new animator to be wrapped.
+	 *
+	 * @see #getWrappedAnimator()
+	 */
+	protected final void replaceWrappedAnimator(@NonNull final Animator animator) {
+		this.assertNotRecycled();
+		final Animator previousAnimator = this.animator;
+		if (previousAnimator == animator) {
+			return;
+		}
+		this.animator = animator;
+		if (listenerDispatcherRegistered) {
+			previousAnimator.removeListener(listenerDispatcher);
+			animator.addListener(listenerDispatcher);
+		}
+		if (pauseListenerDispatcher != null && pauseListenerDispatcher.hasListeners() && Build.VERSION.SDK_INT >= Build.VERSION_CODES.KITKAT) {
+			previousAnimator.removePauseListener(pauseListenerDispatcher);
+			animator.addPauseListener(pauseListenerDispatcher);
+		}
+	}
+
+	/**
+	 * Dispatches {@link AnimatorPauseListener#onAnimationPause(Animator)} callback to all pause
+	 * listeners added to this wrapper.
+	 * <p>
+	 * This may be used by implementations that emulate pausing of the wrapped animator.
+	 *
+	 * @see #dispatchAnimationResume()
+	 */
+	@RequiresApi(Build.VERSION_CODES.KITKAT)
+	protected final void dispatchAnimationPause() {
+		if (pauseListenerDispatcher != null) {
+			this.pauseListenerDispatcher.onAnimationPause(animator);
+		}
+	}
+
+	/**
+	 * Dispatches {@link AnimatorPauseListener#onAnimationResume(Animator)} callback to all pause
+	 * listeners added to this wrapper.
+	 * <p>
+	 * This may be used by implementations that emulate resuming of the wrapped animator.
+	 *
+	 * @see #dispatchAnimationPause()
+	 */
+	@RequiresApi(Build.VERSION_CODES.KITKAT)
+	protected final void dispatchAnimationResume() {
+		if (pauseListenerDispatcher != null) {
+			this.pauseListenerDispatcher.onAnimationResume(animator);
+		}
+	}
+
 	/**
 	 * Specifies set of features for this wrapper.
 	 * <p>
@@ -198,6 +491,7 @@ public class AnimatorWrapper extends Animator {
 	 * @see #removeFeature(int)
 	 */
 	public void requestFeatures(@WrapperFeatures final int features) {
+		this.assertNotRecycled();
 		this.features = features;
 	}
 
@@ -211,6 +505,7 @@ public class AnimatorWrapper extends Animator {
 	 * @see #removeFeature(int)
 	 */
 	public void requestFeature(@WrapperFeatures final int feature) {
+		this.assertNotRecycled();
 		this.features |= feature;
 	}
 
@@ -223,6 +518,7 @@ public class AnimatorWrapper extends Animator {
 	 * @see #hasFeature(int)
 	 */
 	public void removeFeature(@WrapperFeatures final int feature) {
+		this.assertNotRecycled();
 		this.features &= ~feature;
 	}
 
@@ -236,36 +532,203 @@ public class AnimatorWrapper extends Animator {
 	 * @see #requestFeature(int)
 	 */
 	public boolean hasFeature(@WrapperFeatures final int feature) {
+		this.assertNotRecycled();
 		return (features & feature) != 0;
 	}
 
 	/**
 	 */
 	@Override public void addListener(@NonNull final AnimatorListener listener) {
-		this.ensureListenerWrappers();
-		if (!listenerWrappers.containsKey(listener)) {
-			final AnimatorListenerWrapper wrapper = new AnimatorListenerWrapper(listener, this);
-			this.listenerWrappers.put(listener, wrapper);
-			this.animator.addListener(wrapper);
+		this.assertNotRecycled();
+		this.ensureListenerDispatcher();
+		if (listenerDispatcher.addListener(listener)) {
+			this.updateListenerDispatcherRegistration();
 		}
 	}
 
 	/**
 	 */
 	@Override public void removeListener(@NonNull final AnimatorListener listener) {
-		this.ensureListenerWrappers();
-		final AnimatorListenerWrapper wrapper = listenerWrappers.get(listener);
-		if (wrapper != null) {
-			this.listenerWrappers.remove(listener);
-			this.animator.removeListener(wrapper);
+		this.assertNotRecycled();
+		if (listenerDispatcher != null && listenerDispatcher.removeListener(listener)) {
+			this.updateListenerDispatcherRegistration();
+		}
+	}
+
+	/**
+	 * Ensures that the listener dispatcher is initialized.
+	 */
+	private void ensureListenerDispatcher() {
+		if (listenerDispatcher == null) this.listenerDispatcher = new ListenerDispatcher(this);
+	}
+
+	/**
+	 * Registers the listener dispatcher upon the wrapped animator if there are some listeners to
+	 * be dispatched or metrics are being recorded, otherwise unregisters it.
+	 */
+	private void updateListenerDispatcherRegistration() {
+		final boolean register = listenerDispatcher.hasListeners() || isRecordingMetrics();
+		if (register != listenerDispatcherRegistered) {
+			if (register) {
+				this.animator.addListener(listenerDispatcher);
+			} else {
+				this.animator.removeListener(listenerDispatcher);
+			}
+			this.listenerDispatcherRegistered = register;
+		}
+	}
+
+	/**
+	 * Specifies a reporter to which should be reported metrics recorded by all wrappers with
+	 * requested {@link #METRICS} feature.
+	 *
+	 * @param reporter The desired reporter. May be {@code null} to clear the current one.
+	 *
+	 * @see AnimationMetrics.Reporter#onReportMetrics(Animator, AnimationMetrics)
+	 * @since 1.4
+	 */
+	public static void setMetricsReporter(@Nullable final AnimationMetrics.Reporter reporter) {
+		metricsReporter = reporter;
+	}
+
+	/**
+	 * Specifies a scale to be applied to durations and start delays of all wrappers. This may be
+	 * used to speed up all animations on low-end devices or when animations start to drop frames,
+	 * like from {@link AnimationMetrics.Reporter}.
+	 * <p>
+	 * The time scale is applied whenever a wrapper is started, so the specified scale affects only
+	 * wrappers which have not been started yet. Wrapped animators which ignore duration, like those
+	 * driven by springs, are affected only in theirs start delay.
+	 * <p>
+	 * Default value: <b>{@code 1.0}</b>
+	 *
+	 * @param scale The desired time scale. {@code 0.5} makes animations twice as fast, {@code 0}
+	 *              makes them end immediately.
+	 * @throws IllegalArgumentException If the scale is negative.
+	 *
+	 * @see #getTimeScale()
+	 * @since 1.4
+	 */
+	public static void setTimeScale(@FloatRange(from = 0) final float scale) {
+		if (scale < 0) {
+			throw new IllegalArgumentException("Time scale must not be negative.");
+		}
+		timeScale = scale;
+	}
+
+	/**
+	 * Returns the scale applied to durations and start delays of all wrappers.
+	 *
+	 * @return Time scale.
+	 *
+	 * @see #setTimeScale(float)
+	 * @since 1.4
+	 */
+	@FloatRange(from = 0) public static float getTimeScale() {
+		return timeScale;
+	}
+
+	/**
+	 * Scales the given <var>time</var> by the current time scale.
+	 * <p>
+	 * This may be used by implementations which start theirs own animators, like to continue an
+	 * animation via a new animator, so such animators respect the time scale.
+	 *
+	 * @param time The time in milliseconds to be scaled.
+	 * @return Scaled time or the given time if it is negative.
+	 *
+	 * @see #setTimeScale(float)
+	 * @since 1.4
+	 */
+	public static long applyTimeScale(final long time) {
+		return scaleTime(time, timeScale);
+	}
+
+	/**
+	 * Scales the given <var>time</var> by the specified <var>scale</var>.
+	 *
+	 * @param time  The time to be scaled.
+	 * @param scale The scale to be applied.
+	 * @return Scaled time or the given time if it is negative.
+	 */
+	private static long scaleTime(final long time, final float scale) {
+		return time <= 0 || scale == 1 ? time : Math.round(time * (double) scale);
+	}
+
+	/**
+	 * Applies the current time scale to duration and start delay of the wrapped animator.
+	 */
+	private void applyTimeScaleToAnimator() {
+		final float scale = timeScale;
+		if (!durationSpecified && scale != 1) {
+			final long animatorDuration = animator.getDuration();
+			if (animatorDuration >= 0) {
+				this.duration = animatorDuration;
+				this.durationSpecified = true;
+			}
+		}
+		if (!startDelaySpecified && scale != 1) {
+			this.startDelay = animator.getStartDelay();
+			this.startDelaySpecified = true;
+		}
+		if (durationSpecified && duration >= 0) {
+			this.animator.setDuration(scaleTime(duration, scale));
+		}
+		if (startDelaySpecified) {
+			this.animator.setStartDelay(scaleTime(startDelay, scale));
+		}
+	}
+
+	/**
+	 * Returns the metrics recorded for the last animation of this wrapper.
+	 *
+	 * @return The metrics or {@code null} if this wrapper has not been started with requested
+	 * {@link #METRICS} feature yet.
+	 *
+	 * @see #requestFeature(int)
+	 * @since 1.4
+	 */
+	@RequiresApi(Build.VERSION_CODES.JELLY_BEAN)
+	@Nullable public AnimationMetrics getMetrics() {
+		this.assertNotRecycled();
+		return metrics;
+	}
+
+	/**
+	 * Checks whether metrics of the current animation are being recorded.
+	 *
+	 * @return {@code True} if recording, {@code false} otherwise.
+	 */
+	private boolean isRecordingMetrics() {
+		return metrics != null && Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN && metrics.isRecording();
+	}
+
+	/**
+	 * Starts recording of metrics for the animation which is about to be started.
+	 */
+	@RequiresApi(Build.VERSION_CODES.JELLY_BEAN)
+	private void startMetrics() {
+		if (metrics == null) {
+			this.metrics = new AnimationMetrics();
 		}
+		this.metrics.start();
+		this.ensureListenerDispatcher();
+		this.updateListenerDispatcherRegistration();
 	}
 
 	/**
-	 * Ensures that the map with listener wrappers is initialized.
+	 * Invoked by the listener dispatcher whenever the wrapped animation has ended in order to stop
+	 * recording of metrics and report them.
 	 */
-	private void ensureListenerWrappers() {
-		if (listenerWrappers == null) this.listenerWrappers = new ArrayMap<>(1);
+	private void onWrappedAnimationEnd() {
+		if (isRecordingMetrics()) {
+			this.metrics.stop();
+			this.updateListenerDispatcherRegistration();
+			final AnimationMetrics.Reporter reporter = metricsReporter;
+			if (reporter != null) {
+				reporter.onReportMetrics(this, metrics);
+			}
+		}
 	}
 
 	/**
@@ -275,17 +738,16 @@ public class AnimatorWrapper extends Animator {
 	 * @see #removeFeature(int)
 	 */
 	@Override public void addPauseListener(@NonNull final AnimatorPauseListener listener) {
+		this.assertNotRecycled();
 		if (Build.VERSION.SDK_INT < Build.VERSION_CODES.KITKAT) {
 			return;
 		}
 		if (hasFeature(PAUSE) || hasFeature(RESUME)) {
-			if (pauseListenerWrappers == null) {
-				this.pauseListenerWrappers = new ArrayMap<>(1);
+			if (pauseListenerDispatcher == null) {
+				this.pauseListenerDispatcher = new PauseListenerDispatcher(this);
 			}
-			if (!pauseListenerWrappers.containsKey(listener)) {
-				final AnimatorPauseListenerWrapper wrapper = new AnimatorPauseListenerWrapper(listener, this);
-				this.pauseListenerWrappers.put(listener, wrapper);
-				this.animator.addPauseListener(wrapper);
+			if (pauseListenerDispatcher.addListener(listener) && pauseListenerDispatcher.getListenersCount() == 1) {
+				this.animator.addPauseListener(pauseListenerDispatcher);
 			}
 		}
 	}
@@ -293,68 +755,83 @@ public class AnimatorWrapper extends Animator {
 	/**
 	 */
 	@Override public void removePauseListener(@NonNull final AnimatorPauseListener listener) {
+		this.assertNotRecycled();
 		if (Build.VERSION.SDK_INT < Build.VERSION_CODES.KITKAT) {
 			return;
 		}
-		if (pauseListenerWrappers != null) {
-			final AnimatorPauseListenerWrapper wrapper = pauseListenerWrappers.get(listener);
-			if (wrapper != null) {
-				this.pauseListenerWrappers.remove(listener);
-				this.animator.removePauseListener(wrapper);
-			}
+		if (pauseListenerDispatcher != null && pauseListenerDispatcher.removeListener(listener) && !pauseListenerDispatcher.hasListeners()) {
+			this.animator.removePauseListener(pauseListenerDispatcher);
 		}
 	}
 
 	/**
+	 * The returned list is cached until the listeners change, so it should not be modified.
 	 */
 	@Override @NonNull public ArrayList<AnimatorListener> getListeners() {
-		return listenerWrappers == null ?
-				new ArrayList<AnimatorListener>(0) :
-				new ArrayList<>(listenerWrappers.keySet());
+		this.assertNotRecycled();
+		this.ensureListenerDispatcher();
+		return listenerDispatcher.getListeners();
 	}
 
 	/**
 	 */
 	@Override public void removeAllListeners() {
-		if (listenerWrappers != null) {
-			this.listenerWrappers.clear();
-			this.listenerWrappers = null;
-		}
-		if (pauseListenerWrappers != null) {
-			this.pauseListenerWrappers.clear();
-			this.pauseListenerWrappers = null;
+		this.assertNotRecycled();
+		if (pauseListenerDispatcher != null) {
+			this.pauseListenerDispatcher.removeAllListeners();
 		}
 		this.animator.removeAllListeners();
+		if (listenerDispatcher != null) {
+			this.listenerDispatcher.removeAllListeners();
+			this.listenerDispatcherRegistered = false;
+			// Keep receiving the end callback if metrics of the current animation are being recorded.
+			this.updateListenerDispatcherRegistration();
+		}
 	}
 
 	/**
 	 */
 	@Override public void setStartDelay(final long startDelay) {
-		this.animator.setStartDelay(startDelay);
+		this.assertNotRecycled();
+		this.startDelay = startDelay;
+		this.startDelaySpecified = true;
+		this.animator.setStartDelay(applyTimeScale(startDelay));
 	}
 
 	/**
+	 * Returns the start delay not scaled by the time scale.
+	 *
+	 * @see #setTimeScale(float)
 	 */
 	@Override public long getStartDelay() {
-		return animator.getStartDelay();
+		this.assertNotRecycled();
+		return startDelaySpecified ? startDelay : animator.getStartDelay();
 	}
 
 	/**
 	 */
 	@Override public Animator setDuration(final long duration) {
-		this.animator.setDuration(duration);
+		this.assertNotRecycled();
+		this.duration = duration;
+		this.durationSpecified = true;
+		this.animator.setDuration(applyTimeScale(duration));
 		return this;
 	}
 
 	/**
+	 * Returns the duration not scaled by the time scale.
+	 *
+	 * @see #setTimeScale(float)
 	 */
 	@Override public long getDuration() {
-		return animator.getDuration();
+		this.assertNotRecycled();
+		return durationSpecified ? duration : animator.getDuration();
 	}
 
 	/**
 	 */
 	@Override public void setInterpolator(@Nullable final TimeInterpolator interpolator) {
+		this.assertNotRecycled();
 		this.animator.setInterpolator(interpolator);
 	}
 
@@ -362,28 +839,40 @@ public class AnimatorWrapper extends Animator {
 	 */
 	@RequiresApi(Build.VERSION_CODES.JELLY_BEAN_MR2)
 	@Override public TimeInterpolator getInterpolator() {
+		this.assertNotRecycled();
 		return Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR2 ? animator.getInterpolator() : null;
 	}
 
 	/**
 	 */
 	@Override public void setTarget(@Nullable final Object target) {
+		this.assertNotRecycled();
 		this.animator.setTarget(target);
 	}
 
 	/**
 	 * Ignored if there is no {@link #START} feature requested.
+	 * <p>
+	 * The current time scale is applied to the wrapped animator before it is started. If there is
+	 * {@link #METRICS} feature requested, recording of metrics for the animation is also started.
 	 *
 	 * @see #requestFeature(int)
 	 * @see #removeFeature(int)
 	 */
 	@Override public void start() {
-		if (hasFeature(START)) animator.start();
+		if (hasFeature(START)) {
+			this.applyTimeScaleToAnimator();
+			if (hasFeature(METRICS) && Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN) {
+				this.startMetrics();
+			}
+			this.animator.start();
+		}
 	}
 
 	/**
 	 */
 	@Override public boolean isStarted() {
+		this.assertNotRecycled();
 		return Build.VERSION.SDK_INT >= Build.VERSION_CODES.ICE_CREAM_SANDWICH && animator.isStarted();
 	}
 
@@ -405,6 +894,7 @@ public class AnimatorWrapper extends Animator {
 	/**
 	 */
 	@Override public boolean isPaused() {
+		this.assertNotRecycled();
 		return Build.VERSION.SDK_INT >= Build.VERSION_CODES.KITKAT && animator.isPaused();
 	}
 
@@ -447,6 +937,7 @@ public class AnimatorWrapper extends Animator {
 	/**
 	 */
 	@Override public boolean isRunning() {
+		this.assertNotRecycled();
 		return animator.isRunning();
 	}
 
@@ -455,108 +946,385 @@ public class AnimatorWrapper extends Animator {
 	 */
 
 	/**
-	 * Base class for animator listener wrappers used by {@link AnimatorWrapper} to support proper
-	 * dispatching of animation callbacks to the wrapped listener.
+	 * Base class for listener dispatchers used by {@link AnimatorWrapper} to dispatch animation
+	 * callbacks received from the wrapped animator to all listeners added to the wrapper.
+	 * <p>
+	 * Listeners are held in a copy-on-write array, so dispatching of a callback only iterates over
+	 * the current array and a listener may be safely added or removed during the dispatch.
 	 *
-	 * @param <L> Type of the listener to wrap.
+	 * @param <L> Type of the listeners to which to dispatch callbacks.
 	 */
-	private static class BaseAnimatorListenerWrapper<L> {
+	private static abstract class BaseListenerDispatcher<L> {
 
 		/**
-		 * Wrapped instance of animator listener.
+		 * Array used when there are no listeners.
 		 */
-		final L listener;
+		private static final Object[] NO_LISTENERS = new Object[0];
 
 		/**
 		 * Animator wrapper to be dispatched with occurred animation callbacks.
 		 */
-		final Animator animatorWrapper;
+		final AnimatorWrapper animatorWrapper;
+
+		/**
+		 * Current listeners. Replaced by a new array whenever the listeners change.
+		 */
+		Object[] listeners = NO_LISTENERS;
 
 		/**
-		 * Creates a new instance of BaseAnimatorListenerWrapper to wrap the given instance of animator
-		 * <var>listener</var>.
+		 * List with the current listeners returned via {@link #getListeners()}. Invalidated whenever
+		 * the listeners change.
+		 */
+		private ArrayList<L> listenersList;
+
+		/**
+		 * Creates a new instance of BaseListenerDispatcher for the given <var>animatorWrapper</var>.
 		 *
-		 * @param listener        The listener to be wrapped.
 		 * @param animatorWrapper The animator wrapper to be dispatched with occurred animation callbacks
-		 *                        to ensure that the original listener always communicates with the
-		 *                        wrapped animator through its wrapper.
+		 *                        to ensure that the listeners always communicate with the wrapped
+		 *                        animator through its wrapper.
 		 */
-		BaseAnimatorListenerWrapper(final L listener, final Animator animatorWrapper) {
-			this.listener = listener;
+		BaseListenerDispatcher(final AnimatorWrapper animatorWrapper) {
 			this.animatorWrapper = animatorWrapper;
 		}
+
+		/**
+		 * Adds the given <var>listener</var> into the listeners of this dispatcher.
+		 *
+		 * @param listener The listener to be added.
+		 * @return {@code True} if the listener has been added, {@code false} if it has been already
+		 * added before.
+		 */
+		final boolean addListener(final L listener) {
+			final Object[] current = listeners;
+			for (final Object added : current) {
+				if (added == listener) {
+					return false;
+				}
+			}
+			final Object[] updated = new Object[current.length + 1];
+			System.arraycopy(current, 0, updated, 0, current.length);
+			updated[current.length] = listener;
+			this.listeners = updated;
+			this.listenersList = null;
+			return true;
+		}
+
+		/**
+		 * Removes the given <var>listener</var> from the listeners of this dispatcher.
+		 *
+		 * @param listener The listener to be removed.
+		 * @return {@code True} if the listener has been removed, {@code false} if it has not been
+		 * added.
+		 */
+		final boolean removeListener(final L listener) {
+			final Object[] current = listeners;
+			for (int i = 0; i < current.length; i++) {
+				if (current[i] == listener) {
+					if (current.length == 1) {
+						this.listeners = NO_LISTENERS;
+					} else {
+						final Object[] updated = new Object[current.length - 1];
+						System.arraycopy(current, 0, updated, 0, i);
+						System.arraycopy(current, i + 1, updated, i, current.length - i - 1);
+						this.listeners = updated;
+					}
+					this.listenersList = null;
+					return true;
+				}
+			}
+			return false;
+		}
+
+		/**
+		 * Removes all listeners from this dispatcher.
+		 */
+		void removeAllListeners() {
+			this.listeners = NO_LISTENERS;
+			this.listenersList = null;
+		}
+
+		/**
+		 * Checks whether there is at least one listener added to this dispatcher.
+		 *
+		 * @return {@code True} if there are some listeners, {@code false} otherwise.
+		 */
+		final boolean hasListeners() {
+			return listeners.length > 0;
+		}
+
+		/**
+		 * Returns count of the listeners added to this dispatcher.
+		 *
+		 * @return Listeners count.
+		 */
+		final int getListenersCount() {
+			return listeners.length;
+		}
+
+		/**
+		 * Returns list with the listeners added to this dispatcher. The list is created only when
+		 * the listeners have changed since the last call.
+		 *
+		 * @return List with the current listeners.
+		 */
+		@SuppressWarnings("unchecked")
+		final ArrayList<L> getListeners() {
+			if (listenersList == null) {
+				final Object[] current = listeners;
+				final ArrayList<L> list = new ArrayList<>(current.length);
+				for (final Object listener : current) {
+					list.add((L) listener);
+				}
+				this.listenersList = list;
+			}
+			return listenersList;
+		}
 	}
 
 	/**
-	 * A {@link BaseAnimatorListenerWrapper} implementation to wrap {@link AnimatorListener}.
+	 * A {@link BaseListenerDispatcher} implementation which dispatches callbacks of {@link AnimatorListener}.
 	 */
-	@VisibleForTesting static final class AnimatorListenerWrapper
-			extends BaseAnimatorListenerWrapper<AnimatorListener>
+	@VisibleForTesting static final class ListenerDispatcher
+			extends BaseListenerDispatcher<AnimatorListener>
 			implements AnimatorListener {
 
 		/**
-		 * Creates a new instance of AnimatorListenerWrapper to wrap the given instance of animator
-		 * <var>listener</var>.
+		 * Boolean flag indicating whether the start callback has been already dispatched to the
+		 * listeners and the end callback has not been dispatched yet.
+		 */
+		private boolean started;
+
+		/**
+		 * Boolean flag indicating whether the end callback is being dispatched to the listeners.
+		 */
+		boolean dispatchingEnd;
+
+		/**
+		 * Creates a new instance of ListenerDispatcher for the given <var>animatorWrapper</var>.
 		 *
-		 * @see BaseAnimatorListenerWrapper#BaseAnimatorListenerWrapper(Object, Animator)
+		 * @see BaseListenerDispatcher#BaseListenerDispatcher(AnimatorWrapper)
 		 */
-		AnimatorListenerWrapper(final AnimatorListener listener, final Animator animatorWrapper) {
-			super(listener, animatorWrapper);
+		ListenerDispatcher(final AnimatorWrapper animatorWrapper) {
+			super(animatorWrapper);
+		}
+
+		/**
+		 */
+		@Override void removeAllListeners() {
+			super.removeAllListeners();
+			this.started = false;
 		}
 
 		/**
 		 */
 		@Override public void onAnimationStart(@NonNull final Animator animation) {
-			this.listener.onAnimationStart(animatorWrapper);
+			// Wrapped animator may be replaced during the animation, so dispatch start only once.
+			if (!started) {
+				this.started = true;
+				final Object[] current = listeners;
+				for (final Object listener : current) {
+					((AnimatorListener) listener).onAnimationStart(animatorWrapper);
+				}
+			}
 		}
 
 		/**
 		 */
 		@Override public void onAnimationEnd(@NonNull final Animator animation) {
-			this.listener.onAnimationEnd(animatorWrapper);
+			this.started = false;
+			this.animatorWrapper.onWrappedAnimationEnd();
+			this.dispatchingEnd = true;
+			try {
+				final Object[] current = listeners;
+				for (final Object listener : current) {
+					((AnimatorListener) listener).onAnimationEnd(animatorWrapper);
+				}
+			} finally {
+				this.dispatchingEnd = false;
+			}
+			// Some of the listeners may have requested the wrapper to be recycled.
+			if (animatorWrapper.recyclePending) {
+				this.animatorWrapper.performRecycle();
+			}
 		}
 
 		/**
 		 */
 		@Override public void onAnimationCancel(@NonNull final Animator animation) {
-			this.listener.onAnimationCancel(animatorWrapper);
+			final Object[] current = listeners;
+			for (final Object listener : current) {
+				((AnimatorListener) listener).onAnimationCancel(animatorWrapper);
+			}
 		}
 
 		/**
 		 */
 		@Override public void onAnimationRepeat(@NonNull final Animator animation) {
-			this.listener.onAnimationRepeat(animatorWrapper);
+			final Object[] current = listeners;
+			for (final Object listener : current) {
+				((AnimatorListener) listener).onAnimationRepeat(animatorWrapper);
+			}
 		}
 	}
 
 	/**
-	 * A {@link BaseAnimatorListenerWrapper} implementation to wrap {@link AnimatorPauseListener}.
+	 * A {@link BaseListenerDispatcher} implementation which dispatches callbacks of {@link AnimatorPauseListener}.
 	 */
 	@RequiresApi(Build.VERSION_CODES.KITKAT)
-	@VisibleForTesting static final class AnimatorPauseListenerWrapper
-			extends BaseAnimatorListenerWrapper<AnimatorPauseListener>
+	@VisibleForTesting static final class PauseListenerDispatcher
+			extends BaseListenerDispatcher<AnimatorPauseListener>
 			implements AnimatorPauseListener {
 
 		/**
-		 * Creates a new instance of AnimatorPauseListenerWrapper to wrap the given instance of animator
-		 * <var>listener</var>.
+		 * Creates a new instance of PauseListenerDispatcher for the given <var>animatorWrapper</var>.
 		 *
-		 * @see BaseAnimatorListenerWrapper#BaseAnimatorListenerWrapper(Object, Animator)
+		 * @see BaseListenerDispatcher#BaseListenerDispatcher(AnimatorWrapper)
 		 */
-		AnimatorPauseListenerWrapper(final AnimatorPauseListener listener, final Animator animatorWrapper) {
-			super(listener, animatorWrapper);
+		PauseListenerDispatcher(final AnimatorWrapper animatorWrapper) {
+			super(animatorWrapper);
 		}
 
 		/**
 		 */
 		@Override public void onAnimationPause(@NonNull final Animator animation) {
-			this.listener.onAnimationPause(animatorWrapper);
+			final Object[] current = listeners;
+			for (final Object listener : current) {
+				((AnimatorPauseListener) listener).onAnimationPause(animatorWrapper);
+			}
 		}
 
 		/**
 		 */
 		@Override public void onAnimationResume(@NonNull final Animator animation) {
-			this.listener.onAnimationResume(animatorWrapper);
+			final Object[] current = listeners;
+			for (final Object listener : current) {
+				((AnimatorPauseListener) listener).onAnimationResume(animatorWrapper);
+			}
+		}
+	}
+
+	/**
+	 * A bounded pool of recycled {@link AnimatorWrapper AnimatorWrappers}. The pool is confined to
+	 * threads, that is each thread has its own set of pooled wrappers, so a wrapper recycled on one
+	 * thread is never obtained on another one and the pool does not need any synchronization.
+	 *
+	 * @param <W> Type of the wrappers held by the pool.
+	 *
+	 * @author Martin Albedinsky
+	 * @since 1.4
+	 */
+	public static final class Pool<W extends AnimatorWrapper> {
+
+		/**
+		 * Maximum count of wrappers held by the pool for a single thread.
+		 */
+		private final int maxSize;
+
+		/**
+		 * Wrappers pooled for the current thread.
+		 */
+		private final ThreadLocal<Entries> entries = new ThreadLocal<Entries>() {
+
+			/**
+			 */
+			@Override protected Entries initialValue() {
+				return new Entries(maxSize);
+			}
+		};
+
+		/**
+		 * Creates a new instance of Pool with the specified maximum size.
+		 *
+		 * @param maxSize Maximum count of wrappers to be held by the pool for a single thread.
+		 */
+		public Pool(@IntRange(from = 1) final int maxSize) {
+			this.maxSize = maxSize;
+		}
+
+		/**
+		 * Acquires a wrapper from the pool of the current thread.
+		 *
+		 * @return Recycled wrapper or {@code null} if the pool is empty.
+		 *
+		 * @see #release(AnimatorWrapper)
+		 */
+		@SuppressWarnings("unchecked")
+		@Nullable public W acquire() {
+			final Entries current = entries.get();
+			if (current.size == 0) {
+				return null;
+			}
+			final int index = --current.size;
+			final W wrapper = (W) current.wrappers[index];
+			current.wrappers[index] = null;
+			return wrapper;
+		}
+
+		/**
+		 * Releases the given recycled <var>wrapper</var> into the pool of the current thread.
+		 *
+		 * @param wrapper The wrapper to be released.
+		 * @return {@code True} if the wrapper has been pooled, {@code false} if the pool is full.
+		 * @throws IllegalArgumentException If the wrapper has not been recycled.
+		 *
+		 * @see #acquire()
+		 */
+		public boolean release(@NonNull final W wrapper) {
+			if (!wrapper.isRecycled()) {
+				throw new IllegalArgumentException("Cannot release wrapper which has not been recycled.");
+			}
+			final Entries current = entries.get();
+			if (current.size == current.wrappers.length) {
+				return false;
+			}
+			current.wrappers[current.size++] = wrapper;
+			return true;
+		}
+
+		/**
+		 * Returns count of the wrappers pooled for the current thread.
+		 *
+		 * @return Count of pooled wrappers.
+		 */
+		@IntRange(from = 0) public int size() {
+			return entries.get().size;
+		}
+
+		/**
+		 * Removes all wrappers pooled for the current thread.
+		 */
+		public void clear() {
+			final Entries current = entries.get();
+			for (int i = 0; i < current.size; i++) {
+				current.wrappers[i] = null;
+			}
+			current.size = 0;
+		}
+
+		/**
+		 * Holder for wrappers pooled for a single thread.
+		 */
+		private static final class Entries {
+
+			/**
+			 * Array with pooled wrappers.
+			 */
+			final AnimatorWrapper[] wrappers;
+
+			/**
+			 * Count of pooled wrappers.
+			 */
+			int size;
+
+			/**
+			 * Creates a new instance of Entries with the specified capacity.
+			 *
+			 * @param capacity Maximum count of pooled wrappers.
+			 */
+			Entries(final int capacity) {
+				this.wrappers = new AnimatorWrapper[capacity];
+			}
 		}
 	}
-}
\ No newline at end of file
+}
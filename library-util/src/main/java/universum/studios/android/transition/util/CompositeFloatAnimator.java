@@ -0,0 +1,297 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2018 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.transition.util;
+
+import android.animation.Animator;
+import android.animation.ValueAnimator;
+import android.os.Build;
+import android.util.FloatProperty;
+import android.util.Property;
+
+import androidx.annotation.IntRange;
+import androidx.annotation.NonNull;
+import androidx.annotation.RequiresApi;
+import androidx.annotation.VisibleForTesting;
+
+/**
+ * An {@link AnimatorWrapper} implementation which animates float properties of multiple targets
+ * via a single {@link ValueAnimator}, so it may be used instead of an {@link android.animation.AnimatorSet AnimatorSet}
+ * playing together multiple {@link android.animation.ObjectAnimator ObjectAnimators} which share
+ * the same duration, start delay and interpolator.
+ * <p>
+ * Each animator played by an animator set receives its own frame callback and computes its own
+ * fraction. This animator instead receives a single update per frame and computes the fraction
+ * only once, whereupon it updates all of its targets from values held in primitive arrays. Properties
+ * to be animated may be specified via {@link #animateProperty(Object, Property, float, float)}.
+ * If a property is a {@link FloatProperty}, its value is set without boxing on Android
+ * {@link Build.VERSION_CODES#N N} and above.
+ * <p>
+ * Duration, start delay, interpolator and listeners specified for this animator are applied to
+ * the single underlying value animator.
+ *
+ * @author Martin Albedinsky
+ * @since 1.4
+ */
+public final class CompositeFloatAnimator extends AnimatorWrapper {
+
+	/*
+	 * Constants ===================================================================================
+	 */
+
+	/**
+	 * Log TAG.
+	 */
+	// private static final String TAG = "CompositeFloatAnimator";
+
+	/**
+	 * Initial capacity of arrays holding animated properties.
+	 */
+	private static final int INITIAL_CAPACITY = 4;
+
+	/*
+	 * Interface ===================================================================================
+	 */
+
+	/*
+	 * Static members ==============================================================================
+	 */
+
+	/*
+	 * Members =====================================================================================
+	 */
+
+	/**
+	 * Listener which updates all animated properties on each frame of the underlying value animator.
+	 */
+	private final ValueAnimator.AnimatorUpdateListener updateListener = new ValueAnimator.AnimatorUpdateListener() {
+
+		/**
+		 */
+		@Override public void onAnimationUpdate(@NonNull final ValueAnimator animation) {
+			update(animation.getAnimatedFraction());
+		}
+	};
+
+	/**
+	 * Targets of which properties are animated.
+	 */
+	private Object[] targets = new Object[INITIAL_CAPACITY];
+
+	/**
+	 * Animated properties.
+	 */
+	private Property[] properties = new Property[INITIAL_CAPACITY];
+
+	/**
+	 * Boolean flags indicating which of the animated properties may be set without boxing.
+	 */
+	private boolean[] floatProperties = new boolean[INITIAL_CAPACITY];
+
+	/**
+	 * Values from which are the animated properties animated.
+	 */
+	private float[] startValues = new float[INITIAL_CAPACITY];
+
+	/**
+	 * Differences between end and start values of the animated properties.
+	 */
+	private float[] deltaValues = new float[INITIAL_CAPACITY];
+
+	/**
+	 * Count of animated properties.
+	 */
+	private int propertiesCount;
+
+	/*
+	 * Constructors ================================================================================
+	 */
+
+	/**
+	 * Creates a new instance of CompositeFloatAnimator without any animated properties.
+	 */
+	public CompositeFloatAnimator() {
+		super(ValueAnimator.ofFloat(0f, 1f));
+		((ValueAnimator) getWrappedAnimator()).addUpdateListener(updateListener);
+	}
+
+	/*
+	 * Methods =====================================================================================
+	 */
+
+	/**
+	 * Specifies that the given <var>property</var> of the specified <var>target</var> should be
+	 * animated between the specified values.
+	 *
+	 * @param target     The target of which property to animate.
+	 * @param property   The property to be animated.
+	 * @param startValue Value from which to start animation of the property.
+	 * @param endValue   Value at which should animation of the property end.
+	 * @param <T>        Type of the target.
+	 * @return This animator to allow methods chaining.
+	 *
+	 * @see #getPropertiesCount()
+	 */
+	@NonNull public <T> CompositeFloatAnimator animateProperty(
+			@NonNull final T target,
+			@NonNull final Property<T, Float> property,
+			final float startValue,
+			final float endValue
+	) {
+		if (propertiesCount == targets.length) {
+			this.ensureCapacity(propertiesCount * 2);
+		}
+		final int index = propertiesCount++;
+		this.targets[index] = target;
+		this.properties[index] = property;
+		this.floatProperties[index] = Build.VERSION.SDK_INT >= Build.VERSION_CODES.N && FloatProperties.isFloatProperty(property);
+		this.startValues[index] = startValue;
+		this.deltaValues[index] = endValue - startValue;
+		return this;
+	}
+
+	/**
+	 * Ensures that arrays holding the animated properties have at least the specified <var>capacity</var>.
+	 *
+	 * @param capacity The desired capacity.
+	 */
+	private void ensureCapacity(final int capacity) {
+		final Object[] newTargets = new Object[capacity];
+		System.arraycopy(targets, 0, newTargets, 0, propertiesCount);
+		this.targets = newTargets;
+		final Property[] newProperties = new Property[capacity];
+		System.arraycopy(properties, 0, newProperties, 0, propertiesCount);
+		this.properties = newProperties;
+		final boolean[] newFloatProperties = new boolean[capacity];
+		System.arraycopy(floatProperties, 0, newFloatProperties, 0, propertiesCount);
+		this.floatProperties = newFloatProperties;
+		final float[] newStartValues = new float[capacity];
+		System.arraycopy(startValues, 0, newStartValues, 0, propertiesCount);
+		this.startValues = newStartValues;
+		final float[] newDeltaValues = new float[capacity];
+		System.arraycopy(deltaValues, 0, newDeltaValues, 0, propertiesCount);
+		this.deltaValues = newDeltaValues;
+	}
+
+	/**
+	 * Returns count of properties animated by this animator.
+	 *
+	 * @return Count of properties specified via {@link #animateProperty(Object, Property, float, float)}.
+	 */
+	@IntRange(from = 0) public int getPropertiesCount() {
+		return propertiesCount;
+	}
+
+	/**
+	 * Returns the value from which is the property at the specified <var>index</var> animated.
+	 *
+	 * @param index Index of the desired property from the range {@code [0, getPropertiesCount())}.
+	 * @return Start value of the property.
+	 * @throws IndexOutOfBoundsException If the index is out of the properties range.
+	 */
+	public float getStartValue(final int index) {
+		this.assertPropertyIndex(index);
+		return startValues[index];
+	}
+
+	/**
+	 * Returns the value to which is the property at the specified <var>index</var> animated.
+	 *
+	 * @param index Index of the desired property from the range {@code [0, getPropertiesCount())}.
+	 * @return End value of the property.
+	 * @throws IndexOutOfBoundsException If the index is out of the properties range.
+	 */
+	public float getEndValue(final int index) {
+		this.assertPropertyIndex(index);
+		return startValues[index] + deltaValues[index];
+	}
+
+	/**
+	 * Asserts that the specified <var>index</var> is within range of the animated properties.
+	 *
+	 * @param index The index to check.
+	 * @throws IndexOutOfBoundsException If the index is out of the properties range.
+	 */
+	private void assertPropertyIndex(final int index) {
+		if (index < 0 || index >= propertiesCount) {
+			throw new IndexOutOfBoundsException("Property index(" + index + ") is out of range [0, " + propertiesCount + ").");
+		}
+	}
+
+	/**
+	 * Updates all animated properties to values at the specified animation <var>fraction</var>.
+	 *
+	 * @param fraction The interpolated fraction of the animation.
+	 */
+	@SuppressWarnings("unchecked")
+	@VisibleForTesting void update(final float fraction) {
+		for (int i = 0; i < propertiesCount; i++) {
+			final float value = startValues[i] + deltaValues[i] * fraction;
+			if (floatProperties[i]) {
+				FloatProperties.setValue(properties[i], targets[i], value);
+			} else {
+				properties[i].set(targets[i], value);
+			}
+		}
+	}
+
+	/**
+	 */
+	@Override protected void onRecycle(@NonNull final Animator animator) {
+		((ValueAnimator) animator).removeUpdateListener(updateListener);
+		for (int i = 0; i < propertiesCount; i++) {
+			this.targets[i] = null;
+			this.properties[i] = null;
+		}
+		this.propertiesCount = 0;
+	}
+
+	/*
+	 * Inner classes ===============================================================================
+	 */
+
+	/**
+	 * Helper which accesses {@link FloatProperty} API only on Android versions where it is available.
+	 */
+	@RequiresApi(Build.VERSION_CODES.N)
+	private static final class FloatProperties {
+
+		/**
+		 * Checks whether the given <var>property</var> is a {@link FloatProperty}.
+		 *
+		 * @param property The property to check.
+		 * @return {@code True} if the property may be set without boxing, {@code false} otherwise.
+		 */
+		static boolean isFloatProperty(final Property property) {
+			return property instanceof FloatProperty;
+		}
+
+		/**
+		 * Sets the specified <var>value</var> to the given <var>target</var> via the given float
+		 * <var>property</var>.
+		 *
+		 * @param property The property to be set.
+		 * @param target   The target of which property to set.
+		 * @param value    The value to be set.
+		 */
+		@SuppressWarnings("unchecked")
+		static void setValue(final Property property, final Object target, final float value) {
+			((FloatProperty<Object>) property).setValue(target, value);
+		}
+	}
+}
@@ -0,0 +1,232 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2018 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.transition.util;
+
+import android.animation.Animator;
+import android.animation.AnimatorListenerAdapter;
+import android.view.View;
+import android.view.ViewGroup;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+
+import androidx.annotation.IntDef;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+/**
+ * Class which determines whether views animated by transitions should be promoted to a hardware
+ * layer for duration of theirs animations. When a view is rendered into a hardware layer, frames
+ * of animations which change only its transformation (scale, translation, ...) or clip just
+ * recomposite the cached texture instead of re-recording display list of the view and of all its
+ * children.
+ * <p>
+ * A desired policy may be applied to an animator via {@link #apply(int, Animator, View)} which
+ * attaches a listener that sets {@link View#LAYER_TYPE_HARDWARE} to the view when the animator is
+ * started and restores the previous layer type of the view when the animator is ended or cancelled.
+ *
+ * @author Martin Albedinsky
+ * @since 1.4
+ */
+public final class LayerPolicy {
+
+	/*
+	 * Constants ===================================================================================
+	 */
+
+	/**
+	 * Log TAG.
+	 */
+	// private static final String TAG = "LayerPolicy";
+
+	/**
+	 * Policy which does not change layer type of animated views.
+	 */
+	public static final int NONE = 0x00;
+
+	/**
+	 * Policy which promotes every animated view to a hardware layer.
+	 */
+	public static final int ALWAYS = 0x01;
+
+	/**
+	 * Policy which promotes an animated view to a hardware layer only if the view is not trivial to
+	 * draw, that is if the view is a {@link ViewGroup} with at least one child or has a background
+	 * and its area is at least {@link #AUTO_MIN_AREA}. For trivial views the cost of rendering into
+	 * a layer would outweigh the cost of re-recording theirs display lists.
+	 */
+	public static final int AUTO = 0x02;
+
+	/**
+	 * Defines an annotation for determining set of allowed policies for {@link #apply(int, Animator, View)}.
+	 */
+	@Retention(RetentionPolicy.SOURCE)
+	@IntDef({NONE, ALWAYS, AUTO})
+	public @interface Policy {}
+
+	/**
+	 * Minimum area in pixels of a view for which {@link #AUTO} policy uses a hardware layer.
+	 */
+	@VisibleForTesting static final int AUTO_MIN_AREA = 48 * 48;
+
+	/*
+	 * Constructors ================================================================================
+	 */
+
+	/**
+	 */
+	private LayerPolicy() {
+		// Not allowed to be instantiated publicly.
+		throw new UnsupportedOperationException();
+	}
+
+	/*
+	 * Methods =====================================================================================
+	 */
+
+	/**
+	 * Checks whether the given <var>view</var> should be rendered into a hardware layer while it is
+	 * animated according to the specified <var>policy</var>.
+	 *
+	 * @param policy The policy according to which to check.
+	 * @param view   The view to be checked.
+	 * @return {@code True} if the view should be promoted to a hardware layer, {@code false} if it
+	 * should be rendered as it is.
+	 */
+	public static boolean shouldUseHardwareLayer(@Policy final int policy, @NonNull final View view) {
+		switch (policy) {
+			case ALWAYS:
+				return view.getLayerType() != View.LAYER_TYPE_HARDWARE;
+			case AUTO:
+				if (view.getLayerType() == View.LAYER_TYPE_HARDWARE) {
+					return false;
+				}
+				if (view.getWidth() * view.getHeight() < AUTO_MIN_AREA) {
+					return false;
+				}
+				return view.getBackground() != null || (view instanceof ViewGroup && ((ViewGroup) view).getChildCount() > 0);
+			case NONE:
+			default:
+				return false;
+		}
+	}
+
+	/**
+	 * Applies the specified <var>policy</var> to the given <var>animator</var> animating the given
+	 * <var>view</var>.
+	 * <p>
+	 * If the view should be promoted to a hardware layer according to {@link #shouldUseHardwareLayer(int, View)},
+	 * a listener is attached to the animator which sets {@link View#LAYER_TYPE_HARDWARE} to the view
+	 * whenever the animator is started and restores its previous layer type once the animator is
+	 * ended or cancelled. The check is performed at the time this method is called.
+	 * <p>
+	 * For {@link ViewPropertyAnimatorWrapper} no listener is attached, the view is rendered into
+	 * a hardware layer via {@link ViewPropertyAnimatorWrapper#setWithLayer(boolean)} instead.
+	 *
+	 * @param policy   The policy to be applied.
+	 * @param animator The animator to which to apply the policy. May be {@code null} in which case
+	 *                 this method does nothing.
+	 * @param view     The view animated by the animator.
+	 * @return {@code True} if the view will be promoted to a hardware layer during the animation,
+	 * {@code false} otherwise.
+	 */
+	public static boolean apply(@Policy final int policy, @Nullable final Animator animator, @NonNull final View view) {
+		if (animator == null || !shouldUseHardwareLayer(policy, view)) {
+			return false;
+		}
+		if (animator instanceof ViewPropertyAnimatorWrapper) {
+			((ViewPropertyAnimatorWrapper) animator).setWithLayer(true);
+		} else {
+			animator.addListener(new HardwareLayerListener(view));
+		}
+		return true;
+	}
+
+	/*
+	 * Inner classes ===============================================================================
+	 */
+
+	/**
+	 * Listener which renders a view into a hardware layer while an animator is running.
+	 */
+	@VisibleForTesting static final class HardwareLayerListener extends AnimatorListenerAdapter {
+
+		/**
+		 * View to be rendered into a hardware layer.
+		 */
+		private final View view;
+
+		/**
+		 * Layer type of the view before it has been promoted to a hardware layer.
+		 */
+		private int previousLayerType;
+
+		/**
+		 * Boolean flag indicating whether the view is currently promoted to a hardware layer.
+		 */
+		private boolean layerSet;
+
+		/**
+		 * Creates a new instance of HardwareLayerListener for the specified <var>view</var>.
+		 *
+		 * @param view The view to be rendered into a hardware layer during animation.
+		 */
+		HardwareLayerListener(final View view) {
+			this.view = view;
+		}
+
+		/**
+		 */
+		@Override public void onAnimationStart(@NonNull final Animator animation) {
+			if (layerSet) {
+				return;
+			}
+			this.previousLayerType = view.getLayerType();
+			this.layerSet = true;
+			if (previousLayerType != View.LAYER_TYPE_HARDWARE) {
+				view.setLayerType(View.LAYER_TYPE_HARDWARE, null);
+			}
+		}
+
+		/**
+		 */
+		@Override public void onAnimationCancel(@NonNull final Animator animation) {
+			restoreLayerType();
+		}
+
+		/**
+		 */
+		@Override public void onAnimationEnd(@NonNull final Animator animation) {
+			restoreLayerType();
+		}
+
+		/**
+		 * Restores the layer type which the view had before the animation has been started.
+		 */
+		private void restoreLayerType() {
+			if (layerSet) {
+				this.layerSet = false;
+				if (view.getLayerType() != previousLayerType) {
+					view.setLayerType(previousLayerType, null);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,154 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2018 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.transition.util;
+
+import android.animation.ObjectAnimator;
+import android.animation.PropertyValuesHolder;
+import android.util.Property;
+import android.view.View;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Factory which builds animators from {@link Property} objects, like {@link View#SCALE_X} or
+ * {@link View#TRANSLATION_X}, instead of from property names. An animator built from a property
+ * name has to look up the setter and getter of the property via reflection the first time it is
+ * used for a particular class of target, whereas a {@link Property} accesses the target directly.
+ * <p>
+ * This class also provides {@link #setPivot(View, float, float)} which updates pivot of a view only
+ * if it actually changes, so the view is not needlessly invalidated.
+ *
+ * @author Martin Albedinsky
+ * @since 1.4
+ */
+public final class PropertyAnimators {
+
+	/*
+	 * Constants ===================================================================================
+	 */
+
+	/**
+	 * Log TAG.
+	 */
+	// private static final String TAG = "PropertyAnimators";
+
+	/*
+	 * Interface ===================================================================================
+	 */
+
+	/*
+	 * Static members ==============================================================================
+	 */
+
+	/*
+	 * Members =====================================================================================
+	 */
+
+	/*
+	 * Constructors ================================================================================
+	 */
+
+	/**
+	 */
+	private PropertyAnimators() {
+		// Not allowed to be instantiated publicly.
+		throw new UnsupportedOperationException();
+	}
+
+	/*
+	 * Methods =====================================================================================
+	 */
+
+	/**
+	 * Creates a new animator which animates the specified <var>property</var> of the given <var>target</var>
+	 * between the specified values.
+	 *
+	 * @param target   The target of which property to animate.
+	 * @param property The property to be animated.
+	 * @param start    Value from which to start the animation.
+	 * @param end      Value at which should the animation end.
+	 * @param <T>      Type of the target.
+	 * @return Animator ready to be started.
+	 */
+	@NonNull public static <T> ObjectAnimator ofFloat(
+			@NonNull final T target,
+			@NonNull final Property<T, Float> property,
+			final float start,
+			final float end
+	) {
+		return ObjectAnimator.ofFloat(target, property, start, end);
+	}
+
+	/**
+	 * Creates a new animator which animates two properties of the given <var>target</var> at once,
+	 * each between its specified values.
+	 *
+	 * @param target         The target of which properties to animate.
+	 * @param firstProperty  The first property to be animated.
+	 * @param firstStart     Value from which to start animation of the first property.
+	 * @param firstEnd       Value at which should animation of the first property end.
+	 * @param secondProperty The second property to be animated.
+	 * @param secondStart    Value from which to start animation of the second property.
+	 * @param secondEnd      Value at which should animation of the second property end.
+	 * @param <T>            Type of the target.
+	 * @return Animator ready to be started.
+	 */
+	@NonNull public static <T> ObjectAnimator ofFloat(
+			@NonNull final T target,
+			@NonNull final Property<T, Float> firstProperty,
+			final float firstStart,
+			final float firstEnd,
+			@NonNull final Property<T, Float> secondProperty,
+			final float secondStart,
+			final float secondEnd
+	) {
+		return ObjectAnimator.ofPropertyValuesHolder(
+				target,
+				PropertyValuesHolder.ofFloat(firstProperty, firstStart, firstEnd),
+				PropertyValuesHolder.ofFloat(secondProperty, secondStart, secondEnd)
+		);
+	}
+
+	/**
+	 * Sets the specified pivot coordinates to the given <var>view</var>, but only if they differ from
+	 * the current pivot of the view.
+	 *
+	 * @param view   The view of which pivot to update.
+	 * @param pivotX The desired pivot x coordinate.
+	 * @param pivotY The desired pivot y coordinate.
+	 * @return {@code True} if pivot of the view has been changed, {@code false} if the view already
+	 * had the specified pivot.
+	 */
+	public static boolean setPivot(@NonNull final View view, final float pivotX, final float pivotY) {
+		boolean changed = false;
+		if (view.getPivotX() != pivotX) {
+			view.setPivotX(pivotX);
+			changed = true;
+		}
+		if (view.getPivotY() != pivotY) {
+			view.setPivotY(pivotY);
+			changed = true;
+		}
+		return changed;
+	}
+
+	/*
+	 * Inner classes ===============================================================================
+	 */
+}
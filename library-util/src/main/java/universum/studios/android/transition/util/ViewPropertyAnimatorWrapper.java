@@ -0,0 +1,571 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2018 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.transition.util;
+
+import android.animation.Animator;
+import android.animation.TimeInterpolator;
+import android.animation.ValueAnimator;
+import android.os.Build;
+import android.provider.Settings;
+import android.view.Choreographer;
+import android.view.View;
+import android.view.ViewPropertyAnimator;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.util.ArrayList;
+
+import androidx.annotation.IntDef;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.RequiresApi;
+import androidx.annotation.VisibleForTesting;
+
+/**
+ * An {@link AnimatorWrapper} implementation which animates properties of a view via its
+ * {@link ViewPropertyAnimator}, so it may be returned by transitions as any other animator.
+ * <p>
+ * Unlike an {@link android.animation.ObjectAnimator ObjectAnimator}, which invokes a setter of the
+ * view for each of its animated properties on each frame, view property animator updates all
+ * animated properties of the view at once directly on its render node. It also supports rendering
+ * of the view into a hardware layer for duration of the animation via {@link ViewPropertyAnimator#withLayer()}
+ * which may be requested via {@link #setWithLayer(boolean)}. {@link LayerPolicy#apply(int, Animator, View)}
+ * requests such layer instead of attaching its own listener.
+ * <p>
+ * Properties to be animated may be specified via {@link #animateProperty(int, float, float)}. Start
+ * values of those properties are set to the view whenever the animator is started.
+ * <p>
+ * View property animator cannot be paused, so this wrapper supports only {@link #START}, {@link #END}
+ * and {@link #CANCEL} features. Cancelling or ending of this animator stops only animations of its
+ * own properties, so other animations running via view property animator of the animated view,
+ * including other instances of this wrapper for the same view, continue to run.
+ * <p>
+ * View property animator drops end action of an animation of which all properties have been taken
+ * over by another animation of the same view. Completion of this animator is therefore tracked by
+ * a single frame callback posted to be run once the start delay and duration elapse, even if
+ * the properties have been taken over meanwhile, so listeners of this animator are always notified.
+ * Unlike an additional animator, such callback does not run on each frame of the animation.
+ *
+ * @author Martin Albedinsky
+ * @since 1.4
+ */
+@RequiresApi(Build.VERSION_CODES.JELLY_BEAN)
+public class ViewPropertyAnimatorWrapper extends AnimatorWrapper {
+
+	/*
+	 * Constants ===================================================================================
+	 */
+
+	/**
+	 * Log TAG.
+	 */
+	// private static final String TAG = "ViewPropertyAnimatorWrapper";
+
+	/**
+	 * Property identifying {@link View#setScaleX(float)}.
+	 */
+	public static final int SCALE_X = 0;
+
+	/**
+	 * Property identifying {@link View#setScaleY(float)}.
+	 */
+	public static final int SCALE_Y = 1;
+
+	/**
+	 * Property identifying {@link View#setTranslationX(float)}.
+	 */
+	public static final int TRANSLATION_X = 2;
+
+	/**
+	 * Property identifying {@link View#setTranslationY(float)}.
+	 */
+	public static final int TRANSLATION_Y = 3;
+
+	/**
+	 * Defines an annotation for determining set of properties that may be animated via
+	 * {@link ViewPropertyAnimatorWrapper}.
+	 */
+	@Retention(RetentionPolicy.SOURCE)
+	@IntDef({SCALE_X, SCALE_Y, TRANSLATION_X, TRANSLATION_Y})
+	public @interface AnimatedProperty {}
+
+	/**
+	 * Count of properties that may be animated.
+	 */
+	private static final int PROPERTIES_COUNT = 4;
+
+	/**
+	 * Default duration of the animation in milliseconds. Same as the default duration of an animator
+	 * created via {@link android.animation.ValueAnimator ValueAnimator}.
+	 */
+	@VisibleForTesting static final long DEFAULT_DURATION = 300;
+
+	/**
+	 * Time in milliseconds by which is the end frame callback delayed after the animation should end.
+	 * View property animator starts its animation on the next frame, so the callback should not
+	 * run before the last frame of the animation for displays with refresh rate of 50 Hz and above.
+	 */
+	private static final long END_DELAY_MARGIN = 20;
+
+	/*
+	 * Interface ===================================================================================
+	 */
+
+	/*
+	 * Static members ==============================================================================
+	 */
+
+	/*
+	 * Members =====================================================================================
+	 */
+
+	/**
+	 * Animator driving the view property animator of the animated view.
+	 */
+	private final ViewPropertyAnimatorDelegate delegate;
+
+	/*
+	 * Constructors ================================================================================
+	 */
+
+	/**
+	 * Creates a new instance of ViewPropertyAnimatorWrapper to animate properties of the given
+	 * <var>view</var>.
+	 *
+	 * @param view The view of which properties to animate.
+	 */
+	public ViewPropertyAnimatorWrapper(@NonNull final View view) {
+		super(new ViewPropertyAnimatorDelegate(view));
+		this.delegate = (ViewPropertyAnimatorDelegate) getWrappedAnimator();
+		requestFeatures(START | END | CANCEL);
+	}
+
+	/*
+	 * Methods =====================================================================================
+	 */
+
+	/**
+	 * Returns the view of which properties are animated by this animator.
+	 *
+	 * @return The animated view.
+	 */
+	@NonNull public View getView() {
+		return delegate.view;
+	}
+
+	/**
+	 * Specifies that the given <var>property</var> of the view should be animated between the
+	 * specified values.
+	 *
+	 * @param property   The property to be animated.
+	 * @param startValue Value from which to start animation of the property.
+	 * @param endValue   Value at which should animation of the property end.
+	 * @return This animator to allow methods chaining.
+	 *
+	 * @see #isPropertyAnimated(int)
+	 * @see #getStartValue(int)
+	 * @see #getEndValue(int)
+	 */
+	@NonNull public ViewPropertyAnimatorWrapper animateProperty(
+			@AnimatedProperty final int property,
+			final float startValue,
+			final float endValue
+	) {
+		this.delegate.properties |= 1 << property;
+		this.delegate.startValues[property] = startValue;
+		this.delegate.endValues[property] = endValue;
+		return this;
+	}
+
+	/**
+	 * Checks whether the given <var>property</var> is animated by this animator.
+	 *
+	 * @param property The property to check.
+	 * @return {@code True} if the property has been specified via {@link #animateProperty(int, float, float)},
+	 * {@code false} otherwise.
+	 */
+	public boolean isPropertyAnimated(@AnimatedProperty final int property) {
+		return (delegate.properties & (1 << property)) != 0;
+	}
+
+	/**
+	 * Returns the value from which is the given <var>property</var> animated.
+	 *
+	 * @param property The property of which start value to return.
+	 * @return Start value of the property or {@code 0} if the property is not animated.
+	 *
+	 * @see #animateProperty(int, float, float)
+	 */
+	public float getStartValue(@AnimatedProperty final int property) {
+		return delegate.startValues[property];
+	}
+
+	/**
+	 * Returns the value to which is the given <var>property</var> animated.
+	 *
+	 * @param property The property of which end value to return.
+	 * @return End value of the property or {@code 0} if the property is not animated.
+	 *
+	 * @see #animateProperty(int, float, float)
+	 */
+	public float getEndValue(@AnimatedProperty final int property) {
+		return delegate.endValues[property];
+	}
+
+	/**
+	 * Sets a boolean flag indicating whether the view should be rendered into a hardware layer for
+	 * duration of the animation.
+	 * <p>
+	 * Default value: <b>{@code false}</b>
+	 *
+	 * @param withLayer {@code True} to render the view into a hardware layer, {@code false} otherwise.
+	 *
+	 * @see ViewPropertyAnimator#withLayer()
+	 * @see #isWithLayer()
+	 */
+	public void setWithLayer(final boolean withLayer) {
+		this.delegate.withLayer = withLayer;
+	}
+
+	/**
+	 * Returns the boolean flag indicating whether the view is rendered into a hardware layer for
+	 * duration of the animation.
+	 *
+	 * @return {@code True} if hardware layer is used, {@code false} otherwise.
+	 *
+	 * @see #setWithLayer(boolean)
+	 */
+	public boolean isWithLayer() {
+		return delegate.withLayer;
+	}
+
+	/*
+	 * Inner classes ===============================================================================
+	 */
+
+	/**
+	 * An {@link Animator} implementation which drives {@link ViewPropertyAnimator} of a view.
+	 */
+	@RequiresApi(Build.VERSION_CODES.JELLY_BEAN)
+	@VisibleForTesting static final class ViewPropertyAnimatorDelegate extends Animator {
+
+		/**
+		 * View of which properties to animate.
+		 */
+		final View view;
+
+		/**
+		 * Set of flags of animated properties.
+		 */
+		int properties;
+
+		/**
+		 * Values from which and to which should be the properties animated, indexed by the properties.
+		 */
+		final float[] startValues = new float[PROPERTIES_COUNT], endValues = new float[PROPERTIES_COUNT];
+
+		/**
+		 * Boolean flag indicating whether the view should be rendered into a hardware layer.
+		 */
+		boolean withLayer;
+
+		/**
+		 * Delay after which should be the animation started.
+		 */
+		private long startDelay;
+
+		/**
+		 * Duration of the animation.
+		 */
+		private long duration = DEFAULT_DURATION;
+
+		/**
+		 * Interpolator of the animation.
+		 */
+		private TimeInterpolator interpolator;
+
+		/**
+		 * Boolean flag indicating whether this animator has been started and not ended or cancelled yet.
+		 */
+		private boolean started;
+
+		/**
+		 * Boolean flag indicating whether the {@link #endCallback} has been posted and not run yet.
+		 */
+		private boolean endCallbackPosted;
+
+		/**
+		 * Frame callback which finishes this animator once the animation of the view property
+		 * animator should have ended.
+		 */
+		private final Choreographer.FrameCallback endCallback = new Choreographer.FrameCallback() {
+
+			/**
+			 */
+			@Override public void doFrame(final long frameTimeNanos) {
+				endCallbackPosted = false;
+				finish(false);
+			}
+		};
+
+		/**
+		 * Creates a new instance of ViewPropertyAnimatorDelegate for the specified <var>view</var>.
+		 *
+		 * @param view The view of which properties to animate.
+		 */
+		ViewPropertyAnimatorDelegate(final View view) {
+			super();
+			this.view = view;
+		}
+
+		/**
+		 */
+		@Override public void setStartDelay(final long startDelay) {
+			this.startDelay = Math.max(0, startDelay);
+		}
+
+		/**
+		 */
+		@Override public long getStartDelay() {
+			return startDelay;
+		}
+
+		/**
+		 */
+		@Override public Animator setDuration(final long duration) {
+			if (duration < 0) {
+				throw new IllegalArgumentException("Animators cannot have negative duration: " + duration);
+			}
+			this.duration = duration;
+			return this;
+		}
+
+		/**
+		 */
+		@Override public long getDuration() {
+			return duration;
+		}
+
+		/**
+		 */
+		@Override public void setInterpolator(@Nullable final TimeInterpolator interpolator) {
+			this.interpolator = interpolator;
+		}
+
+		/**
+		 */
+		@Override @Nullable public TimeInterpolator getInterpolator() {
+			return interpolator;
+		}
+
+		/**
+		 */
+		@Override public void start() {
+			if (started) {
+				return;
+			}
+			this.started = true;
+			applyValues(startValues);
+			final ArrayList<AnimatorListener> listeners = copyListeners();
+			if (listeners != null) {
+				for (final AnimatorListener listener : listeners) {
+					listener.onAnimationStart(this);
+				}
+			}
+			// View property animator retains its configuration, so all of it needs to be specified.
+			final ViewPropertyAnimator animator = view.animate();
+			animator.setStartDelay(startDelay);
+			animator.setDuration(duration);
+			animator.setInterpolator(interpolator);
+			if (withLayer) {
+				animator.withLayer();
+			}
+			if ((properties & (1 << SCALE_X)) != 0) {
+				animator.scaleX(endValues[SCALE_X]);
+			}
+			if ((properties & (1 << SCALE_Y)) != 0) {
+				animator.scaleY(endValues[SCALE_Y]);
+			}
+			if ((properties & (1 << TRANSLATION_X)) != 0) {
+				animator.translationX(endValues[TRANSLATION_X]);
+			}
+			if ((properties & (1 << TRANSLATION_Y)) != 0) {
+				animator.translationY(endValues[TRANSLATION_Y]);
+			}
+			animator.start();
+			// End action of the view property animator is dropped if the animation is taken over,
+			// so the completion is tracked by the end callback instead. Unlike callbacks posted
+			// via the view, frame callbacks are run and removed regardless of the view being attached.
+			final long endDelay = Math.round((startDelay + duration) * resolveDurationScale()) + END_DELAY_MARGIN;
+			Choreographer.getInstance().postFrameCallbackDelayed(endCallback, endDelay);
+			this.endCallbackPosted = true;
+		}
+
+		/**
+		 * Resolves the scale applied by the system to durations of all animators.
+		 *
+		 * @return The duration scale.
+		 */
+		private float resolveDurationScale() {
+			if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.O) {
+				return ValueAnimator.getDurationScale();
+			}
+			if (Build.VERSION.SDK_INT >= Build.VERSION_CODES.JELLY_BEAN_MR1) {
+				return Settings.Global.getFloat(view.getContext().getContentResolver(), Settings.Global.ANIMATOR_DURATION_SCALE, 1f);
+			}
+			return 1f;
+		}
+
+		/**
+		 * Removes the {@link #endCallback} if it has been posted and not run yet.
+		 */
+		private void removeEndCallback() {
+			if (endCallbackPosted) {
+				Choreographer.getInstance().removeFrameCallback(endCallback);
+				this.endCallbackPosted = false;
+			}
+		}
+
+		/**
+		 * Sets the specified values of the animated properties to the view.
+		 *
+		 * @param values The values to be set, indexed by the properties.
+		 */
+		private void applyValues(final float[] values) {
+			if ((properties & (1 << SCALE_X)) != 0) {
+				view.setScaleX(values[SCALE_X]);
+			}
+			if ((properties & (1 << SCALE_Y)) != 0) {
+				view.setScaleY(values[SCALE_Y]);
+			}
+			if ((properties & (1 << TRANSLATION_X)) != 0) {
+				view.setTranslationX(values[TRANSLATION_X]);
+			}
+			if ((properties & (1 << TRANSLATION_Y)) != 0) {
+				view.setTranslationY(values[TRANSLATION_Y]);
+			}
+		}
+
+		/**
+		 */
+		@Override public boolean isStarted() {
+			return started;
+		}
+
+		/**
+		 */
+		@Override public boolean isRunning() {
+			return started;
+		}
+
+		/**
+		 * Cancels this animator, leaving the view with its current property values.
+		 */
+		@Override public void cancel() {
+			if (started) {
+				stopProperties(null);
+				finish(true);
+			}
+		}
+
+		/**
+		 * Ends this animator, setting end values of the animated properties to the view immediately.
+		 */
+		@Override public void end() {
+			if (!started) {
+				start();
+			}
+			stopProperties(endValues);
+			applyValues(endValues);
+			finish(false);
+		}
+
+		/**
+		 * Stops animations of the animated properties by re-targeting them to the specified values
+		 * with zero duration.
+		 * <p>
+		 * View property animator removes a property from any of its running animations once an
+		 * animation of that property is requested, and cancels an animation which has no property
+		 * left. Unlike {@link ViewPropertyAnimator#cancel()}, this does not affect animations of
+		 * other properties of the view.
+		 *
+		 * @param values The values to which to re-target the properties, indexed by the properties,
+		 *               or {@code null} to re-target them to their current values.
+		 */
+		private void stopProperties(@Nullable final float[] values) {
+			final ViewPropertyAnimator animator = view.animate();
+			// View property animator retains its configuration, so restore it for its other users.
+			final long previousStartDelay = animator.getStartDelay();
+			final long previousDuration = animator.getDuration();
+			animator.setStartDelay(0);
+			animator.setDuration(0);
+			if ((properties & (1 << SCALE_X)) != 0) {
+				animator.scaleX(values == null ? view.getScaleX() : values[SCALE_X]);
+			}
+			if ((properties & (1 << SCALE_Y)) != 0) {
+				animator.scaleY(values == null ? view.getScaleY() : values[SCALE_Y]);
+			}
+			if ((properties & (1 << TRANSLATION_X)) != 0) {
+				animator.translationX(values == null ? view.getTranslationX() : values[TRANSLATION_X]);
+			}
+			if ((properties & (1 << TRANSLATION_Y)) != 0) {
+				animator.translationY(values == null ? view.getTranslationY() : values[TRANSLATION_Y]);
+			}
+			animator.start();
+			animator.setStartDelay(previousStartDelay);
+			animator.setDuration(previousDuration);
+		}
+
+		/**
+		 * Finishes this animator and notifies its listeners.
+		 *
+		 * @param canceled {@code True} if this animator has been cancelled, {@code false} if it has ended.
+		 */
+		void finish(final boolean canceled) {
+			if (!started) {
+				return;
+			}
+			this.started = false;
+			removeEndCallback();
+			final ArrayList<AnimatorListener> listeners = copyListeners();
+			if (listeners != null) {
+				if (canceled) {
+					for (final AnimatorListener listener : listeners) {
+						listener.onAnimationCancel(this);
+					}
+				}
+				for (final AnimatorListener listener : listeners) {
+					listener.onAnimationEnd(this);
+				}
+			}
+		}
+
+		/**
+		 * Returns a copy of the attached animator listeners, so they may remove themselves while being
+		 * notified.
+		 *
+		 * @return Copy of the listeners or {@code null} if there are no listeners attached.
+		 */
+		@SuppressWarnings("unchecked")
+		private ArrayList<AnimatorListener> copyListeners() {
+			final ArrayList<AnimatorListener> listeners = getListeners();
+			return listeners == null || listeners.isEmpty() ? null : (ArrayList<AnimatorListener>) listeners.clone();
+		}
+	}
+}
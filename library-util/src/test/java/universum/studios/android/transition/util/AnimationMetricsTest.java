@@ -0,0 +1,223 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2018 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.transition.util;
+
+import android.os.Build;
+
+import org.junit.Test;
+import org.robolectric.annotation.Config;
+import org.robolectric.util.ReflectionHelpers;
+
+import universum.studios.android.test.local.RobolectricTestCase;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * @author Martin Albedinsky
+ */
+@Config(sdk = Build.VERSION_CODES.O)
+public final class AnimationMetricsTest extends RobolectricTestCase {
+
+	private static final long FRAME = AnimationMetrics.DEFAULT_FRAME_BUDGET;
+
+	@Override public void beforeTest() throws Exception {
+		super.beforeTest();
+		ReflectionHelpers.setStaticField(AnimationMetrics.class, "frameInterval", AnimationMetrics.DEFAULT_FRAME_BUDGET);
+	}
+
+	@Test public void testInstantiation() {
+		// Act:
+		final AnimationMetrics metrics = new AnimationMetrics();
+		// Assert:
+		assertThat(metrics.isRecording(), is(false));
+		assertThat(metrics.getFirstFrameDelay(), is(-1L));
+		assertThat(metrics.getFrameCount(), is(0));
+		assertThat(metrics.getOverBudgetFrameCount(), is(0));
+		assertThat(metrics.getMaxFrameDuration(), is(0L));
+		assertThat(metrics.getAverageFrameDuration(), is(0L));
+		assertThat(metrics.getRecordedFrameCount(), is(0));
+		assertThat(metrics.getFrameBudget(), is(AnimationMetrics.DEFAULT_FRAME_BUDGET));
+	}
+
+	@Test public void testFrameBudgetFromDisplayRefreshRate() {
+		// Arrange:
+		final long frame = Math.round(1000000000d / 120);
+		final AnimationMetrics metrics = new AnimationMetrics();
+		// Act:
+		AnimationMetrics.setDisplayRefreshRate(120);
+		metrics.reset(0);
+		// Assert:
+		assertThat(metrics.getFrameBudget(), is(frame));
+		metrics.onFrame(0);
+		metrics.onFrame(frame);
+		metrics.onFrame(frame + 2 * frame);
+		assertThat(metrics.getOverBudgetFrameCount(), is(1));
+	}
+
+	@Test public void testSetDisplayRefreshRateNotPositive() {
+		// Arrange:
+		final AnimationMetrics metrics = new AnimationMetrics();
+		// Act:
+		AnimationMetrics.setDisplayRefreshRate(0);
+		AnimationMetrics.setDisplayRefreshRate(-60);
+		metrics.reset(0);
+		// Assert:
+		assertThat(metrics.getFrameBudget(), is(AnimationMetrics.DEFAULT_FRAME_BUDGET));
+	}
+
+	@Test public void testFrameBudgetFromObservedInterval() {
+		// Arrange:
+		final long frame = 11111111;
+		final AnimationMetrics observedMetrics = new AnimationMetrics();
+		observedMetrics.reset(0);
+		long frameTime = 0;
+		observedMetrics.onFrame(frameTime);
+		observedMetrics.onFrame(frameTime += 3 * frame);
+		for (int i = 1; i < AnimationMetrics.MIN_FRAMES_TO_OBSERVE_INTERVAL; i++) {
+			observedMetrics.onFrame(frameTime += frame);
+		}
+		final AnimationMetrics metrics = new AnimationMetrics();
+		// Act:
+		observedMetrics.observeFrameInterval();
+		metrics.reset(0);
+		// Assert:
+		assertThat(observedMetrics.getFrameBudget(), is(AnimationMetrics.DEFAULT_FRAME_BUDGET));
+		assertThat(metrics.getFrameBudget(), is(frame));
+	}
+
+	@Test public void testFrameBudgetNotRaisedByJankyRecording() {
+		// Arrange:
+		final AnimationMetrics jankyMetrics = new AnimationMetrics();
+		jankyMetrics.reset(0);
+		long frameTime = 0;
+		jankyMetrics.onFrame(frameTime);
+		for (int i = 0; i < AnimationMetrics.MIN_FRAMES_TO_OBSERVE_INTERVAL * 2; i++) {
+			jankyMetrics.onFrame(frameTime += 2 * FRAME);
+		}
+		final AnimationMetrics metrics = new AnimationMetrics();
+		// Act:
+		jankyMetrics.observeFrameInterval();
+		metrics.reset(0);
+		// Assert:
+		assertThat(jankyMetrics.getOverBudgetFrameCount(), is(AnimationMetrics.MIN_FRAMES_TO_OBSERVE_INTERVAL * 2));
+		assertThat(metrics.getFrameBudget(), is(AnimationMetrics.DEFAULT_FRAME_BUDGET));
+		metrics.onFrame(0);
+		metrics.onFrame(2 * FRAME);
+		assertThat(metrics.getOverBudgetFrameCount(), is(1));
+	}
+
+	@Test public void testFrameBudgetNotObservedFromFewFrames() {
+		// Arrange:
+		final AnimationMetrics observedMetrics = new AnimationMetrics();
+		observedMetrics.reset(0);
+		observedMetrics.onFrame(0);
+		observedMetrics.onFrame(FRAME / 2);
+		final AnimationMetrics metrics = new AnimationMetrics();
+		// Act:
+		observedMetrics.observeFrameInterval();
+		metrics.reset(0);
+		// Assert:
+		assertThat(metrics.getFrameBudget(), is(AnimationMetrics.DEFAULT_FRAME_BUDGET));
+	}
+
+	@Test public void testStartStop() {
+		// Arrange:
+		final AnimationMetrics metrics = new AnimationMetrics();
+		// Act + Assert:
+		metrics.start();
+		assertThat(metrics.isRecording(), is(true));
+		metrics.stop();
+		assertThat(metrics.isRecording(), is(false));
+	}
+
+	@Test public void testOnFrame() {
+		// Arrange:
+		final AnimationMetrics metrics = new AnimationMetrics();
+		metrics.reset(1000);
+		// Act:
+		metrics.onFrame(1000 + 5000000);
+		metrics.onFrame(1000 + 5000000 + FRAME);
+		metrics.onFrame(1000 + 5000000 + FRAME + 3 * FRAME);
+		// Assert:
+		assertThat(metrics.getFirstFrameDelay(), is(5000000L));
+		assertThat(metrics.getFrameCount(), is(2));
+		assertThat(metrics.getOverBudgetFrameCount(), is(1));
+		assertThat(metrics.getMaxFrameDuration(), is(3 * FRAME));
+		assertThat(metrics.getAverageFrameDuration(), is(2 * FRAME));
+		assertThat(metrics.getRecordedFrameCount(), is(2));
+		assertThat(metrics.getFrameDuration(0), is(FRAME));
+		assertThat(metrics.getFrameDuration(1), is(3 * FRAME));
+	}
+
+	@Test public void testOnFrameBeforeStartTime() {
+		// Arrange:
+		final AnimationMetrics metrics = new AnimationMetrics();
+		metrics.reset(1000);
+		// Act:
+		metrics.onFrame(500);
+		// Assert:
+		assertThat(metrics.getFirstFrameDelay(), is(0L));
+	}
+
+	@Test public void testOnFrameOverflowingRingBuffer() {
+		// Arrange:
+		final AnimationMetrics metrics = new AnimationMetrics();
+		metrics.reset(0);
+		final int frames = AnimationMetrics.MAX_RECORDED_FRAMES + 10;
+		// Act:
+		long frameTime = 0;
+		metrics.onFrame(frameTime);
+		for (int i = 1; i <= frames; i++) {
+			frameTime += i;
+			metrics.onFrame(frameTime);
+		}
+		// Assert:
+		assertThat(metrics.getFrameCount(), is(frames));
+		assertThat(metrics.getRecordedFrameCount(), is(AnimationMetrics.MAX_RECORDED_FRAMES));
+		assertThat(metrics.getFrameDuration(0), is(11L));
+		assertThat(metrics.getFrameDuration(AnimationMetrics.MAX_RECORDED_FRAMES - 1), is((long) frames));
+	}
+
+	@Test public void testReset() {
+		// Arrange:
+		final AnimationMetrics metrics = new AnimationMetrics();
+		metrics.reset(0);
+		metrics.onFrame(FRAME);
+		metrics.onFrame(4 * FRAME);
+		// Act:
+		metrics.reset(0);
+		// Assert:
+		assertThat(metrics.getFirstFrameDelay(), is(-1L));
+		assertThat(metrics.getFrameCount(), is(0));
+		assertThat(metrics.getOverBudgetFrameCount(), is(0));
+		assertThat(metrics.getMaxFrameDuration(), is(0L));
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testGetFrameDurationOutOfRange() {
+		// Arrange:
+		final AnimationMetrics metrics = new AnimationMetrics();
+		metrics.reset(0);
+		metrics.onFrame(0);
+		metrics.onFrame(FRAME);
+		// Act:
+		metrics.getFrameDuration(1);
+	}
+}
@@ -19,16 +19,23 @@
 package universum.studios.android.transition.util;
 
 import android.animation.Animator;
+import android.animation.AnimatorListenerAdapter;
 import android.animation.TimeInterpolator;
 import android.os.Build;
 
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.robolectric.annotation.Config;
 
+import java.util.List;
+
 import universum.studios.android.test.local.RobolectricTestCase;
 
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.mock;
@@ -55,6 +62,160 @@ public final class AnimatorWrapperTest extends RobolectricTestCase {
 		assertThat(wrapper.getListeners().isEmpty(), is(true));
 	}
 
+	@Test public void testObtain() {
+		// Arrange:
+		AnimatorWrapper.POOL.clear();
+		final Animator mockAnimator = mock(Animator.class);
+		// Act:
+		final AnimatorWrapper wrapper = AnimatorWrapper.obtain(mockAnimator);
+		// Assert:
+		assertThat(wrapper.getWrappedAnimator(), is(mockAnimator));
+		assertThat(wrapper.isRecycled(), is(false));
+		assertThat(wrapper.hasFeature(AnimatorWrapper.ALL), is(true));
+	}
+
+	@Test public void testObtainRecycledWrapper() {
+		// Arrange:
+		AnimatorWrapper.POOL.clear();
+		final AnimatorWrapper recycledWrapper = AnimatorWrapper.obtain(mock(Animator.class));
+		recycledWrapper.removeFeature(AnimatorWrapper.PAUSE);
+		recycledWrapper.addListener(mock(Animator.AnimatorListener.class));
+		recycledWrapper.recycle();
+		final Animator mockAnimator = mock(Animator.class);
+		// Act:
+		final AnimatorWrapper wrapper = AnimatorWrapper.obtain(mockAnimator);
+		// Assert:
+		assertThat(wrapper, is(sameInstance(recycledWrapper)));
+		assertThat(wrapper.isRecycled(), is(false));
+		assertThat(wrapper.getWrappedAnimator(), is(mockAnimator));
+		assertThat(wrapper.hasFeature(AnimatorWrapper.ALL), is(true));
+		assertThat(wrapper.getListeners().isEmpty(), is(true));
+		assertThat(AnimatorWrapper.POOL.size(), is(0));
+	}
+
+	@Test public void testRecycle() {
+		// Arrange:
+		AnimatorWrapper.POOL.clear();
+		final Animator mockAnimator = mock(Animator.class);
+		final AnimatorWrapper wrapper = AnimatorWrapper.obtain(mockAnimator);
+		wrapper.addListener(mock(Animator.AnimatorListener.class));
+		wrapper.addPauseListener(mock(Animator.AnimatorPauseListener.class));
+		// Act:
+		wrapper.recycle();
+		// Assert:
+		assertThat(wrapper.isRecycled(), is(true));
+		assertThat(AnimatorWrapper.POOL.size(), is(1));
+		verify(mockAnimator).removeListener(any(AnimatorWrapper.ListenerDispatcher.class));
+		verify(mockAnimator).removePauseListener(any(AnimatorWrapper.PauseListenerDispatcher.class));
+		verify(mockAnimator, times(0)).cancel();
+	}
+
+	@Test public void testRecycleIntoFullPool() {
+		// Arrange:
+		AnimatorWrapper.POOL.clear();
+		for (int i = 0; i < AnimatorWrapper.MAX_POOL_SIZE + 1; i++) {
+			// Act:
+			new AnimatorWrapper(mock(Animator.class)).recycle();
+		}
+		// Assert:
+		assertThat(AnimatorWrapper.POOL.size(), is(AnimatorWrapper.MAX_POOL_SIZE));
+	}
+
+	@Test public void testRecycleSubclassInstance() {
+		// Arrange:
+		AnimatorWrapper.POOL.clear();
+		final AnimatorWrapper wrapper = new AnimatorWrapper(mock(Animator.class)) {};
+		// Act:
+		wrapper.recycle();
+		// Assert:
+		assertThat(wrapper.isRecycled(), is(true));
+		assertThat(AnimatorWrapper.POOL.size(), is(0));
+	}
+
+	@Test public void testRecycleWhileDispatchingAnimationEnd() {
+		// Arrange:
+		AnimatorWrapper.POOL.clear();
+		final Animator mockAnimator = mock(Animator.class);
+		final AnimatorWrapper wrapper = AnimatorWrapper.obtain(mockAnimator);
+		final Animator.AnimatorListener mockListener = mock(Animator.AnimatorListener.class);
+		wrapper.addListener(new AnimatorListenerAdapter() {
+
+			@Override public void onAnimationEnd(final Animator animation) {
+				((AnimatorWrapper) animation).recycle();
+			}
+		});
+		wrapper.addListener(mockListener);
+		final ArgumentCaptor<Animator.AnimatorListener> dispatcherCaptor = ArgumentCaptor.forClass(Animator.AnimatorListener.class);
+		verify(mockAnimator).addListener(dispatcherCaptor.capture());
+		// Act:
+		dispatcherCaptor.getValue().onAnimationEnd(mockAnimator);
+		// Assert:
+		verify(mockListener).onAnimationEnd(wrapper);
+		assertThat(wrapper.isRecycled(), is(true));
+		assertThat(AnimatorWrapper.POOL.size(), is(1));
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testRecycleAlreadyRecycled() {
+		// Arrange:
+		final AnimatorWrapper wrapper = new AnimatorWrapper(mock(Animator.class));
+		wrapper.recycle();
+		// Act:
+		wrapper.recycle();
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testGetWrappedAnimatorWhenRecycled() {
+		// Arrange:
+		final AnimatorWrapper wrapper = new AnimatorWrapper(mock(Animator.class));
+		wrapper.recycle();
+		// Act:
+		wrapper.getWrappedAnimator();
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testStartWhenRecycled() {
+		// Arrange:
+		final Animator mockAnimator = mock(Animator.class);
+		final AnimatorWrapper wrapper = new AnimatorWrapper(mockAnimator);
+		wrapper.recycle();
+		// Act:
+		wrapper.start();
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testAddListenerWhenRecycled() {
+		// Arrange:
+		final AnimatorWrapper wrapper = new AnimatorWrapper(mock(Animator.class));
+		wrapper.recycle();
+		// Act:
+		wrapper.addListener(mock(Animator.AnimatorListener.class));
+	}
+
+	@Test public void testPoolAcquireRelease() {
+		// Arrange:
+		final AnimatorWrapper.Pool<AnimatorWrapper> pool = new AnimatorWrapper.Pool<>(1);
+		final AnimatorWrapper firstWrapper = new AnimatorWrapper(mock(Animator.class));
+		final AnimatorWrapper secondWrapper = new AnimatorWrapper(mock(Animator.class));
+		firstWrapper.recycle();
+		secondWrapper.recycle();
+		// Act + Assert:
+		assertThat(pool.acquire(), is(nullValue()));
+		assertThat(pool.release(firstWrapper), is(true));
+		assertThat(pool.release(secondWrapper), is(false));
+		assertThat(pool.size(), is(1));
+		assertThat(pool.acquire(), is(firstWrapper));
+		assertThat(pool.acquire(), is(nullValue()));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testPoolReleaseNotRecycledWrapper() {
+		// Arrange:
+		final AnimatorWrapper.Pool<AnimatorWrapper> pool = new AnimatorWrapper.Pool<>(1);
+		// Act:
+		pool.release(new AnimatorWrapper(mock(Animator.class)));
+	}
+
 	@Test public void testRequestFeatures() {
 		// Arrange:
 		final Animator mockAnimator = mock(Animator.class);
@@ -163,6 +324,54 @@ public final class AnimatorWrapperTest extends RobolectricTestCase {
 		verifyNoMoreInteractions(mockAnimator);
 	}
 
+	@Test public void testReplaceWrappedAnimator() {
+		// Arrange:
+		final Animator mockAnimator = mock(Animator.class);
+		final Animator mockNewAnimator = mock(Animator.class);
+		final Animator.AnimatorListener mockListener = mock(Animator.AnimatorListener.class);
+		final Animator.AnimatorPauseListener mockPauseListener = mock(Animator.AnimatorPauseListener.class);
+		final AnimatorWrapper wrapper = new AnimatorWrapper(mockAnimator);
+		wrapper.addListener(mockListener);
+		wrapper.addPauseListener(mockPauseListener);
+		// Act:
+		wrapper.replaceWrappedAnimator(mockNewAnimator);
+		// Assert:
+		assertThat(wrapper.getWrappedAnimator(), is(mockNewAnimator));
+		verify(mockAnimator).removeListener(any(AnimatorWrapper.ListenerDispatcher.class));
+		verify(mockAnimator).removePauseListener(any(AnimatorWrapper.PauseListenerDispatcher.class));
+		verify(mockNewAnimator).addListener(any(AnimatorWrapper.ListenerDispatcher.class));
+		verify(mockNewAnimator).addPauseListener(any(AnimatorWrapper.PauseListenerDispatcher.class));
+		verifyNoMoreInteractions(mockNewAnimator);
+		assertThat(wrapper.getListeners().size(), is(1));
+		assertThat(wrapper.getListeners().get(0), is(mockListener));
+	}
+
+	@Test public void testReplaceWrappedAnimatorWithSameAnimator() {
+		// Arrange:
+		final Animator mockAnimator = mock(Animator.class);
+		final AnimatorWrapper wrapper = new AnimatorWrapper(mockAnimator);
+		wrapper.addListener(mock(Animator.AnimatorListener.class));
+		// Act:
+		wrapper.replaceWrappedAnimator(mockAnimator);
+		// Assert:
+		verify(mockAnimator).addListener(any(Animator.AnimatorListener.class));
+		verifyNoMoreInteractions(mockAnimator);
+	}
+
+	@Test public void testDispatchAnimationPauseAndResume() {
+		// Arrange:
+		final Animator.AnimatorPauseListener mockPauseListener = mock(Animator.AnimatorPauseListener.class);
+		final AnimatorWrapper wrapper = new AnimatorWrapper(mock(Animator.class));
+		wrapper.addPauseListener(mockPauseListener);
+		// Act:
+		wrapper.dispatchAnimationPause();
+		wrapper.dispatchAnimationResume();
+		// Assert:
+		verify(mockPauseListener).onAnimationPause(wrapper);
+		verify(mockPauseListener).onAnimationResume(wrapper);
+		verifyNoMoreInteractions(mockPauseListener);
+	}
+
 	@Test public void testAddPauseListenerWithoutPauseFeature() {
 		// Arrange:
 		final Animator mockAnimator = mock(Animator.class);
@@ -281,6 +490,71 @@ public final class AnimatorWrapperTest extends RobolectricTestCase {
 		verify(mockAnimator).getDuration();
 	}
 
+	@Test public void testTimeScale() {
+		// Act + Assert:
+		assertThat(AnimatorWrapper.getTimeScale(), is(1f));
+		AnimatorWrapper.setTimeScale(0.5f);
+		assertThat(AnimatorWrapper.getTimeScale(), is(0.5f));
+		assertThat(AnimatorWrapper.applyTimeScale(300L), is(150L));
+		assertThat(AnimatorWrapper.applyTimeScale(-1L), is(-1L));
+		AnimatorWrapper.setTimeScale(1f);
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testSetNegativeTimeScale() {
+		// Act:
+		AnimatorWrapper.setTimeScale(-1f);
+	}
+
+	@Test public void testSetDurationAndStartDelayWithTimeScale() {
+		// Arrange:
+		AnimatorWrapper.setTimeScale(0.5f);
+		final Animator mockAnimator = mock(Animator.class);
+		final AnimatorWrapper wrapper = new AnimatorWrapper(mockAnimator);
+		// Act:
+		wrapper.setDuration(200L);
+		wrapper.setStartDelay(100L);
+		// Assert:
+		verify(mockAnimator).setDuration(100L);
+		verify(mockAnimator).setStartDelay(50L);
+		assertThat(wrapper.getDuration(), is(200L));
+		assertThat(wrapper.getStartDelay(), is(100L));
+		AnimatorWrapper.setTimeScale(1f);
+	}
+
+	@Test public void testStartAppliesCurrentTimeScale() {
+		// Arrange:
+		final Animator mockAnimator = mock(Animator.class);
+		final AnimatorWrapper wrapper = new AnimatorWrapper(mockAnimator);
+		wrapper.setDuration(200L);
+		AnimatorWrapper.setTimeScale(2f);
+		// Act:
+		wrapper.start();
+		// Assert:
+		verify(mockAnimator).setDuration(400L);
+		verify(mockAnimator).start();
+		AnimatorWrapper.setTimeScale(1f);
+	}
+
+	@Test public void testStartAppliesTimeScaleToDurationOfWrappedAnimator() {
+		// Arrange:
+		final Animator mockAnimator = mock(Animator.class);
+		when(mockAnimator.getDuration()).thenReturn(300L);
+		when(mockAnimator.getStartDelay()).thenReturn(100L);
+		final AnimatorWrapper wrapper = new AnimatorWrapper(mockAnimator);
+		AnimatorWrapper.setTimeScale(0.5f);
+		// Act + Assert:
+		wrapper.start();
+		verify(mockAnimator).setDuration(150L);
+		verify(mockAnimator).setStartDelay(50L);
+		// Wrapped animator now holds the scaled values, so they must not be scaled again.
+		wrapper.start();
+		verify(mockAnimator, times(2)).setDuration(150L);
+		verify(mockAnimator, times(2)).setStartDelay(50L);
+		assertThat(wrapper.getDuration(), is(300L));
+		AnimatorWrapper.setTimeScale(1f);
+	}
+
 	@Test public void testSetInterpolator() {
 		// Arrange:
 		final Animator mockAnimator = mock(Animator.class);
@@ -335,6 +609,69 @@ public final class AnimatorWrapperTest extends RobolectricTestCase {
 		verifyZeroInteractions(mockAnimator);
 	}
 
+	@Test public void testMetricsFeatureIsNotRequestedByDefault() {
+		// Act:
+		final AnimatorWrapper wrapper = new AnimatorWrapper(mock(Animator.class));
+		// Assert:
+		assertThat(wrapper.hasFeature(AnimatorWrapper.METRICS), is(false));
+		assertThat(wrapper.getMetrics(), is(nullValue()));
+	}
+
+	@Test public void testStartWithMetricsFeature() {
+		// Arrange:
+		final Animator mockAnimator = mock(Animator.class);
+		final AnimatorWrapper wrapper = new AnimatorWrapper(mockAnimator);
+		wrapper.requestFeature(AnimatorWrapper.METRICS);
+		// Act:
+		wrapper.start();
+		// Assert:
+		assertThat(wrapper.getMetrics(), is(notNullValue()));
+		assertThat(wrapper.getMetrics().isRecording(), is(true));
+		verify(mockAnimator).addListener(any(AnimatorWrapper.ListenerDispatcher.class));
+		verify(mockAnimator).start();
+		wrapper.getMetrics().stop();
+	}
+
+	@Test public void testReportMetricsOnAnimationEnd() {
+		// Arrange:
+		final AnimationMetrics.Reporter mockReporter = mock(AnimationMetrics.Reporter.class);
+		AnimatorWrapper.setMetricsReporter(mockReporter);
+		final Animator mockAnimator = mock(Animator.class);
+		final Animator.AnimatorListener mockListener = mock(Animator.AnimatorListener.class);
+		final AnimatorWrapper wrapper = new AnimatorWrapper(mockAnimator);
+		wrapper.requestFeature(AnimatorWrapper.METRICS);
+		wrapper.addListener(mockListener);
+		wrapper.start();
+		final ArgumentCaptor<Animator.AnimatorListener> dispatcherCaptor = ArgumentCaptor.forClass(Animator.AnimatorListener.class);
+		verify(mockAnimator).addListener(dispatcherCaptor.capture());
+		// Act:
+		dispatcherCaptor.getValue().onAnimationEnd(mockAnimator);
+		// Assert:
+		assertThat(wrapper.getMetrics().isRecording(), is(false));
+		verify(mockReporter).onReportMetrics(wrapper, wrapper.getMetrics());
+		verify(mockListener).onAnimationEnd(wrapper);
+		verify(mockAnimator, times(0)).removeListener(any(Animator.AnimatorListener.class));
+		AnimatorWrapper.setMetricsReporter(null);
+	}
+
+	@Test public void testReportMetricsOnAnimationEndWithoutListeners() {
+		// Arrange:
+		final AnimationMetrics.Reporter mockReporter = mock(AnimationMetrics.Reporter.class);
+		AnimatorWrapper.setMetricsReporter(mockReporter);
+		final Animator mockAnimator = mock(Animator.class);
+		final AnimatorWrapper wrapper = new AnimatorWrapper(mockAnimator);
+		wrapper.requestFeature(AnimatorWrapper.METRICS);
+		wrapper.start();
+		final ArgumentCaptor<Animator.AnimatorListener> dispatcherCaptor = ArgumentCaptor.forClass(Animator.AnimatorListener.class);
+		verify(mockAnimator).addListener(dispatcherCaptor.capture());
+		// Act:
+		dispatcherCaptor.getValue().onAnimationEnd(mockAnimator);
+		// Assert:
+		verify(mockReporter).onReportMetrics(wrapper, wrapper.getMetrics());
+		verify(mockAnimator).removeListener(dispatcherCaptor.getValue());
+		AnimatorWrapper.setMetricsReporter(null);
+	}
+
 	@Test public void testIsStarted() {
 		// Arrange:
 		final Animator mockAnimator = mock(Animator.class);
@@ -515,81 +852,157 @@ public final class AnimatorWrapperTest extends RobolectricTestCase {
 		verify(mockAnimator).isRunning();
 	}
 
-	@Test public void testAnimatorListenerWrapperOnAnimationStart() {
+	@Test public void testGetListenersDoesNotCopyUntilListenersChange() {
 		// Arrange:
+		final AnimatorWrapper wrapper = new AnimatorWrapper(mock(Animator.class));
 		final Animator.AnimatorListener mockListener = mock(Animator.AnimatorListener.class);
+		wrapper.addListener(mockListener);
+		// Act + Assert:
+		final List<Animator.AnimatorListener> listeners = wrapper.getListeners();
+		assertThat(wrapper.getListeners(), is(sameInstance(listeners)));
+		wrapper.addListener(mock(Animator.AnimatorListener.class));
+		assertThat(wrapper.getListeners(), is(not(sameInstance(listeners))));
+		assertThat(wrapper.getListeners().size(), is(2));
+		assertThat(wrapper.getListeners().get(0), is(mockListener));
+	}
+
+	@Test public void testAddMultipleListenersRegistersSingleListener() {
+		// Arrange:
 		final Animator mockAnimator = mock(Animator.class);
 		final AnimatorWrapper wrapper = new AnimatorWrapper(mockAnimator);
-		final AnimatorWrapper.AnimatorListenerWrapper listenerWrapper = new AnimatorWrapper.AnimatorListenerWrapper(mockListener, wrapper);
+		final Animator.AnimatorListener mockFirstListener = mock(Animator.AnimatorListener.class);
+		final Animator.AnimatorListener mockSecondListener = mock(Animator.AnimatorListener.class);
 		// Act:
-		listenerWrapper.onAnimationStart(mockAnimator);
+		wrapper.addListener(mockFirstListener);
+		wrapper.addListener(mockSecondListener);
+		wrapper.removeListener(mockFirstListener);
 		// Assert:
-		verify(mockListener).onAnimationStart(wrapper);
-		verifyNoMoreInteractions(mockListener);
+		verify(mockAnimator, times(1)).addListener(any(AnimatorWrapper.ListenerDispatcher.class));
+		verify(mockAnimator, times(0)).removeListener(any(Animator.AnimatorListener.class));
+		assertThat(wrapper.getListeners().size(), is(1));
+		assertThat(wrapper.getListeners().get(0), is(mockSecondListener));
+	}
+
+	@Test public void testListenerDispatcherOnAnimationStart() {
+		// Arrange:
+		final Animator.AnimatorListener mockFirstListener = mock(Animator.AnimatorListener.class);
+		final Animator.AnimatorListener mockSecondListener = mock(Animator.AnimatorListener.class);
+		final Animator mockAnimator = mock(Animator.class);
+		final AnimatorWrapper wrapper = new AnimatorWrapper(mockAnimator);
+		final AnimatorWrapper.ListenerDispatcher dispatcher = new AnimatorWrapper.ListenerDispatcher(wrapper);
+		dispatcher.addListener(mockFirstListener);
+		dispatcher.addListener(mockSecondListener);
+		// Act:
+		dispatcher.onAnimationStart(mockAnimator);
+		// Assert:
+		verify(mockFirstListener).onAnimationStart(wrapper);
+		verify(mockSecondListener).onAnimationStart(wrapper);
+		verifyNoMoreInteractions(mockFirstListener, mockSecondListener);
+	}
+
+	@Test public void testListenerDispatcherOnAnimationStartForReplacedAnimator() {
+		// Arrange:
+		final Animator.AnimatorListener mockListener = mock(Animator.AnimatorListener.class);
+		final Animator mockAnimator = mock(Animator.class);
+		final AnimatorWrapper wrapper = new AnimatorWrapper(mockAnimator);
+		final AnimatorWrapper.ListenerDispatcher dispatcher = new AnimatorWrapper.ListenerDispatcher(wrapper);
+		dispatcher.addListener(mockListener);
+		// Act + Assert:
+		dispatcher.onAnimationStart(mockAnimator);
+		dispatcher.onAnimationStart(mock(Animator.class));
+		verify(mockListener, times(1)).onAnimationStart(wrapper);
+		dispatcher.onAnimationEnd(mockAnimator);
+		dispatcher.onAnimationStart(mockAnimator);
+		verify(mockListener, times(2)).onAnimationStart(wrapper);
+	}
+
+	@Test public void testListenerDispatcherOnAnimationStartRemovingListener() {
+		// Arrange:
+		final Animator mockAnimator = mock(Animator.class);
+		final AnimatorWrapper wrapper = new AnimatorWrapper(mockAnimator);
+		final Animator.AnimatorListener mockSecondListener = mock(Animator.AnimatorListener.class);
+		final AnimatorWrapper.ListenerDispatcher dispatcher = new AnimatorWrapper.ListenerDispatcher(wrapper);
+		dispatcher.addListener(new AnimatorListenerAdapter() {
+
+			@Override public void onAnimationStart(final Animator animation) {
+				dispatcher.removeListener(this);
+			}
+		});
+		dispatcher.addListener(mockSecondListener);
+		// Act:
+		dispatcher.onAnimationStart(mockAnimator);
+		// Assert:
+		verify(mockSecondListener).onAnimationStart(wrapper);
+		assertThat(dispatcher.getListenersCount(), is(1));
 	}
 
-	@Test public void testAnimatorListenerWrapperOnAnimationEnd() {
+	@Test public void testListenerDispatcherOnAnimationEnd() {
 		// Arrange:
 		final Animator.AnimatorListener mockListener = mock(Animator.AnimatorListener.class);
 		final Animator mockAnimator = mock(Animator.class);
 		final AnimatorWrapper wrapper = new AnimatorWrapper(mockAnimator);
-		final AnimatorWrapper.AnimatorListenerWrapper listenerWrapper = new AnimatorWrapper.AnimatorListenerWrapper(mockListener, wrapper);
+		final AnimatorWrapper.ListenerDispatcher dispatcher = new AnimatorWrapper.ListenerDispatcher(wrapper);
+		dispatcher.addListener(mockListener);
 		// Act:
-		listenerWrapper.onAnimationEnd(mockAnimator);
+		dispatcher.onAnimationEnd(mockAnimator);
 		// Assert:
 		verify(mockListener).onAnimationEnd(wrapper);
 		verifyNoMoreInteractions(mockListener);
 	}
 
-	@Test public void testAnimatorListenerWrapperOnAnimationCancel() {
+	@Test public void testListenerDispatcherOnAnimationCancel() {
 		// Arrange:
 		final Animator.AnimatorListener mockListener = mock(Animator.AnimatorListener.class);
 		final Animator mockAnimator = mock(Animator.class);
 		final AnimatorWrapper wrapper = new AnimatorWrapper(mockAnimator);
-		final AnimatorWrapper.AnimatorListenerWrapper listenerWrapper = new AnimatorWrapper.AnimatorListenerWrapper(mockListener, wrapper);
+		final AnimatorWrapper.ListenerDispatcher dispatcher = new AnimatorWrapper.ListenerDispatcher(wrapper);
+		dispatcher.addListener(mockListener);
 		// Act:
-		listenerWrapper.onAnimationCancel(mockAnimator);
+		dispatcher.onAnimationCancel(mockAnimator);
 		// Assert:
 		verify(mockListener).onAnimationCancel(wrapper);
 		verifyNoMoreInteractions(mockListener);
 	}
 
-	@Test public void testAnimatorListenerWrapperOnAnimationRepeat() {
+	@Test public void testListenerDispatcherOnAnimationRepeat() {
 		// Arrange:
 		final Animator.AnimatorListener mockListener = mock(Animator.AnimatorListener.class);
 		final Animator mockAnimator = mock(Animator.class);
 		final AnimatorWrapper wrapper = new AnimatorWrapper(mockAnimator);
-		final AnimatorWrapper.AnimatorListenerWrapper listenerWrapper = new AnimatorWrapper.AnimatorListenerWrapper(mockListener, wrapper);
+		final AnimatorWrapper.ListenerDispatcher dispatcher = new AnimatorWrapper.ListenerDispatcher(wrapper);
+		dispatcher.addListener(mockListener);
 		// Act:
-		listenerWrapper.onAnimationRepeat(mockAnimator);
+		dispatcher.onAnimationRepeat(mockAnimator);
 		// Assert:
 		verify(mockListener).onAnimationRepeat(wrapper);
 		verifyNoMoreInteractions(mockListener);
 	}
 
-	@Test public void testAnimatorPauseListenerWrapperOnAnimationPause() {
+	@Test public void testPauseListenerDispatcherOnAnimationPause() {
 		// Arrange:
 		final Animator.AnimatorPauseListener mockListener = mock(Animator.AnimatorPauseListener.class);
 		final Animator mockAnimator = mock(Animator.class);
 		final AnimatorWrapper wrapper = new AnimatorWrapper(mockAnimator);
-		final AnimatorWrapper.AnimatorPauseListenerWrapper listenerWrapper = new AnimatorWrapper.AnimatorPauseListenerWrapper(mockListener, wrapper);
+		final AnimatorWrapper.PauseListenerDispatcher dispatcher = new AnimatorWrapper.PauseListenerDispatcher(wrapper);
+		dispatcher.addListener(mockListener);
 		// Act:
-		listenerWrapper.onAnimationPause(mockAnimator);
+		dispatcher.onAnimationPause(mockAnimator);
 		// Assert:
 		verify(mockListener).onAnimationPause(wrapper);
 		verifyNoMoreInteractions(mockListener);
 	}
 
-	@Test public void testAnimatorPauseListenerWrapperOnAnimationResume() {
+	@Test public void testPauseListenerDispatcherOnAnimationResume() {
 		// Arrange:
 		final Animator mockAnimator = mock(Animator.class);
 		final Animator.AnimatorPauseListener mockListener = mock(Animator.AnimatorPauseListener.class);
 		final AnimatorWrapper wrapper = new AnimatorWrapper(mockAnimator);
-		final AnimatorWrapper.AnimatorPauseListenerWrapper listenerWrapper = new AnimatorWrapper.AnimatorPauseListenerWrapper(mockListener, wrapper);
+		final AnimatorWrapper.PauseListenerDispatcher dispatcher = new AnimatorWrapper.PauseListenerDispatcher(wrapper);
+		dispatcher.addListener(mockListener);
 		// Act:
-		listenerWrapper.onAnimationResume(mockAnimator);
+		dispatcher.onAnimationResume(mockAnimator);
 		// Assert:
 		verify(mockListener).onAnimationResume(wrapper);
 		verifyNoMoreInteractions(mockListener);
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,206 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2018 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.transition.util;
+
+import android.animation.ValueAnimator;
+import android.os.Build;
+import android.util.FloatProperty;
+import android.util.Property;
+import android.view.View;
+
+import org.junit.Test;
+import org.robolectric.annotation.Config;
+
+import universum.studios.android.test.local.RobolectricTestCase;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+/**
+ * @author Martin Albedinsky
+ */
+@Config(sdk = Build.VERSION_CODES.O)
+public final class CompositeFloatAnimatorTest extends RobolectricTestCase {
+
+	@Test public void testInstantiation() {
+		// Act:
+		final CompositeFloatAnimator animator = new CompositeFloatAnimator();
+		// Assert:
+		assertThat(animator.getWrappedAnimator(), instanceOf(ValueAnimator.class));
+		assertThat(animator.getPropertiesCount(), is(0));
+	}
+
+	@Test public void testAnimateProperty() {
+		// Arrange:
+		final View view = new View(context);
+		final CompositeFloatAnimator animator = new CompositeFloatAnimator();
+		// Act:
+		animator.animateProperty(view, View.ALPHA, 0f, 1f).animateProperty(view, View.SCALE_X, 0.5f, 2f);
+		// Assert:
+		assertThat(animator.getPropertiesCount(), is(2));
+		assertThat(animator.getStartValue(0), is(0f));
+		assertThat(animator.getEndValue(0), is(1f));
+		assertThat(animator.getStartValue(1), is(0.5f));
+		assertThat(animator.getEndValue(1), is(2f));
+	}
+
+	@Test public void testAnimatePropertyBeyondInitialCapacity() {
+		// Arrange:
+		final int count = 10;
+		final View[] views = new View[count];
+		final CompositeFloatAnimator animator = new CompositeFloatAnimator();
+		// Act:
+		for (int i = 0; i < count; i++) {
+			views[i] = new View(context);
+			animator.animateProperty(views[i], View.TRANSLATION_X, 0f, i * 10f);
+		}
+		animator.update(1f);
+		// Assert:
+		assertThat(animator.getPropertiesCount(), is(count));
+		for (int i = 0; i < count; i++) {
+			assertThat(views[i].getTranslationX(), is(i * 10f));
+		}
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testGetStartValueOutOfRange() {
+		// Act:
+		new CompositeFloatAnimator().getStartValue(0);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testGetEndValueOutOfRange() {
+		// Arrange:
+		final CompositeFloatAnimator animator = new CompositeFloatAnimator();
+		animator.animateProperty(new View(context), View.ALPHA, 0f, 1f);
+		// Act:
+		animator.getEndValue(1);
+	}
+
+	@Test public void testUpdate() {
+		// Arrange:
+		final View firstView = new View(context);
+		final View secondView = new View(context);
+		final CompositeFloatAnimator animator = new CompositeFloatAnimator();
+		animator.animateProperty(firstView, View.ALPHA, 0f, 1f);
+		animator.animateProperty(secondView, View.TRANSLATION_Y, 100f, 0f);
+		// Act + Assert:
+		animator.update(0f);
+		assertThat(firstView.getAlpha(), is(0f));
+		assertThat(secondView.getTranslationY(), is(100f));
+		animator.update(0.5f);
+		assertThat(firstView.getAlpha(), is(0.5f));
+		assertThat(secondView.getTranslationY(), is(50f));
+		animator.update(1f);
+		assertThat(firstView.getAlpha(), is(1f));
+		assertThat(secondView.getTranslationY(), is(0f));
+	}
+
+	@Test public void testUpdateViaFloatProperty() {
+		// Arrange:
+		final View view = new View(context);
+		final TestFloatProperty property = spy(new TestFloatProperty());
+		final CompositeFloatAnimator animator = new CompositeFloatAnimator();
+		animator.animateProperty(view, property, 0f, 1f);
+		// Act:
+		animator.update(0.25f);
+		// Assert:
+		assertThat(view.getAlpha(), is(0.25f));
+		verify(property).setValue(view, 0.25f);
+	}
+
+	@Test public void testUpdateViaPlainProperty() {
+		// Arrange:
+		final View view = new View(context);
+		final TestProperty property = spy(new TestProperty());
+		final CompositeFloatAnimator animator = new CompositeFloatAnimator();
+		animator.animateProperty(view, property, 0f, 90f);
+		// Act:
+		animator.update(0.5f);
+		// Assert:
+		assertThat(view.getRotation(), is(45f));
+		verify(property).set(view, 45f);
+	}
+
+	@Test public void testAnimationUpdatesAllProperties() {
+		// Arrange:
+		final View firstView = new View(context);
+		final View secondView = new View(context);
+		final CompositeFloatAnimator animator = new CompositeFloatAnimator();
+		animator.animateProperty(firstView, View.SCALE_X, 1f, 0f);
+		animator.animateProperty(secondView, View.SCALE_Y, 1f, 0f);
+		final ValueAnimator pulse = (ValueAnimator) animator.getWrappedAnimator();
+		// Act:
+		pulse.setCurrentPlayTime(pulse.getDuration());
+		// Assert:
+		assertThat(firstView.getScaleX(), is(0f));
+		assertThat(secondView.getScaleY(), is(0f));
+	}
+
+	@Test public void testRecycle() {
+		// Arrange:
+		final View view = new View(context);
+		final CompositeFloatAnimator animator = new CompositeFloatAnimator();
+		animator.animateProperty(view, View.ALPHA, 1f, 0f);
+		final ValueAnimator pulse = (ValueAnimator) animator.getWrappedAnimator();
+		// Act:
+		animator.recycle();
+		// Assert:
+		assertThat(animator.isRecycled(), is(true));
+		assertThat(animator.getPropertiesCount(), is(0));
+		pulse.setCurrentPlayTime(pulse.getDuration());
+		assertThat(view.getAlpha(), is(1f));
+		assertThat(AnimatorWrapper.POOL.acquire(), is(not(sameInstance((AnimatorWrapper) animator))));
+	}
+
+	public static class TestProperty extends Property<View, Float> {
+
+		public TestProperty() {
+			super(Float.class, "rotation");
+		}
+
+		@Override public void set(final View view, final Float value) {
+			view.setRotation(value);
+		}
+
+		@Override public Float get(final View view) {
+			return view.getRotation();
+		}
+	}
+
+	public static class TestFloatProperty extends FloatProperty<View> {
+
+		public TestFloatProperty() {
+			super("alpha");
+		}
+
+		@Override public void setValue(final View view, final float value) {
+			view.setAlpha(value);
+		}
+
+		@Override public Float get(final View view) {
+			return view.getAlpha();
+		}
+	}
+}
@@ -0,0 +1,186 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2017 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.transition.util;
+
+import android.animation.Animator;
+import android.graphics.drawable.ColorDrawable;
+import android.os.Build;
+import android.view.View;
+import android.widget.FrameLayout;
+
+import org.junit.Test;
+import org.robolectric.annotation.Config;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+
+import universum.studios.android.test.local.RobolectricTestCase;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+/**
+ * @author Martin Albedinsky
+ */
+@Config(sdk = Build.VERSION_CODES.O)
+public final class LayerPolicyTest extends RobolectricTestCase {
+
+	@Test(expected = InvocationTargetException.class)
+	public void testInstantiationWithAccessibleConstructor() throws Exception {
+		// Arrange:
+		final Constructor<LayerPolicy> constructor = LayerPolicy.class.getDeclaredConstructor();
+		constructor.setAccessible(true);
+		// Act:
+		constructor.newInstance();
+	}
+
+	@Test public void testShouldUseHardwareLayerWithNonePolicy() {
+		// Arrange:
+		final FrameLayout view = createGroupWithSize(100, 100);
+		// Act + Assert:
+		assertThat(LayerPolicy.shouldUseHardwareLayer(LayerPolicy.NONE, view), is(false));
+	}
+
+	@Test public void testShouldUseHardwareLayerWithAlwaysPolicy() {
+		// Arrange:
+		final View view = createViewWithSize(1, 1);
+		// Act + Assert:
+		assertThat(LayerPolicy.shouldUseHardwareLayer(LayerPolicy.ALWAYS, view), is(true));
+		view.setLayerType(View.LAYER_TYPE_HARDWARE, null);
+		assertThat(LayerPolicy.shouldUseHardwareLayer(LayerPolicy.ALWAYS, view), is(false));
+	}
+
+	@Test public void testShouldUseHardwareLayerWithAutoPolicy() {
+		// Arrange:
+		final FrameLayout group = createGroupWithSize(100, 100);
+		final View view = createViewWithSize(100, 100);
+		// Act + Assert:
+		assertThat(LayerPolicy.shouldUseHardwareLayer(LayerPolicy.AUTO, group), is(true));
+		assertThat(LayerPolicy.shouldUseHardwareLayer(LayerPolicy.AUTO, view), is(false));
+		view.setBackground(new ColorDrawable());
+		assertThat(LayerPolicy.shouldUseHardwareLayer(LayerPolicy.AUTO, view), is(true));
+	}
+
+	@Test public void testShouldUseHardwareLayerWithAutoPolicyForTrivialViews() {
+		// Arrange:
+		final FrameLayout emptyGroup = new FrameLayout(context);
+		emptyGroup.setRight(100);
+		emptyGroup.setBottom(100);
+		final FrameLayout smallGroup = createGroupWithSize(10, 10);
+		final FrameLayout layeredGroup = createGroupWithSize(100, 100);
+		layeredGroup.setLayerType(View.LAYER_TYPE_HARDWARE, null);
+		// Act + Assert:
+		assertThat(LayerPolicy.shouldUseHardwareLayer(LayerPolicy.AUTO, emptyGroup), is(false));
+		assertThat(LayerPolicy.shouldUseHardwareLayer(LayerPolicy.AUTO, smallGroup), is(false));
+		assertThat(LayerPolicy.shouldUseHardwareLayer(LayerPolicy.AUTO, layeredGroup), is(false));
+	}
+
+	@Test public void testApply() {
+		// Arrange:
+		final Animator mockAnimator = mock(Animator.class);
+		final View view = createViewWithSize(1, 1);
+		// Act + Assert:
+		assertThat(LayerPolicy.apply(LayerPolicy.ALWAYS, mockAnimator, view), is(true));
+		verify(mockAnimator).addListener(any(LayerPolicy.HardwareLayerListener.class));
+	}
+
+	@Test public void testApplyForViewPropertyAnimator() {
+		// Arrange:
+		final View view = createViewWithSize(1, 1);
+		final ViewPropertyAnimatorWrapper animator = new ViewPropertyAnimatorWrapper(view);
+		// Act + Assert:
+		assertThat(LayerPolicy.apply(LayerPolicy.ALWAYS, animator, view), is(true));
+		assertThat(animator.isWithLayer(), is(true));
+		assertThat(animator.getListeners().isEmpty(), is(true));
+	}
+
+	@Test public void testApplyForTrivialView() {
+		// Arrange:
+		final Animator mockAnimator = mock(Animator.class);
+		final View view = createViewWithSize(1, 1);
+		// Act + Assert:
+		assertThat(LayerPolicy.apply(LayerPolicy.AUTO, mockAnimator, view), is(false));
+		verifyZeroInteractions(mockAnimator);
+	}
+
+	@Test public void testApplyWithoutAnimator() {
+		// Act + Assert:
+		assertThat(LayerPolicy.apply(LayerPolicy.ALWAYS, null, createViewWithSize(1, 1)), is(false));
+	}
+
+	@Test public void testHardwareLayerListenerOnAnimationEnd() {
+		// Arrange:
+		final Animator mockAnimator = mock(Animator.class);
+		final View view = createViewWithSize(100, 100);
+		view.setLayerType(View.LAYER_TYPE_SOFTWARE, null);
+		final LayerPolicy.HardwareLayerListener listener = new LayerPolicy.HardwareLayerListener(view);
+		// Act + Assert:
+		listener.onAnimationStart(mockAnimator);
+		assertThat(view.getLayerType(), is(View.LAYER_TYPE_HARDWARE));
+		listener.onAnimationEnd(mockAnimator);
+		assertThat(view.getLayerType(), is(View.LAYER_TYPE_SOFTWARE));
+	}
+
+	@Test public void testHardwareLayerListenerOnAnimationCancel() {
+		// Arrange:
+		final Animator mockAnimator = mock(Animator.class);
+		final View view = createViewWithSize(100, 100);
+		final LayerPolicy.HardwareLayerListener listener = new LayerPolicy.HardwareLayerListener(view);
+		// Act + Assert:
+		listener.onAnimationStart(mockAnimator);
+		assertThat(view.getLayerType(), is(View.LAYER_TYPE_HARDWARE));
+		listener.onAnimationCancel(mockAnimator);
+		assertThat(view.getLayerType(), is(View.LAYER_TYPE_NONE));
+		view.setLayerType(View.LAYER_TYPE_SOFTWARE, null);
+		listener.onAnimationEnd(mockAnimator);
+		assertThat(view.getLayerType(), is(View.LAYER_TYPE_SOFTWARE));
+	}
+
+	@Test public void testHardwareLayerListenerStartedRepeatedly() {
+		// Arrange:
+		final Animator mockAnimator = mock(Animator.class);
+		final View view = createViewWithSize(100, 100);
+		final LayerPolicy.HardwareLayerListener listener = new LayerPolicy.HardwareLayerListener(view);
+		// Act:
+		listener.onAnimationStart(mockAnimator);
+		listener.onAnimationStart(mockAnimator);
+		listener.onAnimationEnd(mockAnimator);
+		// Assert:
+		assertThat(view.getLayerType(), is(View.LAYER_TYPE_NONE));
+	}
+
+	private View createViewWithSize(final int width, final int height) {
+		final View view = new View(context);
+		view.setRight(width);
+		view.setBottom(height);
+		return view;
+	}
+
+	private FrameLayout createGroupWithSize(final int width, final int height) {
+		final FrameLayout group = new FrameLayout(context);
+		group.addView(new View(context));
+		group.setRight(width);
+		group.setBottom(height);
+		return group;
+	}
+}
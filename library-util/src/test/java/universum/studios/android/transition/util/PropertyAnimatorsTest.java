@@ -0,0 +1,112 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2018 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.transition.util;
+
+import android.animation.ObjectAnimator;
+import android.animation.PropertyValuesHolder;
+import android.os.Build;
+import android.view.View;
+
+import org.junit.Test;
+import org.robolectric.annotation.Config;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+
+import universum.studios.android.test.local.RobolectricTestCase;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+/**
+ * @author Martin Albedinsky
+ */
+@Config(sdk = Build.VERSION_CODES.O)
+public final class PropertyAnimatorsTest extends RobolectricTestCase {
+
+	@Test(expected = InvocationTargetException.class)
+	public void testInstantiationWithAccessibleConstructor() throws Exception {
+		// Arrange:
+		final Constructor<PropertyAnimators> constructor = PropertyAnimators.class.getDeclaredConstructor();
+		constructor.setAccessible(true);
+		// Act:
+		constructor.newInstance();
+	}
+
+	@Test public void testOfFloat() {
+		// Arrange:
+		final View view = new View(context);
+		// Act:
+		final ObjectAnimator animator = PropertyAnimators.ofFloat(view, View.ALPHA, 0f, 0.5f);
+		// Assert:
+		assertThat(animator.getTarget(), is((Object) view));
+		final PropertyValuesHolder[] values = animator.getValues();
+		assertThat(values.length, is(1));
+		assertThat(values[0].getPropertyName(), is(View.ALPHA.getName()));
+		animator.setCurrentPlayTime(animator.getDuration());
+		assertThat(view.getAlpha(), is(0.5f));
+	}
+
+	@Test public void testOfFloatWithTwoProperties() {
+		// Arrange:
+		final View view = new View(context);
+		// Act:
+		final ObjectAnimator animator = PropertyAnimators.ofFloat(
+				view,
+				View.SCALE_X, 0f, 0.5f,
+				View.SCALE_Y, 1f, 0.25f
+		);
+		// Assert:
+		final PropertyValuesHolder[] values = animator.getValues();
+		assertThat(values.length, is(2));
+		assertThat(values[0].getPropertyName(), is(View.SCALE_X.getName()));
+		assertThat(values[1].getPropertyName(), is(View.SCALE_Y.getName()));
+		animator.setCurrentPlayTime(animator.getDuration());
+		assertThat(view.getScaleX(), is(0.5f));
+		assertThat(view.getScaleY(), is(0.25f));
+	}
+
+	@Test public void testSetPivot() {
+		// Arrange:
+		final View view = spy(new View(context));
+		// Act + Assert:
+		assertThat(PropertyAnimators.setPivot(view, 10f, 20f), is(true));
+		assertThat(view.getPivotX(), is(10f));
+		assertThat(view.getPivotY(), is(20f));
+		assertThat(PropertyAnimators.setPivot(view, 10f, 30f), is(true));
+		verify(view).setPivotX(10f);
+		verify(view).setPivotY(30f);
+	}
+
+	@Test public void testSetPivotWithSameValues() {
+		// Arrange:
+		final View view = spy(new View(context));
+		view.setPivotX(10f);
+		view.setPivotY(20f);
+		// Act:
+		final boolean changed = PropertyAnimators.setPivot(view, 10f, 20f);
+		// Assert:
+		assertThat(changed, is(false));
+		verify(view).setPivotX(10f);
+		verify(view).setPivotY(20f);
+	}
+}
@@ -0,0 +1,331 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2018 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.transition.util;
+
+import android.animation.Animator;
+import android.animation.TimeInterpolator;
+import android.os.Build;
+import android.view.View;
+import android.view.animation.LinearInterpolator;
+
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowLooper;
+
+import java.util.concurrent.TimeUnit;
+
+import universum.studios.android.test.local.RobolectricTestCase;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+/**
+ * @author Martin Albedinsky
+ */
+@Config(sdk = Build.VERSION_CODES.O)
+public final class ViewPropertyAnimatorWrapperTest extends RobolectricTestCase {
+
+	@Test public void testInstantiation() {
+		// Arrange:
+		final View view = new View(context);
+		// Act:
+		final ViewPropertyAnimatorWrapper animator = new ViewPropertyAnimatorWrapper(view);
+		// Assert:
+		assertThat(animator.getView(), is(sameInstance(view)));
+		assertThat(animator.hasFeature(AnimatorWrapper.START), is(true));
+		assertThat(animator.hasFeature(AnimatorWrapper.END), is(true));
+		assertThat(animator.hasFeature(AnimatorWrapper.CANCEL), is(true));
+		assertThat(animator.hasFeature(AnimatorWrapper.PAUSE), is(false));
+		assertThat(animator.hasFeature(AnimatorWrapper.RESUME), is(false));
+		assertThat(animator.getStartDelay(), is(0L));
+		assertThat(animator.getDuration(), is(ViewPropertyAnimatorWrapper.DEFAULT_DURATION));
+		assertThat(animator.getInterpolator(), is(nullValue()));
+		assertThat(animator.isWithLayer(), is(false));
+		assertThat(animator.isStarted(), is(false));
+		assertThat(animator.isRunning(), is(false));
+		for (int property = ViewPropertyAnimatorWrapper.SCALE_X; property <= ViewPropertyAnimatorWrapper.TRANSLATION_Y; property++) {
+			assertThat(animator.isPropertyAnimated(property), is(false));
+		}
+	}
+
+	@Test public void testAnimateProperty() {
+		// Arrange:
+		final ViewPropertyAnimatorWrapper animator = new ViewPropertyAnimatorWrapper(new View(context));
+		// Act:
+		animator.animateProperty(ViewPropertyAnimatorWrapper.SCALE_X, 0.5f, 1f)
+				.animateProperty(ViewPropertyAnimatorWrapper.TRANSLATION_Y, 100f, 0f);
+		// Assert:
+		assertThat(animator.isPropertyAnimated(ViewPropertyAnimatorWrapper.SCALE_X), is(true));
+		assertThat(animator.getStartValue(ViewPropertyAnimatorWrapper.SCALE_X), is(0.5f));
+		assertThat(animator.getEndValue(ViewPropertyAnimatorWrapper.SCALE_X), is(1f));
+		assertThat(animator.isPropertyAnimated(ViewPropertyAnimatorWrapper.SCALE_Y), is(false));
+		assertThat(animator.isPropertyAnimated(ViewPropertyAnimatorWrapper.TRANSLATION_X), is(false));
+		assertThat(animator.isPropertyAnimated(ViewPropertyAnimatorWrapper.TRANSLATION_Y), is(true));
+		assertThat(animator.getStartValue(ViewPropertyAnimatorWrapper.TRANSLATION_Y), is(100f));
+		assertThat(animator.getEndValue(ViewPropertyAnimatorWrapper.TRANSLATION_Y), is(0f));
+	}
+
+	@Test public void testWithLayer() {
+		// Arrange:
+		final ViewPropertyAnimatorWrapper animator = new ViewPropertyAnimatorWrapper(new View(context));
+		// Act + Assert:
+		animator.setWithLayer(true);
+		assertThat(animator.isWithLayer(), is(true));
+		animator.setWithLayer(false);
+		assertThat(animator.isWithLayer(), is(false));
+	}
+
+	@Test public void testConfiguration() {
+		// Arrange:
+		final ViewPropertyAnimatorWrapper animator = new ViewPropertyAnimatorWrapper(new View(context));
+		final TimeInterpolator interpolator = new LinearInterpolator();
+		// Act:
+		animator.setStartDelay(100);
+		animator.setDuration(250);
+		animator.setInterpolator(interpolator);
+		// Assert:
+		assertThat(animator.getStartDelay(), is(100L));
+		assertThat(animator.getDuration(), is(250L));
+		assertThat(animator.getInterpolator(), is(interpolator));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testSetNegativeDuration() {
+		// Act:
+		new ViewPropertyAnimatorWrapper(new View(context)).setDuration(-1);
+	}
+
+	@Test public void testStart() {
+		// Arrange:
+		final View view = new View(context);
+		final ViewPropertyAnimatorWrapper animator = new ViewPropertyAnimatorWrapper(view);
+		animator.animateProperty(ViewPropertyAnimatorWrapper.SCALE_X, 0.5f, 1f);
+		animator.animateProperty(ViewPropertyAnimatorWrapper.TRANSLATION_X, 100f, 0f);
+		final Animator.AnimatorListener mockListener = mock(Animator.AnimatorListener.class);
+		animator.addListener(mockListener);
+		// Act:
+		animator.start();
+		animator.start();
+		// Assert:
+		assertThat(animator.isStarted(), is(true));
+		assertThat(animator.isRunning(), is(true));
+		assertThat(view.getScaleX(), is(0.5f));
+		assertThat(view.getScaleY(), is(1f));
+		assertThat(view.getTranslationX(), is(100f));
+		assertThat(view.getTranslationY(), is(0f));
+		verify(mockListener, times(1)).onAnimationStart(animator);
+		verify(mockListener, never()).onAnimationEnd(animator);
+	}
+
+	@Test public void testCancel() {
+		// Arrange:
+		final View view = new View(context);
+		final ViewPropertyAnimatorWrapper animator = new ViewPropertyAnimatorWrapper(view);
+		animator.animateProperty(ViewPropertyAnimatorWrapper.SCALE_Y, 0.5f, 1f);
+		final Animator.AnimatorListener mockListener = mock(Animator.AnimatorListener.class);
+		animator.addListener(mockListener);
+		animator.start();
+		// Act:
+		animator.cancel();
+		// Assert:
+		assertThat(animator.isStarted(), is(false));
+		assertThat(view.getScaleY(), is(0.5f));
+		final InOrder inOrder = inOrder(mockListener);
+		inOrder.verify(mockListener).onAnimationStart(animator);
+		inOrder.verify(mockListener).onAnimationCancel(animator);
+		inOrder.verify(mockListener).onAnimationEnd(animator);
+	}
+
+	@Test public void testStartAfterCancel() {
+		// Arrange:
+		final ViewPropertyAnimatorWrapper animator = new ViewPropertyAnimatorWrapper(new View(context));
+		animator.animateProperty(ViewPropertyAnimatorWrapper.SCALE_Y, 0.5f, 1f);
+		final Animator.AnimatorListener mockListener = mock(Animator.AnimatorListener.class);
+		animator.addListener(mockListener);
+		animator.start();
+		ShadowLooper.idleMainLooper(ViewPropertyAnimatorWrapper.DEFAULT_DURATION / 2, TimeUnit.MILLISECONDS);
+		animator.cancel();
+		// Act:
+		animator.start();
+		// Assert:
+		ShadowLooper.idleMainLooper(ViewPropertyAnimatorWrapper.DEFAULT_DURATION * 3 / 4, TimeUnit.MILLISECONDS);
+		assertThat(animator.isStarted(), is(true));
+		verify(mockListener, times(1)).onAnimationEnd(animator);
+		ShadowLooper.idleMainLooper(ViewPropertyAnimatorWrapper.DEFAULT_DURATION, TimeUnit.MILLISECONDS);
+		assertThat(animator.isStarted(), is(false));
+		verify(mockListener, times(1)).onAnimationCancel(animator);
+		verify(mockListener, times(2)).onAnimationEnd(animator);
+	}
+
+	@Test public void testCancelWithOtherAnimatorForSameView() {
+		// Arrange:
+		final View view = new View(context);
+		final ViewPropertyAnimatorWrapper firstAnimator = new ViewPropertyAnimatorWrapper(view);
+		firstAnimator.animateProperty(ViewPropertyAnimatorWrapper.TRANSLATION_X, 100f, 0f);
+		final ViewPropertyAnimatorWrapper secondAnimator = new ViewPropertyAnimatorWrapper(view);
+		secondAnimator.animateProperty(ViewPropertyAnimatorWrapper.SCALE_X, 0.5f, 1f);
+		final Animator.AnimatorListener firstMockListener = mock(Animator.AnimatorListener.class);
+		final Animator.AnimatorListener secondMockListener = mock(Animator.AnimatorListener.class);
+		firstAnimator.addListener(firstMockListener);
+		secondAnimator.addListener(secondMockListener);
+		firstAnimator.start();
+		secondAnimator.start();
+		// Act:
+		firstAnimator.cancel();
+		// Assert:
+		assertThat(firstAnimator.isStarted(), is(false));
+		assertThat(secondAnimator.isStarted(), is(true));
+		ShadowLooper.idleMainLooper(ViewPropertyAnimatorWrapper.DEFAULT_DURATION * 2, TimeUnit.MILLISECONDS);
+		assertThat(view.getTranslationX(), is(100f));
+		assertThat(view.getScaleX(), is(1f));
+		assertThat(secondAnimator.isStarted(), is(false));
+		verify(firstMockListener, times(1)).onAnimationCancel(firstAnimator);
+		verify(firstMockListener, times(1)).onAnimationEnd(firstAnimator);
+		verify(secondMockListener, never()).onAnimationCancel(secondAnimator);
+		verify(secondMockListener, times(1)).onAnimationEnd(secondAnimator);
+	}
+
+	@Test public void testStartWithOtherAnimatorForSameViewAndProperty() {
+		// Arrange:
+		final View view = new View(context);
+		final ViewPropertyAnimatorWrapper firstAnimator = new ViewPropertyAnimatorWrapper(view);
+		firstAnimator.animateProperty(ViewPropertyAnimatorWrapper.TRANSLATION_X, 100f, 0f);
+		final ViewPropertyAnimatorWrapper secondAnimator = new ViewPropertyAnimatorWrapper(view);
+		secondAnimator.animateProperty(ViewPropertyAnimatorWrapper.TRANSLATION_X, 50f, 200f);
+		final Animator.AnimatorListener firstMockListener = mock(Animator.AnimatorListener.class);
+		final Animator.AnimatorListener secondMockListener = mock(Animator.AnimatorListener.class);
+		firstAnimator.addListener(firstMockListener);
+		secondAnimator.addListener(secondMockListener);
+		firstAnimator.start();
+		// Act:
+		secondAnimator.start();
+		// Assert:
+		ShadowLooper.idleMainLooper(ViewPropertyAnimatorWrapper.DEFAULT_DURATION * 2, TimeUnit.MILLISECONDS);
+		assertThat(view.getTranslationX(), is(200f));
+		assertThat(firstAnimator.isStarted(), is(false));
+		assertThat(secondAnimator.isStarted(), is(false));
+		verify(firstMockListener, times(1)).onAnimationEnd(firstAnimator);
+		verify(secondMockListener, times(1)).onAnimationEnd(secondAnimator);
+	}
+
+	@Test public void testCancelNotStarted() {
+		// Arrange:
+		final ViewPropertyAnimatorWrapper animator = new ViewPropertyAnimatorWrapper(new View(context));
+		final Animator.AnimatorListener mockListener = mock(Animator.AnimatorListener.class);
+		animator.addListener(mockListener);
+		// Act:
+		animator.cancel();
+		// Assert:
+		verifyZeroInteractions(mockListener);
+	}
+
+	@Test public void testEnd() {
+		// Arrange:
+		final View view = new View(context);
+		final ViewPropertyAnimatorWrapper animator = new ViewPropertyAnimatorWrapper(view);
+		animator.animateProperty(ViewPropertyAnimatorWrapper.TRANSLATION_Y, 100f, 25f);
+		final Animator.AnimatorListener mockListener = mock(Animator.AnimatorListener.class);
+		animator.addListener(mockListener);
+		animator.start();
+		// Act:
+		animator.end();
+		// Assert:
+		assertThat(animator.isStarted(), is(false));
+		assertThat(view.getTranslationY(), is(25f));
+		verify(mockListener).onAnimationEnd(animator);
+		verify(mockListener, never()).onAnimationCancel(animator);
+	}
+
+	@Test public void testEndWithOtherAnimatorForSameView() {
+		// Arrange:
+		final View view = new View(context);
+		final ViewPropertyAnimatorWrapper firstAnimator = new ViewPropertyAnimatorWrapper(view);
+		firstAnimator.animateProperty(ViewPropertyAnimatorWrapper.TRANSLATION_Y, 100f, 25f);
+		final ViewPropertyAnimatorWrapper secondAnimator = new ViewPropertyAnimatorWrapper(view);
+		secondAnimator.animateProperty(ViewPropertyAnimatorWrapper.SCALE_Y, 0.5f, 1f);
+		final Animator.AnimatorListener secondMockListener = mock(Animator.AnimatorListener.class);
+		secondAnimator.addListener(secondMockListener);
+		firstAnimator.start();
+		secondAnimator.start();
+		// Act:
+		firstAnimator.end();
+		// Assert:
+		assertThat(view.getTranslationY(), is(25f));
+		assertThat(secondAnimator.isStarted(), is(true));
+		ShadowLooper.idleMainLooper(ViewPropertyAnimatorWrapper.DEFAULT_DURATION * 2, TimeUnit.MILLISECONDS);
+		assertThat(view.getTranslationY(), is(25f));
+		assertThat(view.getScaleY(), is(1f));
+		verify(secondMockListener, times(1)).onAnimationEnd(secondAnimator);
+	}
+
+	@Test public void testEndNotStarted() {
+		// Arrange:
+		final View view = new View(context);
+		final ViewPropertyAnimatorWrapper animator = new ViewPropertyAnimatorWrapper(view);
+		animator.animateProperty(ViewPropertyAnimatorWrapper.SCALE_X, 0f, 0.75f);
+		final Animator.AnimatorListener mockListener = mock(Animator.AnimatorListener.class);
+		animator.addListener(mockListener);
+		// Act:
+		animator.end();
+		// Assert:
+		assertThat(view.getScaleX(), is(0.75f));
+		final InOrder inOrder = inOrder(mockListener);
+		inOrder.verify(mockListener).onAnimationStart(animator);
+		inOrder.verify(mockListener).onAnimationEnd(animator);
+	}
+
+	@Test public void testPauseIsIgnored() {
+		// Arrange:
+		final ViewPropertyAnimatorWrapper animator = new ViewPropertyAnimatorWrapper(new View(context));
+		final Animator.AnimatorPauseListener mockListener = mock(Animator.AnimatorPauseListener.class);
+		animator.addPauseListener(mockListener);
+		animator.start();
+		// Act:
+		animator.pause();
+		// Assert:
+		assertThat(animator.isPaused(), is(false));
+		assertThat(animator.isRunning(), is(true));
+		verifyZeroInteractions(mockListener);
+	}
+
+	@Test public void testDelegateFinish() {
+		// Arrange:
+		final ViewPropertyAnimatorWrapper animator = new ViewPropertyAnimatorWrapper(new View(context));
+		final Animator.AnimatorListener mockListener = mock(Animator.AnimatorListener.class);
+		animator.addListener(mockListener);
+		animator.start();
+		final ViewPropertyAnimatorWrapper.ViewPropertyAnimatorDelegate delegate = (ViewPropertyAnimatorWrapper.ViewPropertyAnimatorDelegate) animator.getWrappedAnimator();
+		// Act:
+		delegate.finish(false);
+		delegate.finish(false);
+		// Assert:
+		assertThat(animator.isStarted(), is(false));
+		verify(mockListener, times(1)).onAnimationEnd(animator);
+		verify(mockListener, never()).onAnimationCancel(animator);
+	}
+}
@@ -0,0 +1,276 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2018 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.transition;
+
+import android.transition.TransitionValues;
+
+import androidx.annotation.IntRange;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+
+/**
+ * A compact container which may be used by a transition to store all of its primitive values captured
+ * for a single view under a single key of {@link TransitionValues#values}.
+ * <p>
+ * Values are held in {@link #FLOAT_SLOTS} float and {@link #INT_SLOTS} int slots stored directly
+ * in fields of the container, so capturing values via this container costs a single allocation
+ * and a single map entry per captured view, instead of a boxed value and a map entry for each
+ * captured value.
+ * <p>
+ * Container for a specific transition values may be obtained via {@link #obtain(TransitionValues, String)}
+ * when capturing and via {@link #get(TransitionValues, String)} when creating animators.
+ *
+ * @author Martin Albedinsky
+ * @since 1.4
+ */
+public final class CapturedValues {
+
+	/*
+	 * Constants ===================================================================================
+	 */
+
+	/**
+	 * Log TAG.
+	 */
+	// private static final String TAG = "CapturedValues";
+
+	/**
+	 * Count of float slots held by a single container.
+	 */
+	public static final int FLOAT_SLOTS = 4;
+
+	/**
+	 * Count of int slots held by a single container.
+	 */
+	public static final int INT_SLOTS = 4;
+
+	/*
+	 * Interface ===================================================================================
+	 */
+
+	/*
+	 * Static members ==============================================================================
+	 */
+
+	/*
+	 * Members =====================================================================================
+	 */
+
+	/**
+	 * Float slots of this container.
+	 */
+	private float float0, float1, float2, float3;
+
+	/**
+	 * Int slots of this container.
+	 */
+	private int int0, int1, int2, int3;
+
+	/*
+	 * Constructors ================================================================================
+	 */
+
+	/**
+	 * Creates a new instance of CapturedValues with all slots set to {@code 0}.
+	 */
+	public CapturedValues() {
+		super();
+	}
+
+	/*
+	 * Methods =====================================================================================
+	 */
+
+	/**
+	 * Obtains a container stored in the given transition <var>values</var> under the specified
+	 * <var>key</var>, creating and storing a new one if there is no container stored yet.
+	 *
+	 * @param values The transition values where to look for the container.
+	 * @param key    The key under which is the container stored.
+	 * @return Container for the transition values.
+	 * @throws ClassCastException If there is other value than container stored under the key.
+	 */
+	@NonNull public static CapturedValues obtain(@NonNull final TransitionValues values, @NonNull final String key) {
+		CapturedValues capturedValues = (CapturedValues) values.values.get(key);
+		if (capturedValues == null) {
+			capturedValues = new CapturedValues();
+			values.values.put(key, capturedValues);
+		}
+		return capturedValues;
+	}
+
+	/**
+	 * Returns the container stored in the given transition <var>values</var> under the specified
+	 * <var>key</var>.
+	 *
+	 * @param values The transition values where to look for the container. May be {@code null}.
+	 * @param key    The key under which is the container stored.
+	 * @return Container for the transition values or {@code null} if there is no container stored.
+	 * @throws ClassCastException If there is other value than container stored under the key.
+	 */
+	@Nullable public static CapturedValues get(@Nullable final TransitionValues values, @NonNull final String key) {
+		return values == null ? null : (CapturedValues) values.values.get(key);
+	}
+
+	/**
+	 * Puts the specified float <var>value</var> into slot at the specified <var>index</var>.
+	 *
+	 * @param index Index of the desired slot from the range {@code [0, FLOAT_SLOTS)}.
+	 * @param value The value to be put.
+	 * @return This container to allow methods chaining.
+	 * @throws IndexOutOfBoundsException If the index is out of the slots range.
+	 *
+	 * @see #getFloat(int)
+	 */
+	@NonNull public CapturedValues putFloat(@IntRange(from = 0, to = FLOAT_SLOTS - 1) final int index, final float value) {
+		switch (index) {
+			case 0:
+				this.float0 = value;
+				break;
+			case 1:
+				this.float1 = value;
+				break;
+			case 2:
+				this.float2 = value;
+				break;
+			case 3:
+				this.float3 = value;
+				break;
+			default:
+				throw new IndexOutOfBoundsException("Float slot index(" + index + ") is out of range [0, " + FLOAT_SLOTS + ").");
+		}
+		return this;
+	}
+
+	/**
+	 * Returns the float value put into slot at the specified <var>index</var>.
+	 *
+	 * @param index Index of the desired slot from the range {@code [0, FLOAT_SLOTS)}.
+	 * @return The value or {@code 0} if no value has been put into the slot.
+	 * @throws IndexOutOfBoundsException If the index is out of the slots range.
+	 *
+	 * @see #putFloat(int, float)
+	 */
+	public float getFloat(@IntRange(from = 0, to = FLOAT_SLOTS - 1) final int index) {
+		switch (index) {
+			case 0:
+				return float0;
+			case 1:
+				return float1;
+			case 2:
+				return float2;
+			case 3:
+				return float3;
+			default:
+				throw new IndexOutOfBoundsException("Float slot index(" + index + ") is out of range [0, " + FLOAT_SLOTS + ").");
+		}
+	}
+
+	/**
+	 * Puts the specified int <var>value</var> into slot at the specified <var>index</var>.
+	 *
+	 * @param index Index of the desired slot from the range {@code [0, INT_SLOTS)}.
+	 * @param value The value to be put.
+	 * @return This container to allow methods chaining.
+	 * @throws IndexOutOfBoundsException If the index is out of the slots range.
+	 *
+	 * @see #getInt(int)
+	 */
+	@NonNull public CapturedValues putInt(@IntRange(from = 0, to = INT_SLOTS - 1) final int index, final int value) {
+		switch (index) {
+			case 0:
+				this.int0 = value;
+				break;
+			case 1:
+				this.int1 = value;
+				break;
+			case 2:
+				this.int2 = value;
+				break;
+			case 3:
+				this.int3 = value;
+				break;
+			default:
+				throw new IndexOutOfBoundsException("Int slot index(" + index + ") is out of range [0, " + INT_SLOTS + ").");
+		}
+		return this;
+	}
+
+	/**
+	 * Returns the int value put into slot at the specified <var>index</var>.
+	 *
+	 * @param index Index of the desired slot from the range {@code [0, INT_SLOTS)}.
+	 * @return The value or {@code 0} if no value has been put into the slot.
+	 * @throws IndexOutOfBoundsException If the index is out of the slots range.
+	 *
+	 * @see #putInt(int, int)
+	 */
+	public int getInt(@IntRange(from = 0, to = INT_SLOTS - 1) final int index) {
+		switch (index) {
+			case 0:
+				return int0;
+			case 1:
+				return int1;
+			case 2:
+				return int2;
+			case 3:
+				return int3;
+			default:
+				throw new IndexOutOfBoundsException("Int slot index(" + index + ") is out of range [0, " + INT_SLOTS + ").");
+		}
+	}
+
+	/**
+	 */
+	@Override public int hashCode() {
+		int hash = Float.floatToIntBits(float0);
+		hash = 31 * hash + Float.floatToIntBits(float1);
+		hash = 31 * hash + Float.floatToIntBits(float2);
+		hash = 31 * hash + Float.floatToIntBits(float3);
+		hash = 31 * hash + int0;
+		hash = 31 * hash + int1;
+		hash = 31 * hash + int2;
+		hash = 31 * hash + int3;
+		return hash;
+	}
+
+	/**
+	 */
+	@Override public boolean equals(@Nullable final Object other) {
+		if (other == this) {
+			return true;
+		}
+		if (!(other instanceof CapturedValues)) {
+			return false;
+		}
+		final CapturedValues values = (CapturedValues) other;
+		return Float.compare(float0, values.float0) == 0 &&
+				Float.compare(float1, values.float1) == 0 &&
+				Float.compare(float2, values.float2) == 0 &&
+				Float.compare(float3, values.float3) == 0 &&
+				int0 == values.int0 &&
+				int1 == values.int1 &&
+				int2 == values.int2 &&
+				int3 == values.int3;
+	}
+
+	/*
+	 * Inner classes ===============================================================================
+	 */
+}
@@ -0,0 +1,599 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2018 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.transition;
+
+import android.graphics.Rect;
+import android.os.Build;
+import android.transition.Transition;
+import android.transition.TransitionPropagation;
+import android.transition.TransitionValues;
+import android.view.View;
+import android.view.ViewGroup;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import androidx.annotation.IntRange;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.RequiresApi;
+import androidx.annotation.VisibleForTesting;
+
+/**
+ * A {@link TransitionPropagation} implementation which staggers start of animations of target views
+ * according to theirs distance from the epicenter of a transition, so views closer to the epicenter
+ * start to animate sooner than views farther from it. It may be used for example with {@code Translate}
+ * or {@code Scale} transitions to animate entrance of items of lists or grids.
+ * <p>
+ * Distances are not computed for each animator separately. Centers of all captured views are recorded
+ * into primitive arrays while values are captured, and when a start delay is requested for the first
+ * time during a run of the transition, all recorded views are ranked by theirs distance in a single
+ * sort. Each distinct distance gets its own rank and start delay of a view is its rank multiplied
+ * by the {@link #setStaggerDelay(long) stagger delay}. If such delays would exceed the
+ * {@link #setMaxStagger(long) maximum stagger}, the stagger delay is reduced so the farthest views
+ * start exactly after the maximum stagger. Start delay for each view is then resolved in constant time.
+ * <p>
+ * Epicenter of the transition is resolved via {@link Transition#getEpicenter()} or it is the center
+ * of the scene root if the transition has no epicenter specified.
+ * <p>
+ * Only views that are visible at the time they are captured are ranked, as only those may be
+ * animated in or out by visibility transitions. Each view is ranked only once per run, even if it
+ * is captured in both start and end capture pass. As each view is captured at most once per pass,
+ * capture of an already captured view marks start of the end pass, and its second repetition
+ * start of a new run.
+ * <p>
+ * Clones of a transition, like those created by {@link android.transition.TransitionManager TransitionManager},
+ * share propagation of the cloned transition, so runs of multiple clones may overlap. Views captured
+ * for a new run are therefore recorded separately from runs of other clones and the recorded run
+ * is bound to the transition for which a start delay is requested first. Recorded state of a run
+ * is released once its transition ends, without affecting runs of other transitions.
+ *
+ * @author Martin Albedinsky
+ * @since 1.4
+ */
+@RequiresApi(Build.VERSION_CODES.LOLLIPOP)
+public class DistanceStaggerPropagation extends TransitionPropagation {
+
+	/*
+	 * Constants ===================================================================================
+	 */
+
+	/**
+	 * Log TAG.
+	 */
+	// private static final String TAG = "DistanceStaggerPropagation";
+
+	/**
+	 * Default delay between start of animations of views with subsequent distances from the epicenter.
+	 */
+	public static final long DEFAULT_STAGGER_DELAY = 20;
+
+	/**
+	 * Default maximum delay between start of the first and of the last animation.
+	 */
+	public static final long DEFAULT_MAX_STAGGER = 300;
+
+	/**
+	 * Property name under which is stored index of a captured view into its transition values.
+	 */
+	@VisibleForTesting static final String PROPERTY_PROPAGATION_INDEX = DistanceStaggerPropagation.class.getName() + ":propagation.index";
+
+	/**
+	 * Array with names of properties captured by this propagation.
+	 */
+	private static final String[] PROPAGATION_PROPERTIES = {PROPERTY_PROPAGATION_INDEX};
+
+	/**
+	 * Count of bits used to store index of a view in packed sort keys.
+	 */
+	private static final int INDEX_BITS = 24;
+
+	/**
+	 * Mask used to obtain index of a view from a packed sort key.
+	 */
+	private static final long INDEX_MASK = (1L << INDEX_BITS) - 1;
+
+	/**
+	 * Maximum squared distance which may be stored in a packed sort key.
+	 */
+	private static final long MAX_DISTANCE = (1L << (63 - INDEX_BITS)) - 1;
+
+	/**
+	 * Initial capacity of arrays holding recorded views.
+	 */
+	private static final int INITIAL_CAPACITY = 16;
+
+	/**
+	 * Start capture pass of a run.
+	 */
+	private static final int PASS_START = 0;
+
+	/**
+	 * End capture pass of a run.
+	 */
+	private static final int PASS_END = 1;
+
+	/*
+	 * Interface ===================================================================================
+	 */
+
+	/*
+	 * Static members ==============================================================================
+	 */
+
+	/*
+	 * Members =====================================================================================
+	 */
+
+	/**
+	 * Delay between start of animations of views with subsequent distances from the epicenter.
+	 */
+	private long staggerDelay = DEFAULT_STAGGER_DELAY;
+
+	/**
+	 * Maximum delay between start of the first and of the last animation.
+	 */
+	private long maxStagger = DEFAULT_MAX_STAGGER;
+
+	/**
+	 * Run into which are recorded currently captured views. Not bound to any transition yet.
+	 */
+	private Run capturingRun;
+
+	/**
+	 * Runs bound to transitions which have not ended yet.
+	 */
+	private final List<Run> boundRuns = new ArrayList<>(2);
+
+	/**
+	 * Released run which may be reused for a next run, so its arrays do not need to be allocated again.
+	 */
+	private Run releasedRun;
+
+	/**
+	 * Listener used to release run of a transition once that transition ends.
+	 */
+	private final Transition.TransitionListener releaseListener = new Transition.TransitionListener() {
+
+		/**
+		 */
+		@Override public void onTransitionStart(@NonNull final Transition transition) {
+			// Ignored.
+		}
+
+		/**
+		 */
+		@Override public void onTransitionEnd(@NonNull final Transition transition) {
+			releaseRun(transition);
+		}
+
+		/**
+		 */
+		@Override public void onTransitionCancel(@NonNull final Transition transition) {
+			releaseRun(transition);
+		}
+
+		/**
+		 */
+		@Override public void onTransitionPause(@NonNull final Transition transition) {
+			// Ignored.
+		}
+
+		/**
+		 */
+		@Override public void onTransitionResume(@NonNull final Transition transition) {
+			// Ignored.
+		}
+	};
+
+	/**
+	 * Buffer into which is obtained location of a view or of the scene root on screen.
+	 */
+	private final int[] locationBuffer = new int[2];
+
+	/*
+	 * Constructors ================================================================================
+	 */
+
+	/*
+	 * Methods =====================================================================================
+	 */
+
+	/**
+	 * Sets a delay between start of animations of views with subsequent distances from the epicenter.
+	 * <p>
+	 * Default value: <b>{@link #DEFAULT_STAGGER_DELAY}</b>
+	 *
+	 * @param delay The desired delay in milliseconds.
+	 *
+	 * @see #getStaggerDelay()
+	 */
+	public void setStaggerDelay(@IntRange(from = 0) final long delay) {
+		this.staggerDelay = Math.max(0, delay);
+	}
+
+	/**
+	 * Returns the delay between start of animations of views with subsequent distances from the epicenter.
+	 *
+	 * @return Stagger delay in milliseconds.
+	 *
+	 * @see #setStaggerDelay(long)
+	 */
+	@IntRange(from = 0) public long getStaggerDelay() {
+		return staggerDelay;
+	}
+
+	/**
+	 * Sets a maximum delay between start of animation of the nearest and of the farthest view.
+	 * <p>
+	 * Default value: <b>{@link #DEFAULT_MAX_STAGGER}</b>
+	 *
+	 * @param maxStagger The desired maximum stagger in milliseconds.
+	 *
+	 * @see #getMaxStagger()
+	 */
+	public void setMaxStagger(@IntRange(from = 0) final long maxStagger) {
+		this.maxStagger = Math.max(0, maxStagger);
+	}
+
+	/**
+	 * Returns the maximum delay between start of animation of the nearest and of the farthest view.
+	 *
+	 * @return Maximum stagger in milliseconds.
+	 *
+	 * @see #setMaxStagger(long)
+	 */
+	@IntRange(from = 0) public long getMaxStagger() {
+		return maxStagger;
+	}
+
+	/**
+	 */
+	@Override public void captureValues(@NonNull final TransitionValues transitionValues) {
+		if (capturingRun == null) {
+			this.capturingRun = obtainRun();
+		}
+		final View view = transitionValues.view;
+		final Run run = capturingRun;
+		int index = run.indexOf(view);
+		if (index != -1 && run.capturePasses[index] == run.capturePass) {
+			// Each view is captured only once per pass, so a next pass has started.
+			if (run.capturePass == PASS_END) {
+				run.clear();
+				index = -1;
+			} else {
+				run.capturePass = PASS_END;
+			}
+		}
+		if (index == -1) {
+			if (run.size > INDEX_MASK) {
+				return;
+			}
+			index = run.add(view);
+		}
+		run.capturePasses[index] = run.capturePass;
+		if (view.getVisibility() == View.VISIBLE) {
+			view.getLocationOnScreen(locationBuffer);
+			run.located[index] = true;
+			run.centersX[index] = locationBuffer[0] + view.getWidth() / 2;
+			run.centersY[index] = locationBuffer[1] + view.getHeight() / 2;
+			transitionValues.values.put(PROPERTY_PROPAGATION_INDEX, index);
+		}
+	}
+
+	/**
+	 * Obtains a run into which may be recorded captured views.
+	 *
+	 * @return Either the released run or a new one.
+	 */
+	private Run obtainRun() {
+		final Run run = releasedRun == null ? new Run() : releasedRun;
+		this.releasedRun = null;
+		return run;
+	}
+
+	/**
+	 * Returns run bound to the given <var>transition</var>.
+	 *
+	 * @param transition The transition of which run to find.
+	 * @return The bound run or {@code null} if there is no run bound to the transition.
+	 */
+	private Run findRun(final Transition transition) {
+		for (int i = 0; i < boundRuns.size(); i++) {
+			final Run run = boundRuns.get(i);
+			if (run.transition == transition) {
+				return run;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Releases run bound to the given <var>transition</var>, if there is any.
+	 *
+	 * @param transition The transition of which run to release.
+	 */
+	@VisibleForTesting void releaseRun(@NonNull final Transition transition) {
+		final Run run = findRun(transition);
+		if (run != null) {
+			transition.removeListener(releaseListener);
+			this.boundRuns.remove(run);
+			run.clear();
+			this.releasedRun = run;
+		}
+	}
+
+	/**
+	 * Releases all recorded runs, so a next run starts from scratch.
+	 */
+	@VisibleForTesting void reset() {
+		for (int i = 0; i < boundRuns.size(); i++) {
+			final Run run = boundRuns.get(i);
+			run.transition.removeListener(releaseListener);
+			run.clear();
+		}
+		this.boundRuns.clear();
+		if (capturingRun != null) {
+			this.capturingRun.clear();
+		}
+	}
+
+	/**
+	 * Returns count of views recorded for all runs which have not been released yet.
+	 *
+	 * @return Count of recorded views.
+	 */
+	@VisibleForTesting int getRecordedCount() {
+		int count = capturingRun == null ? 0 : capturingRun.size;
+		for (int i = 0; i < boundRuns.size(); i++) {
+			count += boundRuns.get(i).size;
+		}
+		return count;
+	}
+
+	/**
+	 */
+	@Override @NonNull public String[] getPropagationProperties() {
+		return PROPAGATION_PROPERTIES;
+	}
+
+	/**
+	 */
+	@Override public long getStartDelay(
+			@NonNull final ViewGroup sceneRoot,
+			@NonNull final Transition transition,
+			@Nullable final TransitionValues startValues,
+			@Nullable final TransitionValues endValues
+	) {
+		TransitionValues values = endValues;
+		Integer index = values == null ? null : (Integer) values.values.get(PROPERTY_PROPAGATION_INDEX);
+		if (index == null && startValues != null) {
+			values = startValues;
+			index = (Integer) values.values.get(PROPERTY_PROPAGATION_INDEX);
+		}
+		if (index == null) {
+			return 0;
+		}
+		Run run = findRun(transition);
+		if ((run == null || !run.isRecordedAt(values.view, index)) && capturingRun != null && capturingRun.isRecordedAt(values.view, index)) {
+			// Values of the capturing run are requested for the first time, so the run is being
+			// played by the given transition.
+			run = bindCapturingRun(sceneRoot, transition);
+		}
+		if (run == null || !run.isRecordedAt(values.view, index)) {
+			// Values have not been captured or have been captured during a previous run.
+			return 0;
+		}
+		return run.delays[index];
+	}
+
+	/**
+	 * Binds the capturing run to the given <var>transition</var> and computes start delays for all
+	 * views recorded in that run. Run previously bound to the same transition is released.
+	 *
+	 * @param sceneRoot  The scene root of the transition.
+	 * @param transition The transition to which to bind the run.
+	 * @return The bound run.
+	 */
+	private Run bindCapturingRun(final ViewGroup sceneRoot, final Transition transition) {
+		final Run run = capturingRun;
+		this.capturingRun = null;
+		releaseRun(transition);
+		final Rect epicenter = transition.getEpicenter();
+		final int epicenterX, epicenterY;
+		if (epicenter == null) {
+			sceneRoot.getLocationOnScreen(locationBuffer);
+			epicenterX = locationBuffer[0] + sceneRoot.getWidth() / 2;
+			epicenterY = locationBuffer[1] + sceneRoot.getHeight() / 2;
+		} else {
+			epicenterX = epicenter.centerX();
+			epicenterY = epicenter.centerY();
+		}
+		run.computeDelays(epicenterX, epicenterY, staggerDelay, maxStagger);
+		run.transition = transition;
+		this.boundRuns.add(run);
+		transition.addListener(releaseListener);
+		return run;
+	}
+
+	/*
+	 * Inner classes ===============================================================================
+	 */
+
+	/**
+	 * Views recorded during a single run of a transition along with theirs centers and computed
+	 * start delays.
+	 */
+	private static final class Run {
+
+		/**
+		 * Transition to which is this run bound. {@code Null} while views are being captured.
+		 */
+		Transition transition;
+
+		/**
+		 * Recorded views.
+		 */
+		View[] views = new View[INITIAL_CAPACITY];
+
+		/**
+		 * Table mapping the recorded views to theirs indexes.
+		 */
+		final ViewTable indexes = new ViewTable(INITIAL_CAPACITY, false);
+
+		/**
+		 * Passes in which have been the recorded views captured last.
+		 */
+		int[] capturePasses = new int[INITIAL_CAPACITY];
+
+		/**
+		 * Boolean flags indicating which of the recorded views have been visible when captured.
+		 * Only those views have a center recorded and are ranked.
+		 */
+		boolean[] located = new boolean[INITIAL_CAPACITY];
+
+		/**
+		 * Coordinates of centers of the recorded views on screen.
+		 */
+		int[] centersX = new int[INITIAL_CAPACITY], centersY = new int[INITIAL_CAPACITY];
+
+		/**
+		 * Start delays computed for the recorded views.
+		 */
+		long[] delays = new long[INITIAL_CAPACITY];
+
+		/**
+		 * Buffer with packed sort keys of the recorded views.
+		 */
+		long[] sortKeys = new long[INITIAL_CAPACITY];
+
+		/**
+		 * Count of the recorded views.
+		 */
+		int size;
+
+		/**
+		 * Current capture pass. Either {@link #PASS_START} or {@link #PASS_END}.
+		 */
+		int capturePass = PASS_START;
+
+		/**
+		 * Returns index of the given <var>view</var> if it has been recorded in this run.
+		 *
+		 * @param view The view of which index to return.
+		 * @return Index of the view or {@code -1} if the view has not been recorded.
+		 */
+		int indexOf(final View view) {
+			final long index = indexes.get(view);
+			return index == ViewTable.NO_VALUE ? -1 : (int) index;
+		}
+
+		/**
+		 * Checks whether the given <var>view</var> is recorded in this run at the specified <var>index</var>.
+		 *
+		 * @param view  The view to be checked.
+		 * @param index Index stored in transition values of the view.
+		 * @return {@code True} if the view is recorded at the index, {@code false} otherwise.
+		 */
+		boolean isRecordedAt(final View view, final int index) {
+			return index < size && views[index] == view;
+		}
+
+		/**
+		 * Records the given <var>view</var> which has not been recorded in this run yet.
+		 *
+		 * @param view The view to be recorded.
+		 * @return Index of the recorded view.
+		 */
+		int add(final View view) {
+			final int index = size++;
+			if (size > views.length) {
+				final int newCapacity = views.length * 2;
+				this.views = Arrays.copyOf(views, newCapacity);
+				this.capturePasses = Arrays.copyOf(capturePasses, newCapacity);
+				this.located = Arrays.copyOf(located, newCapacity);
+				this.centersX = Arrays.copyOf(centersX, newCapacity);
+				this.centersY = Arrays.copyOf(centersY, newCapacity);
+				this.delays = new long[newCapacity];
+				this.sortKeys = new long[newCapacity];
+			}
+			this.views[index] = view;
+			this.located[index] = false;
+			this.indexes.put(view, index);
+			return index;
+		}
+
+		/**
+		 * Computes start delays for all recorded views according to theirs distance from the
+		 * specified epicenter.
+		 *
+		 * @param epicenterX   X coordinate of the epicenter on screen.
+		 * @param epicenterY   Y coordinate of the epicenter on screen.
+		 * @param staggerDelay Delay between start of animations of views with subsequent distances.
+		 * @param maxStagger   Maximum delay between start of the first and of the last animation.
+		 */
+		void computeDelays(final int epicenterX, final int epicenterY, final long staggerDelay, final long maxStagger) {
+			int count = 0;
+			for (int i = 0; i < size; i++) {
+				if (!located[i]) {
+					continue;
+				}
+				final long deltaX = centersX[i] - epicenterX;
+				final long deltaY = centersY[i] - epicenterY;
+				final long distance = Math.min(deltaX * deltaX + deltaY * deltaY, MAX_DISTANCE);
+				this.sortKeys[count++] = (distance << INDEX_BITS) | i;
+			}
+			Arrays.sort(sortKeys, 0, count);
+			int rankCount = 0;
+			long previousDistance = -1;
+			for (int i = 0; i < count; i++) {
+				final long distance = sortKeys[i] >>> INDEX_BITS;
+				if (distance != previousDistance) {
+					rankCount++;
+					previousDistance = distance;
+				}
+			}
+			final double step = rankCount > 1 ? Math.min(staggerDelay, maxStagger / (double) (rankCount - 1)) : 0;
+			int rank = -1;
+			previousDistance = -1;
+			for (int i = 0; i < count; i++) {
+				final long distance = sortKeys[i] >>> INDEX_BITS;
+				if (distance != previousDistance) {
+					rank++;
+					previousDistance = distance;
+				}
+				this.delays[(int) (sortKeys[i] & INDEX_MASK)] = Math.round(rank * step);
+			}
+		}
+
+		/**
+		 * Clears all views recorded in this run, so the run may be used for a next run.
+		 */
+		void clear() {
+			if (size > 0) {
+				Arrays.fill(views, 0, size, null);
+				this.indexes.clear();
+				this.size = 0;
+			}
+			this.capturePass = PASS_START;
+			this.transition = null;
+		}
+	}
+}
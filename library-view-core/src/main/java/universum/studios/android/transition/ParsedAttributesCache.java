@@ -0,0 +1,339 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2018 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.transition;
+
+import android.content.Context;
+import android.content.res.Configuration;
+import android.util.AttributeSet;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import androidx.annotation.IntRange;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.VisibleForTesting;
+
+/**
+ * A cache which may be used by transitions inflated from XML to store configuration parsed from
+ * theirs {@link AttributeSet AttributeSets}, so inflating the same transition resource again does
+ * not need to obtain and walk a {@link android.content.res.TypedArray TypedArray}.
+ * <p>
+ * Parsed configurations are keyed by the raw attributes specified in XML, that is by resource ids
+ * of the attributes names and theirs raw values. Attribute sets which reference theme attributes
+ * (values starting with {@code ?}) cannot be cached as the values they resolve to depend on the
+ * theme of a context used for inflation. Attribute sets which specify a style via {@code style}
+ * attribute are not cached either, as items of such style may reference theme attributes as well.
+ * Values referencing resources (values starting with {@code @}) may resolve to different values for
+ * different configurations, so the cache clears all parsed configurations whenever a configuration
+ * of a context passed to {@link #get(Context, AttributeSet)} or {@link #put(Context, AttributeSet, Object)}
+ * differs from the one for which have been the configurations parsed.
+ * <p>
+ * Lookups do not allocate. The raw attributes are read into a key reused by the cache and only
+ * a configuration being put into the cache gets its own copy of such key. Transitions are not told
+ * resource ids of theirs XML files and positions within parsed XML files are not unique across
+ * those files, so the raw attributes are the cheapest key that cannot mix configurations of
+ * different transitions.
+ * <p>
+ * Cached configurations are shared by all transitions created from the same attributes, so they
+ * should be immutable.
+ *
+ * @param <T> Type of the parsed configuration.
+ * @author Martin Albedinsky
+ * @since 1.4
+ */
+public final class ParsedAttributesCache<T> {
+
+	/*
+	 * Constants ===================================================================================
+	 */
+
+	/**
+	 * Log TAG.
+	 */
+	// private static final String TAG = "ParsedAttributesCache";
+
+	/**
+	 * Default maximum count of parsed configurations held by the cache.
+	 */
+	public static final int DEFAULT_MAX_SIZE = 16;
+
+	/*
+	 * Interface ===================================================================================
+	 */
+
+	/*
+	 * Static members ==============================================================================
+	 */
+
+	/*
+	 * Members =====================================================================================
+	 */
+
+	/**
+	 * Map with parsed configurations mapped to keys of theirs attributes. Ordered by access so the
+	 * least recently used configuration is evicted first.
+	 */
+	private final Map<Key, T> entries;
+
+	/**
+	 * Configuration for which are the cached entries valid.
+	 */
+	private Configuration configuration;
+
+	/**
+	 * Key reused to look up entries for attributes passed to this cache.
+	 */
+	private final Key lookupKey = new Key(0);
+
+	/*
+	 * Constructors ================================================================================
+	 */
+
+	/**
+	 * Same as {@link #ParsedAttributesCache(int)} with {@link #DEFAULT_MAX_SIZE}.
+	 */
+	public ParsedAttributesCache() {
+		this(DEFAULT_MAX_SIZE);
+	}
+
+	/**
+	 * Creates a new instance of ParsedAttributesCache with the specified <var>maxSize</var>.
+	 *
+	 * @param maxSize Maximum count of parsed configurations that may be held by the cache.
+	 */
+	public ParsedAttributesCache(@IntRange(from = 1) final int maxSize) {
+		this.entries = new LinkedHashMap<Key, T>(maxSize, 0.75f, true) {
+
+			/**
+			 */
+			@Override protected boolean removeEldestEntry(final Map.Entry<Key, T> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	/*
+	 * Methods =====================================================================================
+	 */
+
+	/**
+	 * Returns configuration parsed from the given <var>attrs</var> which has been previously put into
+	 * this cache.
+	 *
+	 * @param context Context used to inflate the transition.
+	 * @param attrs   The attributes from which has been the configuration parsed.
+	 * @return Parsed configuration or {@code null} if there is no such configuration cached or the
+	 * attributes cannot be cached.
+	 *
+	 * @see #put(Context, AttributeSet, Object)
+	 */
+	@Nullable public synchronized T get(@NonNull final Context context, @Nullable final AttributeSet attrs) {
+		if (!lookupKey.set(attrs)) {
+			return null;
+		}
+		ensureConfiguration(context.getResources().getConfiguration());
+		return entries.get(lookupKey);
+	}
+
+	/**
+	 * Puts the given <var>parsedAttributes</var> into this cache so it may be later obtained via
+	 * {@link #get(Context, AttributeSet)} for the same <var>attrs</var>. If the attributes reference
+	 * theme attributes or specify a style, this method does nothing.
+	 *
+	 * @param context          Context used to inflate the transition.
+	 * @param attrs            The attributes from which has been the configuration parsed.
+	 * @param parsedAttributes The configuration parsed from the attributes.
+	 * @return {@code True} if the configuration has been cached, {@code false} otherwise.
+	 */
+	public synchronized boolean put(
+			@NonNull final Context context,
+			@Nullable final AttributeSet attrs,
+			@NonNull final T parsedAttributes
+	) {
+		if (!lookupKey.set(attrs)) {
+			return false;
+		}
+		ensureConfiguration(context.getResources().getConfiguration());
+		this.entries.put(lookupKey.copy(), parsedAttributes);
+		return true;
+	}
+
+	/**
+	 * Ensures that the cached entries are valid for the given <var>currentConfiguration</var>.
+	 * If not, all entries are removed.
+	 *
+	 * @param currentConfiguration The configuration of a context used to inflate transitions.
+	 */
+	private void ensureConfiguration(final Configuration currentConfiguration) {
+		if (configuration == null || !configuration.equals(currentConfiguration)) {
+			this.entries.clear();
+			this.configuration = new Configuration(currentConfiguration);
+		}
+	}
+
+	/**
+	 * Returns the count of parsed configurations currently held by this cache.
+	 *
+	 * @return Size of the cache.
+	 */
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	/**
+	 * Removes all parsed configurations from this cache.
+	 */
+	public synchronized void clear() {
+		this.entries.clear();
+	}
+
+	/*
+	 * Inner classes ===============================================================================
+	 */
+
+	/**
+	 * Key identifying a set of raw attributes specified in XML.
+	 */
+	@VisibleForTesting static final class Key {
+
+		/**
+		 * Resource ids of names of the attributes.
+		 */
+		private int[] names;
+
+		/**
+		 * Raw values of the attributes.
+		 */
+		private String[] values;
+
+		/**
+		 * Count of the attributes held by {@link #names} and {@link #values}.
+		 */
+		private int count;
+
+		/**
+		 * Hash code computed for this key.
+		 */
+		private int hashCode;
+
+		/**
+		 * Creates a new instance of Key able to hold the specified count of attributes without
+		 * need to grow.
+		 *
+		 * @param capacity Initial capacity for the attributes.
+		 */
+		private Key(final int capacity) {
+			this.names = new int[capacity];
+			this.values = new String[capacity];
+		}
+
+		/**
+		 * Creates a new Key for the given <var>attrs</var>.
+		 *
+		 * @param attrs The attributes for which to create the key.
+		 * @return Key or {@code null} if the attributes are {@code null}, specify a style or reference
+		 * theme attributes.
+		 */
+		@Nullable static Key create(@Nullable final AttributeSet attrs) {
+			final Key key = new Key(attrs == null ? 0 : attrs.getAttributeCount());
+			return key.set(attrs) ? key : null;
+		}
+
+		/**
+		 * Sets this key to identify the given <var>attrs</var>. Arrays of this key are reused if
+		 * they are large enough.
+		 *
+		 * @param attrs The attributes which should this key identify.
+		 * @return {@code True} if the key has been set, {@code false} if the attributes are {@code null},
+		 * specify a style or reference theme attributes.
+		 */
+		boolean set(@Nullable final AttributeSet attrs) {
+			this.count = 0;
+			this.hashCode = 0;
+			// Items of a style may reference theme attributes which cannot be detected here.
+			if (attrs == null || attrs.getStyleAttribute() != 0) {
+				return false;
+			}
+			final int attributeCount = attrs.getAttributeCount();
+			if (names.length < attributeCount) {
+				this.names = new int[attributeCount];
+				this.values = new String[attributeCount];
+			}
+			int hash = attributeCount;
+			for (int i = 0; i < attributeCount; i++) {
+				final String value = attrs.getAttributeValue(i);
+				if (value != null && value.length() > 0 && value.charAt(0) == '?') {
+					return false;
+				}
+				this.names[i] = attrs.getAttributeNameResource(i);
+				this.values[i] = value;
+				hash = 31 * (31 * hash + names[i]) + (value == null ? 0 : value.hashCode());
+			}
+			this.count = attributeCount;
+			this.hashCode = hash;
+			return true;
+		}
+
+		/**
+		 * Creates a copy of this key which holds only its attributes.
+		 *
+		 * @return New key equal to this one.
+		 */
+		Key copy() {
+			final Key key = new Key(count);
+			System.arraycopy(names, 0, key.names, 0, count);
+			System.arraycopy(values, 0, key.values, 0, count);
+			key.count = count;
+			key.hashCode = hashCode;
+			return key;
+		}
+
+		/**
+		 */
+		@Override public int hashCode() {
+			return hashCode;
+		}
+
+		/**
+		 */
+		@Override public boolean equals(@Nullable final Object other) {
+			if (other == this) {
+				return true;
+			}
+			if (!(other instanceof Key)) {
+				return false;
+			}
+			final Key key = (Key) other;
+			if (hashCode != key.hashCode || count != key.count) {
+				return false;
+			}
+			for (int i = 0; i < count; i++) {
+				if (names[i] != key.names[i]) {
+					return false;
+				}
+				final String value = values[i];
+				if (value == null ? key.values[i] != null : !value.equals(key.values[i])) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+}
@@ -0,0 +1,412 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2018 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.transition;
+
+import android.view.View;
+
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+
+import androidx.annotation.IntRange;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.UiThread;
+
+/**
+ * An open addressing hash table which maps views compared by identity to primitive {@code long}
+ * values. It may be used by transitions as a side table for per view state instead of view tags
+ * or boxed values stored in maps.
+ * <p>
+ * Views may be held either <b>weakly</b>, for tables that outlive transitions, like tables with
+ * state of interrupted animations, or <b>strongly</b>, for tables that are cleared once a transition
+ * run or capture pass ends. Storing a value for a view that already has an entry does not allocate.
+ * Entries of weakly held views are kept until the views are garbage collected, so values should
+ * be rather {@link #reset(View) reset} than removed. Strongly held views do not allocate at all
+ * once the table has grown to the size of the stored views.
+ * <p>
+ * Each entry of the table occupies a slot from the {@code [0, capacity())} range, so entries may
+ * be also iterated via {@link #keyAt(int)} and {@link #valueAt(int)}. Slots of entries may change
+ * whenever a new entry is stored.
+ * <p>
+ * The table is not thread safe and is expected to be used only from the UI thread.
+ *
+ * @author Martin Albedinsky
+ * @since 1.4
+ */
+@UiThread
+public final class ViewTable {
+
+	/*
+	 * Constants ===================================================================================
+	 */
+
+	/**
+	 * Log TAG.
+	 */
+	// private static final String TAG = "ViewTable";
+
+	/**
+	 * Value returned for views without value stored in the table.
+	 */
+	public static final long NO_VALUE = Long.MIN_VALUE;
+
+	/**
+	 * Default initial capacity of the table.
+	 */
+	private static final int DEFAULT_CAPACITY = 16;
+
+	/*
+	 * Interface ===================================================================================
+	 */
+
+	/*
+	 * Static members ==============================================================================
+	 */
+
+	/*
+	 * Members =====================================================================================
+	 */
+
+	/**
+	 * Boolean flag indicating whether the views are held weakly.
+	 */
+	private final boolean weakKeys;
+
+	/**
+	 * Views, or weak references to them, which have entry in the table.
+	 */
+	private Object[] keys;
+
+	/**
+	 * Hashes of the views at the corresponding slots in {@link #keys}.
+	 */
+	private int[] hashes;
+
+	/**
+	 * Values of the views at the corresponding slots in {@link #keys}.
+	 */
+	private long[] values;
+
+	/**
+	 * Count of entries in the table, including entries of weakly held views that have been already
+	 * garbage collected but not expunged yet.
+	 */
+	private int size;
+
+	/*
+	 * Constructors ================================================================================
+	 */
+
+	/**
+	 * Same as {@link #ViewTable(int, boolean)} with default initial capacity.
+	 *
+	 * @param weakKeys {@code True} to hold views weakly, {@code false} to hold them strongly.
+	 */
+	public ViewTable(final boolean weakKeys) {
+		this(DEFAULT_CAPACITY, weakKeys);
+	}
+
+	/**
+	 * Creates a new empty instance of ViewTable.
+	 *
+	 * @param expectedSize Count of entries the table should hold without need to grow.
+	 * @param weakKeys     {@code True} to hold views weakly, {@code false} to hold them strongly.
+	 */
+	public ViewTable(@IntRange(from = 0) final int expectedSize, final boolean weakKeys) {
+		this.weakKeys = weakKeys;
+		int capacity = 2;
+		while (capacity * 3 < expectedSize * 4) {
+			capacity <<= 1;
+		}
+		allocate(capacity);
+	}
+
+	/*
+	 * Methods =====================================================================================
+	 */
+
+	/**
+	 * Allocates arrays of the table for the specified <var>capacity</var>.
+	 *
+	 * @param capacity The desired capacity. Must be a power of two.
+	 */
+	private void allocate(final int capacity) {
+		this.keys = new Object[capacity];
+		this.hashes = new int[capacity];
+		this.values = new long[capacity];
+	}
+
+	/**
+	 * Returns the value stored for the given <var>view</var>.
+	 *
+	 * @param view The view for which to return its value.
+	 * @return Value of the view or {@link #NO_VALUE} if there is no value stored for the view.
+	 */
+	public long get(@NonNull final View view) {
+		final int slot = slotOf(view);
+		return slot == -1 ? NO_VALUE : values[slot];
+	}
+
+	/**
+	 * Returns the float value stored for the given <var>view</var> via {@link #putFloat(View, float)}.
+	 *
+	 * @param view         The view for which to return its value.
+	 * @param defaultValue Value to be returned if there is no value stored for the view.
+	 * @return Value of the view or the default value.
+	 */
+	public float getFloat(@NonNull final View view, final float defaultValue) {
+		final long value = get(view);
+		return value == NO_VALUE ? defaultValue : Float.intBitsToFloat((int) value);
+	}
+
+	/**
+	 * Checks whether the given <var>view</var> has entry in this table.
+	 *
+	 * @param view The view to be checked.
+	 * @return {@code True} if there is an entry for the view, {@code false} otherwise.
+	 */
+	public boolean contains(@NonNull final View view) {
+		return slotOf(view) != -1;
+	}
+
+	/**
+	 * Stores the specified <var>value</var> for the given <var>view</var>.
+	 *
+	 * @param view  The view for which to store the value.
+	 * @param value The value to be stored.
+	 */
+	public void put(@NonNull final View view, final long value) {
+		final int slot = slotOf(view);
+		if (slot != -1) {
+			this.values[slot] = value;
+			return;
+		}
+		if ((size + 1) * 4 > keys.length * 3) {
+			if (weakKeys) {
+				expungeStaleEntries();
+			}
+			if ((size + 1) * 4 > keys.length * 3) {
+				resize(keys.length * 2);
+			}
+		}
+		insert(weakKeys ? new WeakReference<>(view) : view, hash(view), value);
+	}
+
+	/**
+	 * Stores the specified float <var>value</var> for the given <var>view</var>.
+	 *
+	 * @param view  The view for which to store the value.
+	 * @param value The value to be stored.
+	 *
+	 * @see #getFloat(View, float)
+	 */
+	public void putFloat(@NonNull final View view, final float value) {
+		put(view, Float.floatToRawIntBits(value) & 0xffffffffL);
+	}
+
+	/**
+	 * Resets value stored for the given <var>view</var> to {@link #NO_VALUE}, if there is any. The
+	 * entry of the view is kept in the table, so storing a new value for the same view does not
+	 * allocate.
+	 *
+	 * @param view The view for which to reset its value.
+	 */
+	public void reset(@NonNull final View view) {
+		final int slot = slotOf(view);
+		if (slot != -1) {
+			this.values[slot] = NO_VALUE;
+		}
+	}
+
+	/**
+	 * Returns count of entries in this table.
+	 *
+	 * @return Size of the table.
+	 */
+	@IntRange(from = 0) public int size() {
+		return size;
+	}
+
+	/**
+	 * Returns count of slots of this table.
+	 *
+	 * @return Capacity of the table.
+	 *
+	 * @see #keyAt(int)
+	 * @see #valueAt(int)
+	 */
+	@IntRange(from = 0) public int capacity() {
+		return keys.length;
+	}
+
+	/**
+	 * Returns slot of an entry of the given <var>view</var>.
+	 *
+	 * @param view The view of which entry to find.
+	 * @return Slot of the entry or {@code -1} if there is no entry for the view.
+	 */
+	public int slotOf(@NonNull final View view) {
+		final int mask = keys.length - 1;
+		int slot = hash(view) & mask;
+		Object key;
+		while ((key = keys[slot]) != null) {
+			if (unwrap(key) == view) {
+				return slot;
+			}
+			slot = (slot + 1) & mask;
+		}
+		return -1;
+	}
+
+	/**
+	 * Returns the view which has entry at the specified <var>slot</var>.
+	 *
+	 * @param slot Slot from the {@code [0, capacity())} range.
+	 * @return The view or {@code null} if the slot is empty or the view has been garbage collected.
+	 */
+	@Nullable public View keyAt(final int slot) {
+		final Object key = keys[slot];
+		return key == null ? null : unwrap(key);
+	}
+
+	/**
+	 * Returns the value stored at the specified <var>slot</var>.
+	 *
+	 * @param slot Slot from the {@code [0, capacity())} range of which key is not {@code null}.
+	 * @return The value stored at the slot.
+	 */
+	public long valueAt(final int slot) {
+		return values[slot];
+	}
+
+	/**
+	 * Removes all entries from this table. Capacity of the table is preserved.
+	 */
+	public void clear() {
+		if (size > 0) {
+			Arrays.fill(keys, null);
+			this.size = 0;
+		}
+	}
+
+	/**
+	 * Returns view referenced by the given table <var>key</var>.
+	 *
+	 * @param key The key of which view to return.
+	 * @return The view or {@code null} if it has been garbage collected.
+	 */
+	private View unwrap(final Object key) {
+		return weakKeys ? (View) ((WeakReference<?>) key).get() : (View) key;
+	}
+
+	/**
+	 * Computes a hash for the given <var>view</var> based on its identity.
+	 *
+	 * @param view The view for which to compute the hash.
+	 * @return Hash of the view.
+	 */
+	private static int hash(final View view) {
+		final int hash = System.identityHashCode(view);
+		return hash ^ (hash >>> 16);
+	}
+
+	/**
+	 * Inserts a new entry into the table. There must be at least one free slot in the table.
+	 *
+	 * @param key   The view or weak reference to it.
+	 * @param hash  Hash of the view.
+	 * @param value Value of the view.
+	 */
+	private void insert(final Object key, final int hash, final long value) {
+		final int mask = keys.length - 1;
+		int slot = hash & mask;
+		while (keys[slot] != null) {
+			slot = (slot + 1) & mask;
+		}
+		this.keys[slot] = key;
+		this.hashes[slot] = hash;
+		this.values[slot] = value;
+		this.size++;
+	}
+
+	/**
+	 * Removes entries of weakly held views that have been already garbage collected.
+	 */
+	private void expungeStaleEntries() {
+		for (int i = 0; i < keys.length; i++) {
+			// Removal shifts subsequent entries backward, so the same slot needs to be checked again.
+			while (keys[i] != null && unwrap(keys[i]) == null) {
+				removeAt(i);
+			}
+		}
+	}
+
+	/**
+	 * Removes an entry at the specified <var>slot</var> and shifts back entries that follow it
+	 * within the same probe sequence.
+	 *
+	 * @param slot Slot of the entry to be removed.
+	 */
+	private void removeAt(final int slot) {
+		final int mask = keys.length - 1;
+		int freeSlot = slot;
+		int nextSlot = slot;
+		this.keys[freeSlot] = null;
+		this.size--;
+		while (true) {
+			nextSlot = (nextSlot + 1) & mask;
+			if (keys[nextSlot] == null) {
+				return;
+			}
+			final int homeSlot = hashes[nextSlot] & mask;
+			// Move the entry into the free slot only if its home slot does not lie cyclically
+			// within (freeSlot, nextSlot].
+			final boolean shift = freeSlot <= nextSlot ?
+					homeSlot <= freeSlot || homeSlot > nextSlot :
+					homeSlot <= freeSlot && homeSlot > nextSlot;
+			if (shift) {
+				this.keys[freeSlot] = keys[nextSlot];
+				this.hashes[freeSlot] = hashes[nextSlot];
+				this.values[freeSlot] = values[nextSlot];
+				this.keys[nextSlot] = null;
+				freeSlot = nextSlot;
+			}
+		}
+	}
+
+	/**
+	 * Resizes the table to the specified <var>capacity</var>, dropping entries of weakly held views
+	 * that have been already garbage collected.
+	 *
+	 * @param capacity The new capacity. Must be a power of two.
+	 */
+	private void resize(final int capacity) {
+		final Object[] oldKeys = keys;
+		final int[] oldHashes = hashes;
+		final long[] oldValues = values;
+		allocate(capacity);
+		this.size = 0;
+		for (int i = 0; i < oldKeys.length; i++) {
+			final Object key = oldKeys[i];
+			if (key != null && unwrap(key) != null) {
+				insert(key, oldHashes[i], oldValues[i]);
+			}
+		}
+	}
+}
@@ -0,0 +1,171 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2018 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.transition;
+
+import android.os.Build;
+import android.transition.TransitionValues;
+
+import org.junit.Test;
+import org.robolectric.annotation.Config;
+
+import universum.studios.android.test.local.AllocationCounter;
+import universum.studios.android.test.local.RobolectricTestCase;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.number.OrderingComparison.lessThan;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * @author Martin Albedinsky
+ */
+@Config(sdk = Build.VERSION_CODES.LOLLIPOP)
+public final class CapturedValuesTest extends RobolectricTestCase {
+
+	private static final String KEY = CapturedValuesTest.class.getName() + ":transition.values";
+
+	@Test public void testInstantiation() {
+		// Act:
+		final CapturedValues values = new CapturedValues();
+		// Assert:
+		for (int i = 0; i < CapturedValues.FLOAT_SLOTS; i++) {
+			assertThat(values.getFloat(i), is(0f));
+		}
+		for (int i = 0; i < CapturedValues.INT_SLOTS; i++) {
+			assertThat(values.getInt(i), is(0));
+		}
+	}
+
+	@Test public void testObtain() {
+		// Arrange:
+		final TransitionValues transitionValues = new TransitionValues();
+		// Act:
+		final CapturedValues values = CapturedValues.obtain(transitionValues, KEY);
+		// Assert:
+		assertThat(transitionValues.values.size(), is(1));
+		assertThat(transitionValues.values.get(KEY), is((Object) values));
+		assertThat(CapturedValues.obtain(transitionValues, KEY), is(sameInstance(values)));
+		assertThat(transitionValues.values.size(), is(1));
+	}
+
+	@Test public void testGet() {
+		// Arrange:
+		final TransitionValues transitionValues = new TransitionValues();
+		final CapturedValues values = CapturedValues.obtain(transitionValues, KEY);
+		// Act + Assert:
+		assertThat(CapturedValues.get(transitionValues, KEY), is(sameInstance(values)));
+	}
+
+	@Test public void testGetForEmptyTransitionValues() {
+		// Act + Assert:
+		assertThat(CapturedValues.get(new TransitionValues(), KEY), is(nullValue()));
+		assertThat(CapturedValues.get(null, KEY), is(nullValue()));
+	}
+
+	@Test public void testFloatSlots() {
+		// Arrange:
+		final CapturedValues values = new CapturedValues();
+		// Act:
+		for (int i = 0; i < CapturedValues.FLOAT_SLOTS; i++) {
+			assertThat(values.putFloat(i, i + 0.5f), is(sameInstance(values)));
+		}
+		// Assert:
+		for (int i = 0; i < CapturedValues.FLOAT_SLOTS; i++) {
+			assertThat(values.getFloat(i), is(i + 0.5f));
+		}
+	}
+
+	@Test public void testIntSlots() {
+		// Arrange:
+		final CapturedValues values = new CapturedValues();
+		// Act:
+		for (int i = 0; i < CapturedValues.INT_SLOTS; i++) {
+			assertThat(values.putInt(i, i + 10), is(sameInstance(values)));
+		}
+		// Assert:
+		for (int i = 0; i < CapturedValues.INT_SLOTS; i++) {
+			assertThat(values.getInt(i), is(i + 10));
+		}
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testPutFloatOutOfRange() {
+		// Act:
+		new CapturedValues().putFloat(CapturedValues.FLOAT_SLOTS, 1f);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testGetFloatOutOfRange() {
+		// Act:
+		new CapturedValues().getFloat(-1);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testPutIntOutOfRange() {
+		// Act:
+		new CapturedValues().putInt(CapturedValues.INT_SLOTS, 1);
+	}
+
+	@Test(expected = IndexOutOfBoundsException.class)
+	public void testGetIntOutOfRange() {
+		// Act:
+		new CapturedValues().getInt(-1);
+	}
+
+	@Test public void testEqualsAndHashCode() {
+		// Arrange:
+		final CapturedValues first = new CapturedValues().putFloat(0, 0.5f).putInt(1, 10);
+		final CapturedValues second = new CapturedValues().putFloat(0, 0.5f).putInt(1, 10);
+		final CapturedValues third = new CapturedValues().putFloat(0, 0.5f).putInt(1, 11);
+		// Act + Assert:
+		assertThat(first.equals(first), is(true));
+		assertThat(first.equals(second), is(true));
+		assertThat(first.hashCode(), is(second.hashCode()));
+		assertThat(first.equals(third), is(false));
+		assertThat(first.equals(null), is(false));
+	}
+
+	@Test public void testCaptureAllocatesLessThanBoxedValues() {
+		assumeTrue(AllocationCounter.isSupported());
+		// Arrange:
+		final String keyX = CapturedValuesTest.class.getName() + ":transition.scaleX";
+		final String keyY = CapturedValuesTest.class.getName() + ":transition.scaleY";
+		final int iterations = 1000;
+		// Act:
+		final long boxedBytes = AllocationCounter.measure(iterations, new Runnable() {
+
+			@Override public void run() {
+				final TransitionValues transitionValues = new TransitionValues();
+				transitionValues.values.put(keyX, 0.75f);
+				transitionValues.values.put(keyY, 0.25f);
+			}
+		});
+		final long containerBytes = AllocationCounter.measure(iterations, new Runnable() {
+
+			@Override public void run() {
+				final TransitionValues transitionValues = new TransitionValues();
+				CapturedValues.obtain(transitionValues, KEY).putFloat(0, 0.75f).putFloat(1, 0.25f);
+			}
+		});
+		// Assert:
+		assertThat(containerBytes, is(lessThan(boxedBytes)));
+	}
+}
@@ -0,0 +1,344 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2018 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.transition;
+
+import android.graphics.Rect;
+import android.os.Build;
+import android.transition.Fade;
+import android.transition.Transition;
+import android.transition.TransitionValues;
+import android.view.View;
+import android.widget.FrameLayout;
+
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.robolectric.annotation.Config;
+
+import universum.studios.android.test.local.RobolectricTestCase;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+/**
+ * @author Martin Albedinsky
+ */
+@Config(sdk = Build.VERSION_CODES.LOLLIPOP)
+public final class DistanceStaggerPropagationTest extends RobolectricTestCase {
+
+	@Test public void testInstantiation() {
+		// Act:
+		final DistanceStaggerPropagation propagation = new DistanceStaggerPropagation();
+		// Assert:
+		assertThat(propagation.getStaggerDelay(), is(DistanceStaggerPropagation.DEFAULT_STAGGER_DELAY));
+		assertThat(propagation.getMaxStagger(), is(DistanceStaggerPropagation.DEFAULT_MAX_STAGGER));
+		assertThat(propagation.getPropagationProperties().length, is(1));
+		assertThat(propagation.getPropagationProperties()[0], is(DistanceStaggerPropagation.PROPERTY_PROPAGATION_INDEX));
+	}
+
+	@Test public void testStaggerDelay() {
+		// Arrange:
+		final DistanceStaggerPropagation propagation = new DistanceStaggerPropagation();
+		// Act + Assert:
+		propagation.setStaggerDelay(50);
+		assertThat(propagation.getStaggerDelay(), is(50L));
+		propagation.setStaggerDelay(-1);
+		assertThat(propagation.getStaggerDelay(), is(0L));
+	}
+
+	@Test public void testMaxStagger() {
+		// Arrange:
+		final DistanceStaggerPropagation propagation = new DistanceStaggerPropagation();
+		// Act + Assert:
+		propagation.setMaxStagger(1000);
+		assertThat(propagation.getMaxStagger(), is(1000L));
+		propagation.setMaxStagger(-1);
+		assertThat(propagation.getMaxStagger(), is(0L));
+	}
+
+	@Test public void testCaptureValues() {
+		// Arrange:
+		final DistanceStaggerPropagation propagation = new DistanceStaggerPropagation();
+		final TransitionValues values = createValues(createView(0, 0));
+		// Act:
+		propagation.captureValues(values);
+		// Assert:
+		assertThat(values.values.containsKey(DistanceStaggerPropagation.PROPERTY_PROPAGATION_INDEX), is(true));
+	}
+
+	@Test public void testCaptureValuesForInvisibleView() {
+		// Arrange:
+		final DistanceStaggerPropagation propagation = new DistanceStaggerPropagation();
+		final View view = createView(0, 0);
+		view.setVisibility(View.INVISIBLE);
+		final TransitionValues values = createValues(view);
+		// Act:
+		propagation.captureValues(values);
+		// Assert:
+		assertThat(values.values.containsKey(DistanceStaggerPropagation.PROPERTY_PROPAGATION_INDEX), is(false));
+	}
+
+	@Test public void testGetStartDelay() {
+		// Arrange:
+		final DistanceStaggerPropagation propagation = new DistanceStaggerPropagation();
+		propagation.setStaggerDelay(10);
+		propagation.setMaxStagger(1000);
+		final Transition transition = createTransition(0, 0);
+		final TransitionValues[] values = {
+				createValues(createView(300, 0)),
+				createValues(createView(0, 0)),
+				createValues(createView(0, 100)),
+				createValues(createView(100, 0)),
+				createValues(createView(200, 0))
+		};
+		for (final TransitionValues transitionValues : values) {
+			propagation.captureValues(transitionValues);
+		}
+		// Act + Assert:
+		final FrameLayout sceneRoot = new FrameLayout(context);
+		assertThat(propagation.getStartDelay(sceneRoot, transition, null, values[0]), is(30L));
+		assertThat(propagation.getStartDelay(sceneRoot, transition, null, values[1]), is(0L));
+		assertThat(propagation.getStartDelay(sceneRoot, transition, null, values[2]), is(10L));
+		assertThat(propagation.getStartDelay(sceneRoot, transition, null, values[3]), is(10L));
+		assertThat(propagation.getStartDelay(sceneRoot, transition, values[4], null), is(20L));
+	}
+
+	@Test public void testGetStartDelayCappedByMaxStagger() {
+		// Arrange:
+		final DistanceStaggerPropagation propagation = new DistanceStaggerPropagation();
+		propagation.setStaggerDelay(100);
+		propagation.setMaxStagger(200);
+		final Transition transition = createTransition(0, 0);
+		final int count = 50;
+		final TransitionValues[] values = new TransitionValues[count];
+		for (int i = 0; i < count; i++) {
+			values[i] = createValues(createView(i * 10, 0));
+			propagation.captureValues(values[i]);
+		}
+		final FrameLayout sceneRoot = new FrameLayout(context);
+		// Act + Assert:
+		long previousDelay = -1;
+		for (int i = 0; i < count; i++) {
+			final long delay = propagation.getStartDelay(sceneRoot, transition, null, values[i]);
+			assertThat(delay >= previousDelay, is(true));
+			assertThat(delay <= 200, is(true));
+			previousDelay = delay;
+		}
+		assertThat(propagation.getStartDelay(sceneRoot, transition, null, values[0]), is(0L));
+		assertThat(propagation.getStartDelay(sceneRoot, transition, null, values[count - 1]), is(200L));
+	}
+
+	@Test public void testGetStartDelayForNewRun() {
+		// Arrange:
+		final DistanceStaggerPropagation propagation = new DistanceStaggerPropagation();
+		propagation.setStaggerDelay(10);
+		final Transition transition = createTransition(0, 0);
+		final FrameLayout sceneRoot = new FrameLayout(context);
+		final TransitionValues firstValues = createValues(createView(0, 0));
+		final TransitionValues secondValues = createValues(createView(100, 0));
+		propagation.captureValues(firstValues);
+		propagation.captureValues(secondValues);
+		propagation.getStartDelay(sceneRoot, transition, null, firstValues);
+		final TransitionValues newFirstValues = createValues(createView(100, 0));
+		final TransitionValues newSecondValues = createValues(createView(0, 0));
+		// Act:
+		propagation.captureValues(newFirstValues);
+		propagation.captureValues(newSecondValues);
+		// Assert:
+		assertThat(propagation.getStartDelay(sceneRoot, transition, null, newFirstValues), is(10L));
+		assertThat(propagation.getStartDelay(sceneRoot, transition, null, newSecondValues), is(0L));
+	}
+
+	@Test public void testCaptureValuesInBothPasses() {
+		// Arrange:
+		final DistanceStaggerPropagation propagation = new DistanceStaggerPropagation();
+		propagation.setStaggerDelay(10);
+		final Transition transition = createTransition(0, 0);
+		final FrameLayout sceneRoot = new FrameLayout(context);
+		final View firstView = createView(0, 0);
+		final View secondView = createView(100, 0);
+		final TransitionValues firstStartValues = createValues(firstView);
+		final TransitionValues secondStartValues = createValues(secondView);
+		propagation.captureValues(firstStartValues);
+		propagation.captureValues(secondStartValues);
+		firstView.setLeft(300);
+		firstView.setRight(300);
+		final TransitionValues firstEndValues = createValues(firstView);
+		final TransitionValues secondEndValues = createValues(secondView);
+		// Act:
+		propagation.captureValues(firstEndValues);
+		propagation.captureValues(secondEndValues);
+		// Assert:
+		assertThat(propagation.getRecordedCount(), is(2));
+		assertThat(propagation.getStartDelay(sceneRoot, transition, firstStartValues, firstEndValues), is(10L));
+		assertThat(propagation.getStartDelay(sceneRoot, transition, secondStartValues, secondEndValues), is(0L));
+	}
+
+	@Test public void testCaptureValuesForNewRunWithoutAnimators() {
+		// Arrange:
+		final DistanceStaggerPropagation propagation = new DistanceStaggerPropagation();
+		propagation.setStaggerDelay(10);
+		final Transition transition = createTransition(0, 0);
+		final FrameLayout sceneRoot = new FrameLayout(context);
+		final View firstView = createView(0, 0);
+		final View secondView = createView(100, 0);
+		final TransitionValues oldValues = createValues(secondView);
+		propagation.captureValues(createValues(firstView));
+		propagation.captureValues(oldValues);
+		propagation.captureValues(createValues(firstView));
+		propagation.captureValues(createValues(secondView));
+		final TransitionValues newValues = createValues(firstView);
+		// Act:
+		propagation.captureValues(newValues);
+		// Assert:
+		assertThat(propagation.getRecordedCount(), is(1));
+		assertThat(propagation.getStartDelay(sceneRoot, transition, oldValues, null), is(0L));
+		assertThat(propagation.getStartDelay(sceneRoot, transition, newValues, null), is(0L));
+	}
+
+	@Test public void testCaptureValuesForNewRunAfterTransitionEnd() {
+		// Arrange:
+		final DistanceStaggerPropagation propagation = new DistanceStaggerPropagation();
+		final Transition transition = spy(createTransition(0, 0));
+		final FrameLayout sceneRoot = new FrameLayout(context);
+		final TransitionValues values = createValues(createView(0, 0));
+		propagation.captureValues(values);
+		propagation.getStartDelay(sceneRoot, transition, null, values);
+		final ArgumentCaptor<Transition.TransitionListener> listenerCaptor = ArgumentCaptor.forClass(Transition.TransitionListener.class);
+		verify(transition).addListener(listenerCaptor.capture());
+		// Act:
+		listenerCaptor.getValue().onTransitionEnd(transition);
+		// Assert:
+		assertThat(propagation.getRecordedCount(), is(0));
+		verify(transition).removeListener(listenerCaptor.getValue());
+		assertThat(propagation.getStartDelay(sceneRoot, transition, null, values), is(0L));
+	}
+
+	@Test public void testGetStartDelayForOverlappingClones() {
+		// Arrange:
+		final DistanceStaggerPropagation propagation = new DistanceStaggerPropagation();
+		propagation.setStaggerDelay(10);
+		final Transition oldClone = spy(createTransition(0, 0));
+		final Transition newClone = createTransition(0, 0);
+		final FrameLayout sceneRoot = new FrameLayout(context);
+		final View firstView = createView(0, 0);
+		final View secondView = createView(100, 0);
+		final TransitionValues oldFirstValues = createValues(firstView);
+		final TransitionValues oldSecondValues = createValues(secondView);
+		propagation.captureValues(oldFirstValues);
+		propagation.captureValues(oldSecondValues);
+		propagation.getStartDelay(sceneRoot, oldClone, null, oldFirstValues);
+		final ArgumentCaptor<Transition.TransitionListener> listenerCaptor = ArgumentCaptor.forClass(Transition.TransitionListener.class);
+		verify(oldClone).addListener(listenerCaptor.capture());
+		// Act:
+		// New clone captures its values while the old clone is still running ...
+		firstView.setLeft(200);
+		firstView.setRight(200);
+		final TransitionValues newFirstStartValues = createValues(firstView);
+		final TransitionValues newSecondStartValues = createValues(secondView);
+		propagation.captureValues(newFirstStartValues);
+		propagation.captureValues(newSecondStartValues);
+		final TransitionValues newFirstEndValues = createValues(firstView);
+		final TransitionValues newSecondEndValues = createValues(secondView);
+		propagation.captureValues(newFirstEndValues);
+		propagation.captureValues(newSecondEndValues);
+		// ... and the old clone ends when its animators are cancelled before the new clone creates its animators.
+		assertThat(propagation.getStartDelay(sceneRoot, oldClone, null, oldSecondValues), is(10L));
+		listenerCaptor.getValue().onTransitionEnd(oldClone);
+		// Assert:
+		assertThat(propagation.getRecordedCount(), is(2));
+		assertThat(propagation.getStartDelay(sceneRoot, newClone, newFirstStartValues, newFirstEndValues), is(10L));
+		assertThat(propagation.getStartDelay(sceneRoot, newClone, newSecondStartValues, newSecondEndValues), is(0L));
+		assertThat(propagation.getStartDelay(sceneRoot, oldClone, null, oldSecondValues), is(0L));
+	}
+
+	@Test public void testReset() {
+		// Arrange:
+		final DistanceStaggerPropagation propagation = new DistanceStaggerPropagation();
+		final TransitionValues values = createValues(createView(0, 0));
+		propagation.captureValues(values);
+		// Act:
+		propagation.reset();
+		// Assert:
+		assertThat(propagation.getRecordedCount(), is(0));
+		assertThat(propagation.getStartDelay(new FrameLayout(context), createTransition(0, 0), null, values), is(0L));
+	}
+
+	@Test public void testCaptureValuesBeyondInitialCapacity() {
+		// Arrange:
+		final DistanceStaggerPropagation propagation = new DistanceStaggerPropagation();
+		propagation.setStaggerDelay(1);
+		propagation.setMaxStagger(1000);
+		final int count = 40;
+		final View[] views = new View[count];
+		for (int i = 0; i < count; i++) {
+			views[i] = createView(i * 10, 0);
+			propagation.captureValues(createValues(views[i]));
+		}
+		final TransitionValues[] values = new TransitionValues[count];
+		// Act:
+		for (int i = 0; i < count; i++) {
+			values[i] = createValues(views[i]);
+			propagation.captureValues(values[i]);
+		}
+		// Assert:
+		assertThat(propagation.getRecordedCount(), is(count));
+		final FrameLayout sceneRoot = new FrameLayout(context);
+		final Transition transition = createTransition(0, 0);
+		for (int i = 0; i < count; i++) {
+			assertThat(propagation.getStartDelay(sceneRoot, transition, null, values[i]), is((long) i));
+		}
+	}
+
+	@Test public void testGetStartDelayForNotCapturedValues() {
+		// Arrange:
+		final DistanceStaggerPropagation propagation = new DistanceStaggerPropagation();
+		final TransitionValues values = createValues(createView(0, 0));
+		// Act + Assert:
+		assertThat(propagation.getStartDelay(new FrameLayout(context), createTransition(0, 0), null, values), is(0L));
+		assertThat(propagation.getStartDelay(new FrameLayout(context), createTransition(0, 0), null, null), is(0L));
+	}
+
+	private static Transition createTransition(final int epicenterX, final int epicenterY) {
+		final Transition transition = new Fade();
+		transition.setEpicenterCallback(new Transition.EpicenterCallback() {
+
+			@Override public Rect onGetEpicenter(final Transition transition) {
+				return new Rect(epicenterX, epicenterY, epicenterX, epicenterY);
+			}
+		});
+		return transition;
+	}
+
+	private View createView(final int left, final int top) {
+		final View view = new View(context);
+		view.setLeft(left);
+		view.setTop(top);
+		view.setRight(left);
+		view.setBottom(top);
+		return view;
+	}
+
+	private static TransitionValues createValues(final View view) {
+		final TransitionValues values = new TransitionValues();
+		values.view = view;
+		return values;
+	}
+}
@@ -0,0 +1,160 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2018 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.transition;
+
+import android.content.res.Configuration;
+import android.util.AttributeSet;
+
+import org.junit.Test;
+import org.robolectric.Robolectric;
+
+import universum.studios.android.test.local.RobolectricTestCase;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * @author Martin Albedinsky
+ */
+public final class ParsedAttributesCacheTest extends RobolectricTestCase {
+
+	@Test public void testInstantiation() {
+		// Act:
+		final ParsedAttributesCache<Object> cache = new ParsedAttributesCache<Object>();
+		// Assert:
+		assertThat(cache.size(), is(0));
+	}
+
+	@Test public void testPutAndGet() {
+		// Arrange:
+		final ParsedAttributesCache<Object> cache = new ParsedAttributesCache<Object>();
+		final Object parsedAttributes = new Object();
+		// Act:
+		final boolean cached = cache.put(context, createAttributes("50%", "20dp"), parsedAttributes);
+		// Assert:
+		assertThat(cached, is(true));
+		assertThat(cache.size(), is(1));
+		assertThat(cache.get(context, createAttributes("50%", "20dp")), is(parsedAttributes));
+		assertThat(cache.get(context, createAttributes("50%", "10dp")), is(nullValue()));
+	}
+
+	@Test public void testPutForThemeAttributes() {
+		// Arrange:
+		final ParsedAttributesCache<Object> cache = new ParsedAttributesCache<Object>();
+		final AttributeSet attrs = createAttributes("50%", "?android:attr/actionBarSize");
+		// Act:
+		final boolean cached = cache.put(context, attrs, new Object());
+		// Assert:
+		assertThat(cached, is(false));
+		assertThat(cache.size(), is(0));
+		assertThat(cache.get(context, attrs), is(nullValue()));
+	}
+
+	@Test public void testPutForStyledAttributes() {
+		// Arrange:
+		final ParsedAttributesCache<Object> cache = new ParsedAttributesCache<Object>();
+		final AttributeSet attrs = Robolectric.buildAttributeSet()
+				.addAttribute(android.R.attr.pivotX, "50%")
+				.setStyleAttribute("@android:style/Animation")
+				.build();
+		// Act:
+		final boolean cached = cache.put(context, attrs, new Object());
+		// Assert:
+		assertThat(cached, is(false));
+		assertThat(cache.size(), is(0));
+		assertThat(cache.get(context, attrs), is(nullValue()));
+	}
+
+	@Test public void testPutAndGetForNullAttributes() {
+		// Arrange:
+		final ParsedAttributesCache<Object> cache = new ParsedAttributesCache<Object>();
+		// Act + Assert:
+		assertThat(cache.put(context, null, new Object()), is(false));
+		assertThat(cache.get(context, null), is(nullValue()));
+	}
+
+	@Test public void testGetForAttributesWithDifferentCount() {
+		// Arrange:
+		final ParsedAttributesCache<Object> cache = new ParsedAttributesCache<Object>();
+		final Object parsedAttributes = new Object();
+		cache.put(context, Robolectric.buildAttributeSet().addAttribute(android.R.attr.pivotX, "50%").build(), parsedAttributes);
+		// Act + Assert:
+		assertThat(cache.get(context, createAttributes("50%", "20dp")), is(nullValue()));
+		assertThat(cache.get(context, Robolectric.buildAttributeSet().addAttribute(android.R.attr.pivotX, "50%").build()), is(parsedAttributes));
+	}
+
+	@Test public void testPutBeyondMaxSize() {
+		// Arrange:
+		final ParsedAttributesCache<Object> cache = new ParsedAttributesCache<Object>(2);
+		final Object firstAttributes = new Object();
+		final Object thirdAttributes = new Object();
+		// Act:
+		cache.put(context, createAttributes("10%", "1dp"), firstAttributes);
+		cache.put(context, createAttributes("20%", "2dp"), new Object());
+		cache.get(context, createAttributes("10%", "1dp"));
+		cache.put(context, createAttributes("30%", "3dp"), thirdAttributes);
+		// Assert:
+		assertThat(cache.size(), is(2));
+		assertThat(cache.get(context, createAttributes("10%", "1dp")), is(firstAttributes));
+		assertThat(cache.get(context, createAttributes("20%", "2dp")), is(nullValue()));
+		assertThat(cache.get(context, createAttributes("30%", "3dp")), is(thirdAttributes));
+	}
+
+	@SuppressWarnings("deprecation")
+	@Test public void testGetAfterConfigurationChange() {
+		// Arrange:
+		final ParsedAttributesCache<Object> cache = new ParsedAttributesCache<Object>();
+		cache.put(context, createAttributes("50%", "20dp"), new Object());
+		final Configuration configuration = new Configuration(context.getResources().getConfiguration());
+		configuration.orientation = configuration.orientation == Configuration.ORIENTATION_LANDSCAPE ?
+				Configuration.ORIENTATION_PORTRAIT :
+				Configuration.ORIENTATION_LANDSCAPE;
+		context.getResources().updateConfiguration(configuration, context.getResources().getDisplayMetrics());
+		// Act + Assert:
+		assertThat(cache.get(context, createAttributes("50%", "20dp")), is(nullValue()));
+		assertThat(cache.size(), is(0));
+	}
+
+	@Test public void testClear() {
+		// Arrange:
+		final ParsedAttributesCache<Object> cache = new ParsedAttributesCache<Object>();
+		cache.put(context, createAttributes("50%", "20dp"), new Object());
+		// Act:
+		cache.clear();
+		// Assert:
+		assertThat(cache.size(), is(0));
+	}
+
+	@Test public void testKeyEquality() {
+		// Act + Assert:
+		assertThat(
+				ParsedAttributesCache.Key.create(createAttributes("50%", "20dp")),
+				is(ParsedAttributesCache.Key.create(createAttributes("50%", "20dp")))
+		);
+		assertThat(ParsedAttributesCache.Key.create(null), is(nullValue()));
+	}
+
+	private static AttributeSet createAttributes(final String pivotX, final String pivotY) {
+		return Robolectric.buildAttributeSet()
+				.addAttribute(android.R.attr.pivotX, pivotX)
+				.addAttribute(android.R.attr.pivotY, pivotY)
+				.build();
+	}
+}
@@ -0,0 +1,203 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2018 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.transition;
+
+import android.os.Build;
+import android.view.View;
+
+import org.junit.Test;
+import org.robolectric.annotation.Config;
+
+import universum.studios.android.test.local.AllocationCounter;
+import universum.studios.android.test.local.RobolectricTestCase;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.number.OrderingComparison.lessThan;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * @author Martin Albedinsky
+ */
+@Config(sdk = Build.VERSION_CODES.LOLLIPOP)
+public final class ViewTableTest extends RobolectricTestCase {
+
+	@Test public void testInstantiation() {
+		// Act:
+		final ViewTable table = new ViewTable(100, false);
+		// Assert:
+		assertThat(table.size(), is(0));
+		assertThat(table.capacity(), is(256));
+	}
+
+	@Test public void testPutAndGet() {
+		// Arrange:
+		final ViewTable table = new ViewTable(true);
+		final View view = new View(context);
+		// Act:
+		table.put(view, 10L);
+		// Assert:
+		assertThat(table.size(), is(1));
+		assertThat(table.contains(view), is(true));
+		assertThat(table.get(view), is(10L));
+		assertThat(table.get(new View(context)), is(ViewTable.NO_VALUE));
+	}
+
+	@Test public void testPutAndGetFloat() {
+		// Arrange:
+		final ViewTable table = new ViewTable(true);
+		final View view = new View(context);
+		// Act:
+		table.putFloat(view, -0.5f);
+		// Assert:
+		assertThat(table.getFloat(view, 1f), is(-0.5f));
+		assertThat(table.getFloat(new View(context), 1f), is(1f));
+	}
+
+	@Test public void testPutForViewWithEntry() {
+		// Arrange:
+		final ViewTable table = new ViewTable(true);
+		final View view = new View(context);
+		table.put(view, 10L);
+		// Act:
+		table.put(view, 20L);
+		// Assert:
+		assertThat(table.size(), is(1));
+		assertThat(table.get(view), is(20L));
+	}
+
+	@Test public void testReset() {
+		// Arrange:
+		final ViewTable table = new ViewTable(true);
+		final View view = new View(context);
+		table.put(view, 10L);
+		// Act:
+		table.reset(view);
+		// Assert:
+		assertThat(table.get(view), is(ViewTable.NO_VALUE));
+		assertThat(table.contains(view), is(true));
+		assertThat(table.size(), is(1));
+	}
+
+	@Test public void testPutBeyondInitialCapacity() {
+		testPutBeyondInitialCapacity(true);
+		testPutBeyondInitialCapacity(false);
+	}
+
+	private void testPutBeyondInitialCapacity(final boolean weakKeys) {
+		// Arrange:
+		final ViewTable table = new ViewTable(weakKeys);
+		final int count = 500;
+		final View[] views = new View[count];
+		// Act:
+		for (int i = 0; i < count; i++) {
+			views[i] = new View(context);
+			table.put(views[i], i);
+		}
+		// Assert:
+		assertThat(table.size(), is(count));
+		for (int i = 0; i < count; i++) {
+			assertThat(table.get(views[i]), is((long) i));
+		}
+	}
+
+	@Test public void testSlots() {
+		// Arrange:
+		final ViewTable table = new ViewTable(false);
+		final View firstView = new View(context);
+		final View secondView = new View(context);
+		table.put(firstView, 1L);
+		table.put(secondView, 2L);
+		// Act:
+		int found = 0;
+		for (int slot = 0; slot < table.capacity(); slot++) {
+			final View view = table.keyAt(slot);
+			if (view != null) {
+				assertThat(table.slotOf(view), is(slot));
+				assertThat(table.valueAt(slot), is(view == firstView ? 1L : 2L));
+				found++;
+			}
+		}
+		// Assert:
+		assertThat(found, is(2));
+		assertThat(table.slotOf(new View(context)), is(-1));
+	}
+
+	@Test public void testClear() {
+		// Arrange:
+		final ViewTable table = new ViewTable(false);
+		final View view = new View(context);
+		table.put(view, 10L);
+		final int capacity = table.capacity();
+		// Act:
+		table.clear();
+		// Assert:
+		assertThat(table.size(), is(0));
+		assertThat(table.capacity(), is(capacity));
+		assertThat(table.get(view), is(ViewTable.NO_VALUE));
+		for (int slot = 0; slot < table.capacity(); slot++) {
+			assertThat(table.keyAt(slot), is(nullValue()));
+		}
+	}
+
+	@Test public void testRepeatedPutsForSameViewDoNotAllocate() {
+		assumeTrue(AllocationCounter.isSupported());
+		// Arrange:
+		final ViewTable table = new ViewTable(true);
+		final View view = new View(context);
+		table.put(view, 0L);
+		final int iterations = 10000;
+		// Act:
+		final long allocatedBytes = AllocationCounter.measure(iterations, new Runnable() {
+
+			@Override public void run() {
+				table.put(view, 10L);
+				table.get(view);
+				table.reset(view);
+			}
+		});
+		// Assert:
+		assertThat(allocatedBytes, is(lessThan((long) iterations)));
+	}
+
+	@Test public void testStrongKeysRefilledAfterClearDoNotAllocate() {
+		assumeTrue(AllocationCounter.isSupported());
+		// Arrange:
+		final ViewTable table = new ViewTable(false);
+		final View[] views = new View[32];
+		for (int i = 0; i < views.length; i++) {
+			views[i] = new View(context);
+			table.put(views[i], i);
+		}
+		final int iterations = 1000;
+		// Act:
+		final long allocatedBytes = AllocationCounter.measure(iterations, new Runnable() {
+
+			@Override public void run() {
+				table.clear();
+				for (int i = 0; i < views.length; i++) {
+					table.put(views[i], i);
+				}
+			}
+		});
+		// Assert:
+		assertThat(allocatedBytes, is(lessThan((long) iterations)));
+	}
+}
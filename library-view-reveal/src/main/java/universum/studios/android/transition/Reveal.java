@@ -21,9 +21,13 @@ package universum.studios.android.transition;
 import android.animation.Animator;
 import android.animation.AnimatorListenerAdapter;
 import android.animation.TimeInterpolator;
+import android.animation.ValueAnimator;
 import android.annotation.SuppressLint;
 import android.content.Context;
 import android.content.res.TypedArray;
+import android.graphics.Bitmap;
+import android.graphics.Canvas;
+import android.graphics.Outline;
 import android.os.Build;
 import android.transition.TransitionValues;
 import android.transition.Visibility;
@@ -32,6 +36,8 @@ import android.view.Gravity;
 import android.view.View;
 import android.view.ViewAnimationUtils;
 import android.view.ViewGroup;
+import android.view.ViewOutlineProvider;
+import android.widget.ImageView;
 
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
@@ -47,6 +53,7 @@ import androidx.annotation.UiThread;
 import androidx.annotation.VisibleForTesting;
 import androidx.interpolator.view.animation.FastOutSlowInInterpolator;
 import universum.studios.android.transition.util.AnimatorWrapper;
+import universum.studios.android.transition.util.LayerPolicy;
 import universum.studios.android.transition.util.TransitionUtils;
 
 /**
@@ -63,6 +70,10 @@ import universum.studios.android.transition.util.TransitionUtils;
  * {@link #setCenterYFraction(float)}. If specifying a gravity for the center of the animating circle
  * is enough, the desired gravity flags may be specified via {@link #setCenterGravity(Integer)}.
  * <p>
+ * Alternatively, views may be revealed by animating their outline with enabled clipping to outline
+ * via {@link #RENDERER_OUTLINE}, which also supports rectangular shapes and pausing of the transition.
+ * See {@link #setRenderer(int)} and {@link #setShape(int)}.
+ * <p>
  * Reveal transition can be described in a resource file by using the {@code transition} tag with
  * {@code class} attribute set to {@code universum.studios.android.transition.Reveal}, along with
  * Xml attributes referenced below.
@@ -108,11 +119,90 @@ public class Reveal extends Visibility {
 	@IntDef({REVEAL, CONCEAL})
 	public @interface RevealMode {}
 
+	/**
+	 * Renderer to indicate that Reveal transition should use circular reveal animator created via
+	 * {@link ViewAnimationUtils#createCircularReveal(View, int, int, float, float)} to animate its
+	 * target views.
+	 */
+	public static final int RENDERER_CIRCULAR = 0x01;
+
+	/**
+	 * Renderer to indicate that Reveal transition should animate outline of its target views via
+	 * {@link ViewOutlineProvider} with enabled {@link View#setClipToOutline(boolean) clipping to outline}.
+	 * <p>
+	 * Unlike {@link #RENDERER_CIRCULAR}, this renderer supports also {@link #SHAPE_RECT} and
+	 * {@link #SHAPE_ROUND_RECT} shapes and animators created for this renderer may be paused and
+	 * resumed.
+	 */
+	public static final int RENDERER_OUTLINE = 0x02;
+
+	/**
+	 * Defines an annotation for determining set of allowed renderers for Reveal transition.
+	 */
+	@Retention(RetentionPolicy.SOURCE)
+	@IntDef({RENDERER_CIRCULAR, RENDERER_OUTLINE})
+	public @interface Renderer {}
+
+	/**
+	 * Shape to indicate that the revealing area should be a circle.
+	 */
+	public static final int SHAPE_OVAL = 0x01;
+
+	/**
+	 * Shape to indicate that the revealing area should be a rectangle which grows proportionally
+	 * towards bounds of the animating view.
+	 * <p>
+	 * <b>Note, that this shape is supported only by {@link #RENDERER_OUTLINE}.</b>
+	 */
+	public static final int SHAPE_RECT = 0x02;
+
+	/**
+	 * Shape to indicate that the revealing area should be a rectangle with rounded corners which
+	 * grows proportionally towards bounds of the animating view.
+	 * <p>
+	 * <b>Note, that this shape is supported only by {@link #RENDERER_OUTLINE}.</b>
+	 *
+	 * @see #setCornerRadius(float)
+	 */
+	public static final int SHAPE_ROUND_RECT = 0x03;
+
+	/**
+	 * Defines an annotation for determining set of allowed shapes for Reveal transition.
+	 */
+	@Retention(RetentionPolicy.SOURCE)
+	@IntDef({SHAPE_OVAL, SHAPE_RECT, SHAPE_ROUND_RECT})
+	public @interface Shape {}
+
 	/**
 	 * Default value for center fraction.
 	 */
 	private static final float CENTER_FRACTION = 0.5f;
 
+	/**
+	 * Name of the property holding geometry of the reveal animation for animating view in {@link TransitionValues}.
+	 */
+	@VisibleForTesting static final String PROPERTY_TRANSITION_GEOMETRY = Reveal.class.getName() + ":transition.geometry";
+
+	/**
+	 * Maximum count of geometries that may be cached by a single Reveal transition.
+	 */
+	private static final int GEOMETRY_CACHE_SIZE = 8;
+
+	/**
+	 * Maximum count of bitmaps held by the pool of view snapshots.
+	 */
+	private static final int SNAPSHOT_POOL_MAX_COUNT = 4;
+
+	/**
+	 * Maximum total size in bytes of bitmaps held by the pool of view snapshots.
+	 */
+	private static final int SNAPSHOT_POOL_MAX_SIZE = 8 * 1024 * 1024;
+
+	/**
+	 * Maximum count of views held by the pool of views displaying snapshots.
+	 */
+	private static final int SNAPSHOT_VIEW_POOL_MAX_COUNT = 4;
+
 	/*
 	 * Interface ===================================================================================
 	 */
@@ -126,15 +216,58 @@ public class Reveal extends Visibility {
 	 */
 	public static final TimeInterpolator INTERPOLATOR = new FastOutSlowInInterpolator();
 
+	/**
+	 * Pool of bitmaps used to take snapshots of views revealed in snapshot mode.
+	 *
+	 * @see #setSnapshotEnabled(boolean)
+	 */
+	@VisibleForTesting static final SnapshotBitmapPool SNAPSHOT_POOL = new SnapshotBitmapPool(
+			SNAPSHOT_POOL_MAX_COUNT,
+			SNAPSHOT_POOL_MAX_SIZE
+	);
+
+	/**
+	 * Pool of views used to display snapshots of views revealed in snapshot mode.
+	 *
+	 * @see #setSnapshotEnabled(boolean)
+	 */
+	@VisibleForTesting static final SnapshotViewPool SNAPSHOT_VIEW_POOL = new SnapshotViewPool(SNAPSHOT_VIEW_POOL_MAX_COUNT);
+
+	/**
+	 * Cache of configurations parsed from attributes of Reveal transitions inflated from XML.
+	 */
+	@VisibleForTesting static final ParsedAttributesCache<ParsedAttributes> ATTRIBUTES_CACHE = new ParsedAttributesCache<ParsedAttributes>();
+
+	/**
+	 * Table with radii at which have been circular reveal animations of views interrupted. A subsequent
+	 * circular reveal animation of such view starts from its interrupted radius.
+	 */
+	@VisibleForTesting static final ViewTable INTERRUPTED_RADII = new ViewTable(true);
+
+	/**
+	 * Radius returned from {@link #INTERRUPTED_RADII} for views without interrupted radius.
+	 */
+	@VisibleForTesting static final float NO_RADIUS = -1;
+
 	/*
 	 * Members =====================================================================================
 	 */
 
 	/**
-	 * Object that holds all necessary properties for the reveal transition for the currently
-	 * transitioning view.
+	 * Cache containing geometries already calculated for the current configuration of this transition
+	 * so views with the same dimensions may share a single geometry. Each clone of this transition
+	 * has its own cache.
+	 * <p>
+	 * Note, that {@link #setMode(int)} may be invoked by the super constructor before this cache is
+	 * initialized.
+	 */
+	private GeometryCache geometryCache = new GeometryCache(GEOMETRY_CACHE_SIZE);
+
+	/**
+	 * Buffer into which are resolved center coordinates for the currently transitioning view so
+	 * the transition does not need to allocate a new array for each of its targets.
 	 */
-	private final Info info = new Info();
+	private final float[] centerBuffer = new float[2];
 
 	/**
 	 * Mode determining whether we will run <b>reveal</b> or <b>conceal</b> animation.
@@ -215,6 +348,48 @@ public class Reveal extends Visibility {
 	 */
 	private int disappearVisibility = View.VISIBLE;
 
+	/**
+	 * Renderer used to animate target views. Either {@link #RENDERER_CIRCULAR} or {@link #RENDERER_OUTLINE}.
+	 */
+	private int renderer = RENDERER_CIRCULAR;
+
+	/**
+	 * Shape of the revealing area used by {@link #RENDERER_OUTLINE}.
+	 */
+	private int shape = SHAPE_OVAL;
+
+	/**
+	 * Radius of corners of the revealing area used for {@link #SHAPE_ROUND_RECT}.
+	 */
+	private float cornerRadius;
+
+	/**
+	 * Boolean flag indicating whether target views should be revealed via theirs snapshots.
+	 */
+	private boolean snapshotEnabled;
+
+	/**
+	 * Speed of the reveal animation in pixels per second used to calculate duration of the animation
+	 * or {@code 0} if duration of the animation should not depend on the animated distance.
+	 */
+	private float speed;
+
+	/**
+	 * Policy determining whether target views should be rendered into a hardware layer while revealed.
+	 */
+	private int layerPolicy = LayerPolicy.NONE;
+
+	/**
+	 * Buffers into which are resolved locations of the currently transitioning view and of the scene
+	 * root when revealing via snapshot.
+	 */
+	private final int[] viewLocationBuffer = new int[2], rootLocationBuffer = new int[2];
+
+	/**
+	 * Canvas used to draw snapshots of the transitioning views into bitmaps obtained from {@link #SNAPSHOT_POOL}.
+	 */
+	private final Canvas snapshotCanvas = new Canvas();
+
 	/*
 	 * Constructors ================================================================================
 	 */
@@ -245,6 +420,11 @@ public class Reveal extends Visibility {
 	 */
 	public Reveal(@NonNull final Context context, @Nullable final AttributeSet attrs) {
 		super(context, attrs);
+		final ParsedAttributes parsedAttributes = ATTRIBUTES_CACHE.get(context, attrs);
+		if (parsedAttributes != null) {
+			applyParsedAttributes(parsedAttributes);
+			return;
+		}
 		final TypedArray attributes = context.obtainStyledAttributes(attrs, R.styleable.Transition_Reveal, 0, 0);
 		final int attributeCount = attributes.getIndexCount();
 		for (int i = 0; i < attributeCount; i++) {
@@ -263,6 +443,16 @@ public class Reveal extends Visibility {
 				this.startVisibility = attributes.getInteger(attrIndex, startVisibility);
 			} else if (attrIndex == R.styleable.Transition_Reveal_transitionEndVisibility) {
 				this.endVisibility = attributes.getInteger(attrIndex, endVisibility);
+			} else if (attrIndex == R.styleable.Transition_Reveal_transitionRevealRenderer) {
+				setRenderer(attributes.getInteger(attrIndex, renderer));
+			} else if (attrIndex == R.styleable.Transition_Reveal_transitionRevealShape) {
+				setShape(attributes.getInteger(attrIndex, shape));
+			} else if (attrIndex == R.styleable.Transition_Reveal_transitionRevealCornerRadius) {
+				setCornerRadius(attributes.getDimension(attrIndex, cornerRadius));
+			} else if (attrIndex == R.styleable.Transition_Reveal_transitionRevealSpeed) {
+				setSpeed(attributes.getDimension(attrIndex, speed));
+			} else if (attrIndex == R.styleable.Transition_Reveal_transitionRevealSnapshot) {
+				setSnapshotEnabled(attributes.getBoolean(attrIndex, snapshotEnabled));
 			} else if (attrIndex == R.styleable.Transition_Reveal_transitionCenterGravity) {
 				this.centerGravity = attributes.getInteger(attrIndex, 0);
 			}else if (attrIndex == R.styleable.Transition_Reveal_transitionCenterHorizontalOffset) {
@@ -276,12 +466,39 @@ public class Reveal extends Visibility {
 			}
 		}
 		attributes.recycle();
+		ATTRIBUTES_CACHE.put(context, attrs, new ParsedAttributes(this));
 	}
 
 	/*
 	 * Methods =====================================================================================
 	 */
 
+	/**
+	 * Applies the given <var>parsedAttributes</var> to this transition.
+	 *
+	 * @param parsedAttributes The attributes previously parsed for transition inflated from the same
+	 *                         XML attributes.
+	 */
+	private void applyParsedAttributes(final ParsedAttributes parsedAttributes) {
+		this.mode = parsedAttributes.mode;
+		this.startRadius = parsedAttributes.startRadius;
+		this.endRadius = parsedAttributes.endRadius;
+		this.appearVisibility = parsedAttributes.appearVisibility;
+		this.disappearVisibility = parsedAttributes.disappearVisibility;
+		this.startVisibility = parsedAttributes.startVisibility;
+		this.endVisibility = parsedAttributes.endVisibility;
+		this.renderer = parsedAttributes.renderer;
+		this.shape = parsedAttributes.shape;
+		this.cornerRadius = parsedAttributes.cornerRadius;
+		this.speed = parsedAttributes.speed;
+		this.snapshotEnabled = parsedAttributes.snapshotEnabled;
+		this.centerGravity = parsedAttributes.centerGravity;
+		this.centerHorizontalOffset = parsedAttributes.centerHorizontalOffset;
+		this.centerVerticalOffset = parsedAttributes.centerVerticalOffset;
+		this.centerXFraction = parsedAttributes.centerXFraction;
+		this.centerYFraction = parsedAttributes.centerYFraction;
+	}
+
 	/**
 	 * Same as {@link #calculateRadius(float, float)} where width and height of the given <var>view</var>
 	 * will be used for radius calculation.
@@ -302,7 +519,7 @@ public class Reveal extends Visibility {
 	 * @return Calculated radius that may be used as end/start radius for the desired reveal animation.
 	 */
 	@FloatRange(from = 0) public static float calculateRadius(@FloatRange(from = 0) final float width, @FloatRange(from = 0) final float height) {
-		return (float) Math.sqrt(Math.pow(width, 2) + Math.pow(height, 2));
+		return (float) Math.sqrt(width * width + height * height);
 	}
 
 	/**
@@ -330,11 +547,26 @@ public class Reveal extends Visibility {
 			@FloatRange(from = 0, to = 1) final float centerXFraction,
 			@FloatRange(from = 0, to = 1) final float centerYFraction
 	) {
-		final float[] center = resolveCenter(view, centerXFraction, centerYFraction);
-		return new float[]{
-				view.getX() + center[0],
-				view.getY() + center[1]
-		};
+		return resolveCenterPosition(view, centerXFraction, centerYFraction, new float[2]);
+	}
+
+	/**
+	 * Same as {@link #resolveCenterPosition(View, float, float)} where the resolved center position
+	 * will be stored into the given <var>outPosition</var> array instead of a newly allocated one.
+	 *
+	 * @param outPosition Array into which to store the resolved center position: centerX[0], centerY[1].
+	 * @return The given <var>outPosition</var> array.
+	 */
+	@NonNull @Size(2) public static float[] resolveCenterPosition(
+			@NonNull final View view,
+			@FloatRange(from = 0, to = 1) final float centerXFraction,
+			@FloatRange(from = 0, to = 1) final float centerYFraction,
+			@NonNull @Size(2) final float[] outPosition
+	) {
+		resolveCenter(view, centerXFraction, centerYFraction, outPosition);
+		outPosition[0] += view.getX();
+		outPosition[1] += view.getY();
+		return outPosition;
 	}
 
 	/**
@@ -361,10 +593,25 @@ public class Reveal extends Visibility {
 			@FloatRange(from = 0, to = 1) final float centerXFraction,
 			@FloatRange(from = 0, to = 1) final float centerYFraction
 	) {
-		return new float[]{
-				view.getWidth() * centerXFraction,
-				view.getHeight() * centerYFraction
-		};
+		return resolveCenter(view, centerXFraction, centerYFraction, new float[2]);
+	}
+
+	/**
+	 * Same as {@link #resolveCenter(View, float, float)} where the resolved center will be stored
+	 * into the given <var>outCenter</var> array instead of a newly allocated one.
+	 *
+	 * @param outCenter Array into which to store the resolved center coordinates: centerX[0], centerY[1].
+	 * @return The given <var>outCenter</var> array.
+	 */
+	@NonNull @Size(2) public static float[] resolveCenter(
+			@NonNull final View view,
+			@FloatRange(from = 0, to = 1) final float centerXFraction,
+			@FloatRange(from = 0, to = 1) final float centerYFraction,
+			@NonNull @Size(2) final float[] outCenter
+	) {
+		outCenter[0] = view.getWidth() * centerXFraction;
+		outCenter[1] = view.getHeight() * centerYFraction;
+		return outCenter;
 	}
 
 	/**
@@ -378,17 +625,28 @@ public class Reveal extends Visibility {
 			@FloatRange(from = 0) final float radiusStart,
 			@FloatRange(from = 0) final float radiusEnd
 	) {
-		final float[] center = resolveCenterPosition(view);
-		return createAnimator(view, Math.round(center[0]), Math.round(center[1]), radiusStart, radiusEnd);
+		return createAnimator(
+				view,
+				Math.round(view.getX() + view.getWidth() * CENTER_FRACTION),
+				Math.round(view.getY() + view.getHeight() * CENTER_FRACTION),
+				radiusStart,
+				radiusEnd
+		);
 	}
 
 	/**
 	 * Creates a new instance of circular reveal Animator for the specified <var>view</var>.
 	 * <p>
-	 * <b>Note, that this animator will be already wrapped in {@link AnimatorWrapper} which will have
-	 * PAUSE and RESUME features disabled to ensure that there will be no exception thrown by the
-	 * Android system if it tries to pause already running Reveal transition which cold possibly
-	 * cause some exception to be thrown by the Android system.</b>
+	 * <b>Note, that this animator will be already wrapped in {@link AnimatorWrapper} which tracks
+	 * the current radius of the reveal animation.</b> As the platform reveal animator does not
+	 * support pausing, the wrapper pauses the animation by holding its current radius and resumes
+	 * it via a new reveal animator that continues from that radius with duration scaled according
+	 * to the remaining distance. If the animation is cancelled, its current radius is stored for the
+	 * view so a subsequent Reveal transition may continue from it.
+	 * <p>
+	 * The returned wrapper is a new instance owned by the caller, so it may be kept and started
+	 * again. Only wrappers created internally by Reveal transition are pooled and recycled once
+	 * theirs animation ends.
 	 * <p>
 	 * The returned animator will also have the default {@link #INTERPOLATOR} attached.
 	 *
@@ -413,16 +671,82 @@ public class Reveal extends Visibility {
 		if (!TransitionUtils.isViewAttachedToWindow(view) || radiusStart == radiusEnd) {
 			return null;
 		}
-		final AnimatorWrapper animatorWrapper = new AnimatorWrapper(ViewAnimationUtils.createCircularReveal(
+		final AnimatorWrapper animatorWrapper = new RevealAnimatorWrapper(
 				view,
 				centerX, centerY,
 				radiusStart, radiusEnd
-		));
+		);
+		animatorWrapper.setInterpolator(INTERPOLATOR);
+		return animatorWrapper;
+	}
+
+	/**
+	 * Creates a new instance of Animator that reveals the specified <var>view</var> by animating its
+	 * outline with enabled clipping to outline.
+	 * <p>
+	 * For {@link #SHAPE_RECT} and {@link #SHAPE_ROUND_RECT} shapes the revealing rectangle grows
+	 * from the center towards bounds of the view proportionally to ratio between the current radius
+	 * and radius of a circle that would cover the whole view from the same center.
+	 * <p>
+	 * Original outline provider and clipping flag of the view are restored when the animation ends.
+	 * The returned animator supports pausing and resuming and has the default {@link #INTERPOLATOR}
+	 * attached.
+	 *
+	 * @param view         The view for which to create the requested animator.
+	 * @param centerX      X coordinate of a center from where should the reveal animation start,
+	 *                     relative to the view.
+	 * @param centerY      Y coordinate of a center from where should the reveal animation start,
+	 *                     relative to the view.
+	 * @param radiusStart  Radius of the specified view at the start of the reveal animation.
+	 * @param radiusEnd    Radius of the specified view at the end of the reveal animation.
+	 * @param shape        Shape of the revealing area. One of {@link #SHAPE_OVAL}, {@link #SHAPE_RECT}
+	 *                     or {@link #SHAPE_ROUND_RECT}.
+	 * @param cornerRadius Radius of corners used for {@link #SHAPE_ROUND_RECT}.
+	 * @return Animator that will play outline reveal animation for the specified view according
+	 * to the specified parameters when started or {@code null} if the start and end radii values
+	 * are the same or the view is not attached to the window.
+	 *
+	 * @see #createAnimator(View, int, int, float, float)
+	 */
+	@UiThread @Nullable public static Animator createOutlineAnimator(
+			@NonNull final View view,
+			final float centerX,
+			final float centerY,
+			@FloatRange(from = 0) final float radiusStart,
+			@FloatRange(from = 0) final float radiusEnd,
+			@Shape final int shape,
+			@FloatRange(from = 0) final float cornerRadius
+	) {
+		if (!TransitionUtils.isViewAttachedToWindow(view) || radiusStart == radiusEnd) {
+			return null;
+		}
+		final OutlineRevealProvider provider = new OutlineRevealProvider(centerX, centerY, shape, cornerRadius);
+		provider.fullRadius = calculateRadius(
+				Math.max(Math.abs(centerX), Math.abs(view.getWidth() - centerX)),
+				Math.max(Math.abs(centerY), Math.abs(view.getHeight() - centerY))
+		);
+		provider.radius = radiusStart;
+		final ValueAnimator animator = ValueAnimator.ofFloat(radiusStart, radiusEnd);
+		final OutlineRevealListener listener = new OutlineRevealListener(view, provider, radiusStart, radiusEnd);
+		animator.addUpdateListener(listener);
+		animator.addListener(listener);
+		final AnimatorWrapper animatorWrapper = new OutlineAnimatorWrapper(animator, Math.abs(radiusEnd - radiusStart));
 		animatorWrapper.setInterpolator(INTERPOLATOR);
-		animatorWrapper.removeFeature(AnimatorWrapper.PAUSE | AnimatorWrapper.RESUME);
 		return animatorWrapper;
 	}
 
+	/**
+	 * Calculates duration of a reveal animation which animates radius over the specified <var>distance</var>
+	 * with the specified <var>speed</var>.
+	 *
+	 * @param distance The distance of radii in pixels.
+	 * @param speed    The speed in pixels per second.
+	 * @return Duration in milliseconds.
+	 */
+	static long calculateDuration(@FloatRange(from = 0) final float distance, @FloatRange(from = 0, fromInclusive = false) final float speed) {
+		return Math.round(distance / speed * 1000);
+	}
+
 	/**
 	 * Sets a mode in which should this transition run.
 	 * <p>
@@ -434,6 +758,17 @@ public class Reveal extends Visibility {
 	 */
 	@Override public final void setMode(@RevealMode final int mode) {
 		this.mode = mode;
+		this.clearGeometryCache();
+	}
+
+	/**
+	 * Clears the cache with geometries calculated for the previous configuration of this transition.
+	 */
+	private void clearGeometryCache() {
+		// The cache is not initialized yet when this is invoked via setMode(int) from the super constructor.
+		if (geometryCache != null) {
+			this.geometryCache.clear();
+		}
 	}
 
 	/**
@@ -445,6 +780,180 @@ public class Reveal extends Visibility {
 		return mode;
 	}
 
+	/**
+	 * Sets a renderer which should this transition use to animate its target views.
+	 * <p>
+	 * Default value: <b>{@link #RENDERER_CIRCULAR}</b>
+	 *
+	 * @param renderer The desired renderer. One of {@link #RENDERER_CIRCULAR} or {@link #RENDERER_OUTLINE}.
+	 *
+	 * @see R.attr#transitionRevealRenderer ui:transitionRevealRenderer
+	 * @see #getRenderer()
+	 * @see #setShape(int)
+	 */
+	public void setRenderer(@Renderer final int renderer) {
+		this.renderer = renderer;
+	}
+
+	/**
+	 * Returns the renderer used by this transition to animate its target views.
+	 *
+	 * @return One of {@link #RENDERER_CIRCULAR} or {@link #RENDERER_OUTLINE}.
+	 *
+	 * @see #setRenderer(int)
+	 */
+	@Renderer public int getRenderer() {
+		return renderer;
+	}
+
+	/**
+	 * Sets a shape of the revealing area.
+	 * <p>
+	 * Shapes other than {@link #SHAPE_OVAL} are supported only by {@link #RENDERER_OUTLINE}. Circular
+	 * renderer always reveals views with a circle.
+	 * <p>
+	 * Default value: <b>{@link #SHAPE_OVAL}</b>
+	 *
+	 * @param shape The desired shape. One of {@link #SHAPE_OVAL}, {@link #SHAPE_RECT} or {@link #SHAPE_ROUND_RECT}.
+	 *
+	 * @see R.attr#transitionRevealShape ui:transitionRevealShape
+	 * @see #getShape()
+	 */
+	public void setShape(@Shape final int shape) {
+		this.shape = shape;
+	}
+
+	/**
+	 * Returns the shape of the revealing area.
+	 *
+	 * @return One of {@link #SHAPE_OVAL}, {@link #SHAPE_RECT} or {@link #SHAPE_ROUND_RECT}.
+	 *
+	 * @see #setShape(int)
+	 */
+	@Shape public int getShape() {
+		return shape;
+	}
+
+	/**
+	 * Sets a radius of corners of the revealing area used for {@link #SHAPE_ROUND_RECT} shape.
+	 * <p>
+	 * Default value: <b>{@code 0}</b>
+	 *
+	 * @param radius The desired radius in pixels.
+	 *
+	 * @see R.attr#transitionRevealCornerRadius ui:transitionRevealCornerRadius
+	 * @see #getCornerRadius()
+	 */
+	public void setCornerRadius(@FloatRange(from = 0) final float radius) {
+		this.cornerRadius = Math.max(0, radius);
+	}
+
+	/**
+	 * Returns the radius of corners of the revealing area.
+	 *
+	 * @return Corner radius in pixels.
+	 *
+	 * @see #setCornerRadius(float)
+	 */
+	@FloatRange(from = 0) public float getCornerRadius() {
+		return cornerRadius;
+	}
+
+	/**
+	 * Sets a boolean flag indicating whether this transition should reveal its target views via
+	 * theirs snapshots.
+	 * <p>
+	 * When enabled, each target view is drawn only once into a bitmap obtained from a pool shared
+	 * by all Reveal transitions. The reveal animation then runs on a view displaying that bitmap
+	 * which is added into overlay of the scene root, while the target view itself is hidden. The
+	 * target view is shown again and the bitmap is released back into the pool when the animation
+	 * ends. This may significantly reduce cost of each animation frame for views with complex
+	 * hierarchies, however content of such views is not updated during the animation.
+	 * <p>
+	 * Default value: <b>{@code false}</b>
+	 *
+	 * @param enabled {@code True} to reveal via snapshots, {@code false} to reveal the views directly.
+	 *
+	 * @see R.attr#transitionRevealSnapshot ui:transitionRevealSnapshot
+	 * @see #isSnapshotEnabled()
+	 */
+	public void setSnapshotEnabled(final boolean enabled) {
+		this.snapshotEnabled = enabled;
+	}
+
+	/**
+	 * Returns the boolean flag indicating whether this transition reveals its target views via
+	 * theirs snapshots.
+	 *
+	 * @return {@code True} if revealing via snapshots is enabled, {@code false} otherwise.
+	 *
+	 * @see #setSnapshotEnabled(boolean)
+	 */
+	public boolean isSnapshotEnabled() {
+		return snapshotEnabled;
+	}
+
+	/**
+	 * Sets a speed of the reveal animation used to calculate its duration according to the actual
+	 * distance of radii animated for each target view. When specified, duration of each reveal
+	 * animation is {@code distance / speed} and any duration specified for this transition is ignored
+	 * for created animators, so smaller views or views with centers near theirs corners take fewer
+	 * frames to be revealed.
+	 * <p>
+	 * Default value: <b>{@code 0}</b>
+	 *
+	 * @param speed The desired speed in pixels per second or {@code 0} to use duration of this transition.
+	 *
+	 * @see R.attr#transitionRevealSpeed ui:transitionRevealSpeed
+	 * @see #getSpeed()
+	 */
+	public void setSpeed(@FloatRange(from = 0) final float speed) {
+		this.speed = Math.max(0, speed);
+	}
+
+	/**
+	 * Returns the speed of the reveal animation.
+	 *
+	 * @return Speed in pixels per second or {@code 0} if not specified.
+	 *
+	 * @see #setSpeed(float)
+	 */
+	@FloatRange(from = 0) public float getSpeed() {
+		return speed;
+	}
+
+	/**
+	 * Sets a policy determining whether target views should be rendered into a hardware layer while
+	 * they are revealed or concealed. When a view is rendered into a hardware layer, each frame of
+	 * the animation only clips the cached texture of the view instead of re-drawing its content.
+	 * <p>
+	 * This policy is not applied when revealing via snapshots as a snapshot is already a cached
+	 * bitmap of the target view.
+	 * <p>
+	 * Default value: <b>{@link LayerPolicy#NONE}</b>
+	 *
+	 * @param policy The desired policy. One of {@link LayerPolicy#NONE}, {@link LayerPolicy#ALWAYS}
+	 *               or {@link LayerPolicy#AUTO}.
+	 *
+	 * @see #getLayerPolicy()
+	 * @see #setSnapshotEnabled(boolean)
+	 */
+	public void setLayerPolicy(@LayerPolicy.Policy final int policy) {
+		this.layerPolicy = policy;
+	}
+
+	/**
+	 * Returns the policy determining whether target views are rendered into a hardware layer while
+	 * revealed.
+	 *
+	 * @return One of {@link LayerPolicy#NONE}, {@link LayerPolicy#ALWAYS} or {@link LayerPolicy#AUTO}.
+	 *
+	 * @see #setLayerPolicy(int)
+	 */
+	@LayerPolicy.Policy public int getLayerPolicy() {
+		return layerPolicy;
+	}
+
 	/**
 	 * Sets a start radius for animating circle of the reveal animation. Based on the current reveal
 	 * mode, this radius should be either smaller than the end radius specified via {@link #setEndRadius(Float)}
@@ -459,6 +968,7 @@ public class Reveal extends Visibility {
 	 */
 	public void setStartRadius(@Nullable final Float radius) {
 		this.startRadius = radius;
+		this.clearGeometryCache();
 	}
 
 	/**
@@ -487,6 +997,7 @@ public class Reveal extends Visibility {
 	 */
 	public void setEndRadius(@Nullable final Float radius) {
 		this.endRadius = radius;
+		this.clearGeometryCache();
 	}
 
 	/**
@@ -632,6 +1143,7 @@ public class Reveal extends Visibility {
 	 */
 	public void setCenterGravity(@Nullable final Integer gravity) {
 		this.centerGravity = gravity;
+		this.clearGeometryCache();
 	}
 
 	/**
@@ -665,6 +1177,7 @@ public class Reveal extends Visibility {
 	 */
 	public void setCenterHorizontalOffset(final int offset) {
 		this.centerHorizontalOffset = offset;
+		this.clearGeometryCache();
 	}
 
 	/**
@@ -693,6 +1206,7 @@ public class Reveal extends Visibility {
 	 */
 	public void setCenterVerticalOffset(final int offset) {
 		this.centerVerticalOffset = offset;
+		this.clearGeometryCache();
 	}
 
 	/**
@@ -720,6 +1234,7 @@ public class Reveal extends Visibility {
 	 */
 	public void setCenterX(@Nullable final Float centerX) {
 		this.centerX = centerX;
+		this.clearGeometryCache();
 	}
 
 	/**
@@ -748,6 +1263,7 @@ public class Reveal extends Visibility {
 	 */
 	public void setCenterY(@Nullable final Float centerY) {
 		this.centerY = centerY;
+		this.clearGeometryCache();
 	}
 
 	/**
@@ -783,6 +1299,7 @@ public class Reveal extends Visibility {
 	 */
 	public void setCenterXFraction(@FloatRange(from = 0, to = 1) final float fractionX) {
 		this.centerXFraction = Math.max(0, Math.min(1, fractionX));
+		this.clearGeometryCache();
 	}
 
 	/**
@@ -817,6 +1334,7 @@ public class Reveal extends Visibility {
 	 */
 	public void setCenterYFraction(@FloatRange(from = 0, to = 1) final float fractionY) {
 		this.centerYFraction = Math.max(0, Math.min(1, fractionY));
+		this.clearGeometryCache();
 	}
 
 	/**
@@ -830,6 +1348,52 @@ public class Reveal extends Visibility {
 		return centerYFraction;
 	}
 
+	/**
+	 */
+	@Override public Reveal clone() {
+		final Reveal clone = (Reveal) super.clone();
+		// Each clone needs its own geometry cache as clones may be configured differently.
+		clone.geometryCache = new GeometryCache(GEOMETRY_CACHE_SIZE);
+		return clone;
+	}
+
+	/**
+	 */
+	@Override public void captureStartValues(@NonNull final TransitionValues transitionValues) {
+		super.captureStartValues(transitionValues);
+		this.captureValues(transitionValues);
+	}
+
+	/**
+	 */
+	@Override public void captureEndValues(@NonNull final TransitionValues transitionValues) {
+		super.captureEndValues(transitionValues);
+		this.captureValues(transitionValues);
+	}
+
+	/**
+	 * Captures geometry of the reveal animation for the view attached to the specified values and
+	 * puts such geometry into the values map.
+	 *
+	 * @param values The values where to put captured values.
+	 */
+	private void captureValues(final TransitionValues values) {
+		values.values.put(PROPERTY_TRANSITION_GEOMETRY, resolveGeometry(values.view));
+	}
+
+	/**
+	 * Obtains geometry of the reveal animation captured in the specified <var>values</var> or resolves
+	 * a new one for the given <var>view</var> if there is no such geometry captured.
+	 *
+	 * @param values The values from which to obtain the captured geometry. May be {@code null}.
+	 * @param view   The view for which to resolve the geometry if there is none captured.
+	 * @return Geometry for the reveal animation of the view.
+	 */
+	private Geometry obtainGeometry(final TransitionValues values, final View view) {
+		final Object geometry = values == null ? null : values.values.get(PROPERTY_TRANSITION_GEOMETRY);
+		return geometry instanceof Geometry ? (Geometry) geometry : resolveGeometry(view);
+	}
+
 	/**
 	 */
 	@Override @Nullable public Animator onAppear(
@@ -838,11 +1402,16 @@ public class Reveal extends Visibility {
 			@Nullable final TransitionValues startValues,
 			@Nullable final TransitionValues endValues
 	) {
-		calculateTransitionProperties(view);
-		final Animator animator = createAnimatorFromInfo(view);
+		final Geometry geometry = obtainGeometry(endValues, view);
+		final Animator animator = snapshotEnabled ?
+				createSnapshotAnimator(sceneRoot, view, geometry) :
+				createAnimatorFromGeometry(view, view, geometry);
 		if (animator == null) {
 			return null;
 		}
+		if (!snapshotEnabled) {
+			LayerPolicy.apply(layerPolicy, animator, view);
+		}
 		animator.addListener(new TransitionAnimatorListener(view, startVisibility, endVisibility));
 		view.setVisibility(appearVisibility);
 		return animator;
@@ -856,61 +1425,92 @@ public class Reveal extends Visibility {
 			@Nullable final TransitionValues startValues,
 			@Nullable final TransitionValues endValues
 	) {
-		calculateTransitionProperties(view);
-		final Animator animator = createAnimatorFromInfo(view);
+		final Geometry geometry = obtainGeometry(startValues, view);
+		final Animator animator = snapshotEnabled ?
+				createSnapshotAnimator(sceneRoot, view, geometry) :
+				createAnimatorFromGeometry(view, view, geometry);
 		if (animator == null) {
 			return null;
 		}
+		if (!snapshotEnabled) {
+			LayerPolicy.apply(layerPolicy, animator, view);
+		}
 		animator.addListener(new TransitionAnimatorListener(view, startVisibility, endVisibility));
 		view.setVisibility(disappearVisibility);
 		return animator;
 	}
 
 	/**
-	 * Ensures that all necessary properties for this transition are calculated.
+	 * Resolves geometry of the reveal animation for the specified <var>view</var>. If there is already
+	 * cached geometry for a view with the same dimensions and layout direction, such geometry is
+	 * returned, otherwise a new one is calculated and cached.
 	 *
 	 * @param view The view to which will be the transition applied.
+	 * @return Geometry for the reveal animation of the view.
+	 *
+	 * @see #calculateTransitionProperties(View)
 	 */
-	@VisibleForTesting void calculateTransitionProperties(final View view) {
-		// First calculate center of the reveal transition.
-		final float[] center;
-		if (centerGravity == null) {
-			center = resolveCenter(view, centerXFraction, centerYFraction);
-		} else {
-			center = resolveGravityCenter(view);
+	@VisibleForTesting
+	@NonNull Geometry resolveGeometry(final View view) {
+		final int width = view.getWidth();
+		final int height = view.getHeight();
+		final int layoutDirection = view.getLayoutDirection();
+		Geometry geometry = geometryCache.get(width, height, layoutDirection);
+		if (geometry == null) {
+			geometry = calculateTransitionProperties(view);
+			geometryCache.put(width, height, layoutDirection, geometry);
 		}
-		final float centerX = this.centerX == null ? center[0] : this.centerX;
-		final float centerY = this.centerY == null ? center[1] : this.centerY;
-		info.centerX = centerX + centerHorizontalOffset;
-		info.centerY = centerY + centerVerticalOffset;
-		// Now calculate start with end radius of the reveal transition.
-		final float[] radii = calculateTransitionRadii(view);
-		info.startRadius = startRadius == null ? radii[0] : startRadius;
-		info.endRadius = endRadius == null ? radii[1] : endRadius;
+		return geometry;
 	}
 
 	/**
-	 * Returns info for the current reveal animation configuration.
-	 *
-	 * @return Current reveal info.
+	 * Calculates all necessary properties for this transition for the specified <var>view</var>.
 	 *
-	 * @see #calculateTransitionProperties(View)
+	 * @param view The view to which will be the transition applied.
+	 * @return New geometry with calculated properties.
 	 */
 	@VisibleForTesting
-	@NonNull final Info getInfo() {
-		return info;
+	@NonNull Geometry calculateTransitionProperties(final View view) {
+		// First calculate center of the reveal transition.
+		if (centerGravity == null) {
+			resolveCenter(view, centerXFraction, centerYFraction, centerBuffer);
+		} else {
+			resolveGravityCenter(view, centerBuffer);
+		}
+		final float centerX = (this.centerX == null ? centerBuffer[0] : this.centerX) + centerHorizontalOffset;
+		final float centerY = (this.centerY == null ? centerBuffer[1] : this.centerY) + centerVerticalOffset;
+		// Now calculate start with end radius of the reveal transition.
+		final float radius = calculateTransitionRadius(view, centerX, centerY);
+		final float startRadius;
+		final float endRadius;
+		switch (mode) {
+			case CONCEAL:
+				startRadius = radius;
+				endRadius = 0;
+				break;
+			case REVEAL:
+			default:
+				startRadius = 0;
+				endRadius = radius;
+				break;
+		}
+		return new Geometry(
+				centerX,
+				centerY,
+				this.startRadius == null ? startRadius : this.startRadius,
+				this.endRadius == null ? endRadius : this.endRadius
+		);
 	}
 
 	/**
 	 * Resolves center coordinates for the reveal animation of the specified <var>view</var> depending
 	 * on the current value of {@link #centerGravity}.
 	 *
-	 * @param view The view for which will be the reveal animation run.
-	 * @return An array with center coordinates: centerX[0], centerY[1].
+	 * @param view      The view for which will be the reveal animation run.
+	 * @param outCenter Array into which to store the resolved center coordinates: centerX[0], centerY[1].
 	 */
 	@SuppressLint("RtlHardcoded")
-	private float[] resolveGravityCenter(final View view) {
-		final float[] center = new float[]{0, 0};
+	private void resolveGravityCenter(final View view, final float[] outCenter) {
 		final int viewWidth = view.getWidth();
 		final int viewHeight = view.getHeight();
 		final int layoutDirection = view.getLayoutDirection();
@@ -920,109 +1520,152 @@ public class Reveal extends Visibility {
 		// Resolve center horizontal coordinate.
 		switch (horizontalGravity) {
 			case Gravity.CENTER_HORIZONTAL:
-				center[0] = viewWidth / 2f;
+				outCenter[0] = viewWidth / 2f;
 				break;
 			case Gravity.RIGHT:
-				center[0] = viewWidth;
+				outCenter[0] = viewWidth;
 				break;
 			case Gravity.LEFT:
 			default:
-				center[0] = 0;
+				outCenter[0] = 0;
 				break;
 		}
 		// Resolve center vertical coordinate.
 		switch (verticalGravity) {
 			case Gravity.CENTER_VERTICAL:
-				center[1] = viewHeight / 2f;
+				outCenter[1] = viewHeight / 2f;
 				break;
 			case Gravity.BOTTOM:
-				center[1] = viewHeight;
+				outCenter[1] = viewHeight;
 				break;
 			case Gravity.TOP:
 			default:
-				center[1] = 0;
-				break;
-		}
-		return center;
-	}
-
-	/**
-	 * Calculates start and end radius for the reveal animation of the specified <var>view</var>
-	 * depending on the current {@link #mode}.
-	 *
-	 * @param view The view for which reveal animation to calculate start and end radius.
-	 * @return An array with two radii: startRadius[0], endRadius[1].
-	 */
-	private float[] calculateTransitionRadii(final View view) {
-		final float startRadius;
-		final float endRadius;
-		switch (mode) {
-			case CONCEAL:
-				startRadius = calculateTransitionRadius(view);
-				endRadius = 0;
-				break;
-			case REVEAL:
-			default:
-				startRadius = 0;
-				endRadius = calculateTransitionRadius(view);
+				outCenter[1] = 0;
 				break;
 		}
-		return new float[]{startRadius, endRadius};
 	}
 
 	/**
 	 * Calculates radius for the reveal transition for the specified <var>view</var>.
-	 * The radius is calculated depending on how big distance should be traveled from the current
-	 * center coordinates to the outermost edge of the given view.
-	 * <p>
-	 * <b>Note, that this method assumes that center coordinates for the reveal transitions has
-	 * been already calculated and are presented in {@link #info}</b>.
+	 * The radius is exact distance from the center coordinates to the farthest corner of the given
+	 * view, so the animation does not animate over area that is already fully revealed.
 	 *
-	 * @param view The view for which reveal animation to calculate the requested radius.
+	 * @param view    The view for which reveal animation to calculate the requested radius.
+	 * @param centerX X coordinate of the center of the reveal animation.
+	 * @param centerY Y coordinate of the center of the reveal animation.
 	 * @return Calculated radius that should be used as end/start radius for reveal animation
 	 * depends on its current mode.
 	 */
-	private float calculateTransitionRadius(final View view) {
-		final float horizontalDistance;
-		final float verticalDistance;
-		final float centerX = info.centerX;
-		final float centerY = info.centerY;
+	private static float calculateTransitionRadius(final View view, final float centerX, final float centerY) {
+		// Distance to the farthest corner, also for centers offset outside of the view's bounds.
 		final float viewWidth = view.getWidth();
 		final float viewHeight = view.getHeight();
-		final float[] viewCenter = resolveCenter(view);
-		if (centerX >= viewCenter[0]) {
-			horizontalDistance = centerX / viewWidth * viewWidth;
-		} else {
-			horizontalDistance = (1 - (centerX / viewWidth)) * viewWidth;
+		return calculateRadius(
+				Math.max(Math.abs(centerX), Math.abs(viewWidth - centerX)),
+				Math.max(Math.abs(centerY), Math.abs(viewHeight - centerY))
+		);
+	}
+
+	/**
+	 * Creates a new instance of circular reveal Animator for the specified <var>view</var> with
+	 * reveal properties specified within the given <var>geometry</var>.
+	 * <p>
+	 * If there has been a previous circular reveal animation of the <var>transitioningView</var>
+	 * interrupted, the created circular animator continues from radius of such animation with its
+	 * duration scaled according to the remaining distance.
+	 *
+	 * @param view              The view for which to create the requested animator.
+	 * @param transitioningView The view that is transitioning. Same as the view unless the view is
+	 *                          its snapshot.
+	 * @param geometry          Geometry of the reveal animation.
+	 * @return Animator that will play circular reveal animation when started.
+	 */
+	@Nullable private Animator createAnimatorFromGeometry(final View view, final View transitioningView, final Geometry geometry) {
+		if (renderer == RENDERER_OUTLINE) {
+			final Animator animator = createOutlineAnimator(
+					view,
+					geometry.centerX,
+					geometry.centerY,
+					geometry.startRadius,
+					geometry.endRadius,
+					shape,
+					cornerRadius
+			);
+			if (animator instanceof OutlineAnimatorWrapper) {
+				((OutlineAnimatorWrapper) animator).setSpeed(speed);
+			}
+			return animator;
 		}
-		if (centerY >= viewCenter[1]) {
-			verticalDistance = centerY / viewHeight * viewHeight;
-		} else {
-			verticalDistance = (1 - (centerY / viewHeight)) * viewHeight;
+		float startRadius = geometry.startRadius;
+		final float interruptedRadius = INTERRUPTED_RADII.getFloat(transitioningView, NO_RADIUS);
+		if (interruptedRadius != NO_RADIUS) {
+			startRadius = interruptedRadius;
+			INTERRUPTED_RADII.reset(transitioningView);
 		}
-		return calculateRadius(horizontalDistance, verticalDistance);
+		if (!TransitionUtils.isViewAttachedToWindow(view) || startRadius == geometry.endRadius) {
+			return null;
+		}
+		// Wrapper is not handed out to any caller, so it may be pooled and recycled by TransitionAnimatorListener.
+		final RevealAnimatorWrapper animatorWrapper = RevealAnimatorWrapper.obtain(
+				view,
+				Math.round(geometry.centerX),
+				Math.round(geometry.centerY),
+				startRadius,
+				geometry.endRadius
+		);
+		animatorWrapper.setInterpolator(INTERPOLATOR);
+		animatorWrapper.setInterruptionView(transitioningView);
+		animatorWrapper.setReferenceDistance(Math.abs(geometry.endRadius - geometry.startRadius));
+		animatorWrapper.setSpeed(speed);
+		return animatorWrapper;
 	}
 
 	/**
-	 * Creates a new instance of circular reveal Animator for the specified <var>view</var> with current
-	 * reveal properties specified within {@link #info}.
+	 * Creates a new instance of Animator that reveals a snapshot of the specified <var>view</var>
+	 * added into overlay of the given <var>sceneRoot</var>.
 	 * <p>
-	 * <b>Note, that this animator will be already wrapped in {@link AnimatorWrapper} which will have
-	 * PAUSE and RESUME features disabled to ensure that there will be no exception thrown by the
-	 * Android system if it tries to pause already running Reveal transition where such situation
-	 * is not properly handled by the system at this time.</b>
+	 * If the view has no size, the animator is created for the view directly.
 	 *
-	 * @param view The view for which to create the requested animator.
-	 * @return Animator that will play circular reveal animation when started.
+	 * @param sceneRoot The root of the transition hierarchy.
+	 * @param view      The view of which snapshot to reveal.
+	 * @param geometry  Geometry of the reveal animation.
+	 * @return Animator that will reveal snapshot of the view when started.
+	 *
+	 * @see #setSnapshotEnabled(boolean)
 	 */
-	@Nullable private Animator createAnimatorFromInfo(final View view) {
-		return createAnimator(
-				view,
-				Math.round(info.centerX),
-				Math.round(info.centerY),
-				info.startRadius,
-				info.endRadius
+	@Nullable private Animator createSnapshotAnimator(final ViewGroup sceneRoot, final View view, final Geometry geometry) {
+		final int width = view.getWidth();
+		final int height = view.getHeight();
+		if (width <= 0 || height <= 0 || !TransitionUtils.isViewAttachedToWindow(view)) {
+			return createAnimatorFromGeometry(view, view, geometry);
+		}
+		final Bitmap bitmap = SNAPSHOT_POOL.obtain(width, height);
+		this.snapshotCanvas.setBitmap(bitmap);
+		view.draw(snapshotCanvas);
+		this.snapshotCanvas.setBitmap(null);
+		final ImageView snapshotView = SNAPSHOT_VIEW_POOL.obtain(view.getContext());
+		snapshotView.setImageBitmap(bitmap);
+		snapshotView.setVisibility(View.INVISIBLE);
+		view.getLocationOnScreen(viewLocationBuffer);
+		sceneRoot.getLocationOnScreen(rootLocationBuffer);
+		final int left = viewLocationBuffer[0] - rootLocationBuffer[0];
+		final int top = viewLocationBuffer[1] - rootLocationBuffer[1];
+		snapshotView.measure(
+				View.MeasureSpec.makeMeasureSpec(width, View.MeasureSpec.EXACTLY),
+				View.MeasureSpec.makeMeasureSpec(height, View.MeasureSpec.EXACTLY)
 		);
+		snapshotView.layout(left, top, left + width, top + height);
+		sceneRoot.getOverlay().add(snapshotView);
+		final Animator animator = createAnimatorFromGeometry(snapshotView, view, geometry);
+		if (animator == null) {
+			sceneRoot.getOverlay().remove(snapshotView);
+			snapshotView.setImageDrawable(null);
+			SNAPSHOT_VIEW_POOL.release(snapshotView);
+			SNAPSHOT_POOL.release(bitmap);
+			return null;
+		}
+		animator.addListener(new SnapshotAnimatorListener(sceneRoot, view, snapshotView, bitmap));
+		return animator;
 	}
 
 	/*
@@ -1030,25 +1673,492 @@ public class Reveal extends Visibility {
 	 */
 
 	/**
-	 * Class holding necessary values for the reveal transition that are exclusively associated with
-	 * the currently transitioning view.
+	 * Immutable configuration of {@link Reveal} transition parsed from XML attributes.
+	 *
+	 * @see #ATTRIBUTES_CACHE
 	 */
-	@VisibleForTesting static final class Info {
+	@VisibleForTesting static final class ParsedAttributes {
+
+		/**
+		 * Parsed mode, visibility flags, renderer and shape.
+		 */
+		final int mode, appearVisibility, disappearVisibility, startVisibility, endVisibility, renderer, shape;
+
+		/**
+		 * Parsed start and end radius, {@code null} if not specified.
+		 */
+		final Float startRadius, endRadius;
+
+		/**
+		 * Parsed corner radius, speed and center fractions.
+		 */
+		final float cornerRadius, speed, centerXFraction, centerYFraction;
+
+		/**
+		 * Parsed center gravity, {@code null} if not specified.
+		 */
+		final Integer centerGravity;
+
+		/**
+		 * Parsed offsets of the center.
+		 */
+		final int centerHorizontalOffset, centerVerticalOffset;
+
+		/**
+		 * Parsed flag indicating whether to reveal via snapshots.
+		 */
+		final boolean snapshotEnabled;
+
+		/**
+		 * Creates a new instance of ParsedAttributes with values of the given <var>reveal</var>
+		 * transition which has been just created from XML attributes.
+		 *
+		 * @param reveal The transition of which configuration to copy.
+		 */
+		ParsedAttributes(final Reveal reveal) {
+			this.mode = reveal.mode;
+			this.startRadius = reveal.startRadius;
+			this.endRadius = reveal.endRadius;
+			this.appearVisibility = reveal.appearVisibility;
+			this.disappearVisibility = reveal.disappearVisibility;
+			this.startVisibility = reveal.startVisibility;
+			this.endVisibility = reveal.endVisibility;
+			this.renderer = reveal.renderer;
+			this.shape = reveal.shape;
+			this.cornerRadius = reveal.cornerRadius;
+			this.speed = reveal.speed;
+			this.snapshotEnabled = reveal.snapshotEnabled;
+			this.centerGravity = reveal.centerGravity;
+			this.centerHorizontalOffset = reveal.centerHorizontalOffset;
+			this.centerVerticalOffset = reveal.centerVerticalOffset;
+			this.centerXFraction = reveal.centerXFraction;
+			this.centerYFraction = reveal.centerYFraction;
+		}
+	}
+
+	/**
+	 * Immutable class holding necessary values for the reveal transition that are associated with
+	 * a transitioning view. Geometry is captured for each target view along with its transition
+	 * values so it may be safely shared between views with the same dimensions.
+	 */
+	@VisibleForTesting static final class Geometry {
 
 		/**
 		 * Reveal circle radius.
 		 */
-		float startRadius, endRadius;
+		final float startRadius, endRadius;
 
 		/**
 		 * Reveal circle center coordinate.
 		 */
-		float centerX, centerY;
+		final float centerX, centerY;
+
+		/**
+		 * Creates a new instance of Geometry with the specified center coordinates and radii.
+		 *
+		 * @param centerX     X coordinate of the reveal circle center.
+		 * @param centerY     Y coordinate of the reveal circle center.
+		 * @param startRadius Radius of the reveal circle at the start of the animation.
+		 * @param endRadius   Radius of the reveal circle at the end of the animation.
+		 */
+		Geometry(final float centerX, final float centerY, final float startRadius, final float endRadius) {
+			this.centerX = centerX;
+			this.centerY = centerY;
+			this.startRadius = startRadius;
+			this.endRadius = endRadius;
+		}
+	}
+
+	/**
+	 * Small fixed size cache of {@link Geometry geometries} keyed by width, height and layout direction
+	 * of a transitioning view. The remaining parts of the key (gravity, offsets, fractions, radii and
+	 * mode) are represented by the current configuration of the owning transition, which clears this
+	 * cache whenever any of them changes.
+	 * <p>
+	 * Lookups are performed over primitive arrays so they do not allocate any objects.
+	 */
+	@VisibleForTesting static final class GeometryCache {
+
+		/**
+		 * Arrays with keys of the cached geometries.
+		 */
+		private final int[] widths, heights, layoutDirections;
+
+		/**
+		 * Array with cached geometries.
+		 */
+		private final Geometry[] geometries;
+
+		/**
+		 * Count of geometries currently stored in this cache.
+		 */
+		private int size;
+
+		/**
+		 * Index at which will be stored the next geometry once this cache is full.
+		 */
+		private int nextIndex;
+
+		/**
+		 * Creates a new instance of GeometryCache with the specified <var>capacity</var>.
+		 *
+		 * @param capacity Maximum count of geometries to be cached.
+		 */
+		GeometryCache(final int capacity) {
+			this.widths = new int[capacity];
+			this.heights = new int[capacity];
+			this.layoutDirections = new int[capacity];
+			this.geometries = new Geometry[capacity];
+		}
+
+		/**
+		 * Returns the geometry cached for the specified key.
+		 *
+		 * @param width           Width of the transitioning view.
+		 * @param height          Height of the transitioning view.
+		 * @param layoutDirection Layout direction of the transitioning view.
+		 * @return Cached geometry or {@code null} if there is no geometry cached for the key.
+		 */
+		@Nullable Geometry get(final int width, final int height, final int layoutDirection) {
+			for (int i = 0; i < size; i++) {
+				if (widths[i] == width && heights[i] == height && layoutDirections[i] == layoutDirection) {
+					return geometries[i];
+				}
+			}
+			return null;
+		}
+
+		/**
+		 * Caches the given <var>geometry</var> for the specified key. If this cache is full, the
+		 * oldest cached geometry is replaced.
+		 *
+		 * @param width           Width of the transitioning view.
+		 * @param height          Height of the transitioning view.
+		 * @param layoutDirection Layout direction of the transitioning view.
+		 * @param geometry        The geometry to be cached.
+		 */
+		void put(final int width, final int height, final int layoutDirection, @NonNull final Geometry geometry) {
+			final int index;
+			if (size < geometries.length) {
+				index = size++;
+			} else {
+				index = nextIndex;
+				this.nextIndex = (nextIndex + 1) % geometries.length;
+			}
+			this.widths[index] = width;
+			this.heights[index] = height;
+			this.layoutDirections[index] = layoutDirection;
+			this.geometries[index] = geometry;
+		}
+
+		/**
+		 * Removes all cached geometries.
+		 */
+		void clear() {
+			for (int i = 0; i < size; i++) {
+				this.geometries[i] = null;
+			}
+			this.size = 0;
+			this.nextIndex = 0;
+		}
+	}
+
+	/**
+	 * A {@link ViewOutlineProvider} used by {@link #RENDERER_OUTLINE} which provides outline of a
+	 * revealing area for the current radius of the reveal animation.
+	 */
+	@VisibleForTesting static final class OutlineRevealProvider extends ViewOutlineProvider {
+
+		/**
+		 * Center of the revealing area relative to the revealing view.
+		 */
+		final float centerX, centerY;
+
+		/**
+		 * Shape of the revealing area.
+		 */
+		final int shape;
+
+		/**
+		 * Radius of corners of the revealing area used for {@link #SHAPE_ROUND_RECT}.
+		 */
+		final float cornerRadius;
+
+		/**
+		 * Radius of a circle that covers the whole revealing view from the center.
+		 */
+		float fullRadius;
+
+		/**
+		 * Current radius of the revealing area.
+		 */
+		float radius;
+
+		/**
+		 * Creates a new instance of OutlineRevealProvider with the specified parameters.
+		 *
+		 * @param centerX      X coordinate of center of the revealing area.
+		 * @param centerY      Y coordinate of center of the revealing area.
+		 * @param shape        Shape of the revealing area.
+		 * @param cornerRadius Radius of corners of the revealing area.
+		 */
+		OutlineRevealProvider(final float centerX, final float centerY, final int shape, final float cornerRadius) {
+			super();
+			this.centerX = centerX;
+			this.centerY = centerY;
+			this.shape = shape;
+			this.cornerRadius = cornerRadius;
+		}
+
+		/**
+		 */
+		@Override public void getOutline(@NonNull final View view, @NonNull final Outline outline) {
+			switch (shape) {
+				case SHAPE_RECT:
+				case SHAPE_ROUND_RECT:
+					final float fraction = fullRadius == 0 ? 1 : radius / fullRadius;
+					final int left = Math.round(centerX - centerX * fraction);
+					final int top = Math.round(centerY - centerY * fraction);
+					final int right = Math.round(centerX + (view.getWidth() - centerX) * fraction);
+					final int bottom = Math.round(centerY + (view.getHeight() - centerY) * fraction);
+					if (shape == SHAPE_RECT) {
+						outline.setRect(left, top, right, bottom);
+					} else {
+						outline.setRoundRect(left, top, right, bottom, cornerRadius);
+					}
+					break;
+				case SHAPE_OVAL:
+				default:
+					// Outline is always a circle, so it may be used for clipping.
+					outline.setOval(
+							Math.round(centerX - radius),
+							Math.round(centerY - radius),
+							Math.round(centerX + radius),
+							Math.round(centerY + radius)
+					);
+					break;
+			}
+		}
+	}
+
+	/**
+	 * An {@link AnimatorWrapper} implementation used to wrap animator created via
+	 * {@link #createOutlineAnimator(View, float, float, float, float, int, float)} which supports
+	 * duration calculated from the animated distance.
+	 */
+	@VisibleForTesting static final class OutlineAnimatorWrapper extends AnimatorWrapper {
+
+		/**
+		 * Distance of radii animated by the wrapped animator.
+		 */
+		private final float distance;
+
+		/**
+		 * Speed in pixels per second used to calculate duration or {@code 0} if not specified.
+		 */
+		private float speed;
+
+		/**
+		 * Creates a new instance of OutlineAnimatorWrapper to wrap the given <var>animator</var>.
+		 *
+		 * @param animator The animator to be wrapped.
+		 * @param distance Distance of radii animated by the animator.
+		 */
+		OutlineAnimatorWrapper(final Animator animator, final float distance) {
+			super(animator);
+			this.distance = distance;
+		}
+
+		/**
+		 * Sets a speed used to calculate duration of the wrapped animator. When specified, any
+		 * duration set via {@link #setDuration(long)} is ignored.
+		 *
+		 * @param speed The desired speed in pixels per second or {@code 0} to not calculate duration.
+		 */
+		void setSpeed(final float speed) {
+			this.speed = speed;
+			if (speed > 0) {
+				super.setDuration(calculateDuration(distance, speed));
+			}
+		}
+
+		/**
+		 */
+		@Override public Animator setDuration(final long duration) {
+			return speed > 0 ? this : super.setDuration(duration);
+		}
+	}
+
+	/**
+	 * Listener attached to an animator created via {@link #createOutlineAnimator(View, float, float, float, float, int, float)}
+	 * which updates radius of the associated {@link OutlineRevealProvider} from the animated fraction
+	 * and invalidates outline of the revealing view for each animation frame, and attaches/detaches
+	 * such provider to/from the revealing view.
+	 * <p>
+	 * Radius is updated before the outline is invalidated within the same frame, so the outline is
+	 * never drawn for radius of the previous frame, and no radius value is boxed per frame.
+	 */
+	@VisibleForTesting static final class OutlineRevealListener extends AnimatorListenerAdapter implements ValueAnimator.AnimatorUpdateListener {
+
+		/**
+		 * View revealed by the animation.
+		 */
+		private final View view;
+
+		/**
+		 * Provider of which radius to update.
+		 */
+		private final OutlineRevealProvider provider;
+
+		/**
+		 * Radius of the revealing area at the start of the animation.
+		 */
+		private final float radiusStart;
+
+		/**
+		 * Difference between the end and the start radius of the revealing area.
+		 */
+		private final float radiusDelta;
+
+		/**
+		 * Outline provider and clipping flag of the view before the animation started.
+		 */
+		private ViewOutlineProvider previousProvider;
+		private boolean previousClipToOutline;
+
+		/**
+		 * Boolean flag indicating whether the provider is attached to the view.
+		 */
+		private boolean attached;
+
+		/**
+		 * Creates a new instance of OutlineRevealListener for the specified <var>view</var>.
+		 *
+		 * @param view        The view revealed by the animation.
+		 * @param provider    The provider used to provide outline for the view.
+		 * @param radiusStart Radius of the revealing area at the start of the animation.
+		 * @param radiusEnd   Radius of the revealing area at the end of the animation.
+		 */
+		OutlineRevealListener(final View view, final OutlineRevealProvider provider, final float radiusStart, final float radiusEnd) {
+			super();
+			this.view = view;
+			this.provider = provider;
+			this.radiusStart = radiusStart;
+			this.radiusDelta = radiusEnd - radiusStart;
+		}
+
+		/**
+		 */
+		@Override public void onAnimationStart(@NonNull final Animator animation) {
+			if (!attached) {
+				this.previousProvider = view.getOutlineProvider();
+				this.previousClipToOutline = view.getClipToOutline();
+				this.view.setOutlineProvider(provider);
+				this.view.setClipToOutline(true);
+				this.attached = true;
+			}
+		}
+
+		/**
+		 */
+		@Override public void onAnimationUpdate(@NonNull final ValueAnimator animation) {
+			this.provider.radius = radiusStart + radiusDelta * animation.getAnimatedFraction();
+			this.view.invalidateOutline();
+		}
+
+		/**
+		 */
+		@Override public void onAnimationEnd(@NonNull final Animator animation) {
+			if (attached) {
+				this.view.setOutlineProvider(previousProvider);
+				this.view.setClipToOutline(previousClipToOutline);
+				this.previousProvider = null;
+				this.attached = false;
+			}
+		}
+	}
+
+	/**
+	 * Listener used when revealing via snapshot which swaps the target view with its snapshot for
+	 * the duration of the reveal animation.
+	 */
+	@VisibleForTesting static final class SnapshotAnimatorListener extends AnimatorListenerAdapter {
+
+		/**
+		 * Root of the transition hierarchy into which overlay has been the snapshot view added.
+		 */
+		private final ViewGroup sceneRoot;
+
+		/**
+		 * The view of which snapshot is revealed.
+		 */
+		private final View view;
+
+		/**
+		 * View displaying the snapshot.
+		 */
+		private final ImageView snapshotView;
+
+		/**
+		 * Bitmap with snapshot of the view.
+		 */
+		private final Bitmap snapshot;
+
+		/**
+		 * Alpha of the view before it has been hidden.
+		 */
+		private float viewAlpha = 1;
+
+		/**
+		 * Boolean flag indicating whether the view is hidden and the snapshot shown.
+		 */
+		private boolean swapped;
+
+		/**
+		 * Creates a new instance of SnapshotAnimatorListener with the specified parameters.
+		 *
+		 * @param sceneRoot    The root into which overlay has been the snapshot view added.
+		 * @param view         The view of which snapshot is revealed.
+		 * @param snapshotView The view displaying the snapshot.
+		 * @param snapshot     The bitmap with snapshot of the view.
+		 */
+		SnapshotAnimatorListener(final ViewGroup sceneRoot, final View view, final ImageView snapshotView, final Bitmap snapshot) {
+			super();
+			this.sceneRoot = sceneRoot;
+			this.view = view;
+			this.snapshotView = snapshotView;
+			this.snapshot = snapshot;
+		}
+
+		/**
+		 */
+		@Override public void onAnimationStart(@NonNull final Animator animation) {
+			if (!swapped) {
+				this.swapped = true;
+				this.viewAlpha = view.getAlpha();
+				this.view.setAlpha(0);
+				this.snapshotView.setVisibility(View.VISIBLE);
+			}
+		}
+
+		/**
+		 */
+		@Override public void onAnimationEnd(@NonNull final Animator animation) {
+			this.sceneRoot.getOverlay().remove(snapshotView);
+			this.snapshotView.setImageDrawable(null);
+			if (swapped) {
+				this.view.setAlpha(viewAlpha);
+				this.swapped = false;
+			}
+			SNAPSHOT_VIEW_POOL.release(snapshotView);
+			SNAPSHOT_POOL.release(snapshot);
+		}
 	}
 
 	/**
 	 * Listener that is used by {@link Reveal} transition to change properties of the animating view
-	 * according to the received animation callbacks.
+	 * according to the received animation callbacks. Circular reveal wrappers created for the
+	 * transition are recycled by this listener once theirs animation ends.
 	 */
 	@VisibleForTesting static final class TransitionAnimatorListener extends AnimatorListenerAdapter {
 
@@ -1092,6 +2202,9 @@ public class Reveal extends Visibility {
 		 */
 		@Override public void onAnimationEnd(@NonNull final Animator animation) {
 			this.animatingView.setVisibility(visibilityEnd);
+			if (animation instanceof RevealAnimatorWrapper) {
+				((RevealAnimatorWrapper) animation).recycle();
+			}
 		}
 	}
 }
\ No newline at end of file
@@ -0,0 +1,527 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2018 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.transition;
+
+import android.animation.Animator;
+import android.animation.AnimatorListenerAdapter;
+import android.animation.TimeInterpolator;
+import android.os.Build;
+import android.view.View;
+import android.view.ViewAnimationUtils;
+import android.view.animation.AnimationUtils;
+
+import androidx.annotation.FloatRange;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.RequiresApi;
+import androidx.annotation.VisibleForTesting;
+import universum.studios.android.transition.util.AnimatorWrapper;
+import universum.studios.android.transition.util.TransitionUtils;
+
+/**
+ * An {@link AnimatorWrapper} implementation used to wrap circular reveal animator created via
+ * {@link ViewAnimationUtils#createCircularReveal(View, int, int, float, float)} which tracks the
+ * current radius of the reveal animation so it may be paused, resumed and continued when interrupted.
+ * <p>
+ * As the platform reveal animator does not support pausing, this wrapper pauses the animation by
+ * replacing the wrapped animator with an animator that holds the current radius and resumes it by
+ * replacing that animator with a new one that continues from the paused radius. Duration of such
+ * animator is scaled according to the remaining distance. When the animation is cancelled, its current
+ * radius is stored in {@link Reveal#INTERRUPTED_RADII} so a reveal animation of the same view created
+ * by a transition that interrupted this one may continue from it. The stored radius is invalidated
+ * once the cancelled animation has ended and the current message of the UI thread has been handled,
+ * so it is not used by an unrelated reveal animation started later.
+ * <p>
+ * Instances used internally by {@link Reveal} transition are obtained via {@link #obtain(View, int, int, float, float)}
+ * and released into a pool of the current thread when recycled via {@link #recycle()}. Instances handed
+ * out to callers are created via constructor and are never pooled.
+ *
+ * @author Martin Albedinsky
+ * @see Reveal#createAnimator(View, int, int, float, float)
+ */
+@RequiresApi(Build.VERSION_CODES.LOLLIPOP)
+final class RevealAnimatorWrapper extends AnimatorWrapper {
+
+	/*
+	 * Constants ===================================================================================
+	 */
+
+	/**
+	 * Log TAG.
+	 */
+	// private static final String TAG = "RevealAnimatorWrapper";
+
+	/**
+	 * Duration of an animator which holds the current radius while the reveal animation is paused.
+	 */
+	private static final long PAUSED_DURATION = 60 * 60 * 1000;
+
+	/**
+	 * Maximum count of recycled wrappers held in {@link #POOL} for a single thread.
+	 */
+	@VisibleForTesting static final int MAX_POOL_SIZE = 4;
+
+	/*
+	 * Interface ===================================================================================
+	 */
+
+	/*
+	 * Static members ==============================================================================
+	 */
+
+	/**
+	 * Pool of recycled wrappers used by {@link #obtain(View, int, int, float, float)}.
+	 */
+	@VisibleForTesting static final Pool<RevealAnimatorWrapper> POOL = new Pool<>(MAX_POOL_SIZE);
+
+	/*
+	 * Members =====================================================================================
+	 */
+
+	/**
+	 * View revealed by the animation.
+	 */
+	private View view;
+
+	/**
+	 * View for which is stored the current radius when the reveal animation is interrupted.
+	 */
+	private View interruptionView;
+
+	/**
+	 * Center of the reveal animation.
+	 */
+	private int centerX, centerY;
+
+	/**
+	 * Radius at the end of the reveal animation.
+	 */
+	private float endRadius;
+
+	/**
+	 * Listener used to track progress of the currently wrapped animator.
+	 */
+	private final TrackingListener trackingListener = new TrackingListener();
+
+	/**
+	 * Interpolator specified for this wrapper.
+	 */
+	private TimeInterpolator interpolator;
+
+	/**
+	 * Duration specified for this wrapper, that is duration of the reveal animation from zero to
+	 * the {@link #referenceDistance}.
+	 */
+	private long duration;
+
+	/**
+	 * Distance of radii which should take the whole {@link #duration}.
+	 */
+	private float referenceDistance;
+
+	/**
+	 * Speed in pixels per second used to calculate duration or {@code 0} if not specified.
+	 */
+	private float speed;
+
+	/**
+	 * Radius from which animates the currently wrapped animator.
+	 */
+	private float segmentRadius;
+
+	/**
+	 * Time when the currently wrapped animator has been started or {@code -1} if not started yet.
+	 */
+	private long segmentStartTime = -1;
+
+	/**
+	 * Start delay of the currently wrapped animator.
+	 */
+	private long segmentStartDelay;
+
+	/**
+	 * Duration of the currently wrapped animator.
+	 */
+	private long segmentDuration;
+
+	/**
+	 * Radius at which has been the reveal animation paused.
+	 */
+	private float pausedRadius;
+
+	/**
+	 * Boolean flag indicating whether the reveal animation is paused.
+	 */
+	private boolean paused;
+
+	/**
+	 * Boolean flag indicating whether the reveal animation has been cancelled.
+	 */
+	private boolean cancelled;
+
+	/*
+	 * Constructors ================================================================================
+	 */
+
+	/**
+	 * Creates a new instance of RevealAnimatorWrapper for the specified <var>view</var>.
+	 *
+	 * @param view        The view for which to create the reveal animator.
+	 * @param centerX     X coordinate of a center from where should the reveal animation start.
+	 * @param centerY     Y coordinate of a center from where should the reveal animation start.
+	 * @param startRadius Radius of the specified view at the start of the reveal animation.
+	 * @param endRadius   Radius of the specified view at the end of the reveal animation.
+	 */
+	RevealAnimatorWrapper(
+			@NonNull final View view,
+			final int centerX,
+			final int centerY,
+			final float startRadius,
+			final float endRadius
+	) {
+		super(ViewAnimationUtils.createCircularReveal(view, centerX, centerY, startRadius, endRadius));
+		this.setUp(view, centerX, centerY, startRadius, endRadius);
+	}
+
+	/*
+	 * Methods =====================================================================================
+	 */
+
+	/**
+	 * Obtains a wrapper for the specified <var>view</var>. The wrapper is taken from the pool of
+	 * recycled wrappers of the current thread or created if the pool is empty.
+	 *
+	 * @see #RevealAnimatorWrapper(View, int, int, float, float)
+	 */
+	@NonNull static RevealAnimatorWrapper obtain(
+			@NonNull final View view,
+			final int centerX,
+			final int centerY,
+			final float startRadius,
+			final float endRadius
+	) {
+		final RevealAnimatorWrapper wrapper = POOL.acquire();
+		if (wrapper == null) {
+			return new RevealAnimatorWrapper(view, centerX, centerY, startRadius, endRadius);
+		}
+		wrapper.reuse(ViewAnimationUtils.createCircularReveal(view, centerX, centerY, startRadius, endRadius));
+		wrapper.setUp(view, centerX, centerY, startRadius, endRadius);
+		return wrapper;
+	}
+
+	/**
+	 * Sets up state of this wrapper for reveal animation of the specified <var>view</var> played
+	 * by the currently wrapped animator.
+	 *
+	 * @see #RevealAnimatorWrapper(View, int, int, float, float)
+	 */
+	private void setUp(
+			final View view,
+			final int centerX,
+			final int centerY,
+			final float startRadius,
+			final float endRadius
+	) {
+		this.view = view;
+		this.interruptionView = view;
+		this.centerX = centerX;
+		this.centerY = centerY;
+		this.endRadius = endRadius;
+		this.interpolator = null;
+		this.speed = 0;
+		this.segmentRadius = startRadius;
+		this.segmentStartTime = -1;
+		this.segmentStartDelay = 0;
+		this.pausedRadius = 0;
+		this.paused = false;
+		this.cancelled = false;
+		this.referenceDistance = Math.abs(endRadius - startRadius);
+		this.duration = getWrappedAnimator().getDuration();
+		this.segmentDuration = duration;
+		getWrappedAnimator().addListener(trackingListener);
+	}
+
+	/**
+	 * Releases the revealed view and this wrapper into the pool used by {@link #obtain(View, int, int, float, float)}.
+	 */
+	@Override protected void onRecycle(@NonNull final Animator animator) {
+		animator.removeListener(trackingListener);
+		this.view = null;
+		this.interruptionView = null;
+		this.interpolator = null;
+		POOL.release(this);
+	}
+
+	/**
+	 * Sets a view for which should be the current radius stored when the reveal animation is interrupted,
+	 * and for which is such radius invalidated. This may be used when the revealed view is only a
+	 * stand-in for another view, like a snapshot of it.
+	 * <p>
+	 * Default value: <b>the revealed view</b>
+	 *
+	 * @param view The desired view.
+	 *
+	 * @see Reveal#INTERRUPTED_RADII
+	 */
+	void setInterruptionView(@NonNull final View view) {
+		this.interruptionView = view;
+	}
+
+	/**
+	 * Sets a distance of radii which should take the whole duration specified for this wrapper. Duration
+	 * of the wrapped animator is scaled according to ratio between the distance this wrapper actually
+	 * animates and the reference distance.
+	 * <p>
+	 * This may be used when the reveal animation continues from radius of an interrupted animation
+	 * so it does not take the whole duration.
+	 *
+	 * @param distance The desired reference distance.
+	 */
+	void setReferenceDistance(@FloatRange(from = 0) final float distance) {
+		this.referenceDistance = distance;
+		this.segmentDuration = scaleDuration(Math.abs(endRadius - segmentRadius));
+		super.setDuration(segmentDuration);
+	}
+
+	/**
+	 * Sets a speed used to calculate duration of the reveal animation from distance of the animated
+	 * radii. When specified, the duration specified for this wrapper is ignored.
+	 *
+	 * @param speed The desired speed in pixels per second or {@code 0} to scale the specified duration.
+	 *
+	 * @see Reveal#setSpeed(float)
+	 */
+	void setSpeed(@FloatRange(from = 0) final float speed) {
+		this.speed = speed;
+		this.segmentDuration = scaleDuration(Math.abs(endRadius - segmentRadius));
+		super.setDuration(segmentDuration);
+	}
+
+	/**
+	 * Scales duration specified for this wrapper according to the given <var>distance</var>.
+	 *
+	 * @param distance The distance of radii to be animated.
+	 * @return Scaled duration.
+	 */
+	private long scaleDuration(final float distance) {
+		if (speed > 0) {
+			return Reveal.calculateDuration(distance, speed);
+		}
+		if (referenceDistance <= 0 || duration < 0) {
+			return duration;
+		}
+		return Math.round(duration * Math.min(1, distance / referenceDistance));
+	}
+
+	/**
+	 */
+	@Override public Animator setDuration(final long duration) {
+		this.duration = duration;
+		this.segmentDuration = scaleDuration(Math.abs(endRadius - segmentRadius));
+		return super.setDuration(segmentDuration);
+	}
+
+	/**
+	 */
+	@Override public long getDuration() {
+		return duration;
+	}
+
+	/**
+	 */
+	@Override public void setInterpolator(@Nullable final TimeInterpolator interpolator) {
+		this.interpolator = interpolator;
+		super.setInterpolator(interpolator);
+	}
+
+	/**
+	 * Returns the current radius of the reveal animation.
+	 *
+	 * @return Current radius.
+	 */
+	float getCurrentRadius() {
+		if (paused) {
+			return pausedRadius;
+		}
+		if (segmentStartTime < 0) {
+			return segmentRadius;
+		}
+		final long elapsedTime = AnimationUtils.currentAnimationTimeMillis() - segmentStartTime - segmentStartDelay;
+		float fraction = segmentDuration <= 0 ? 1 : Math.max(0, Math.min(1, elapsedTime / (float) segmentDuration));
+		if (interpolator != null) {
+			fraction = interpolator.getInterpolation(fraction);
+		}
+		return segmentRadius + (endRadius - segmentRadius) * fraction;
+	}
+
+	/**
+	 * Pauses the reveal animation at its current radius.
+	 */
+	@Override public void pause() {
+		if (!hasFeature(PAUSE) || paused || !isStarted() || !TransitionUtils.isViewAttachedToWindow(view)) {
+			return;
+		}
+		final float radius = getCurrentRadius();
+		final Animator pausedAnimator = ViewAnimationUtils.createCircularReveal(view, centerX, centerY, radius, radius);
+		pausedAnimator.setDuration(PAUSED_DURATION);
+		pausedAnimator.addListener(trackingListener);
+		this.pausedRadius = radius;
+		this.paused = true;
+		this.replaceCurrentAnimator(pausedAnimator);
+		this.dispatchAnimationPause();
+	}
+
+	/**
+	 */
+	@Override public boolean isPaused() {
+		return paused;
+	}
+
+	/**
+	 * Resumes the reveal animation from the radius at which it has been paused.
+	 */
+	@Override public void resume() {
+		if (!(hasFeature(PAUSE) || hasFeature(RESUME)) || !paused) {
+			return;
+		}
+		final float radius = pausedRadius;
+		this.paused = false;
+		if (!TransitionUtils.isViewAttachedToWindow(view)) {
+			// Reveal cannot continue for detached view, so end the animator holding the paused radius
+			// which would otherwise keep running, along with the whole transition, for the paused duration.
+			getWrappedAnimator().end();
+			return;
+		}
+		final Animator resumedAnimator = ViewAnimationUtils.createCircularReveal(view, centerX, centerY, radius, endRadius);
+		this.segmentRadius = radius;
+		this.segmentDuration = applyTimeScale(scaleDuration(Math.abs(endRadius - radius)));
+		resumedAnimator.setDuration(segmentDuration);
+		resumedAnimator.setInterpolator(interpolator);
+		resumedAnimator.addListener(trackingListener);
+		this.replaceCurrentAnimator(resumedAnimator);
+		this.dispatchAnimationResume();
+	}
+
+	/**
+	 * Replaces the currently wrapped animator with the given one, cancels the current one and starts
+	 * the new one.
+	 *
+	 * @param animator The animator to replace the current one.
+	 */
+	private void replaceCurrentAnimator(final Animator animator) {
+		final Animator currentAnimator = getWrappedAnimator();
+		currentAnimator.removeListener(trackingListener);
+		replaceWrappedAnimator(animator);
+		// Cancel before start so the new animator is the one that clips the view.
+		currentAnimator.cancel();
+		animator.start();
+	}
+
+	/**
+	 */
+	@Override public void end() {
+		if (paused) {
+			resume();
+		}
+		super.end();
+	}
+
+	/*
+	 * Inner classes ===============================================================================
+	 */
+
+	/**
+	 * Listener used to track progress of the animators wrapped by {@link RevealAnimatorWrapper}.
+	 */
+	@VisibleForTesting final class TrackingListener extends AnimatorListenerAdapter {
+
+		/**
+		 */
+		@Override public void onAnimationStart(@NonNull final Animator animation) {
+			if (animation == getWrappedAnimator() && !paused) {
+				segmentStartTime = AnimationUtils.currentAnimationTimeMillis();
+				segmentStartDelay = animation.getStartDelay();
+				// Duration of the animator may have been scaled by the time scale.
+				segmentDuration = animation.getDuration();
+				cancelled = false;
+			}
+		}
+
+		/**
+		 */
+		@Override public void onAnimationCancel(@NonNull final Animator animation) {
+			if (animation == getWrappedAnimator()) {
+				cancelled = true;
+				Reveal.INTERRUPTED_RADII.putFloat(interruptionView, getCurrentRadius());
+			}
+		}
+
+		/**
+		 */
+		@Override public void onAnimationEnd(@NonNull final Animator animation) {
+			if (animation == getWrappedAnimator()) {
+				if (cancelled) {
+					// Reveal of the interrupting transition consumes the radius synchronously.
+					final float radius = Reveal.INTERRUPTED_RADII.getFloat(interruptionView, Reveal.NO_RADIUS);
+					view.post(new InterruptedRadiusInvalidator(interruptionView, radius));
+				} else {
+					Reveal.INTERRUPTED_RADII.reset(interruptionView);
+				}
+				paused = false;
+				segmentStartTime = -1;
+			}
+		}
+	}
+
+	/**
+	 * Runnable which invalidates radius stored in {@link Reveal#INTERRUPTED_RADII} for an interrupted
+	 * reveal animation, if that radius has not been consumed or replaced in the meantime.
+	 */
+	@VisibleForTesting static final class InterruptedRadiusInvalidator implements Runnable {
+
+		/**
+		 * View of which interrupted radius to invalidate.
+		 */
+		private final View view;
+
+		/**
+		 * Radius stored for the view when its animation has been interrupted.
+		 */
+		private final float radius;
+
+		/**
+		 * Creates a new instance of InterruptedRadiusInvalidator for the specified <var>view</var>.
+		 *
+		 * @param view   The view of which interrupted radius to invalidate.
+		 * @param radius The radius stored for the view.
+		 */
+		InterruptedRadiusInvalidator(final View view, final float radius) {
+			this.view = view;
+			this.radius = radius;
+		}
+
+		/**
+		 */
+		@Override public void run() {
+			if (Reveal.INTERRUPTED_RADII.getFloat(view, Reveal.NO_RADIUS) == radius) {
+				Reveal.INTERRUPTED_RADII.reset(view);
+			}
+		}
+	}
+}
@@ -0,0 +1,828 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2018 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.transition;
+
+import android.animation.Animator;
+import android.animation.ValueAnimator;
+import android.content.Context;
+import android.content.res.TypedArray;
+import android.graphics.Outline;
+import android.os.Build;
+import android.transition.TransitionValues;
+import android.transition.Visibility;
+import android.util.AttributeSet;
+import android.view.View;
+import android.view.ViewGroup;
+import android.view.ViewOutlineProvider;
+
+import androidx.annotation.FloatRange;
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.annotation.RequiresApi;
+import androidx.annotation.VisibleForTesting;
+import universum.studios.android.transition.util.AnimatorWrapper;
+
+/**
+ * A {@link Visibility} transition implementation that reveals or conceals <b>all children</b> of
+ * an appearing or disappearing view group using a <b>single</b> driver animator.
+ * <p>
+ * Unlike {@link Reveal}, which creates one circular reveal animator along with its wrapper and
+ * listener for each of its targets, RevealGroup creates only one {@link ValueAnimator} for the
+ * whole group. That animator advances progress of a single shared {@link ViewOutlineProvider}
+ * which clips each child to a circle computed from center and radii stored in primitive arrays.
+ * Count of created objects and cost of dispatching of each animation frame thus stay flat as the
+ * count of revealed children grows, which makes this transition suitable for revealing of larger
+ * collections of views, like items of a grid.
+ * <p>
+ * If the target view is not a view group or it has no children, the view itself is revealed.
+ * The shared outline provider is attached to each revealed view with its start radius already when
+ * the animator is created, so the views stay clipped also while the animator waits for its start
+ * delay. Outline provider and clipping flag of each revealed view are restored when the animation
+ * ends.
+ * <p>
+ * RevealGroup transition can be described in a resource file by using the {@code transition} tag
+ * with {@code class} attribute set to {@code universum.studios.android.transition.RevealGroup}.
+ * Only mode, start and end radius, visibility and center fraction attributes of
+ * {@link R.styleable#Transition_Reveal Reveal Attributes} are supported. Attributes for renderer,
+ * shape, corner radius, speed, snapshot, center gravity and center offsets are ignored.
+ *
+ * @author Martin Albedinsky
+ * @since 1.4
+ */
+@RequiresApi(Build.VERSION_CODES.LOLLIPOP)
+public class RevealGroup extends Visibility {
+
+	/*
+	 * Constants ===================================================================================
+	 */
+
+	/**
+	 * Log TAG.
+	 */
+	// private static final String TAG = "RevealGroup";
+
+	/**
+	 * Default value for center fraction.
+	 */
+	private static final float CENTER_FRACTION = 0.5f;
+
+	/*
+	 * Interface ===================================================================================
+	 */
+
+	/*
+	 * Static members ==============================================================================
+	 */
+
+	/**
+	 * Cache of configurations parsed from attributes of RevealGroup transitions inflated from XML.
+	 */
+	@VisibleForTesting static final ParsedAttributesCache<ParsedAttributes> ATTRIBUTES_CACHE = new ParsedAttributesCache<ParsedAttributes>();
+
+	/*
+	 * Members =====================================================================================
+	 */
+
+	/**
+	 * Mode determining whether we will run <b>reveal</b> or <b>conceal</b> animation.
+	 * Either {@link Reveal#REVEAL} or {@link Reveal#CONCEAL}.
+	 */
+	private int mode = Reveal.REVEAL;
+
+	/**
+	 * Fraction from the {@code [0.0, 1.0]} range used to calculate X coordinate for center of the
+	 * reveal/conceal animation of each child.
+	 */
+	private float centerXFraction = CENTER_FRACTION;
+
+	/**
+	 * Fraction from the {@code [0.0, 1.0]} range used to calculate Y coordinate for center of the
+	 * reveal/conceal animation of each child.
+	 */
+	private float centerYFraction = CENTER_FRACTION;
+
+	/**
+	 * Start radius for circle of the reveal/conceal animation of each child. If {@code null}, the
+	 * radius is calculated based on the current mode.
+	 */
+	private Float startRadius;
+
+	/**
+	 * End radius for circle of the reveal/conceal animation of each child. If {@code null}, the
+	 * radius is calculated based on the current mode.
+	 */
+	private Float endRadius;
+
+	/**
+	 * Visibility flag set to a revealing view whenever the reveal animation starts.
+	 */
+	private int startVisibility = View.VISIBLE;
+
+	/**
+	 * Visibility flag set to a revealing view whenever the reveal animation ends.
+	 */
+	private int endVisibility = View.VISIBLE;
+
+	/**
+	 * Visibility flag set to a revealing view whenever {@link #onAppear(ViewGroup, View, TransitionValues, TransitionValues)}
+	 * is invoked.
+	 */
+	private int appearVisibility = View.VISIBLE;
+
+	/**
+	 * Visibility flag set to a revealing view whenever {@link #onDisappear(ViewGroup, View, TransitionValues, TransitionValues)}
+	 * is invoked.
+	 */
+	private int disappearVisibility = View.VISIBLE;
+
+	/*
+	 * Constructors ================================================================================
+	 */
+
+	/**
+	 * Same as {@link #RevealGroup(int)} with {@link Reveal#REVEAL} mode.
+	 */
+	public RevealGroup() {
+		this(Reveal.REVEAL);
+	}
+
+	/**
+	 * Creates a new instance of RevealGroup transition with the specified <var>mode</var>.
+	 *
+	 * @param mode One of {@link Reveal#REVEAL} or {@link Reveal#CONCEAL}.
+	 */
+	public RevealGroup(@Reveal.RevealMode final int mode) {
+		super();
+		setMode(mode);
+	}
+
+	/**
+	 * Creates a new instance of RevealGroup transition with animation property values set from the
+	 * specified <var>attrs</var>.
+	 * <p>
+	 * Only mode, start and end radius, visibility and center fraction attributes of
+	 * {@link R.styleable#Transition_Reveal Reveal Attributes} are supported by this transition.
+	 *
+	 * @param context Context used to obtain values from the specified <var>attrs</var>.
+	 * @param attrs   Set of attributes from which to obtain property values for the reveal animation.
+	 */
+	public RevealGroup(@NonNull final Context context, @Nullable final AttributeSet attrs) {
+		super(context, attrs);
+		final ParsedAttributes parsedAttributes = ATTRIBUTES_CACHE.get(context, attrs);
+		if (parsedAttributes != null) {
+			applyParsedAttributes(parsedAttributes);
+			return;
+		}
+		final TypedArray attributes = context.obtainStyledAttributes(attrs, R.styleable.Transition_Reveal, 0, 0);
+		final int attributeCount = attributes.getIndexCount();
+		for (int i = 0; i < attributeCount; i++) {
+			final int attrIndex = attributes.getIndex(i);
+			if (attrIndex == R.styleable.Transition_Reveal_transitionRevealMode) {
+				setMode(attributes.getInteger(attrIndex, Reveal.REVEAL));
+			} else if (attrIndex == R.styleable.Transition_Reveal_transitionStartRadius) {
+				this.startRadius = (float) attributes.getDimensionPixelSize(attrIndex, 0);
+			} else if (attrIndex == R.styleable.Transition_Reveal_transitionEndRadius) {
+				this.endRadius = (float) attributes.getDimensionPixelSize(attrIndex, 0);
+			} else if (attrIndex == R.styleable.Transition_Reveal_transitionAppearVisibility) {
+				this.appearVisibility = attributes.getInteger(attrIndex, appearVisibility);
+			} else if (attrIndex == R.styleable.Transition_Reveal_transitionDisappearVisibility) {
+				this.disappearVisibility = attributes.getInteger(attrIndex, disappearVisibility);
+			} else if (attrIndex == R.styleable.Transition_Reveal_transitionStartVisibility) {
+				this.startVisibility = attributes.getInteger(attrIndex, startVisibility);
+			} else if (attrIndex == R.styleable.Transition_Reveal_transitionEndVisibility) {
+				this.endVisibility = attributes.getInteger(attrIndex, endVisibility);
+			} else if (attrIndex == R.styleable.Transition_Reveal_android_centerX) {
+				this.centerXFraction = attributes.getFraction(attrIndex, 1, 1, centerXFraction);
+			} else if (attrIndex == R.styleable.Transition_Reveal_android_centerY) {
+				this.centerYFraction = attributes.getFraction(attrIndex, 1, 1, centerYFraction);
+			}
+		}
+		attributes.recycle();
+		ATTRIBUTES_CACHE.put(context, attrs, new ParsedAttributes(this));
+	}
+
+	/*
+	 * Methods =====================================================================================
+	 */
+
+	/**
+	 * Applies the given <var>parsedAttributes</var> to this transition.
+	 *
+	 * @param parsedAttributes The attributes previously parsed for transition inflated from the same
+	 *                         XML attributes.
+	 */
+	private void applyParsedAttributes(final ParsedAttributes parsedAttributes) {
+		this.mode = parsedAttributes.mode;
+		this.startRadius = parsedAttributes.startRadius;
+		this.endRadius = parsedAttributes.endRadius;
+		this.appearVisibility = parsedAttributes.appearVisibility;
+		this.disappearVisibility = parsedAttributes.disappearVisibility;
+		this.startVisibility = parsedAttributes.startVisibility;
+		this.endVisibility = parsedAttributes.endVisibility;
+		this.centerXFraction = parsedAttributes.centerXFraction;
+		this.centerYFraction = parsedAttributes.centerYFraction;
+	}
+
+	/**
+	 * Sets a mode determining whether this transition should play reveal or conceal animation.
+	 * <p>
+	 * Default value: <b>{@link Reveal#REVEAL}</b>
+	 *
+	 * @param mode The desired mode. One of {@link Reveal#REVEAL} or {@link Reveal#CONCEAL}. Other
+	 *             modes are ignored.
+	 *
+	 * @see #getMode()
+	 */
+	@Override public final void setMode(@Reveal.RevealMode final int mode) {
+		switch (mode) {
+			case Reveal.REVEAL:
+			case Reveal.CONCEAL:
+				this.mode = mode;
+				break;
+		}
+	}
+
+	/**
+	 * Returns the mode determining whether this transition plays reveal or conceal animation.
+	 *
+	 * @return Either {@link Reveal#REVEAL} or {@link Reveal#CONCEAL}.
+	 *
+	 * @see #setMode(int)
+	 */
+	@Reveal.RevealMode public final int getMode() {
+		return mode;
+	}
+
+	/**
+	 * Sets a fraction from the {@code [0.0, 1.0]} range used to calculate X coordinate for center
+	 * of the reveal/conceal animation of each revealed view.
+	 * <p>
+	 * Default value: <b>{@code 0.5}</b>
+	 *
+	 * @param fractionX The desired fraction.
+	 *
+	 * @see #getCenterXFraction()
+	 */
+	public void setCenterXFraction(@FloatRange(from = 0, to = 1) final float fractionX) {
+		this.centerXFraction = Math.max(0, Math.min(1, fractionX));
+	}
+
+	/**
+	 * Returns the fraction used to calculate X coordinate for center of the reveal/conceal animation.
+	 *
+	 * @return Fraction from the {@code [0.0, 1.0]} range.
+	 *
+	 * @see #setCenterXFraction(float)
+	 */
+	@FloatRange(from = 0, to = 1) public float getCenterXFraction() {
+		return centerXFraction;
+	}
+
+	/**
+	 * Sets a fraction from the {@code [0.0, 1.0]} range used to calculate Y coordinate for center
+	 * of the reveal/conceal animation of each revealed view.
+	 * <p>
+	 * Default value: <b>{@code 0.5}</b>
+	 *
+	 * @param fractionY The desired fraction.
+	 *
+	 * @see #getCenterYFraction()
+	 */
+	public void setCenterYFraction(@FloatRange(from = 0, to = 1) final float fractionY) {
+		this.centerYFraction = Math.max(0, Math.min(1, fractionY));
+	}
+
+	/**
+	 * Returns the fraction used to calculate Y coordinate for center of the reveal/conceal animation.
+	 *
+	 * @return Fraction from the {@code [0.0, 1.0]} range.
+	 *
+	 * @see #setCenterYFraction(float)
+	 */
+	@FloatRange(from = 0, to = 1) public float getCenterYFraction() {
+		return centerYFraction;
+	}
+
+	/**
+	 * Sets a start radius for animating circle of the reveal animation of each revealed view. Based
+	 * on the current reveal mode, this radius should be either smaller than the end radius specified
+	 * via {@link #setEndRadius(Float)} or grater one otherwise there will be nothing to reveal/conceal.
+	 *
+	 * @param radius The desired radius in pixels. May be {@code null} to use the default approach
+	 *               to compute start radius based on the reveal mode.
+	 *
+	 * @see #getStartRadius()
+	 */
+	public void setStartRadius(@Nullable final Float radius) {
+		this.startRadius = radius;
+	}
+
+	/**
+	 * Returns the start radius for animating circle of the reveal animation.
+	 *
+	 * @return Start radius in pixels or {@code null} if the radius is computed based on the reveal mode.
+	 *
+	 * @see #setStartRadius(Float)
+	 */
+	@Nullable public Float getStartRadius() {
+		return startRadius;
+	}
+
+	/**
+	 * Sets an end radius for animating circle of the reveal animation of each revealed view. Based
+	 * on the current reveal mode, this radius should be either greater than the start radius specified
+	 * via {@link #setStartRadius(Float)} or smaller one otherwise there will be nothing to reveal/conceal.
+	 *
+	 * @param radius The desired radius in pixels. May be {@code null} to use the default approach
+	 *               to compute end radius based on the reveal mode.
+	 *
+	 * @see #getEndRadius()
+	 */
+	public void setEndRadius(@Nullable final Float radius) {
+		this.endRadius = radius;
+	}
+
+	/**
+	 * Returns the end radius for animating circle of the reveal animation.
+	 *
+	 * @return End radius in pixels or {@code null} if the radius is computed based on the reveal mode.
+	 *
+	 * @see #setEndRadius(Float)
+	 */
+	@Nullable public Float getEndRadius() {
+		return endRadius;
+	}
+
+	/**
+	 * Sets a visibility that will be set to a revealing view whenever the reveal animation starts.
+	 * <p>
+	 * Default value: <b>{@link View#VISIBLE}</b>
+	 *
+	 * @param visibility The desired visibility.
+	 *
+	 * @see #getStartVisibility()
+	 */
+	public void setStartVisibility(final int visibility) {
+		this.startVisibility = visibility;
+	}
+
+	/**
+	 * Returns the visibility that is set to a revealing view whenever the reveal animation starts.
+	 *
+	 * @return Visibility flag.
+	 *
+	 * @see #setStartVisibility(int)
+	 */
+	public int getStartVisibility() {
+		return startVisibility;
+	}
+
+	/**
+	 * Sets a visibility that will be set to a revealing view whenever the reveal animation ends.
+	 * <p>
+	 * Default value: <b>{@link View#VISIBLE}</b>
+	 *
+	 * @param visibility The desired visibility.
+	 *
+	 * @see #getEndVisibility()
+	 */
+	public void setEndVisibility(final int visibility) {
+		this.endVisibility = visibility;
+	}
+
+	/**
+	 * Returns the visibility that is set to a revealing view whenever the reveal animation ends.
+	 *
+	 * @return Visibility flag.
+	 *
+	 * @see #setEndVisibility(int)
+	 */
+	public int getEndVisibility() {
+		return endVisibility;
+	}
+
+	/**
+	 * Sets a visibility that will be set to an appearing view whenever
+	 * {@link #onAppear(ViewGroup, View, TransitionValues, TransitionValues)} is invoked.
+	 * <p>
+	 * Default value: <b>{@link View#VISIBLE}</b>
+	 *
+	 * @param visibility The desired visibility.
+	 *
+	 * @see #getAppearVisibility()
+	 */
+	public void setAppearVisibility(final int visibility) {
+		this.appearVisibility = visibility;
+	}
+
+	/**
+	 * Returns the visibility that is set to an appearing view.
+	 *
+	 * @return Visibility flag.
+	 *
+	 * @see #setAppearVisibility(int)
+	 */
+	public int getAppearVisibility() {
+		return appearVisibility;
+	}
+
+	/**
+	 * Sets a visibility that will be set to a disappearing view whenever
+	 * {@link #onDisappear(ViewGroup, View, TransitionValues, TransitionValues)} is invoked.
+	 * <p>
+	 * Default value: <b>{@link View#VISIBLE}</b>
+	 *
+	 * @param visibility The desired visibility.
+	 *
+	 * @see #getDisappearVisibility()
+	 */
+	public void setDisappearVisibility(final int visibility) {
+		this.disappearVisibility = visibility;
+	}
+
+	/**
+	 * Returns the visibility that is set to a disappearing view.
+	 *
+	 * @return Visibility flag.
+	 *
+	 * @see #setDisappearVisibility(int)
+	 */
+	public int getDisappearVisibility() {
+		return disappearVisibility;
+	}
+
+	/**
+	 */
+	@Override @Nullable public Animator onAppear(
+			@NonNull final ViewGroup sceneRoot,
+			@NonNull final View view,
+			@Nullable final TransitionValues startValues,
+			@Nullable final TransitionValues endValues
+	) {
+		final Animator animator = createGroupAnimator(view);
+		animator.addListener(new Reveal.TransitionAnimatorListener(view, startVisibility, endVisibility));
+		view.setVisibility(appearVisibility);
+		return animator;
+	}
+
+	/**
+	 */
+	@Override @Nullable public Animator onDisappear(
+			@NonNull final ViewGroup sceneRoot,
+			@NonNull final View view,
+			@Nullable final TransitionValues startValues,
+			@Nullable final TransitionValues endValues
+	) {
+		final Animator animator = createGroupAnimator(view);
+		animator.addListener(new Reveal.TransitionAnimatorListener(view, startVisibility, endVisibility));
+		view.setVisibility(disappearVisibility);
+		return animator;
+	}
+
+	/**
+	 * Creates a single driver animator that reveals or conceals all children of the specified
+	 * <var>view</var> or the view itself if it is not a view group or has no children.
+	 * <p>
+	 * The group outline provider is attached to all revealed views immediately with its start
+	 * radius, so the views do not draw fully revealed while the animator waits for its start delay.
+	 * <p>
+	 * <b>Note, that the driver animator will be already wrapped in {@link AnimatorWrapper}, so it
+	 * respects the time scale specified via {@link AnimatorWrapper#setTimeScale(float)}.</b>
+	 *
+	 * @param view The view for which to create the group animator.
+	 * @return Animator that will play the reveal animation for the whole group when started.
+	 */
+	@VisibleForTesting
+	@NonNull Animator createGroupAnimator(@NonNull final View view) {
+		final GroupOutlineProvider provider;
+		if (view instanceof ViewGroup && ((ViewGroup) view).getChildCount() > 0) {
+			final ViewGroup group = (ViewGroup) view;
+			final int childCount = group.getChildCount();
+			provider = new GroupOutlineProvider(childCount);
+			for (int i = 0; i < childCount; i++) {
+				addTarget(provider, group.getChildAt(i));
+			}
+		} else {
+			provider = new GroupOutlineProvider(1);
+			addTarget(provider, view);
+		}
+		provider.progress = 0;
+		provider.attach();
+		provider.invalidateOutlines();
+		final ValueAnimator animator = ValueAnimator.ofFloat(0, 1);
+		animator.setInterpolator(Reveal.INTERPOLATOR);
+		final GroupAnimatorListener listener = new GroupAnimatorListener(provider);
+		animator.addUpdateListener(listener);
+		final AnimatorWrapper animatorWrapper = new AnimatorWrapper(animator);
+		animatorWrapper.addListener(listener);
+		return animatorWrapper;
+	}
+
+	/**
+	 * Adds the specified <var>view</var> as target into the given group <var>provider</var> with
+	 * geometry calculated for the current configuration of this transition.
+	 *
+	 * @param provider The provider into which to add the target.
+	 * @param view     The view to be added as target.
+	 */
+	private void addTarget(final GroupOutlineProvider provider, final View view) {
+		final int width = view.getWidth();
+		final int height = view.getHeight();
+		final float centerX = width * centerXFraction;
+		final float centerY = height * centerYFraction;
+		final float radius = Reveal.calculateRadius(
+				Math.max(centerX, width - centerX),
+				Math.max(centerY, height - centerY)
+		);
+		final float startRadius;
+		final float endRadius;
+		if (mode == Reveal.CONCEAL) {
+			startRadius = radius;
+			endRadius = 0;
+		} else {
+			startRadius = 0;
+			endRadius = radius;
+		}
+		provider.add(
+				view,
+				centerX,
+				centerY,
+				this.startRadius == null ? startRadius : this.startRadius,
+				this.endRadius == null ? endRadius : this.endRadius
+		);
+	}
+
+	/*
+	 * Inner classes ===============================================================================
+	 */
+
+	/**
+	 * Immutable configuration of {@link RevealGroup} transition parsed from XML attributes.
+	 *
+	 * @see #ATTRIBUTES_CACHE
+	 */
+	@VisibleForTesting static final class ParsedAttributes {
+
+		/**
+		 * Parsed mode and visibility flags.
+		 */
+		final int mode, appearVisibility, disappearVisibility, startVisibility, endVisibility;
+
+		/**
+		 * Parsed start and end radius, {@code null} if not specified.
+		 */
+		final Float startRadius, endRadius;
+
+		/**
+		 * Parsed center fractions.
+		 */
+		final float centerXFraction, centerYFraction;
+
+		/**
+		 * Creates a new instance of ParsedAttributes with values of the given <var>revealGroup</var>
+		 * transition which has been just created from XML attributes.
+		 *
+		 * @param revealGroup The transition of which configuration to copy.
+		 */
+		ParsedAttributes(final RevealGroup revealGroup) {
+			this.mode = revealGroup.mode;
+			this.startRadius = revealGroup.startRadius;
+			this.endRadius = revealGroup.endRadius;
+			this.appearVisibility = revealGroup.appearVisibility;
+			this.disappearVisibility = revealGroup.disappearVisibility;
+			this.startVisibility = revealGroup.startVisibility;
+			this.endVisibility = revealGroup.endVisibility;
+			this.centerXFraction = revealGroup.centerXFraction;
+			this.centerYFraction = revealGroup.centerYFraction;
+		}
+	}
+
+	/**
+	 * A {@link ViewOutlineProvider} shared by all views revealed by a single group animation. Geometry
+	 * of each view is stored in primitive arrays and the view's index into those arrays is resolved
+	 * via a small open addressing identity table, so providing of an outline does not allocate.
+	 */
+	@VisibleForTesting static final class GroupOutlineProvider extends ViewOutlineProvider {
+
+		/**
+		 * Views revealed by the group animation.
+		 */
+		final View[] views;
+
+		/**
+		 * Geometry of the reveal animation for each of the revealed views.
+		 */
+		final float[] centersX, centersY, startRadii, endRadii;
+
+		/**
+		 * Outline providers and clipping flags of the revealed views before the animation started.
+		 */
+		private final ViewOutlineProvider[] previousProviders;
+		private final boolean[] previousClipFlags;
+
+		/**
+		 * Table mapping revealed views to indexes into the geometry arrays.
+		 */
+		private final ViewTable indexes;
+
+		/**
+		 * Count of views added into this provider.
+		 */
+		int size;
+
+		/**
+		 * Current interpolated progress of the reveal animation from the {@code [0.0, 1.0]} range.
+		 */
+		float progress;
+
+		/**
+		 * Creates a new instance of GroupOutlineProvider with the specified <var>capacity</var>.
+		 *
+		 * @param capacity Count of views that will be added into the provider.
+		 */
+		GroupOutlineProvider(final int capacity) {
+			super();
+			this.views = new View[capacity];
+			this.centersX = new float[capacity];
+			this.centersY = new float[capacity];
+			this.startRadii = new float[capacity];
+			this.endRadii = new float[capacity];
+			this.previousProviders = new ViewOutlineProvider[capacity];
+			this.previousClipFlags = new boolean[capacity];
+			this.indexes = new ViewTable(capacity, false);
+		}
+
+		/**
+		 * Adds the specified <var>view</var> into this provider with the given reveal geometry.
+		 *
+		 * @param view        The view to be revealed.
+		 * @param centerX     X coordinate of center of the reveal circle relative to the view.
+		 * @param centerY     Y coordinate of center of the reveal circle relative to the view.
+		 * @param startRadius Radius of the reveal circle at the start of the animation.
+		 * @param endRadius   Radius of the reveal circle at the end of the animation.
+		 */
+		void add(final View view, final float centerX, final float centerY, final float startRadius, final float endRadius) {
+			final int index = size++;
+			this.views[index] = view;
+			this.centersX[index] = centerX;
+			this.centersY[index] = centerY;
+			this.startRadii[index] = startRadius;
+			this.endRadii[index] = endRadius;
+			this.indexes.put(view, index);
+		}
+
+		/**
+		 * Returns index of the specified <var>view</var> into the geometry arrays.
+		 *
+		 * @param view The view of which index to resolve.
+		 * @return Index of the view or {@code -1} if the view has not been added into this provider.
+		 */
+		int indexOf(final View view) {
+			final long index = indexes.get(view);
+			return index == ViewTable.NO_VALUE ? -1 : (int) index;
+		}
+
+		/**
+		 * Returns radius of the reveal circle for a view at the specified <var>index</var> for the
+		 * current progress.
+		 *
+		 * @param index Index of the view.
+		 * @return Current radius of the reveal circle.
+		 */
+		float radiusAt(final int index) {
+			return startRadii[index] + (endRadii[index] - startRadii[index]) * progress;
+		}
+
+		/**
+		 * Attaches this provider to all added views while saving their current outline providers
+		 * and clipping flags. Views to which is this provider already attached are skipped.
+		 */
+		void attach() {
+			for (int i = 0; i < size; i++) {
+				final View view = views[i];
+				if (view.getOutlineProvider() == this) {
+					continue;
+				}
+				this.previousProviders[i] = view.getOutlineProvider();
+				this.previousClipFlags[i] = view.getClipToOutline();
+				view.setOutlineProvider(this);
+				view.setClipToOutline(true);
+			}
+		}
+
+		/**
+		 * Requests invalidation of outline for all added views.
+		 */
+		void invalidateOutlines() {
+			for (int i = 0; i < size; i++) {
+				this.views[i].invalidateOutline();
+			}
+		}
+
+		/**
+		 * Restores outline providers and clipping flags of all added views saved via {@link #attach()}.
+		 */
+		void detach() {
+			for (int i = 0; i < size; i++) {
+				final View view = views[i];
+				if (view.getOutlineProvider() == this) {
+					view.setOutlineProvider(previousProviders[i]);
+					view.setClipToOutline(previousClipFlags[i]);
+				}
+				this.previousProviders[i] = null;
+			}
+		}
+
+		/**
+		 */
+		@Override public void getOutline(@NonNull final View view, @NonNull final Outline outline) {
+			final int index = indexOf(view);
+			if (index == -1) {
+				BACKGROUND.getOutline(view, outline);
+				return;
+			}
+			final float radius = radiusAt(index);
+			final float centerX = centersX[index];
+			final float centerY = centersY[index];
+			outline.setOval(
+					Math.round(centerX - radius),
+					Math.round(centerY - radius),
+					Math.round(centerX + radius),
+					Math.round(centerY + radius)
+			);
+		}
+	}
+
+	/**
+	 * Listener attached to the driver animator of a group reveal animation which updates progress
+	 * of the associated {@link GroupOutlineProvider} for each animation frame.
+	 */
+	@VisibleForTesting static final class GroupAnimatorListener implements ValueAnimator.AnimatorUpdateListener, Animator.AnimatorListener {
+
+		/**
+		 * Provider of which progress to update.
+		 */
+		private final GroupOutlineProvider provider;
+
+		/**
+		 * Creates a new instance of GroupAnimatorListener for the specified <var>provider</var>.
+		 *
+		 * @param provider The provider of which progress should the listener update.
+		 */
+		GroupAnimatorListener(final GroupOutlineProvider provider) {
+			this.provider = provider;
+		}
+
+		/**
+		 */
+		@Override public void onAnimationStart(@NonNull final Animator animation) {
+			// Provider is already attached when the animator is created, unless the animator is
+			// restarted after its previous run ended.
+			this.provider.progress = 0;
+			this.provider.attach();
+			this.provider.invalidateOutlines();
+		}
+
+		/**
+		 */
+		@Override public void onAnimationUpdate(@NonNull final ValueAnimator animation) {
+			this.provider.progress = animation.getAnimatedFraction();
+			this.provider.invalidateOutlines();
+		}
+
+		/**
+		 */
+		@Override public void onAnimationEnd(@NonNull final Animator animation) {
+			this.provider.detach();
+			this.provider.invalidateOutlines();
+		}
+
+		/**
+		 */
+		@Override public void onAnimationCancel(@NonNull final Animator animation) {
+			// Outlines are restored in onAnimationEnd(...) which is also called for cancelled animation.
+		}
+
+		/**
+		 */
+		@Override public void onAnimationRepeat(@NonNull final Animator animation) {
+			// Not supported.
+		}
+	}
+}
@@ -0,0 +1,184 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2018 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.transition;
+
+import android.graphics.Bitmap;
+import android.graphics.Color;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.UiThread;
+
+/**
+ * A simple bounded pool of {@link Bitmap Bitmaps} used to take snapshots of views revealed by
+ * {@link Reveal} transition. Bitmaps released into the pool are reused for subsequent snapshots of
+ * views with the same dimensions. Once count of pooled bitmaps or their total size would exceed
+ * limits of the pool, the released bitmap is recycled instead, so memory held by the pool stays bounded.
+ * <p>
+ * The pool is not thread safe and is expected to be used only from the UI thread.
+ *
+ * @author Martin Albedinsky
+ */
+@UiThread
+final class SnapshotBitmapPool {
+
+	/*
+	 * Constants ===================================================================================
+	 */
+
+	/**
+	 * Log TAG.
+	 */
+	// private static final String TAG = "SnapshotBitmapPool";
+
+	/*
+	 * Interface ===================================================================================
+	 */
+
+	/*
+	 * Static members ==============================================================================
+	 */
+
+	/*
+	 * Members =====================================================================================
+	 */
+
+	/**
+	 * Array with pooled bitmaps.
+	 */
+	private final Bitmap[] bitmaps;
+
+	/**
+	 * Maximum total size in bytes of pooled bitmaps.
+	 */
+	private final int maxSizeInBytes;
+
+	/**
+	 * Count of currently pooled bitmaps.
+	 */
+	private int size;
+
+	/**
+	 * Total size in bytes of currently pooled bitmaps.
+	 */
+	private int sizeInBytes;
+
+	/*
+	 * Constructors ================================================================================
+	 */
+
+	/**
+	 * Creates a new instance of SnapshotBitmapPool with the specified limits.
+	 *
+	 * @param maxCount       Maximum count of bitmaps that may be held by the pool.
+	 * @param maxSizeInBytes Maximum total size in bytes of bitmaps that may be held by the pool.
+	 */
+	SnapshotBitmapPool(final int maxCount, final int maxSizeInBytes) {
+		this.bitmaps = new Bitmap[maxCount];
+		this.maxSizeInBytes = maxSizeInBytes;
+	}
+
+	/*
+	 * Methods =====================================================================================
+	 */
+
+	/**
+	 * Obtains a bitmap with the specified dimensions either from the pool or a newly created one if
+	 * there is no such bitmap pooled. A pooled bitmap is cleared before it is returned.
+	 *
+	 * @param width  The desired width of the bitmap.
+	 * @param height The desired height of the bitmap.
+	 * @return Bitmap with the requested dimensions ready to be drawn into.
+	 */
+	@NonNull Bitmap obtain(final int width, final int height) {
+		for (int i = size - 1; i >= 0; i--) {
+			final Bitmap bitmap = bitmaps[i];
+			if (bitmap.getWidth() == width && bitmap.getHeight() == height) {
+				this.removeAt(i);
+				bitmap.eraseColor(Color.TRANSPARENT);
+				return bitmap;
+			}
+		}
+		return Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+	}
+
+	/**
+	 * Releases the given <var>bitmap</var> into the pool so it may be reused. If the pool is full,
+	 * the bitmap is recycled instead.
+	 *
+	 * @param bitmap The bitmap to be released.
+	 */
+	void release(@NonNull final Bitmap bitmap) {
+		if (bitmap.isRecycled()) {
+			return;
+		}
+		final int bitmapSize = bitmap.getByteCount();
+		if (bitmapSize > maxSizeInBytes) {
+			bitmap.recycle();
+			return;
+		}
+		// Evict the oldest bitmaps so the released one fits into the pool.
+		while (size > 0 && (size == bitmaps.length || sizeInBytes + bitmapSize > maxSizeInBytes)) {
+			final Bitmap evictedBitmap = bitmaps[0];
+			this.removeAt(0);
+			evictedBitmap.recycle();
+		}
+		this.bitmaps[size++] = bitmap;
+		this.sizeInBytes += bitmapSize;
+	}
+
+	/**
+	 * Removes a bitmap at the specified <var>index</var> from the pool.
+	 *
+	 * @param index Index of the bitmap to be removed.
+	 */
+	private void removeAt(final int index) {
+		this.sizeInBytes -= bitmaps[index].getByteCount();
+		System.arraycopy(bitmaps, index + 1, bitmaps, index, size - index - 1);
+		this.bitmaps[--size] = null;
+	}
+
+	/**
+	 * Returns count of currently pooled bitmaps.
+	 *
+	 * @return Count of pooled bitmaps.
+	 */
+	int size() {
+		return size;
+	}
+
+	/**
+	 * Returns total size in bytes of currently pooled bitmaps.
+	 *
+	 * @return Size of pooled bitmaps in bytes.
+	 */
+	int sizeInBytes() {
+		return sizeInBytes;
+	}
+
+	/**
+	 * Recycles all pooled bitmaps.
+	 */
+	void clear() {
+		while (size > 0) {
+			final Bitmap bitmap = bitmaps[0];
+			this.removeAt(0);
+			bitmap.recycle();
+		}
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2018 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.transition;
+
+import android.content.Context;
+import android.widget.ImageView;
+
+import java.lang.ref.WeakReference;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.UiThread;
+
+/**
+ * A simple bounded pool of {@link ImageView ImageViews} used to display snapshots of views revealed
+ * by {@link Reveal} transition. Views released into the pool are reused for subsequent snapshots
+ * taken in the same {@link Context}. The pool references its views only weakly, so it does not keep
+ * alive the context in which they have been created.
+ * <p>
+ * The pool is not thread safe and is expected to be used only from the UI thread.
+ *
+ * @author Martin Albedinsky
+ */
+@UiThread
+final class SnapshotViewPool {
+
+	/*
+	 * Constants ===================================================================================
+	 */
+
+	/**
+	 * Log TAG.
+	 */
+	// private static final String TAG = "SnapshotViewPool";
+
+	/*
+	 * Interface ===================================================================================
+	 */
+
+	/*
+	 * Static members ==============================================================================
+	 */
+
+	/*
+	 * Members =====================================================================================
+	 */
+
+	/**
+	 * Array with weak references to pooled views.
+	 */
+	private final WeakReference[] views;
+
+	/**
+	 * Count of currently pooled views.
+	 */
+	private int size;
+
+	/*
+	 * Constructors ================================================================================
+	 */
+
+	/**
+	 * Creates a new instance of SnapshotViewPool with the specified limit.
+	 *
+	 * @param maxCount Maximum count of views that may be held by the pool.
+	 */
+	SnapshotViewPool(final int maxCount) {
+		this.views = new WeakReference[maxCount];
+	}
+
+	/*
+	 * Methods =====================================================================================
+	 */
+
+	/**
+	 * Obtains a view for the specified <var>context</var> either from the pool or a newly created one
+	 * if there is no such view pooled. Pooled views created for other contexts are dropped.
+	 *
+	 * @param context The context in which will be the view displayed.
+	 * @return View ready to display a snapshot.
+	 */
+	@SuppressWarnings("unchecked")
+	@NonNull ImageView obtain(@NonNull final Context context) {
+		while (size > 0) {
+			final ImageView view = ((WeakReference<ImageView>) views[--size]).get();
+			this.views[size] = null;
+			if (view != null && view.getContext() == context) {
+				return view;
+			}
+		}
+		return new ImageView(context);
+	}
+
+	/**
+	 * Releases the given <var>view</var> into the pool so it may be reused. If the pool is full,
+	 * the view is dropped instead.
+	 *
+	 * @param view The view to be released. Should be already detached from its parent and should
+	 *             not display any snapshot.
+	 * @return {@code True} if the view has been pooled, {@code false} otherwise.
+	 */
+	boolean release(@NonNull final ImageView view) {
+		if (size == views.length) {
+			return false;
+		}
+		this.views[size++] = new WeakReference<>(view);
+		return true;
+	}
+
+	/**
+	 * Returns count of currently pooled views.
+	 *
+	 * @return Count of pooled views.
+	 */
+	int size() {
+		return size;
+	}
+
+	/**
+	 * Drops all pooled views.
+	 */
+	void clear() {
+		while (size > 0) {
+			this.views[--size] = null;
+		}
+	}
+}
@@ -0,0 +1,225 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2018 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.transition;
+
+import android.animation.Animator;
+import android.os.Build;
+import android.view.View;
+import android.view.ViewGroup;
+
+import org.junit.Test;
+import org.robolectric.annotation.Config;
+import org.robolectric.shadows.ShadowLooper;
+
+import universum.studios.android.test.local.ViewTransitionTestCase;
+import universum.studios.android.transition.util.AnimatorWrapper;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * @author Martin Albedinsky
+ */
+@Config(sdk = Build.VERSION_CODES.LOLLIPOP)
+public final class RevealAnimatorWrapperTest extends ViewTransitionTestCase {
+
+	@Test public void testInstantiation() {
+		// Arrange:
+		final View view = createViewAttachedToWindow();
+		// Act:
+		final RevealAnimatorWrapper wrapper = new RevealAnimatorWrapper(view, 0, 0, 0, 100);
+		// Assert:
+		assertThat(wrapper.hasFeature(AnimatorWrapper.ALL), is(true));
+		assertThat(wrapper.isPaused(), is(false));
+		assertThat(wrapper.getCurrentRadius(), is(0f));
+	}
+
+	@Test public void testObtainRecycledWrapper() {
+		// Arrange:
+		RevealAnimatorWrapper.POOL.clear();
+		final View view = createViewAttachedToWindow();
+		final RevealAnimatorWrapper recycledWrapper = RevealAnimatorWrapper.obtain(view, 0, 0, 0, 100);
+		recycledWrapper.setSpeed(1000);
+		final Animator recycledAnimator = recycledWrapper.getWrappedAnimator();
+		recycledWrapper.recycle();
+		// Act:
+		final RevealAnimatorWrapper wrapper = RevealAnimatorWrapper.obtain(view, 0, 0, 50, 100);
+		// Assert:
+		assertThat(wrapper, is(sameInstance(recycledWrapper)));
+		assertThat(wrapper.isRecycled(), is(false));
+		assertThat(wrapper.getWrappedAnimator(), is(not(recycledAnimator)));
+		assertThat(wrapper.getCurrentRadius(), is(50f));
+		assertThat(wrapper.getDuration(), is(wrapper.getWrappedAnimator().getDuration()));
+		assertThat(wrapper.isPaused(), is(false));
+	}
+
+	@Test public void testRecycle() {
+		// Arrange:
+		RevealAnimatorWrapper.POOL.clear();
+		final View view = createViewAttachedToWindow();
+		final RevealAnimatorWrapper wrapper = RevealAnimatorWrapper.obtain(view, 0, 0, 0, 100);
+		final Animator animator = wrapper.getWrappedAnimator();
+		// Act:
+		wrapper.recycle();
+		// Assert:
+		assertThat(wrapper.isRecycled(), is(true));
+		assertThat(RevealAnimatorWrapper.POOL.size(), is(1));
+		assertThat(animator.getListeners() == null || animator.getListeners().isEmpty(), is(true));
+	}
+
+	@Test public void testSetDuration() {
+		// Arrange:
+		final View view = createViewAttachedToWindow();
+		final RevealAnimatorWrapper wrapper = new RevealAnimatorWrapper(view, 0, 0, 0, 100);
+		// Act:
+		wrapper.setDuration(400);
+		// Assert:
+		assertThat(wrapper.getDuration(), is(400L));
+		assertThat(wrapper.getWrappedAnimator().getDuration(), is(400L));
+	}
+
+	@Test public void testSetDurationWithReferenceDistance() {
+		// Arrange:
+		final View view = createViewAttachedToWindow();
+		final RevealAnimatorWrapper wrapper = new RevealAnimatorWrapper(view, 0, 0, 75, 100);
+		// Act:
+		wrapper.setReferenceDistance(100);
+		wrapper.setDuration(400);
+		// Assert:
+		assertThat(wrapper.getDuration(), is(400L));
+		assertThat(wrapper.getWrappedAnimator().getDuration(), is(100L));
+	}
+
+	@Test public void testSetDurationWithSpeed() {
+		// Arrange:
+		final View view = createViewAttachedToWindow();
+		final RevealAnimatorWrapper wrapper = new RevealAnimatorWrapper(view, 0, 0, 0, 250);
+		// Act:
+		wrapper.setSpeed(1000);
+		wrapper.setDuration(400);
+		// Assert:
+		assertThat(wrapper.getWrappedAnimator().getDuration(), is(250L));
+	}
+
+	@Test public void testPauseWhenNotStarted() {
+		// Arrange:
+		final View view = createViewAttachedToWindow();
+		final RevealAnimatorWrapper wrapper = new RevealAnimatorWrapper(view, 0, 0, 0, 100);
+		// Act:
+		wrapper.pause();
+		// Assert:
+		assertThat(wrapper.isPaused(), is(false));
+	}
+
+	@Test public void testResumeWhenNotPaused() {
+		// Arrange:
+		final View view = createViewAttachedToWindow();
+		final RevealAnimatorWrapper wrapper = new RevealAnimatorWrapper(view, 0, 0, 0, 100);
+		final Object animator = wrapper.getWrappedAnimator();
+		// Act:
+		wrapper.resume();
+		// Assert:
+		assertThat(wrapper.getWrappedAnimator(), is(animator));
+	}
+
+	@Test public void testResumeWhenViewDetached() {
+		// Arrange:
+		final View view = createViewAttachedToWindow();
+		final RevealAnimatorWrapper wrapper = new RevealAnimatorWrapper(view, 0, 0, 0, 100);
+		final Animator.AnimatorListener mockListener = mock(Animator.AnimatorListener.class);
+		wrapper.addListener(mockListener);
+		wrapper.start();
+		wrapper.pause();
+		final Animator pausedAnimator = wrapper.getWrappedAnimator();
+		((ViewGroup) view.getParent()).removeView(view);
+		// Act:
+		wrapper.resume();
+		// Assert:
+		assertThat(wrapper.isPaused(), is(false));
+		assertThat(wrapper.getWrappedAnimator(), is(sameInstance(pausedAnimator)));
+		assertThat(pausedAnimator.isRunning(), is(false));
+		verify(mockListener).onAnimationEnd(wrapper);
+	}
+
+	@Test public void testTrackingListenerOnAnimationCancel() {
+		// Arrange:
+		final View view = createViewAttachedToWindow();
+		final RevealAnimatorWrapper wrapper = new RevealAnimatorWrapper(view, 0, 0, 20, 100);
+		final RevealAnimatorWrapper.TrackingListener listener = wrapper.new TrackingListener();
+		// Act:
+		listener.onAnimationCancel(wrapper.getWrappedAnimator());
+		listener.onAnimationEnd(wrapper.getWrappedAnimator());
+		// Assert:
+		assertThat(Reveal.INTERRUPTED_RADII.getFloat(view, Reveal.NO_RADIUS), is(20f));
+	}
+
+	@Test public void testTrackingListenerOnAnimationCancelWithInterruptionView() {
+		// Arrange:
+		final View view = createViewAttachedToWindow();
+		final View interruptionView = new View(context);
+		final RevealAnimatorWrapper wrapper = new RevealAnimatorWrapper(view, 0, 0, 20, 100);
+		wrapper.setInterruptionView(interruptionView);
+		final RevealAnimatorWrapper.TrackingListener listener = wrapper.new TrackingListener();
+		// Act:
+		listener.onAnimationCancel(wrapper.getWrappedAnimator());
+		// Assert:
+		assertThat(Reveal.INTERRUPTED_RADII.getFloat(interruptionView, Reveal.NO_RADIUS), is(20f));
+		assertThat(Reveal.INTERRUPTED_RADII.getFloat(view, Reveal.NO_RADIUS), is(Reveal.NO_RADIUS));
+	}
+
+	@Test public void testTrackingListenerInvalidatesInterruptedRadius() {
+		// Arrange:
+		final View view = createViewAttachedToWindow();
+		final RevealAnimatorWrapper wrapper = new RevealAnimatorWrapper(view, 0, 0, 20, 100);
+		final RevealAnimatorWrapper.TrackingListener listener = wrapper.new TrackingListener();
+		listener.onAnimationCancel(wrapper.getWrappedAnimator());
+		listener.onAnimationEnd(wrapper.getWrappedAnimator());
+		// Act:
+		ShadowLooper.runUiThreadTasks();
+		// Assert:
+		assertThat(Reveal.INTERRUPTED_RADII.getFloat(view, Reveal.NO_RADIUS), is(Reveal.NO_RADIUS));
+	}
+
+	@Test public void testTrackingListenerOnAnimationEnd() {
+		// Arrange:
+		final View view = createViewAttachedToWindow();
+		Reveal.INTERRUPTED_RADII.putFloat(view, 20f);
+		final RevealAnimatorWrapper wrapper = new RevealAnimatorWrapper(view, 0, 0, 20, 100);
+		final RevealAnimatorWrapper.TrackingListener listener = wrapper.new TrackingListener();
+		// Act:
+		listener.onAnimationEnd(wrapper.getWrappedAnimator());
+		// Assert:
+		assertThat(Reveal.INTERRUPTED_RADII.getFloat(view, Reveal.NO_RADIUS), is(Reveal.NO_RADIUS));
+	}
+
+	@Test public void testInterruptedRadiusInvalidator() {
+		// Arrange:
+		final View view = new View(context);
+		Reveal.INTERRUPTED_RADII.putFloat(view, 20f);
+		// Act + Assert:
+		new RevealAnimatorWrapper.InterruptedRadiusInvalidator(view, 10f).run();
+		assertThat(Reveal.INTERRUPTED_RADII.getFloat(view, Reveal.NO_RADIUS), is(20f));
+		new RevealAnimatorWrapper.InterruptedRadiusInvalidator(view, 20f).run();
+		assertThat(Reveal.INTERRUPTED_RADII.getFloat(view, Reveal.NO_RADIUS), is(Reveal.NO_RADIUS));
+	}
+}
@@ -0,0 +1,303 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2018 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.transition;
+
+import android.animation.Animator;
+import android.animation.ValueAnimator;
+import android.os.Build;
+import android.util.AttributeSet;
+import android.view.View;
+import android.view.ViewOutlineProvider;
+import android.widget.FrameLayout;
+
+import org.junit.Test;
+import org.robolectric.Robolectric;
+import org.robolectric.annotation.Config;
+
+import universum.studios.android.test.local.ViewTransitionTestCase;
+import universum.studios.android.transition.util.AnimatorWrapper;
+
+import static org.hamcrest.CoreMatchers.instanceOf;
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
+
+/**
+ * @author Martin Albedinsky
+ */
+@Config(sdk = Build.VERSION_CODES.LOLLIPOP)
+public final class RevealGroupTest extends ViewTransitionTestCase {
+
+	@Test public void testInstantiation() {
+		// Act:
+		final RevealGroup transition = new RevealGroup();
+		// Assert:
+		assertThat(transition.getMode(), is(Reveal.REVEAL));
+		assertThat(transition.getCenterXFraction(), is(0.5f));
+		assertThat(transition.getCenterYFraction(), is(0.5f));
+		assertThat(transition.getStartRadius(), is(nullValue()));
+		assertThat(transition.getEndRadius(), is(nullValue()));
+		assertThat(transition.getStartVisibility(), is(View.VISIBLE));
+		assertThat(transition.getEndVisibility(), is(View.VISIBLE));
+		assertThat(transition.getAppearVisibility(), is(View.VISIBLE));
+		assertThat(transition.getDisappearVisibility(), is(View.VISIBLE));
+	}
+
+	@Test public void testInstantiationWithMode() {
+		// Act:
+		final RevealGroup transition = new RevealGroup(Reveal.CONCEAL);
+		// Assert:
+		assertThat(transition.getMode(), is(Reveal.CONCEAL));
+	}
+
+	@Test public void testInstantiationWithCachedAttributeSet() {
+		// Arrange:
+		RevealGroup.ATTRIBUTES_CACHE.clear();
+		final AttributeSet attrs = Robolectric.buildAttributeSet().addAttribute(android.R.attr.centerX, "25%").build();
+		final RevealGroup parsedTransition = new RevealGroup(context, attrs);
+		// Act:
+		final RevealGroup transition = new RevealGroup(context, attrs);
+		// Assert:
+		assertThat(RevealGroup.ATTRIBUTES_CACHE.size(), is(1));
+		assertThat(transition.getCenterXFraction(), is(parsedTransition.getCenterXFraction()));
+		assertThat(transition.getMode(), is(parsedTransition.getMode()));
+	}
+
+	@SuppressWarnings("WrongConstant")
+	@Test public void testSetUnsupportedMode() {
+		// Arrange:
+		final RevealGroup transition = new RevealGroup(Reveal.CONCEAL);
+		// Act:
+		transition.setMode(Reveal.REVEAL | Reveal.CONCEAL);
+		// Assert:
+		assertThat(transition.getMode(), is(Reveal.CONCEAL));
+	}
+
+	@Test public void testRadii() {
+		// Arrange:
+		final RevealGroup transition = new RevealGroup();
+		// Act + Assert:
+		transition.setStartRadius(10f);
+		transition.setEndRadius(20f);
+		assertThat(transition.getStartRadius(), is(10f));
+		assertThat(transition.getEndRadius(), is(20f));
+	}
+
+	@Test public void testCenterFractions() {
+		// Arrange:
+		final RevealGroup transition = new RevealGroup();
+		// Act + Assert:
+		transition.setCenterXFraction(0.25f);
+		transition.setCenterYFraction(1.5f);
+		assertThat(transition.getCenterXFraction(), is(0.25f));
+		assertThat(transition.getCenterYFraction(), is(1f));
+	}
+
+	@Test public void testCreateGroupAnimatorForGroup() {
+		// Arrange:
+		final FrameLayout group = new FrameLayout(context);
+		final View firstChild = createViewWithSize(100, 100);
+		final View secondChild = createViewWithSize(40, 30);
+		group.addView(firstChild);
+		group.addView(secondChild);
+		final RevealGroup transition = new RevealGroup();
+		// Act:
+		final Animator animator = transition.createGroupAnimator(group);
+		// Assert:
+		assertThat(animator, is(instanceOf(AnimatorWrapper.class)));
+		assertThat(((AnimatorWrapper) animator).getWrappedAnimator(), is(instanceOf(ValueAnimator.class)));
+		assertThat(firstChild.getClipToOutline(), is(true));
+		assertThat(secondChild.getClipToOutline(), is(true));
+		assertThat(firstChild.getOutlineProvider(), is(instanceOf(RevealGroup.GroupOutlineProvider.class)));
+		assertThat(secondChild.getOutlineProvider(), is(sameInstance(firstChild.getOutlineProvider())));
+		final RevealGroup.GroupOutlineProvider provider = (RevealGroup.GroupOutlineProvider) firstChild.getOutlineProvider();
+		assertThat(provider.size, is(2));
+		assertThat(provider.indexOf(firstChild), is(0));
+		assertThat(provider.indexOf(secondChild), is(1));
+		assertThat(provider.indexOf(group), is(-1));
+		assertThat(provider.centersX[1], is(20f));
+		assertThat(provider.centersY[1], is(15f));
+		assertThat(provider.radiusAt(1), is(0f));
+		provider.progress = 1;
+		assertThat(provider.radiusAt(1), is(Reveal.calculateRadius(20f, 15f)));
+	}
+
+	@Test public void testCreateGroupAnimatorWithTimeScale() {
+		// Arrange:
+		AnimatorWrapper.setTimeScale(0.5f);
+		final View view = createViewWithSize(100, 50);
+		final RevealGroup transition = new RevealGroup();
+		final Animator animator = transition.createGroupAnimator(view);
+		// Act:
+		animator.setDuration(200L);
+		animator.setStartDelay(100L);
+		// Assert:
+		final Animator wrappedAnimator = ((AnimatorWrapper) animator).getWrappedAnimator();
+		assertThat(wrappedAnimator.getDuration(), is(100L));
+		assertThat(wrappedAnimator.getStartDelay(), is(50L));
+		AnimatorWrapper.setTimeScale(1f);
+	}
+
+	@Test public void testCreateGroupAnimatorForViewWithoutChildren() {
+		// Arrange:
+		final View view = createViewWithSize(100, 50);
+		final RevealGroup transition = new RevealGroup(Reveal.CONCEAL);
+		// Act:
+		transition.createGroupAnimator(view);
+		// Assert:
+		final RevealGroup.GroupOutlineProvider provider = (RevealGroup.GroupOutlineProvider) view.getOutlineProvider();
+		assertThat(provider.size, is(1));
+		assertThat(provider.indexOf(view), is(0));
+		assertThat(provider.radiusAt(0), is(Reveal.calculateRadius(50f, 25f)));
+		provider.progress = 1;
+		assertThat(provider.radiusAt(0), is(0f));
+	}
+
+	@Test public void testCreateGroupAnimatorWithRadii() {
+		// Arrange:
+		final View view = createViewWithSize(100, 50);
+		final RevealGroup transition = new RevealGroup();
+		transition.setStartRadius(10f);
+		transition.setEndRadius(20f);
+		// Act:
+		transition.createGroupAnimator(view);
+		// Assert:
+		final RevealGroup.GroupOutlineProvider provider = (RevealGroup.GroupOutlineProvider) view.getOutlineProvider();
+		assertThat(provider.radiusAt(0), is(10f));
+		provider.progress = 1;
+		assertThat(provider.radiusAt(0), is(20f));
+	}
+
+	@Test public void testCreateGroupAnimatorClipsViewsBeforeStart() {
+		// Arrange:
+		final View view = createViewWithSize(100, 50);
+		final RevealGroup transition = new RevealGroup();
+		// Act:
+		final Animator animator = transition.createGroupAnimator(view);
+		animator.setStartDelay(1000);
+		// Assert:
+		assertThat(view.getClipToOutline(), is(true));
+		final RevealGroup.GroupOutlineProvider provider = (RevealGroup.GroupOutlineProvider) view.getOutlineProvider();
+		assertThat(provider.progress, is(0f));
+		assertThat(provider.radiusAt(0), is(0f));
+		animator.getListeners().get(0).onAnimationStart(animator);
+		assertThat(view.getOutlineProvider(), is(sameInstance((ViewOutlineProvider) provider)));
+		animator.getListeners().get(0).onAnimationEnd(animator);
+		assertThat(view.getOutlineProvider(), is(not(sameInstance((ViewOutlineProvider) provider))));
+	}
+
+	@Test public void testOnAppear() {
+		// Arrange:
+		final FrameLayout group = new FrameLayout(context);
+		group.addView(createViewWithSize(10, 10));
+		final RevealGroup transition = new RevealGroup();
+		transition.setAppearVisibility(View.INVISIBLE);
+		transition.setStartVisibility(View.VISIBLE);
+		// Act:
+		final Animator animator = transition.onAppear(group, group, null, null);
+		// Assert:
+		assertThat(animator, is(instanceOf(AnimatorWrapper.class)));
+		assertThat(((AnimatorWrapper) animator).getWrappedAnimator(), is(instanceOf(ValueAnimator.class)));
+		assertThat(group.getVisibility(), is(View.INVISIBLE));
+		for (final Animator.AnimatorListener listener : animator.getListeners()) {
+			listener.onAnimationStart(animator);
+		}
+		assertThat(group.getVisibility(), is(View.VISIBLE));
+	}
+
+	@Test public void testOnDisappear() {
+		// Arrange:
+		final FrameLayout group = new FrameLayout(context);
+		group.addView(createViewWithSize(10, 10));
+		final RevealGroup transition = new RevealGroup(Reveal.CONCEAL);
+		transition.setEndVisibility(View.GONE);
+		// Act:
+		final Animator animator = transition.onDisappear(group, group, null, null);
+		// Assert:
+		assertThat(animator, is(instanceOf(AnimatorWrapper.class)));
+		assertThat(((AnimatorWrapper) animator).getWrappedAnimator(), is(instanceOf(ValueAnimator.class)));
+		assertThat(group.getVisibility(), is(View.VISIBLE));
+		for (final Animator.AnimatorListener listener : animator.getListeners()) {
+			listener.onAnimationEnd(animator);
+		}
+		assertThat(group.getVisibility(), is(View.GONE));
+	}
+
+	@Test public void testGroupOutlineProviderIdentityTable() {
+		// Arrange:
+		final int count = 300;
+		final View[] views = new View[count];
+		final RevealGroup.GroupOutlineProvider provider = new RevealGroup.GroupOutlineProvider(count);
+		for (int i = 0; i < count; i++) {
+			views[i] = createViewWithSize(i, i);
+			provider.add(views[i], i, i, 0, i);
+		}
+		// Act + Assert:
+		for (int i = 0; i < count; i++) {
+			assertThat(provider.indexOf(views[i]), is(i));
+		}
+		assertThat(provider.indexOf(createViewWithSize(1, 1)), is(-1));
+	}
+
+	@Test public void testGroupAnimatorListenerOnAnimationEnd() {
+		// Arrange:
+		final View view = createViewWithSize(10, 10);
+		final ViewOutlineProvider previousProvider = mock(ViewOutlineProvider.class);
+		view.setOutlineProvider(previousProvider);
+		view.setClipToOutline(false);
+		final RevealGroup.GroupOutlineProvider provider = new RevealGroup.GroupOutlineProvider(1);
+		provider.add(view, 5, 5, 0, 10);
+		final RevealGroup.GroupAnimatorListener listener = new RevealGroup.GroupAnimatorListener(provider);
+		final Animator animator = mock(Animator.class);
+		provider.attach();
+		listener.onAnimationStart(animator);
+		assertThat(view.getOutlineProvider(), is(not(previousProvider)));
+		// Act:
+		listener.onAnimationEnd(animator);
+		// Assert:
+		assertThat(view.getOutlineProvider(), is(previousProvider));
+		assertThat(view.getClipToOutline(), is(false));
+	}
+
+	@Test public void testGroupAnimatorListenerOnAnimationUpdate() {
+		// Arrange:
+		final View view = createViewWithSize(10, 10);
+		final RevealGroup.GroupOutlineProvider provider = new RevealGroup.GroupOutlineProvider(1);
+		provider.add(view, 5, 5, 0, 10);
+		final RevealGroup.GroupAnimatorListener listener = new RevealGroup.GroupAnimatorListener(provider);
+		final ValueAnimator animator = ValueAnimator.ofFloat(0, 1);
+		animator.setCurrentPlayTime(animator.getDuration() / 2);
+		// Act:
+		listener.onAnimationUpdate(animator);
+		// Assert:
+		assertThat(provider.progress, is(animator.getAnimatedFraction()));
+	}
+
+	private View createViewWithSize(int width, int height) {
+		final View view = new View(context);
+		view.setLeft(0);
+		view.setRight(width);
+		view.setTop(0);
+		view.setBottom(height);
+		return view;
+	}
+}
@@ -19,21 +19,41 @@
 package universum.studios.android.transition;
 
 import android.animation.Animator;
+import android.animation.ValueAnimator;
+import android.graphics.Bitmap;
 import android.os.Build;
+import android.transition.TransitionValues;
+import android.util.AttributeSet;
 import android.view.Gravity;
 import android.view.View;
+import android.view.ViewOutlineProvider;
 import android.widget.FrameLayout;
+import android.widget.ImageView;
 
 import org.junit.Test;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
+import org.robolectric.Robolectric;
 import org.robolectric.annotation.Config;
 
+import universum.studios.android.test.local.AllocationCounter;
 import universum.studios.android.test.local.ViewTransitionTestCase;
+import universum.studios.android.transition.util.AnimatorWrapper;
+import universum.studios.android.transition.util.LayerPolicy;
 
+import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.number.OrderingComparison.lessThan;
+import static org.hamcrest.number.OrderingComparison.lessThanOrEqualTo;
+import static org.junit.Assume.assumeTrue;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
 
 /**
  * @author Martin Albedinsky
@@ -74,6 +94,44 @@ public final class RevealTest extends ViewTransitionTestCase {
 		assertThat(reveal.getMode(), is(Reveal.REVEAL));
 	}
 
+	@Test public void testInstantiationWithVisibilityModeAttribute() {
+		// Arrange:
+		Reveal.ATTRIBUTES_CACHE.clear();
+		final AttributeSet attrs = Robolectric.buildAttributeSet().addAttribute(android.R.attr.transitionVisibilityMode, "mode_in").build();
+		// Act:
+		final Reveal reveal = new Reveal(context, attrs);
+		// Assert:
+		assertThat(reveal.getMode(), is(Reveal.REVEAL));
+		assertThat(reveal.resolveGeometry(createViewWithSize(100, 100)), is(notNullValue()));
+	}
+
+	@Test public void testInstantiationWithCachedAttributeSet() {
+		// Arrange:
+		Reveal.ATTRIBUTES_CACHE.clear();
+		final AttributeSet attrs = Robolectric.buildAttributeSet().addAttribute(android.R.attr.centerX, "25%").build();
+		final Reveal parsedReveal = new Reveal(context, attrs);
+		// Act:
+		final Reveal reveal = new Reveal(context, attrs);
+		// Assert:
+		assertThat(Reveal.ATTRIBUTES_CACHE.size(), is(1));
+		assertThat(reveal.getCenterXFraction(), is(parsedReveal.getCenterXFraction()));
+	}
+
+	@Test public void testClone() {
+		// Arrange:
+		final Reveal reveal = new Reveal(Reveal.REVEAL);
+		final View view = createViewWithSize(100, 100);
+		final Reveal clone = reveal.clone();
+		clone.setMode(Reveal.CONCEAL);
+		// Act:
+		final Reveal.Geometry geometry = reveal.resolveGeometry(view);
+		final Reveal.Geometry cloneGeometry = clone.resolveGeometry(view);
+		// Assert:
+		assertThat(cloneGeometry, is(not(sameInstance(geometry))));
+		assertThat(cloneGeometry.startRadius, is(geometry.endRadius));
+		assertThat(cloneGeometry.endRadius, is(geometry.startRadius));
+	}
+
 	@Test public void testCalculateRadius() {
 		// Arrange:
 		final View view = new View(context);
@@ -124,6 +182,22 @@ public final class RevealTest extends ViewTransitionTestCase {
 		assertThat(centerPosition[1], is(view.getY() + center[1]));
 	}
 
+	@Test public void testResolveCenterPositionIntoArray() {
+		// Arrange:
+		final View view = new View(context);
+		view.setLeft(10);
+		view.setRight(110);
+		view.setTop(20);
+		view.setBottom(220);
+		final float[] outPosition = new float[2];
+		// Act:
+		final float[] centerPosition = Reveal.resolveCenterPosition(view, 0.25f, 0.75f, outPosition);
+		// Assert:
+		assertThat(centerPosition, is(sameInstance(outPosition)));
+		assertThat(centerPosition[0], is(view.getX() + view.getWidth() * 0.25f));
+		assertThat(centerPosition[1], is(view.getY() + view.getHeight() * 0.75f));
+	}
+
 	@Test public void testResolveCenter() {
 		// Arrange:
 		final View view = new View(context);
@@ -156,6 +230,22 @@ public final class RevealTest extends ViewTransitionTestCase {
 		assertThat(center[1], is(view.getHeight() * 0.80f));
 	}
 
+	@Test public void testResolveCenterIntoArray() {
+		// Arrange:
+		final View view = new View(context);
+		view.setLeft(0);
+		view.setRight(100);
+		view.setTop(0);
+		view.setBottom(200);
+		final float[] outCenter = new float[]{-1, -1};
+		// Act:
+		final float[] center = Reveal.resolveCenter(view, 0.25f, 0.80f, outCenter);
+		// Assert:
+		assertThat(center, is(sameInstance(outCenter)));
+		assertThat(center[0], is(view.getWidth() * 0.25f));
+		assertThat(center[1], is(view.getHeight() * 0.80f));
+	}
+
 	@Test public void testCreateAnimator() {
 		// Arrange:
 		final View view = createViewAttachedToWindow();
@@ -163,6 +253,29 @@ public final class RevealTest extends ViewTransitionTestCase {
 		assertThat(Reveal.createAnimator(view, 0, 100), is(notNullValue()));
 	}
 
+	@Test public void testCreateAnimatorSupportsPauseAndResume() {
+		// Arrange:
+		final View view = createViewAttachedToWindow();
+		// Act:
+		final Animator animator = Reveal.createAnimator(view, 0, 100);
+		// Assert:
+		assertThat(animator, is(instanceOf(RevealAnimatorWrapper.class)));
+		assertThat(((AnimatorWrapper) animator).hasFeature(AnimatorWrapper.PAUSE | AnimatorWrapper.RESUME), is(true));
+	}
+
+	@Test public void testCreateAnimatorDoesNotUsePool() {
+		// Arrange:
+		RevealAnimatorWrapper.POOL.clear();
+		final View view = createViewAttachedToWindow();
+		final RevealAnimatorWrapper recycledWrapper = RevealAnimatorWrapper.obtain(view, 0, 0, 0, 100);
+		recycledWrapper.recycle();
+		// Act:
+		final Animator animator = Reveal.createAnimator(view, 0, 100);
+		// Assert:
+		assertThat(animator, is(not(sameInstance((Animator) recycledWrapper))));
+		assertThat(RevealAnimatorWrapper.POOL.size(), is(1));
+	}
+
 	@Test public void testCreateAnimatorForCenterCoordinates() {
 		// Arrange:
 		final View view = createViewAttachedToWindow();
@@ -177,6 +290,34 @@ public final class RevealTest extends ViewTransitionTestCase {
 		assertThat(Reveal.createAnimator(view, 100f, 100f), is(nullValue()));
 	}
 
+	@Test public void testCreateOutlineAnimator() {
+		// Arrange:
+		final View view = createViewAttachedToWindow();
+		// Act:
+		final Animator animator = Reveal.createOutlineAnimator(view, 0, 0, 0, 100, Reveal.SHAPE_RECT, 0);
+		// Assert:
+		assertThat(animator, is(instanceOf(AnimatorWrapper.class)));
+		final AnimatorWrapper animatorWrapper = (AnimatorWrapper) animator;
+		assertThat(animatorWrapper.getWrappedAnimator(), is(instanceOf(ValueAnimator.class)));
+		assertThat(animatorWrapper.hasFeature(AnimatorWrapper.PAUSE), is(true));
+		assertThat(animatorWrapper.hasFeature(AnimatorWrapper.RESUME), is(true));
+		assertThat(animatorWrapper.getInterpolator(), is(Reveal.INTERPOLATOR));
+	}
+
+	@Test public void testCreateOutlineAnimatorWithSameStartAndEndRadii() {
+		// Arrange:
+		final View view = createViewAttachedToWindow();
+		// Act + Assert:
+		assertThat(Reveal.createOutlineAnimator(view, 0, 0, 100f, 100f, Reveal.SHAPE_OVAL, 0), is(nullValue()));
+	}
+
+	@Test public void testCreateOutlineAnimatorWithViewNotAttachedToWindow() {
+		// Arrange:
+		final View view = createViewNotAttachedToWindow();
+		// Act + Assert:
+		assertThat(Reveal.createOutlineAnimator(view, 0, 0, 0, 100f, Reveal.SHAPE_OVAL, 0), is(nullValue()));
+	}
+
 	@Test public void testMode() {
 		// Arrange:
 		final Reveal reveal = new Reveal();
@@ -187,6 +328,93 @@ public final class RevealTest extends ViewTransitionTestCase {
 		assertThat(reveal.getMode(), is(Reveal.REVEAL));
 	}
 
+	@Test public void testRenderer() {
+		// Arrange:
+		final Reveal reveal = new Reveal();
+		// Act + Assert:
+		assertThat(reveal.getRenderer(), is(Reveal.RENDERER_CIRCULAR));
+		reveal.setRenderer(Reveal.RENDERER_OUTLINE);
+		assertThat(reveal.getRenderer(), is(Reveal.RENDERER_OUTLINE));
+	}
+
+	@Test public void testShape() {
+		// Arrange:
+		final Reveal reveal = new Reveal();
+		// Act + Assert:
+		assertThat(reveal.getShape(), is(Reveal.SHAPE_OVAL));
+		reveal.setShape(Reveal.SHAPE_ROUND_RECT);
+		assertThat(reveal.getShape(), is(Reveal.SHAPE_ROUND_RECT));
+	}
+
+	@Test public void testCornerRadius() {
+		// Arrange:
+		final Reveal reveal = new Reveal();
+		// Act + Assert:
+		assertThat(reveal.getCornerRadius(), is(0f));
+		reveal.setCornerRadius(12f);
+		assertThat(reveal.getCornerRadius(), is(12f));
+		reveal.setCornerRadius(-1f);
+		assertThat(reveal.getCornerRadius(), is(0f));
+	}
+
+	@Test public void testSpeed() {
+		// Arrange:
+		final Reveal reveal = new Reveal();
+		// Act + Assert:
+		assertThat(reveal.getSpeed(), is(0f));
+		reveal.setSpeed(1000f);
+		assertThat(reveal.getSpeed(), is(1000f));
+		reveal.setSpeed(-1f);
+		assertThat(reveal.getSpeed(), is(0f));
+	}
+
+	@Test public void testLayerPolicy() {
+		// Arrange:
+		final Reveal reveal = new Reveal();
+		// Act + Assert:
+		assertThat(reveal.getLayerPolicy(), is(LayerPolicy.NONE));
+		reveal.setLayerPolicy(LayerPolicy.AUTO);
+		assertThat(reveal.getLayerPolicy(), is(LayerPolicy.AUTO));
+	}
+
+	@Test public void testCalculateDuration() {
+		// Act + Assert:
+		assertThat(Reveal.calculateDuration(500, 1000), is(500L));
+		assertThat(Reveal.calculateDuration(0, 1000), is(0L));
+		assertThat(Reveal.calculateDuration(100, 2000), is(50L));
+	}
+
+	@Test public void testOutlineAnimatorWrapperWithSpeed() {
+		// Arrange:
+		final Reveal.OutlineAnimatorWrapper wrapper = new Reveal.OutlineAnimatorWrapper(ValueAnimator.ofFloat(0, 200), 200);
+		// Act:
+		wrapper.setSpeed(1000);
+		wrapper.setDuration(600);
+		// Assert:
+		assertThat(wrapper.getDuration(), is(200L));
+	}
+
+	@Test public void testOutlineAnimatorWrapperWithoutSpeed() {
+		// Arrange:
+		final Reveal.OutlineAnimatorWrapper wrapper = new Reveal.OutlineAnimatorWrapper(ValueAnimator.ofFloat(0, 200), 200);
+		// Act:
+		wrapper.setSpeed(0);
+		wrapper.setDuration(600);
+		// Assert:
+		assertThat(wrapper.getDuration(), is(600L));
+	}
+
+	@Test public void testSnapshotEnabled() {
+		// Arrange:
+		final Reveal reveal = new Reveal();
+		// Act + Assert:
+		assertThat(reveal.isSnapshotEnabled(), is(false));
+		reveal.setSnapshotEnabled(true);
+		assertThat(reveal.isSnapshotEnabled(), is(true));
+		reveal.setSnapshotEnabled(false);
+		assertThat(reveal.isSnapshotEnabled(), is(false));
+	}
+
 	@Test public void testStartRadius() {
 		// Arrange:
 		final Reveal reveal = new Reveal();
@@ -343,6 +571,51 @@ public final class RevealTest extends ViewTransitionTestCase {
 		assertThat(reveal.onAppear(new FrameLayout(context), view, null, null), is(nullValue()));
 	}
 
+	@Test public void testOnAppearWithOutlineRenderer() {
+		// Arrange:
+		final View view = createViewAttachedToWindow();
+		final Reveal reveal = new Reveal();
+		reveal.setRenderer(Reveal.RENDERER_OUTLINE);
+		// Act:
+		final Animator animator = reveal.onAppear(new FrameLayout(context), view, null, null);
+		// Assert:
+		assertThat(animator, is(instanceOf(AnimatorWrapper.class)));
+		assertThat(((AnimatorWrapper) animator).getWrappedAnimator(), is(instanceOf(ValueAnimator.class)));
+	}
+
+	@Test public void testOnAppearContinuesFromInterruptedRadius() {
+		// Arrange:
+		final View view = createViewAttachedToWindow();
+		Reveal.INTERRUPTED_RADII.putFloat(view, 1f);
+		final Reveal reveal = new Reveal();
+		// Act:
+		final Animator animator = reveal.onAppear(new FrameLayout(context), view, null, null);
+		// Assert:
+		assertThat(animator, is(instanceOf(RevealAnimatorWrapper.class)));
+		assertThat(((RevealAnimatorWrapper) animator).getCurrentRadius(), is(1f));
+		assertThat(Reveal.INTERRUPTED_RADII.getFloat(view, Reveal.NO_RADIUS), is(Reveal.NO_RADIUS));
+	}
+
+	@Test public void testOnAppearWithSnapshotContinuesFromInterruptedRadiusOfView() {
+		// Arrange:
+		final View view = createViewAttachedToWindow();
+		view.layout(0, 0, 100, 100);
+		final FrameLayout sceneRoot = new FrameLayout(context);
+		Reveal.INTERRUPTED_RADII.putFloat(view, 5f);
+		final Reveal reveal = new Reveal();
+		reveal.setSnapshotEnabled(true);
+		// Act:
+		final Animator animator = reveal.onAppear(sceneRoot, view, null, null);
+		// Assert:
+		assertThat(animator, is(instanceOf(RevealAnimatorWrapper.class)));
+		assertThat(((RevealAnimatorWrapper) animator).getCurrentRadius(), is(5f));
+		assertThat(Reveal.INTERRUPTED_RADII.getFloat(view, Reveal.NO_RADIUS), is(Reveal.NO_RADIUS));
+		// Cancelled snapshot reveal stores its radius for the original view.
+		final RevealAnimatorWrapper wrapper = (RevealAnimatorWrapper) animator;
+		wrapper.new TrackingListener().onAnimationCancel(wrapper.getWrappedAnimator());
+		assertThat(Reveal.INTERRUPTED_RADII.getFloat(view, Reveal.NO_RADIUS), is(5f));
+	}
+
 	@Test public void testOnDisappear() {
 		// Arrange:
 		final View view = createViewAttachedToWindow();
@@ -369,11 +642,9 @@ public final class RevealTest extends ViewTransitionTestCase {
 		final Reveal reveal = new Reveal();
 		reveal.setCenterX(75f);
 		reveal.setCenterY(25f);
-		// Act:
-		reveal.calculateTransitionProperties(view);
-		// Assert:
-		assertThatInfoHasProperties(
-				reveal.getInfo(),
+		// Act + Assert:
+		assertThatGeometryHasProperties(
+				reveal.calculateTransitionProperties(view),
 				0,
 				Reveal.calculateRadius(view.getWidth() * 0.75f, view.getHeight() * 0.75f),
 				75f,
@@ -392,9 +663,8 @@ public final class RevealTest extends ViewTransitionTestCase {
 		// Act + Assert:
 		// START -----------------------------------------------------------------------------------
 		reveal.setCenterGravity(Gravity.START);
-		reveal.calculateTransitionProperties(view);
-		assertThatInfoHasProperties(
-				reveal.getInfo(),
+		assertThatGeometryHasProperties(
+				reveal.calculateTransitionProperties(view),
 				0,
 				Reveal.calculateRadius(view.getWidth(), view.getHeight()),
 				0,
@@ -402,9 +672,8 @@ public final class RevealTest extends ViewTransitionTestCase {
 		);
 		// START | BOTTOM --------------------------------------------------------------------------
 		reveal.setCenterGravity(Gravity.START | Gravity.BOTTOM);
-		reveal.calculateTransitionProperties(view);
-		assertThatInfoHasProperties(
-				reveal.getInfo(),
+		assertThatGeometryHasProperties(
+				reveal.calculateTransitionProperties(view),
 				0,
 				Reveal.calculateRadius(view.getWidth(), view.getHeight()),
 				0,
@@ -412,9 +681,8 @@ public final class RevealTest extends ViewTransitionTestCase {
 		);
 		// START | CENTER_VERTICAL -----------------------------------------------------------------
 		reveal.setCenterGravity(Gravity.START | Gravity.CENTER_VERTICAL);
-		reveal.calculateTransitionProperties(view);
-		assertThatInfoHasProperties(
-				reveal.getInfo(),
+		assertThatGeometryHasProperties(
+				reveal.calculateTransitionProperties(view),
 				0,
 				Reveal.calculateRadius(view.getWidth(), view.getHeight() / 2f),
 				0,
@@ -422,9 +690,8 @@ public final class RevealTest extends ViewTransitionTestCase {
 		);
 		// END -------------------------------------------------------------------------------------
 		reveal.setCenterGravity(Gravity.END);
-		reveal.calculateTransitionProperties(view);
-		assertThatInfoHasProperties(
-				reveal.getInfo(),
+		assertThatGeometryHasProperties(
+				reveal.calculateTransitionProperties(view),
 				0,
 				Reveal.calculateRadius(view.getWidth(), view.getHeight()),
 				view.getWidth(),
@@ -432,9 +699,8 @@ public final class RevealTest extends ViewTransitionTestCase {
 		);
 		// END | BOTTOM ----------------------------------------------------------------------------
 		reveal.setCenterGravity(Gravity.END | Gravity.BOTTOM);
-		reveal.calculateTransitionProperties(view);
-		assertThatInfoHasProperties(
-				reveal.getInfo(),
+		assertThatGeometryHasProperties(
+				reveal.calculateTransitionProperties(view),
 				0,
 				Reveal.calculateRadius(view.getWidth(), view.getHeight()),
 				view.getWidth(),
@@ -442,9 +708,8 @@ public final class RevealTest extends ViewTransitionTestCase {
 		);
 		// END | CENTER_VERTICAL -------------------------------------------------------------------
 		reveal.setCenterGravity(Gravity.END | Gravity.CENTER_VERTICAL);
-		reveal.calculateTransitionProperties(view);
-		assertThatInfoHasProperties(
-				reveal.getInfo(),
+		assertThatGeometryHasProperties(
+				reveal.calculateTransitionProperties(view),
 				0,
 				Reveal.calculateRadius(view.getWidth(), view.getHeight() / 2f),
 				view.getWidth(),
@@ -452,9 +717,8 @@ public final class RevealTest extends ViewTransitionTestCase {
 		);
 		// TOP | CENTER_HORIZONTAL -----------------------------------------------------------------
 		reveal.setCenterGravity(Gravity.TOP | Gravity.CENTER_HORIZONTAL);
-		reveal.calculateTransitionProperties(view);
-		assertThatInfoHasProperties(
-				reveal.getInfo(),
+		assertThatGeometryHasProperties(
+				reveal.calculateTransitionProperties(view),
 				0,
 				Reveal.calculateRadius(view.getWidth() / 2f, view.getHeight()),
 				view.getWidth() / 2f,
@@ -462,9 +726,8 @@ public final class RevealTest extends ViewTransitionTestCase {
 		);
 		// BOTTOM | CENTER_HORIZONTAL --------------------------------------------------------------
 		reveal.setCenterGravity(Gravity.BOTTOM | Gravity.CENTER_HORIZONTAL);
-		reveal.calculateTransitionProperties(view);
-		assertThatInfoHasProperties(
-				reveal.getInfo(),
+		assertThatGeometryHasProperties(
+				reveal.calculateTransitionProperties(view),
 				0,
 				Reveal.calculateRadius(view.getWidth() / 2f, view.getHeight()),
 				view.getWidth() / 2f,
@@ -472,9 +735,8 @@ public final class RevealTest extends ViewTransitionTestCase {
 		);
 		// CENTER ----------------------------------------------------------------------------------
 		reveal.setCenterGravity(Gravity.CENTER);
-		reveal.calculateTransitionProperties(view);
-		assertThatInfoHasProperties(
-				reveal.getInfo(),
+		assertThatGeometryHasProperties(
+				reveal.calculateTransitionProperties(view),
 				0,
 				Reveal.calculateRadius(view.getWidth() / 2f, view.getHeight() / 2f),
 				view.getWidth() / 2f,
@@ -492,11 +754,9 @@ public final class RevealTest extends ViewTransitionTestCase {
 		final Reveal reveal = new Reveal(Reveal.CONCEAL);
 		reveal.setCenterX(35f);
 		reveal.setCenterY(65f);
-		// Act:
-		reveal.calculateTransitionProperties(view);
-		// Assert:
-		assertThatInfoHasProperties(
-				reveal.getInfo(),
+		// Act + Assert:
+		assertThatGeometryHasProperties(
+				reveal.calculateTransitionProperties(view),
 				Reveal.calculateRadius(view.getWidth() * 0.65f, view.getHeight() * 0.65f),
 				0,
 				35f,
@@ -514,11 +774,9 @@ public final class RevealTest extends ViewTransitionTestCase {
 		final Reveal reveal = new Reveal();
 		reveal.setStartRadius(40f);
 		reveal.setEndRadius(80f);
-		// Act:
-		reveal.calculateTransitionProperties(view);
-		// Assert:
-		assertThatInfoHasProperties(
-				reveal.getInfo(),
+		// Act + Assert:
+		assertThatGeometryHasProperties(
+				reveal.calculateTransitionProperties(view),
 				40f,
 				80f,
 				view.getWidth() / 2f,
@@ -526,12 +784,258 @@ public final class RevealTest extends ViewTransitionTestCase {
 		);
 	}
 
-	private static void assertThatInfoHasProperties(Reveal.Info info, float startRadius, float endRadius, float centerX, float centerY) {
+	@Test public void testCalculateTransitionPropertiesForOffCenter() {
+		// Arrange:
+		final View view = createViewWithSize(100, 50);
+		final Reveal reveal = new Reveal();
+		reveal.setCenterXFraction(0.2f);
+		reveal.setCenterYFraction(0.9f);
+		// Act + Assert:
+		assertThatGeometryHasProperties(
+				reveal.calculateTransitionProperties(view),
+				0,
+				Reveal.calculateRadius(80f, 45f),
+				20f,
+				45f
+		);
+	}
+
+	@Test public void testCalculateTransitionPropertiesForCenterOutsideOfView() {
+		// Arrange:
+		final View view = createViewWithSize(100, 100);
+		final Reveal reveal = new Reveal();
+		reveal.setCenterX(0f);
+		reveal.setCenterY(0f);
+		reveal.setCenterHorizontalOffset(-20);
+		reveal.setCenterVerticalOffset(130);
+		// Act + Assert:
+		assertThatGeometryHasProperties(
+				reveal.calculateTransitionProperties(view),
+				0,
+				Reveal.calculateRadius(120f, 130f),
+				-20f,
+				130f
+		);
+	}
+
+	@Test public void testCalculateTransitionPropertiesForViewWithoutSize() {
+		// Arrange:
+		final View view = new View(context);
+		final Reveal reveal = new Reveal();
+		// Act + Assert:
+		assertThatGeometryHasProperties(reveal.calculateTransitionProperties(view), 0, 0, 0, 0);
+	}
+
+	@Test public void testCaptureStartValues() {
+		// Arrange:
+		final View view = createViewWithSize(100, 100);
+		final TransitionValues values = new TransitionValues();
+		values.view = view;
+		final Reveal reveal = new Reveal();
+		// Act:
+		reveal.captureStartValues(values);
+		// Assert:
+		assertThat(values.values.get(Reveal.PROPERTY_TRANSITION_GEOMETRY), is(instanceOf(Reveal.Geometry.class)));
+		assertThatGeometryHasProperties(
+				(Reveal.Geometry) values.values.get(Reveal.PROPERTY_TRANSITION_GEOMETRY),
+				0,
+				Reveal.calculateRadius(view.getWidth() / 2f, view.getHeight() / 2f),
+				view.getWidth() / 2f,
+				view.getHeight() / 2f
+		);
+	}
+
+	@Test public void testCaptureEndValues() {
+		// Arrange:
+		final View view = createViewWithSize(100, 100);
+		final TransitionValues values = new TransitionValues();
+		values.view = view;
+		final Reveal reveal = new Reveal(Reveal.CONCEAL);
+		// Act:
+		reveal.captureEndValues(values);
+		// Assert:
+		assertThat(values.values.get(Reveal.PROPERTY_TRANSITION_GEOMETRY), is(instanceOf(Reveal.Geometry.class)));
+		assertThatGeometryHasProperties(
+				(Reveal.Geometry) values.values.get(Reveal.PROPERTY_TRANSITION_GEOMETRY),
+				Reveal.calculateRadius(view.getWidth() / 2f, view.getHeight() / 2f),
+				0,
+				view.getWidth() / 2f,
+				view.getHeight() / 2f
+		);
+	}
+
+	@Test public void testResolveGeometryForViewsWithSameSize() {
+		// Arrange:
+		final View firstView = createViewWithSize(100, 50);
+		final View secondView = createViewWithSize(100, 50);
+		final Reveal reveal = new Reveal();
+		// Act + Assert:
+		assertThat(reveal.resolveGeometry(firstView), is(sameInstance(reveal.resolveGeometry(secondView))));
+	}
+
+	@Test public void testResolveGeometryForViewsWithDifferentSize() {
+		// Arrange:
+		final View firstView = createViewWithSize(100, 50);
+		final View secondView = createViewWithSize(50, 100);
+		final Reveal reveal = new Reveal();
+		// Act:
+		final Reveal.Geometry firstGeometry = reveal.resolveGeometry(firstView);
+		final Reveal.Geometry secondGeometry = reveal.resolveGeometry(secondView);
+		// Assert:
+		assertThat(firstGeometry, is(not(sameInstance(secondGeometry))));
+		assertThat(secondGeometry.centerX, is(25f));
+		assertThat(secondGeometry.centerY, is(50f));
+	}
+
+	@Test public void testResolveGeometryAfterConfigurationChange() {
+		// Arrange:
+		final View view = createViewWithSize(100, 100);
+		final Reveal reveal = new Reveal();
+		final Reveal.Geometry geometry = reveal.resolveGeometry(view);
+		// Act:
+		reveal.setCenterGravity(Gravity.END | Gravity.BOTTOM);
+		// Assert:
+		final Reveal.Geometry newGeometry = reveal.resolveGeometry(view);
+		assertThat(newGeometry, is(not(sameInstance(geometry))));
+		assertThatGeometryHasProperties(
+				newGeometry,
+				0,
+				Reveal.calculateRadius(view.getWidth(), view.getHeight()),
+				view.getWidth(),
+				view.getHeight()
+		);
+	}
+
+	@Test public void testGeometryCache() {
+		// Arrange:
+		final Reveal.GeometryCache cache = new Reveal.GeometryCache(2);
+		final Reveal.Geometry firstGeometry = new Reveal.Geometry(0, 0, 0, 1);
+		final Reveal.Geometry secondGeometry = new Reveal.Geometry(0, 0, 0, 2);
+		final Reveal.Geometry thirdGeometry = new Reveal.Geometry(0, 0, 0, 3);
+		// Act + Assert:
+		cache.put(10, 10, View.LAYOUT_DIRECTION_LTR, firstGeometry);
+		cache.put(20, 20, View.LAYOUT_DIRECTION_LTR, secondGeometry);
+		assertThat(cache.get(10, 10, View.LAYOUT_DIRECTION_LTR), is(firstGeometry));
+		assertThat(cache.get(10, 10, View.LAYOUT_DIRECTION_RTL), is(nullValue()));
+		assertThat(cache.get(20, 20, View.LAYOUT_DIRECTION_LTR), is(secondGeometry));
+		cache.put(30, 30, View.LAYOUT_DIRECTION_LTR, thirdGeometry);
+		assertThat(cache.get(10, 10, View.LAYOUT_DIRECTION_LTR), is(nullValue()));
+		assertThat(cache.get(30, 30, View.LAYOUT_DIRECTION_LTR), is(thirdGeometry));
+		cache.clear();
+		assertThat(cache.get(20, 20, View.LAYOUT_DIRECTION_LTR), is(nullValue()));
+		assertThat(cache.get(30, 30, View.LAYOUT_DIRECTION_LTR), is(nullValue()));
+	}
+
+	@Test public void testResolveGeometryForCachedGeometryDoesNotAllocate() {
+		assumeTrue(AllocationCounter.isSupported());
+		// Arrange:
+		final View view = createViewWithSize(100, 100);
+		final Reveal fractionReveal = new Reveal();
+		final Reveal gravityReveal = new Reveal(Reveal.CONCEAL);
+		gravityReveal.setCenterGravity(Gravity.END | Gravity.BOTTOM);
+		final int iterations = 10000;
+		// Act:
+		final long allocatedBytes = AllocationCounter.measure(iterations, new Runnable() {
+
+			@Override public void run() {
+				fractionReveal.resolveGeometry(view);
+				gravityReveal.resolveGeometry(view);
+			}
+		});
 		// Assert:
-		assertThat(info.startRadius, is(startRadius));
-		assertThat(info.endRadius, is(endRadius));
-		assertThat(info.centerX, is(centerX));
-		assertThat(info.centerY, is(centerY));
+		// Even a single object per target would allocate at least 16 bytes per iteration.
+		assertThat(allocatedBytes, is(lessThan((long) iterations)));
+	}
+
+	@Test public void testCalculateTransitionPropertiesAllocatesOnlyGeometry() {
+		assumeTrue(AllocationCounter.isSupported());
+		// Arrange:
+		final View view = createViewWithSize(100, 100);
+		final Reveal fractionReveal = new Reveal();
+		final Reveal gravityReveal = new Reveal(Reveal.CONCEAL);
+		gravityReveal.setCenterGravity(Gravity.END | Gravity.BOTTOM);
+		final int iterations = 10000;
+		// Act:
+		final long allocatedBytes = AllocationCounter.measure(iterations, new Runnable() {
+
+			@Override public void run() {
+				fractionReveal.calculateTransitionProperties(view);
+				gravityReveal.calculateTransitionProperties(view);
+			}
+		});
+		// Assert:
+		// Only the returned geometry (at most 32 bytes) may be allocated for each target on a cache miss.
+		assertThat(allocatedBytes, is(lessThanOrEqualTo(iterations * 2 * 32L)));
+	}
+
+	@Test public void testOutlineRevealListener() {
+		// Arrange:
+		final View view = createViewWithSize(100, 100);
+		final ViewOutlineProvider previousProvider = mock(ViewOutlineProvider.class);
+		view.setOutlineProvider(previousProvider);
+		view.setClipToOutline(false);
+		final Reveal.OutlineRevealProvider provider = new Reveal.OutlineRevealProvider(50, 50, Reveal.SHAPE_OVAL, 0);
+		final Reveal.OutlineRevealListener listener = new Reveal.OutlineRevealListener(view, provider, 0, 100);
+		final ValueAnimator animator = ValueAnimator.ofFloat(0, 100);
+		// Act + Assert:
+		listener.onAnimationStart(animator);
+		assertThat(view.getOutlineProvider(), is((ViewOutlineProvider) provider));
+		assertThat(view.getClipToOutline(), is(true));
+		animator.setCurrentPlayTime(animator.getDuration());
+		listener.onAnimationUpdate(animator);
+		assertThat(provider.radius, is(100f));
+		listener.onAnimationEnd(animator);
+		assertThat(view.getOutlineProvider(), is(previousProvider));
+		assertThat(view.getClipToOutline(), is(false));
+	}
+
+	@Test public void testOutlineRevealListenerUpdatesRadiusBeforeInvalidatingOutline() {
+		// Arrange:
+		final View view = spy(createViewWithSize(100, 100));
+		final Reveal.OutlineRevealProvider provider = new Reveal.OutlineRevealProvider(50, 50, Reveal.SHAPE_OVAL, 0);
+		final ValueAnimator animator = ValueAnimator.ofFloat(20, 60);
+		animator.setInterpolator(null);
+		final float[] invalidatedRadius = {-1};
+		doAnswer(new Answer<Void>() {
+
+			@Override public Void answer(final InvocationOnMock invocation) {
+				invalidatedRadius[0] = provider.radius;
+				return null;
+			}
+		}).when(view).invalidateOutline();
+		final Reveal.OutlineRevealListener listener = new Reveal.OutlineRevealListener(view, provider, 20, 60);
+		animator.addUpdateListener(listener);
+		// Act:
+		animator.setCurrentPlayTime(animator.getDuration() / 2);
+		// Assert:
+		assertThat(provider.radius, is(40f));
+		assertThat(invalidatedRadius[0], is(40f));
+	}
+
+	@Test public void testSnapshotAnimatorListener() {
+		// Arrange:
+		Reveal.SNAPSHOT_POOL.clear();
+		Reveal.SNAPSHOT_VIEW_POOL.clear();
+		final FrameLayout sceneRoot = new FrameLayout(context);
+		final View view = createViewWithSize(10, 10);
+		view.setAlpha(0.5f);
+		final ImageView snapshotView = new ImageView(context);
+		final Bitmap snapshot = Reveal.SNAPSHOT_POOL.obtain(10, 10);
+		snapshotView.setImageBitmap(snapshot);
+		snapshotView.setVisibility(View.INVISIBLE);
+		sceneRoot.getOverlay().add(snapshotView);
+		final Reveal.SnapshotAnimatorListener listener = new Reveal.SnapshotAnimatorListener(sceneRoot, view, snapshotView, snapshot);
+		// Act + Assert:
+		listener.onAnimationStart(mock(Animator.class));
+		assertThat(view.getAlpha(), is(0f));
+		assertThat(snapshotView.getVisibility(), is(View.VISIBLE));
+		listener.onAnimationEnd(mock(Animator.class));
+		assertThat(view.getAlpha(), is(0.5f));
+		assertThat(snapshotView.getDrawable(), is(nullValue()));
+		assertThat(Reveal.SNAPSHOT_POOL.size(), is(1));
+		assertThat(Reveal.SNAPSHOT_POOL.obtain(10, 10), is(sameInstance(snapshot)));
+		assertThat(Reveal.SNAPSHOT_VIEW_POOL.size(), is(1));
+		assertThat(Reveal.SNAPSHOT_VIEW_POOL.obtain(context), is(sameInstance(snapshotView)));
 	}
 
 	@Test public void testTransitionAnimatorListenerOnAnimationStart() {
@@ -553,4 +1057,33 @@ public final class RevealTest extends ViewTransitionTestCase {
 		// Assert:
 		assertThat(view.getVisibility(), is(View.GONE));
 	}
-}
\ No newline at end of file
+
+	@Test public void testTransitionAnimatorListenerOnAnimationEndForRevealWrapper() {
+		// Arrange:
+		final View view = createViewAttachedToWindow();
+		final RevealAnimatorWrapper wrapper = RevealAnimatorWrapper.obtain(view, 0, 0, 0, 100);
+		final Reveal.TransitionAnimatorListener listener = new Reveal.TransitionAnimatorListener(view, View.INVISIBLE, View.GONE);
+		// Act:
+		listener.onAnimationEnd(wrapper);
+		// Assert:
+		assertThat(view.getVisibility(), is(View.GONE));
+		assertThat(wrapper.isRecycled(), is(true));
+	}
+
+	private View createViewWithSize(int width, int height) {
+		final View view = new View(context);
+		view.setLeft(0);
+		view.setRight(width);
+		view.setTop(0);
+		view.setBottom(height);
+		return view;
+	}
+
+	private static void assertThatGeometryHasProperties(Reveal.Geometry geometry, float startRadius, float endRadius, float centerX, float centerY) {
+		// Assert:
+		assertThat(geometry.startRadius, is(startRadius));
+		assertThat(geometry.endRadius, is(endRadius));
+		assertThat(geometry.centerX, is(centerX));
+		assertThat(geometry.centerY, is(centerY));
+	}
+}
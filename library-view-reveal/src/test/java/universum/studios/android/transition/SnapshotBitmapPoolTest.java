@@ -0,0 +1,104 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2018 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.transition;
+
+import android.graphics.Bitmap;
+import android.os.Build;
+
+import org.junit.Test;
+import org.robolectric.annotation.Config;
+
+import universum.studios.android.test.local.RobolectricTestCase;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * @author Martin Albedinsky
+ */
+@Config(sdk = Build.VERSION_CODES.LOLLIPOP)
+public final class SnapshotBitmapPoolTest extends RobolectricTestCase {
+
+	@Test public void testObtain() {
+		// Arrange:
+		final SnapshotBitmapPool pool = new SnapshotBitmapPool(2, Integer.MAX_VALUE);
+		// Act:
+		final Bitmap bitmap = pool.obtain(10, 20);
+		// Assert:
+		assertThat(bitmap.getWidth(), is(10));
+		assertThat(bitmap.getHeight(), is(20));
+		assertThat(pool.size(), is(0));
+	}
+
+	@Test public void testObtainReleasedBitmap() {
+		// Arrange:
+		final SnapshotBitmapPool pool = new SnapshotBitmapPool(2, Integer.MAX_VALUE);
+		final Bitmap bitmap = pool.obtain(10, 20);
+		pool.release(bitmap);
+		// Act + Assert:
+		assertThat(pool.obtain(20, 10), is(not(sameInstance(bitmap))));
+		assertThat(pool.obtain(10, 20), is(sameInstance(bitmap)));
+		assertThat(pool.size(), is(0));
+		assertThat(pool.sizeInBytes(), is(0));
+	}
+
+	@Test public void testReleaseWhenPoolIsFull() {
+		// Arrange:
+		final SnapshotBitmapPool pool = new SnapshotBitmapPool(2, Integer.MAX_VALUE);
+		final Bitmap firstBitmap = pool.obtain(10, 10);
+		final Bitmap secondBitmap = pool.obtain(20, 20);
+		final Bitmap thirdBitmap = pool.obtain(30, 30);
+		// Act:
+		pool.release(firstBitmap);
+		pool.release(secondBitmap);
+		pool.release(thirdBitmap);
+		// Assert:
+		assertThat(pool.size(), is(2));
+		assertThat(firstBitmap.isRecycled(), is(true));
+		assertThat(secondBitmap.isRecycled(), is(false));
+		assertThat(thirdBitmap.isRecycled(), is(false));
+		assertThat(pool.sizeInBytes(), is(secondBitmap.getByteCount() + thirdBitmap.getByteCount()));
+	}
+
+	@Test public void testReleaseBitmapLargerThanPool() {
+		// Arrange:
+		final SnapshotBitmapPool pool = new SnapshotBitmapPool(2, 16);
+		final Bitmap bitmap = pool.obtain(10, 10);
+		// Act:
+		pool.release(bitmap);
+		// Assert:
+		assertThat(pool.size(), is(0));
+		assertThat(bitmap.isRecycled(), is(true));
+	}
+
+	@Test public void testClear() {
+		// Arrange:
+		final SnapshotBitmapPool pool = new SnapshotBitmapPool(2, Integer.MAX_VALUE);
+		final Bitmap bitmap = pool.obtain(10, 10);
+		pool.release(bitmap);
+		// Act:
+		pool.clear();
+		// Assert:
+		assertThat(pool.size(), is(0));
+		assertThat(pool.sizeInBytes(), is(0));
+		assertThat(bitmap.isRecycled(), is(true));
+	}
+}
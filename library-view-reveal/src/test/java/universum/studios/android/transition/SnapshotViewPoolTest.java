@@ -0,0 +1,94 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2018 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.transition;
+
+import android.content.ContextWrapper;
+import android.os.Build;
+import android.widget.ImageView;
+
+import org.junit.Test;
+import org.robolectric.annotation.Config;
+
+import universum.studios.android.test.local.RobolectricTestCase;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+
+/**
+ * @author Martin Albedinsky
+ */
+@Config(sdk = Build.VERSION_CODES.LOLLIPOP)
+public final class SnapshotViewPoolTest extends RobolectricTestCase {
+
+	@Test public void testObtain() {
+		// Arrange:
+		final SnapshotViewPool pool = new SnapshotViewPool(2);
+		// Act:
+		final ImageView view = pool.obtain(context);
+		// Assert:
+		assertThat(view.getContext(), is(context));
+		assertThat(pool.size(), is(0));
+	}
+
+	@Test public void testObtainReleasedView() {
+		// Arrange:
+		final SnapshotViewPool pool = new SnapshotViewPool(2);
+		final ImageView view = pool.obtain(context);
+		// Act:
+		final boolean released = pool.release(view);
+		// Assert:
+		assertThat(released, is(true));
+		assertThat(pool.size(), is(1));
+		assertThat(pool.obtain(context), is(sameInstance(view)));
+		assertThat(pool.size(), is(0));
+	}
+
+	@Test public void testObtainForDifferentContext() {
+		// Arrange:
+		final SnapshotViewPool pool = new SnapshotViewPool(2);
+		final ImageView view = pool.obtain(context);
+		pool.release(view);
+		// Act:
+		final ImageView obtainedView = pool.obtain(new ContextWrapper(context));
+		// Assert:
+		assertThat(obtainedView, is(not(sameInstance(view))));
+		assertThat(pool.size(), is(0));
+	}
+
+	@Test public void testReleaseWhenPoolIsFull() {
+		// Arrange:
+		final SnapshotViewPool pool = new SnapshotViewPool(1);
+		pool.release(new ImageView(context));
+		// Act + Assert:
+		assertThat(pool.release(new ImageView(context)), is(false));
+		assertThat(pool.size(), is(1));
+	}
+
+	@Test public void testClear() {
+		// Arrange:
+		final SnapshotViewPool pool = new SnapshotViewPool(2);
+		pool.release(new ImageView(context));
+		// Act:
+		pool.clear();
+		// Assert:
+		assertThat(pool.size(), is(0));
+	}
+}
@@ -20,7 +20,6 @@ package universum.studios.android.transition;
 
 import android.animation.Animator;
 import android.animation.ObjectAnimator;
-import android.animation.PropertyValuesHolder;
 import android.animation.TimeInterpolator;
 import android.content.Context;
 import android.content.res.TypedArray;
@@ -42,7 +41,11 @@ import androidx.annotation.RequiresApi;
 import androidx.annotation.Size;
 import androidx.annotation.VisibleForTesting;
 import androidx.interpolator.view.animation.FastOutSlowInInterpolator;
+import universum.studios.android.transition.util.AnimatorWrapper;
+import universum.studios.android.transition.util.LayerPolicy;
+import universum.studios.android.transition.util.PropertyAnimators;
 import universum.studios.android.transition.util.TransitionUtils;
+import universum.studios.android.transition.util.ViewPropertyAnimatorWrapper;
 
 /**
  * A {@link Visibility} transition implementation that tracks changes to the visibility of target
@@ -96,11 +99,17 @@ public class Scale extends Visibility {
 
 	/**
 	 * Name of the view's property used to scale size of a specific view along its x axis.
+	 * <p>
+	 * Animators created by this transition animate {@link View#SCALE_X} property object which has
+	 * the same name.
 	 */
 	public static final String PROPERTY_SCALE_X = "scaleX";
 
 	/**
 	 * Name of the view's property used to scale size of a specific view along its y axis.
+	 * <p>
+	 * Animators created by this transition animate {@link View#SCALE_Y} property object which has
+	 * the same name.
 	 */
 	public static final String PROPERTY_SCALE_Y = "scaleY";
 
@@ -120,14 +129,20 @@ public class Scale extends Visibility {
 	private static final float START_SCALE_ON_DISAPPEAR = 1.0f;
 
 	/**
-	 * Name of the property holding scale X value for animating view in {@link TransitionValues}.
+	 * Name of the property holding {@link CapturedValues} with scale values for animating view in
+	 * {@link TransitionValues}.
 	 */
-	@VisibleForTesting static final String PROPERTY_TRANSITION_SCALE_X = Scale.class.getName() + ":transition.scaleX";
+	@VisibleForTesting static final String PROPERTY_TRANSITION_VALUES = Scale.class.getName() + ":transition.values";
 
 	/**
-	 * Name of the property holding scale Y value for animating view in {@link TransitionValues}.
+	 * Index of the float slot of {@link CapturedValues} holding scale X value.
 	 */
-	@VisibleForTesting static final String PROPERTY_TRANSITION_SCALE_Y = Scale.class.getName() + ":transition.scaleY";
+	@VisibleForTesting static final int SLOT_SCALE_X = 0;
+
+	/**
+	 * Index of the float slot of {@link CapturedValues} holding scale Y value.
+	 */
+	@VisibleForTesting static final int SLOT_SCALE_Y = 1;
 
 	/*
 	 * Interface ===================================================================================
@@ -142,6 +157,11 @@ public class Scale extends Visibility {
 	 */
 	public static final TimeInterpolator INTERPOLATOR = new FastOutSlowInInterpolator();
 
+	/**
+	 * Cache of configurations parsed from attributes of Scale transitions inflated from XML.
+	 */
+	@VisibleForTesting static final ParsedAttributesCache<ParsedAttributes> ATTRIBUTES_CACHE = new ParsedAttributesCache<ParsedAttributes>();
+
 	/*
 	 * Members =====================================================================================
 	 */
@@ -152,6 +172,12 @@ public class Scale extends Visibility {
 	 */
 	private final Info info = new Info();
 
+	/**
+	 * Buffer into which are obtained start scales along X [0] and Y [1] axis for the currently
+	 * transitioning view.
+	 */
+	private final float[] startScalesBuffer = new float[2];
+
 	/**
 	 * X coordinate for scaling pivot of the animating view. If {@code null}, {@link #pivotXFraction}
 	 * should be used to calculate this coordinate.
@@ -176,6 +202,16 @@ public class Scale extends Visibility {
 	 */
 	private float pivotYFraction = SCALE_FRACTION;
 
+	/**
+	 * Policy determining whether target views should be rendered into a hardware layer while scaled.
+	 */
+	private int layerPolicy = LayerPolicy.NONE;
+
+	/**
+	 * Boolean flag indicating whether target views should be scaled via theirs view property animators.
+	 */
+	private boolean viewPropertyAnimatorEnabled;
+
 	/*
 	 * Constructors ================================================================================
 	 */
@@ -207,6 +243,11 @@ public class Scale extends Visibility {
 	 */
 	public Scale(@NonNull final Context context, @Nullable final AttributeSet attrs) {
 		super(context, attrs);
+		final ParsedAttributes parsedAttributes = ATTRIBUTES_CACHE.get(context, attrs);
+		if (parsedAttributes != null) {
+			applyParsedAttributes(parsedAttributes);
+			return;
+		}
 		final TypedArray attributes = context.obtainStyledAttributes(attrs, R.styleable.Transition_Scale, 0, 0);
 		final int attributeCount = attributes.getIndexCount();
 		for (int i = 0; i < attributeCount; i++) {
@@ -222,12 +263,26 @@ public class Scale extends Visibility {
 			}
 		}
 		attributes.recycle();
+		ATTRIBUTES_CACHE.put(context, attrs, new ParsedAttributes(this));
 	}
 
 	/*
 	 * Methods =====================================================================================
 	 */
 
+	/**
+	 * Applies the given <var>parsedAttributes</var> to this transition.
+	 *
+	 * @param parsedAttributes The attributes previously parsed for transition inflated from the same
+	 *                         XML attributes.
+	 */
+	private void applyParsedAttributes(final ParsedAttributes parsedAttributes) {
+		this.pivotX = parsedAttributes.pivotX;
+		this.pivotY = parsedAttributes.pivotY;
+		this.pivotXFraction = parsedAttributes.pivotXFraction;
+		this.pivotYFraction = parsedAttributes.pivotYFraction;
+	}
+
 	/**
 	 * Creates a new instance of Animator that animates both, scale X and scale Y, properties of
 	 * the specified <var>view</var>.
@@ -255,6 +310,10 @@ public class Scale extends Visibility {
 	 * the specified <var>view</var>.
 	 * <p>
 	 * The returned animator will also have the default {@link #INTERPOLATOR} attached.
+	 * <p>
+	 * <b>Note, that the returned animator is not wrapped in {@link AnimatorWrapper}, so the time
+	 * scale specified via {@link AnimatorWrapper#setTimeScale(float)} does not apply to it.</b> Only
+	 * animators created by the Scale transition itself are wrapped.
 	 *
 	 * @param view        The view for which to create the requested animator.
 	 * @param startScaleX Scale from which to start the animation along X axis.
@@ -271,6 +330,49 @@ public class Scale extends Visibility {
 			@FloatRange(from = MIN, to = MAX) final float startScaleY,
 			@FloatRange(from = MIN, to = MAX) final float endScaleX,
 			@FloatRange(from = MIN, to = MAX) final float endScaleY
+	) {
+		return createAnimatorInner(view, startScaleX, startScaleY, endScaleX, endScaleY, false);
+	}
+
+	/**
+	 * Same as {@link #createAnimator(View, float, float, float, float)} but the returned animator
+	 * scales the view via its {@link android.view.ViewPropertyAnimator ViewPropertyAnimator} which
+	 * updates both scale properties of the view at once on each animation frame.
+	 *
+	 * @return {@link ViewPropertyAnimatorWrapper} that will play scale animation for the specified
+	 * view according to the specified parameters when started or {@code null} if the start and end
+	 * scale values are the same or the target view is already detached from window.
+	 *
+	 * @see #setViewPropertyAnimatorEnabled(boolean)
+	 * @since 1.4
+	 */
+	@Nullable public static Animator createViewPropertyAnimator(
+			@NonNull final View view,
+			@FloatRange(from = MIN, to = MAX) final float startScaleX,
+			@FloatRange(from = MIN, to = MAX) final float startScaleY,
+			@FloatRange(from = MIN, to = MAX) final float endScaleX,
+			@FloatRange(from = MIN, to = MAX) final float endScaleY
+	) {
+		return createAnimatorInner(view, startScaleX, startScaleY, endScaleX, endScaleY, true);
+	}
+
+	/**
+	 * Creates either an object or a view property animator scaling the specified <var>view</var>.
+	 *
+	 * @param viewPropertyAnimator {@code True} to create a view property animator, {@code false}
+	 *                             to create an object animator.
+	 * @return Animator scaling the view or {@code null} if there is nothing to be scaled.
+	 *
+	 * @see #createAnimator(View, float, float, float, float)
+	 * @see #createViewPropertyAnimator(View, float, float, float, float)
+	 */
+	private static Animator createAnimatorInner(
+			final View view,
+			final float startScaleX,
+			final float startScaleY,
+			final float endScaleX,
+			final float endScaleY,
+			final boolean viewPropertyAnimator
 	) {
 		if (!TransitionUtils.isViewAttachedToWindow(view)) {
 			return null;
@@ -284,15 +386,34 @@ public class Scale extends Visibility {
 		}
 		view.setScaleX(startX);
 		view.setScaleY(startY);
-		final ObjectAnimator animator = ObjectAnimator.ofPropertyValuesHolder(
+		if (viewPropertyAnimator) {
+			final ViewPropertyAnimatorWrapper animator = new ViewPropertyAnimatorWrapper(view)
+					.animateProperty(ViewPropertyAnimatorWrapper.SCALE_X, startX, endX)
+					.animateProperty(ViewPropertyAnimatorWrapper.SCALE_Y, startY, endY);
+			animator.setInterpolator(INTERPOLATOR);
+			return animator;
+		}
+		final ObjectAnimator animator = PropertyAnimators.ofFloat(
 				view,
-				PropertyValuesHolder.ofFloat(PROPERTY_SCALE_X, startX, endX),
-				PropertyValuesHolder.ofFloat(PROPERTY_SCALE_Y, startY, endY)
+				View.SCALE_X, startX, endX,
+				View.SCALE_Y, startY, endY
 		);
 		animator.setInterpolator(INTERPOLATOR);
 		return animator;
 	}
 
+	/**
+	 * Wraps the given <var>animator</var> created for this transition in {@link AnimatorWrapper},
+	 * so it respects the time scale specified via {@link AnimatorWrapper#setTimeScale(float)}.
+	 *
+	 * @param animator The animator to be wrapped. May be {@code null}.
+	 * @return The wrapped animator, the given animator if it is already a wrapper or {@code null}
+	 * if the given animator is {@code null}.
+	 */
+	private static Animator wrapAnimator(final Animator animator) {
+		return animator == null || animator instanceof AnimatorWrapper ? animator : new AnimatorWrapper(animator);
+	}
+
 	/**
 	 * Sets a pivot x coordinate for scale animation.
 	 * <p>
@@ -407,42 +528,104 @@ public class Scale extends Visibility {
 		return pivotYFraction;
 	}
 
+	/**
+	 * Sets a policy determining whether target views should be rendered into a hardware layer while
+	 * they are scaled. When a view is rendered into a hardware layer, each frame of the scale animation
+	 * only recomposites the cached texture of the view instead of re-drawing its content.
+	 * <p>
+	 * Default value: <b>{@link LayerPolicy#NONE}</b>
+	 *
+	 * @param policy The desired policy. One of {@link LayerPolicy#NONE}, {@link LayerPolicy#ALWAYS}
+	 *               or {@link LayerPolicy#AUTO}.
+	 *
+	 * @see #getLayerPolicy()
+	 */
+	public void setLayerPolicy(@LayerPolicy.Policy final int policy) {
+		this.layerPolicy = policy;
+	}
+
+	/**
+	 * Returns the policy determining whether target views are rendered into a hardware layer while
+	 * scaled.
+	 *
+	 * @return One of {@link LayerPolicy#NONE}, {@link LayerPolicy#ALWAYS} or {@link LayerPolicy#AUTO}.
+	 *
+	 * @see #setLayerPolicy(int)
+	 */
+	@LayerPolicy.Policy public int getLayerPolicy() {
+		return layerPolicy;
+	}
+
+	/**
+	 * Sets a boolean flag indicating whether this transition should scale its target views via theirs
+	 * {@link android.view.ViewPropertyAnimator ViewPropertyAnimators} instead of object animators.
+	 * <p>
+	 * View property animator updates both scale properties of a view at once on each frame and
+	 * renders the view into a hardware layer via {@link android.view.ViewPropertyAnimator#withLayer()}
+	 * when requested by the {@link #setLayerPolicy(int) layer policy}, which reduces main thread
+	 * work when many views are scaled at the same time. Such animations cannot be paused.
+	 * <p>
+	 * Default value: <b>{@code false}</b>
+	 *
+	 * @param enabled {@code True} to scale target views via view property animators, {@code false}
+	 *                otherwise.
+	 *
+	 * @see #isViewPropertyAnimatorEnabled()
+	 * @see #createViewPropertyAnimator(View, float, float, float, float)
+	 */
+	public void setViewPropertyAnimatorEnabled(final boolean enabled) {
+		this.viewPropertyAnimatorEnabled = enabled;
+	}
+
+	/**
+	 * Returns the boolean flag indicating whether this transition scales its target views via theirs
+	 * view property animators.
+	 *
+	 * @return {@code True} if view property animators are used, {@code false} otherwise.
+	 *
+	 * @see #setViewPropertyAnimatorEnabled(boolean)
+	 */
+	public boolean isViewPropertyAnimatorEnabled() {
+		return viewPropertyAnimatorEnabled;
+	}
+
 	/**
 	 */
 	@Override public void captureStartValues(@NonNull final TransitionValues transitionValues) {
 		super.captureStartValues(transitionValues);
-		transitionValues.values.put(PROPERTY_TRANSITION_SCALE_X, transitionValues.view.getScaleX());
-		transitionValues.values.put(PROPERTY_TRANSITION_SCALE_Y, transitionValues.view.getScaleY());
+		final View view = transitionValues.view;
+		CapturedValues.obtain(transitionValues, PROPERTY_TRANSITION_VALUES)
+				.putFloat(SLOT_SCALE_X, view.getScaleX())
+				.putFloat(SLOT_SCALE_Y, view.getScaleY());
 	}
 
 	/**
 	 * Obtains start scale values for X and Y axis from the given <var>startValues</var> object.
 	 *
 	 * @param startValues   Transition values that should possibly contain captured start values.
-	 * @param defaultStartX Default X scale value to be returned if the <var>startValues</var> does
+	 * @param defaultStartX Default X scale value to be used if the <var>startValues</var> does
 	 *                      not contain the scale X value.
-	 * @param defaultStartY Default Y scale value to be returned if the <var>startValues</var> does
+	 * @param defaultStartY Default Y scale value to be used if the <var>startValues</var> does
 	 *                      not contain the scale Y value.
-	 * @return Array containing scale X value at {@code [0]} and scale Y value at {@code [1]} either
-	 * obtained from the start values or the default one.
+	 * @param outScales     Array into which to put scale X value at {@code [0]} and scale Y value
+	 *                      at {@code [1]} either obtained from the start values or the default one.
 	 *
 	 * @see #captureStartValues(TransitionValues)
 	 */
-	@VisibleForTesting
-	@Size(2) static float[] obtainStartScales(final TransitionValues startValues, final float defaultStartX, final float defaultStartY) {
-		final float[] startScales = new float[]{defaultStartX, defaultStartY};
-		if (startValues == null) {
-			return startScales;
-		}
-		final Float startX = (Float) startValues.values.get(PROPERTY_TRANSITION_SCALE_X);
-		if (startX != null) {
-			startScales[0] = startX;
-		}
-		final Float startY = (Float) startValues.values.get(PROPERTY_TRANSITION_SCALE_Y);
-		if (startY != null) {
-			startScales[1] = startY;
+	@VisibleForTesting static void obtainStartScales(
+			final TransitionValues startValues,
+			final float defaultStartX,
+			final float defaultStartY,
+			@Size(2) final float[] outScales
+	) {
+		final CapturedValues capturedValues = CapturedValues.get(startValues, PROPERTY_TRANSITION_VALUES);
+		if (capturedValues == null) {
+			outScales[0] = defaultStartX;
+			outScales[1] = defaultStartY;
+		} else {
+			outScales[0] = capturedValues.getFloat(SLOT_SCALE_X);
+			outScales[1] = capturedValues.getFloat(SLOT_SCALE_Y);
 		}
-		return startScales;
 	}
 
 	/**
@@ -454,16 +637,18 @@ public class Scale extends Visibility {
 			@Nullable final TransitionValues endValues
 	) {
 		calculateTransitionProperties(view);
-		view.setPivotX(info.pivotX);
-		view.setPivotY(info.pivotY);
-		final float[] startScales = obtainStartScales(startValues, START_SCALE_ON_APPEAR, START_SCALE_ON_APPEAR);
-		return createAnimator(
+		PropertyAnimators.setPivot(view, info.pivotX, info.pivotY);
+		obtainStartScales(startValues, START_SCALE_ON_APPEAR, START_SCALE_ON_APPEAR, startScalesBuffer);
+		final Animator animator = wrapAnimator(createAnimatorInner(
 				view,
-				startScales[0] == MAX ? MIN : startScales[0],
-				startScales[1] == MAX ? MIN : startScales[1],
+				startScalesBuffer[0] == MAX ? MIN : startScalesBuffer[0],
+				startScalesBuffer[1] == MAX ? MIN : startScalesBuffer[1],
 				MAX,
-				MAX
-		);
+				MAX,
+				viewPropertyAnimatorEnabled
+		));
+		LayerPolicy.apply(layerPolicy, animator, view);
+		return animator;
 	}
 
 	/**
@@ -475,10 +660,11 @@ public class Scale extends Visibility {
 			@Nullable final TransitionValues endValues
 	) {
 		calculateTransitionProperties(view);
-		view.setPivotX(info.pivotX);
-		view.setPivotY(info.pivotY);
-		final float[] startScales = obtainStartScales(startValues, START_SCALE_ON_DISAPPEAR, START_SCALE_ON_DISAPPEAR);
-		return createAnimator(view, startScales[0], startScales[1], MIN, MIN);
+		PropertyAnimators.setPivot(view, info.pivotX, info.pivotY);
+		obtainStartScales(startValues, START_SCALE_ON_DISAPPEAR, START_SCALE_ON_DISAPPEAR, startScalesBuffer);
+		final Animator animator = wrapAnimator(createAnimatorInner(view, startScalesBuffer[0], startScalesBuffer[1], MIN, MIN, viewPropertyAnimatorEnabled));
+		LayerPolicy.apply(layerPolicy, animator, view);
+		return animator;
 	}
 
 	/**
@@ -507,6 +693,37 @@ public class Scale extends Visibility {
 	 * Inner classes ===============================================================================
 	 */
 
+	/**
+	 * Immutable configuration of {@link Scale} transition parsed from XML attributes.
+	 *
+	 * @see #ATTRIBUTES_CACHE
+	 */
+	@VisibleForTesting static final class ParsedAttributes {
+
+		/**
+		 * Parsed pivot coordinates, {@code null} if not specified.
+		 */
+		final Float pivotX, pivotY;
+
+		/**
+		 * Parsed pivot fractions.
+		 */
+		final float pivotXFraction, pivotYFraction;
+
+		/**
+		 * Creates a new instance of ParsedAttributes with values of the given <var>scale</var>
+		 * transition which has been just created from XML attributes.
+		 *
+		 * @param scale The transition of which configuration to copy.
+		 */
+		ParsedAttributes(final Scale scale) {
+			this.pivotX = scale.pivotX;
+			this.pivotY = scale.pivotY;
+			this.pivotXFraction = scale.pivotXFraction;
+			this.pivotYFraction = scale.pivotYFraction;
+		}
+	}
+
 	/**
 	 * Class holding necessary values for the scale transition that are exclusively associated with
 	 * the currently transitioning view.
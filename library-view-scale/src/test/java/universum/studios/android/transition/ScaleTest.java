@@ -23,14 +23,19 @@ import android.animation.ObjectAnimator;
 import android.animation.PropertyValuesHolder;
 import android.os.Build;
 import android.transition.TransitionValues;
+import android.util.AttributeSet;
 import android.view.View;
 import android.widget.FrameLayout;
 
 import org.hamcrest.CoreMatchers;
 import org.junit.Test;
+import org.robolectric.Robolectric;
 import org.robolectric.annotation.Config;
 
 import universum.studios.android.test.local.ViewTransitionTestCase;
+import universum.studios.android.transition.util.AnimatorWrapper;
+import universum.studios.android.transition.util.LayerPolicy;
+import universum.studios.android.transition.util.ViewPropertyAnimatorWrapper;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
@@ -74,6 +79,18 @@ public final class ScaleTest extends ViewTransitionTestCase {
 		assertThat(scale.getMode(), is(Scale.MODE_IN | Scale.MODE_OUT));
 	}
 
+	@Test public void testInstantiationWithCachedAttributeSet() {
+		// Arrange:
+		Scale.ATTRIBUTES_CACHE.clear();
+		final AttributeSet attrs = Robolectric.buildAttributeSet().addAttribute(android.R.attr.pivotX, "25%").build();
+		final Scale parsedScale = new Scale(context, attrs);
+		// Act:
+		final Scale scale = new Scale(context, attrs);
+		// Assert:
+		assertThat(Scale.ATTRIBUTES_CACHE.size(), is(1));
+		assertThat(scale.getPivotXFraction(), is(parsedScale.getPivotXFraction()));
+	}
+
 	@SuppressWarnings("ResourceType")
 	@Test public void testCreateAnimator() {
 		// Arrange:
@@ -169,6 +186,76 @@ public final class ScaleTest extends ViewTransitionTestCase {
 		assertThat(scale.getPivotYFraction(), is(0.0f));
 	}
 
+	@Test public void testLayerPolicy() {
+		// Arrange:
+		final Scale scale = new Scale();
+		// Act + Assert:
+		assertThat(scale.getLayerPolicy(), is(LayerPolicy.NONE));
+		scale.setLayerPolicy(LayerPolicy.AUTO);
+		assertThat(scale.getLayerPolicy(), is(LayerPolicy.AUTO));
+	}
+
+	@Test public void testOnAppearWithLayerPolicy() {
+		// Arrange:
+		final Scale scale = new Scale();
+		scale.setLayerPolicy(LayerPolicy.ALWAYS);
+		final View view = createViewAttachedToWindow();
+		// Act:
+		final Animator animator = scale.onAppear(new FrameLayout(context), view, null, null);
+		// Assert:
+		assertThat(animator, is(notNullValue()));
+		animator.getListeners().get(animator.getListeners().size() - 1).onAnimationStart(animator);
+		assertThat(view.getLayerType(), is(View.LAYER_TYPE_HARDWARE));
+		animator.getListeners().get(animator.getListeners().size() - 1).onAnimationEnd(animator);
+		assertThat(view.getLayerType(), is(View.LAYER_TYPE_NONE));
+	}
+
+	@Test public void testViewPropertyAnimatorEnabled() {
+		// Arrange:
+		final Scale scale = new Scale();
+		// Act + Assert:
+		assertThat(scale.isViewPropertyAnimatorEnabled(), is(false));
+		scale.setViewPropertyAnimatorEnabled(true);
+		assertThat(scale.isViewPropertyAnimatorEnabled(), is(true));
+	}
+
+	@Test public void testCreateViewPropertyAnimator() {
+		// Arrange:
+		final View view = createViewAttachedToWindow();
+		// Act:
+		final Animator animator = Scale.createViewPropertyAnimator(view, 0.25f, 0.5f, 1f, 0.75f);
+		// Assert:
+		assertThat(animator, instanceOf(ViewPropertyAnimatorWrapper.class));
+		final ViewPropertyAnimatorWrapper wrapper = (ViewPropertyAnimatorWrapper) animator;
+		assertThat(wrapper.getView(), is(view));
+		assertThat(wrapper.getStartValue(ViewPropertyAnimatorWrapper.SCALE_X), is(0.25f));
+		assertThat(wrapper.getEndValue(ViewPropertyAnimatorWrapper.SCALE_X), is(1f));
+		assertThat(wrapper.getStartValue(ViewPropertyAnimatorWrapper.SCALE_Y), is(0.5f));
+		assertThat(wrapper.getEndValue(ViewPropertyAnimatorWrapper.SCALE_Y), is(0.75f));
+		assertThat(wrapper.getInterpolator(), is(Scale.INTERPOLATOR));
+		assertThat(view.getScaleX(), is(0.25f));
+		assertThat(view.getScaleY(), is(0.5f));
+	}
+
+	@Test public void testCreateViewPropertyAnimatorWithSameStartAndEndValues() {
+		// Act + Assert:
+		assertThat(Scale.createViewPropertyAnimator(createViewAttachedToWindow(), 0.5f, 0.5f, 0.5f, 0.5f), is(nullValue()));
+	}
+
+	@Test public void testOnAppearWithViewPropertyAnimatorAndLayerPolicy() {
+		// Arrange:
+		final Scale scale = new Scale();
+		scale.setViewPropertyAnimatorEnabled(true);
+		scale.setLayerPolicy(LayerPolicy.ALWAYS);
+		final View view = createViewAttachedToWindow();
+		// Act:
+		final Animator animator = scale.onAppear(new FrameLayout(context), view, null, null);
+		// Assert:
+		assertThat(animator, instanceOf(ViewPropertyAnimatorWrapper.class));
+		assertThat(((ViewPropertyAnimatorWrapper) animator).isWithLayer(), is(true));
+		assertThat(animator.getListeners().isEmpty(), is(true));
+	}
+
 	@Test public void testCaptureStartValues() {
 		// Arrange:
 		final View view = new View(context);
@@ -180,41 +267,43 @@ public final class ScaleTest extends ViewTransitionTestCase {
 		// Act:
 		scale.captureStartValues(transitionValues);
 		// Assert:
-		assertThat(transitionValues.values.isEmpty(), is(false));
-		assertThat(transitionValues.values.get(Scale.PROPERTY_TRANSITION_SCALE_X), CoreMatchers.<Object>is(0.75f));
-		assertThat(transitionValues.values.get(Scale.PROPERTY_TRANSITION_SCALE_Y), CoreMatchers.<Object>is(0.25f));
+		assertThat(transitionValues.values.size(), is(1));
+		final CapturedValues capturedValues = CapturedValues.get(transitionValues, Scale.PROPERTY_TRANSITION_VALUES);
+		assertThat(capturedValues, is(notNullValue()));
+		assertThat(capturedValues.getFloat(Scale.SLOT_SCALE_X), is(0.75f));
+		assertThat(capturedValues.getFloat(Scale.SLOT_SCALE_Y), is(0.25f));
 	}
 
 	@Test public void testObtainStartScales() {
 		// Arrange:
 		final TransitionValues values = new TransitionValues();
-		values.values.put(Scale.PROPERTY_TRANSITION_SCALE_X, 0.15f);
-		values.values.put(Scale.PROPERTY_TRANSITION_SCALE_Y, 0.95f);
+		CapturedValues.obtain(values, Scale.PROPERTY_TRANSITION_VALUES)
+				.putFloat(Scale.SLOT_SCALE_X, 0.15f)
+				.putFloat(Scale.SLOT_SCALE_Y, 0.95f);
+		final float[] scales = new float[2];
 		// Act:
-		final float[] scales = Scale.obtainStartScales(values, 0.5f, 0.25f);
+		Scale.obtainStartScales(values, 0.5f, 0.25f, scales);
 		// Assert:
-		assertThat(scales, is(notNullValue()));
-		assertThat(scales.length, is(2));
 		assertThat(scales[0], is(0.15f));
 		assertThat(scales[1], is(0.95f));
 	}
 
 	@Test public void testObtainStartScalesForEmptyTransitionValues() {
+		// Arrange:
+		final float[] scales = new float[2];
 		// Act:
-		final float[] scales = Scale.obtainStartScales(new TransitionValues(), 0.5f, 0.25f);
+		Scale.obtainStartScales(new TransitionValues(), 0.5f, 0.25f, scales);
 		// Assert:
-		assertThat(scales, is(notNullValue()));
-		assertThat(scales.length, is(2));
 		assertThat(scales[0], is(0.5f));
 		assertThat(scales[1], is(0.25f));
 	}
 
 	@Test public void testObtainStartScalesForNullTransitionValues() {
+		// Arrange:
+		final float[] scales = new float[2];
 		// Act:
-		final float[] scales = Scale.obtainStartScales(null, 0.5f, 0.25f);
+		Scale.obtainStartScales(null, 0.5f, 0.25f, scales);
 		// Assert:
-		assertThat(scales, is(notNullValue()));
-		assertThat(scales.length, is(2));
 		assertThat(scales[0], is(0.5f));
 		assertThat(scales[1], is(0.25f));
 	}
@@ -228,7 +317,7 @@ public final class ScaleTest extends ViewTransitionTestCase {
 		// Act:
 		final Animator animator = scale.onAppear(new FrameLayout(context), view, null, null);
 		// Assert:
-		assertThatAnimatorIsValid(animator, view, 0.0f, 0.0f);
+		assertThatTransitionAnimatorIsValid(animator, view, 0.0f, 0.0f);
 		assertThat(view.getPivotX(), is(scale.getPivotX()));
 		assertThat(view.getPivotY(), is(scale.getPivotY()));
 	}
@@ -246,7 +335,7 @@ public final class ScaleTest extends ViewTransitionTestCase {
 		// Act:
 		final Animator animator = scale.onAppear(new FrameLayout(context), view, null, null);
 		// Assert:
-		assertThatAnimatorIsValid(animator, view, 0.0f, 0.0f);
+		assertThatTransitionAnimatorIsValid(animator, view, 0.0f, 0.0f);
 		assertThat(view.getPivotX(), is(25f));
 		assertThat(view.getPivotY(), is(75f));
 	}
@@ -265,7 +354,7 @@ public final class ScaleTest extends ViewTransitionTestCase {
 		// Act:
 		final Animator animator = scale.onAppear(new FrameLayout(context), view, startValues, null);
 		// Assert:
-		assertThatAnimatorIsValid(animator, view, 0.0f, 0.0f);
+		assertThatTransitionAnimatorIsValid(animator, view, 0.0f, 0.0f);
 		assertThat(view.getPivotX(), is(100f));
 		assertThat(view.getPivotY(), is(50f));
 	}
@@ -287,7 +376,7 @@ public final class ScaleTest extends ViewTransitionTestCase {
 		// Act:
 		final Animator animator = scale.onDisappear(new FrameLayout(context), view, null, null);
 		// Assert:
-		assertThatAnimatorIsValid(animator, view, 1.0f, 1.0f);
+		assertThatTransitionAnimatorIsValid(animator, view, 1.0f, 1.0f);
 		assertThat(view.getPivotX(), is(scale.getPivotX()));
 		assertThat(view.getPivotY(), is(scale.getPivotY()));
 		assertThat(view.getScaleX(), is(1.0f));
@@ -307,7 +396,7 @@ public final class ScaleTest extends ViewTransitionTestCase {
 		// Act:
 		final Animator animator = scale.onDisappear(new FrameLayout(context), view, new TransitionValues(), new TransitionValues());
 		// Assert:
-		assertThatAnimatorIsValid(animator, view, 1.0f, 1.0f);
+		assertThatTransitionAnimatorIsValid(animator, view, 1.0f, 1.0f);
 		assertThat(view.getPivotX(), is(33f));
 		assertThat(view.getPivotY(), is(66f));
 		assertThat(view.getScaleX(), is(1.0f));
@@ -373,6 +462,13 @@ public final class ScaleTest extends ViewTransitionTestCase {
 		assertThat(info.pivotY, is(pivotY));
 	}
 
+	private void assertThatTransitionAnimatorIsValid(Animator animator, View view, float startScaleX, float startScaleY) {
+		// Assert:
+		assertThat(animator, is(notNullValue()));
+		assertThat(animator, instanceOf(AnimatorWrapper.class));
+		assertThatAnimatorIsValid(((AnimatorWrapper) animator).getWrappedAnimator(), view, startScaleX, startScaleY);
+	}
+
 	private void assertThatAnimatorIsValid(Animator animator, View view, float startScaleX, float startScaleY) {
 		// Assert:
 		assertThat(animator, is(notNullValue()));
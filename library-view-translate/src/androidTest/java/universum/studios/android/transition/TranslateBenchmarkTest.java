@@ -0,0 +1,153 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2018 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.transition;
+
+import android.animation.ObjectAnimator;
+import android.graphics.Path;
+import android.os.Build;
+import android.os.Debug;
+import android.os.SystemClock;
+import android.view.View;
+
+import org.junit.Test;
+
+import androidx.test.filters.SdkSuppress;
+import universum.studios.android.test.instrumented.InstrumentedTestCase;
+import universum.studios.android.test.instrumented.TestUtils;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.number.OrderingComparison.lessThanOrEqualTo;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * Benchmark comparing cost of creation of translate animators via {@link Translate#createTranslationAnimator(View, float, float, float, float)}
+ * and via a straight line {@link Path} which has been used before, and cost of inflation of translate
+ * transitions with and without {@link Translate#ATTRIBUTES_CACHE}.
+ *
+ * @author Martin Albedinsky
+ */
+@SdkSuppress(minSdkVersion = Build.VERSION_CODES.LOLLIPOP)
+public final class TranslateBenchmarkTest extends InstrumentedTestCase {
+
+	private static final int[] TARGET_COUNTS = {1, 10, 100, 1000};
+	private static final int WARM_UP_ROUNDS = 3;
+	private static final int INFLATION_COUNT = 200;
+
+	@SuppressWarnings("deprecation")
+	@Test public void testCreateAnimators() {
+		for (final int targetCount : TARGET_COUNTS) {
+			// Arrange:
+			final View[] views = new View[targetCount];
+			for (int i = 0; i < targetCount; i++) {
+				views[i] = new View(context);
+			}
+			for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+				createPathAnimators(views);
+				createTranslationAnimators(views);
+			}
+			// Act:
+			Debug.resetThreadAllocCount();
+			Debug.resetThreadAllocSize();
+			Debug.startAllocCounting();
+			long time = SystemClock.elapsedRealtimeNanos();
+			createPathAnimators(views);
+			final long pathTime = SystemClock.elapsedRealtimeNanos() - time;
+			Debug.stopAllocCounting();
+			final int pathAllocCount = Debug.getThreadAllocCount();
+			final int pathAllocSize = Debug.getThreadAllocSize();
+			Debug.resetThreadAllocCount();
+			Debug.resetThreadAllocSize();
+			Debug.startAllocCounting();
+			time = SystemClock.elapsedRealtimeNanos();
+			createTranslationAnimators(views);
+			final long translationTime = SystemClock.elapsedRealtimeNanos() - time;
+			Debug.stopAllocCounting();
+			final int translationAllocCount = Debug.getThreadAllocCount();
+			final int translationAllocSize = Debug.getThreadAllocSize();
+			// Assert:
+			assertThat(
+					"targets: " + targetCount +
+							", path: " + pathTime / 1000 + " us, " + pathAllocCount + " allocations, " + pathAllocSize + " bytes" +
+							", property values holders: " + translationTime / 1000 + " us, " + translationAllocCount + " allocations, " + translationAllocSize + " bytes",
+					translationAllocSize,
+					lessThanOrEqualTo(pathAllocSize)
+			);
+		}
+	}
+
+	@Test public void testInflateTransitions() {
+		assumeTrue(TestUtils.hasLibraryRootPackageName(context));
+		// Arrange:
+		for (int i = 0; i < WARM_UP_ROUNDS; i++) {
+			inflateTransitions(false);
+			inflateTransitions(true);
+		}
+		// Act:
+		Debug.resetThreadAllocCount();
+		Debug.resetThreadAllocSize();
+		Debug.startAllocCounting();
+		long time = SystemClock.elapsedRealtimeNanos();
+		inflateTransitions(false);
+		final long parsingTime = SystemClock.elapsedRealtimeNanos() - time;
+		Debug.stopAllocCounting();
+		final int parsingAllocCount = Debug.getThreadAllocCount();
+		final int parsingAllocSize = Debug.getThreadAllocSize();
+		Debug.resetThreadAllocCount();
+		Debug.resetThreadAllocSize();
+		Debug.startAllocCounting();
+		time = SystemClock.elapsedRealtimeNanos();
+		inflateTransitions(true);
+		final long cachedTime = SystemClock.elapsedRealtimeNanos() - time;
+		Debug.stopAllocCounting();
+		final int cachedAllocCount = Debug.getThreadAllocCount();
+		final int cachedAllocSize = Debug.getThreadAllocSize();
+		// Assert:
+		assertThat(
+				"inflations: " + INFLATION_COUNT +
+						", parsed: " + parsingTime / 1000 + " us, " + parsingAllocCount + " allocations, " + parsingAllocSize + " bytes" +
+						", cached: " + cachedTime / 1000 + " us, " + cachedAllocCount + " allocations, " + cachedAllocSize + " bytes",
+				cachedTime,
+				lessThanOrEqualTo(parsingTime)
+		);
+	}
+
+	private void inflateTransitions(final boolean cached) {
+		for (int i = 0; i < INFLATION_COUNT; i++) {
+			if (!cached) {
+				Translate.ATTRIBUTES_CACHE.clear();
+			}
+			TestUtils.inflateTransition(context, "translate_relative_to_target");
+		}
+	}
+
+	private static void createPathAnimators(final View[] views) {
+		for (final View view : views) {
+			final Path path = new Path();
+			path.moveTo(0, 0);
+			path.lineTo(100, 50);
+			ObjectAnimator.ofFloat(view, View.TRANSLATION_X, View.TRANSLATION_Y, path);
+		}
+	}
+
+	private static void createTranslationAnimators(final View[] views) {
+		for (final View view : views) {
+			Translate.createTranslationAnimator(view, 0, 0, 100, 50);
+		}
+	}
+}
@@ -0,0 +1,300 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2018 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.transition;
+
+import android.animation.ValueAnimator;
+import android.util.LruCache;
+import android.view.View;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.VisibleForTesting;
+
+/**
+ * A table of keyframes describing an arc motion between two points, sampled uniformly by length
+ * of the arc, so a view moved along the arc with a linearly changing fraction moves with a constant
+ * speed.
+ * <p>
+ * The table is normalized to the chord of the arc. Keyframes are stored as coordinates {@code [u, v]}
+ * where {@code u} is the distance along the chord and {@code v} the distance perpendicular to the
+ * chord, both as fractions of the chord length. Such a table does not depend on the actual start
+ * and end points of the motion, so a single table may be shared by all arcs with the same curvature
+ * regardless of theirs deltas. Tables are obtained via {@link #obtain(float)} from a LRU cache keyed
+ * by quantized curvature.
+ *
+ * @author Martin Albedinsky
+ */
+final class ArcMotionTable {
+
+	/*
+	 * Constants ===================================================================================
+	 */
+
+	/**
+	 * Log TAG.
+	 */
+	// private static final String TAG = "ArcMotionTable";
+
+	/**
+	 * Maximum absolute curvature of an arc, that is the height of the arc as fraction of its chord.
+	 */
+	static final float MAX_CURVATURE = 1f;
+
+	/**
+	 * Count of curvature buckets per unit of curvature. Curvatures within the same bucket share a
+	 * single table.
+	 */
+	@VisibleForTesting static final int CURVATURE_BUCKETS = 64;
+
+	/**
+	 * Count of segments between keyframes of a table.
+	 */
+	@VisibleForTesting static final int SEGMENTS = 32;
+
+	/**
+	 * Count of samples used to measure length of an arc when computing its table.
+	 */
+	private static final int MEASURE_SAMPLES = 4 * SEGMENTS;
+
+	/**
+	 * Maximum count of tables held in {@link #CACHE}.
+	 */
+	private static final int MAX_CACHED_TABLES = 16;
+
+	/*
+	 * Interface ===================================================================================
+	 */
+
+	/*
+	 * Static members ==============================================================================
+	 */
+
+	/**
+	 * Cache of tables mapped to theirs curvature buckets.
+	 */
+	@VisibleForTesting static final LruCache<Integer, ArcMotionTable> CACHE = new LruCache<>(MAX_CACHED_TABLES);
+
+	/*
+	 * Members =====================================================================================
+	 */
+
+	/**
+	 * Coordinates of keyframes along the chord.
+	 */
+	private final float[] us = new float[SEGMENTS + 1];
+
+	/**
+	 * Coordinates of keyframes perpendicular to the chord.
+	 */
+	private final float[] vs = new float[SEGMENTS + 1];
+
+	/*
+	 * Constructors ================================================================================
+	 */
+
+	/**
+	 * Creates a new instance of ArcMotionTable for an arc with the specified <var>curvature</var>.
+	 * The arc is a quadratic Bezier curve from {@code [0, 0]} to {@code [1, 0]} with its peak at
+	 * {@code [0.5, curvature]}.
+	 *
+	 * @param curvature Curvature of the arc.
+	 */
+	@VisibleForTesting ArcMotionTable(final float curvature) {
+		// Measure cumulative length of the arc at uniformly distributed curve parameters.
+		final float[] lengths = new float[MEASURE_SAMPLES + 1];
+		final float dx = 1f / MEASURE_SAMPLES;
+		float previousY = 0;
+		for (int i = 1; i <= MEASURE_SAMPLES; i++) {
+			final float t = i / (float) MEASURE_SAMPLES;
+			final float y = curveY(curvature, t);
+			final float dy = y - previousY;
+			lengths[i] = lengths[i - 1] + (float) Math.sqrt(dx * dx + dy * dy);
+			previousY = y;
+		}
+		// Invert the lengths so keyframes are distributed uniformly along the arc.
+		final float length = lengths[MEASURE_SAMPLES];
+		int sample = 0;
+		for (int i = 0; i <= SEGMENTS; i++) {
+			final float targetLength = length * i / SEGMENTS;
+			while (sample < MEASURE_SAMPLES - 1 && lengths[sample + 1] < targetLength) {
+				sample++;
+			}
+			final float segmentLength = lengths[sample + 1] - lengths[sample];
+			final float segmentFraction = segmentLength == 0 ? 0 : (targetLength - lengths[sample]) / segmentLength;
+			final float t = Math.min(1f, (sample + segmentFraction) / MEASURE_SAMPLES);
+			this.us[i] = t;
+			this.vs[i] = curveY(curvature, t);
+		}
+		this.us[SEGMENTS] = 1f;
+		this.vs[SEGMENTS] = 0f;
+	}
+
+	/*
+	 * Methods =====================================================================================
+	 */
+
+	/**
+	 * Returns a table for arcs with the specified <var>curvature</var>, creating and caching it if
+	 * there is no table for the curvature's bucket cached yet.
+	 *
+	 * @param curvature The desired curvature. Clamped to {@code [-MAX_CURVATURE, MAX_CURVATURE]}.
+	 * @return Table for the curvature.
+	 */
+	@NonNull static ArcMotionTable obtain(final float curvature) {
+		final float clampedCurvature = Math.max(-MAX_CURVATURE, Math.min(MAX_CURVATURE, curvature));
+		// Small integers are cached by Integer.valueOf(...), so lookups within the clamped range do not allocate.
+		final Integer bucket = Math.round(clampedCurvature * CURVATURE_BUCKETS);
+		ArcMotionTable table = CACHE.get(bucket);
+		if (table == null) {
+			table = new ArcMotionTable(bucket / (float) CURVATURE_BUCKETS);
+			CACHE.put(bucket, table);
+		}
+		return table;
+	}
+
+	/**
+	 * Computes y coordinate of the normalized arc at the specified curve parameter.
+	 *
+	 * @param curvature Curvature of the arc.
+	 * @param t         Curve parameter from the range {@code [0, 1]}. Equals x coordinate of the arc.
+	 * @return The y coordinate.
+	 */
+	private static float curveY(final float curvature, final float t) {
+		return 4 * curvature * t * (1 - t);
+	}
+
+	/**
+	 * Returns the coordinate along the chord at the specified <var>fraction</var> of the arc length.
+	 *
+	 * @param fraction Fraction of the arc length from the range {@code [0, 1]}.
+	 * @return Fraction of the chord length.
+	 */
+	float u(final float fraction) {
+		return interpolate(us, fraction);
+	}
+
+	/**
+	 * Returns the coordinate perpendicular to the chord at the specified <var>fraction</var> of the
+	 * arc length.
+	 *
+	 * @param fraction Fraction of the arc length from the range {@code [0, 1]}.
+	 * @return Fraction of the chord length.
+	 */
+	float v(final float fraction) {
+		return interpolate(vs, fraction);
+	}
+
+	/**
+	 * Linearly interpolates between keyframes of the given <var>values</var>.
+	 *
+	 * @param values   Keyframe values.
+	 * @param fraction Fraction of the arc length.
+	 * @return Interpolated value.
+	 */
+	private static float interpolate(final float[] values, final float fraction) {
+		if (fraction <= 0) {
+			return values[0];
+		}
+		if (fraction >= 1) {
+			return values[SEGMENTS];
+		}
+		final float position = fraction * SEGMENTS;
+		final int index = (int) position;
+		final float segmentFraction = position - index;
+		return values[index] + (values[index + 1] - values[index]) * segmentFraction;
+	}
+
+	/*
+	 * Inner classes ===============================================================================
+	 */
+
+	/**
+	 * A {@link ValueAnimator.AnimatorUpdateListener} which translates a view along an arc described
+	 * by {@link ArcMotionTable} between two translations according to the animated fraction of a
+	 * value animator, so no value needs to be boxed per frame. The listener holds no state that
+	 * changes during the animation, so it may be safely shared by clones of its animator.
+	 */
+	static final class TranslationUpdateListener implements ValueAnimator.AnimatorUpdateListener {
+
+		/**
+		 * View to be translated.
+		 */
+		private final View view;
+
+		/**
+		 * Table describing the arc.
+		 */
+		private final ArcMotionTable table;
+
+		/**
+		 * Translations at which the motion starts.
+		 */
+		private final float startX, startY;
+
+		/**
+		 * Deltas between the end and the start translations.
+		 */
+		private final float deltaX, deltaY;
+
+		/**
+		 * Creates a new instance of TranslationUpdateListener for motion of the given <var>view</var>
+		 * along an arc described by the given <var>table</var>.
+		 *
+		 * @param view   The view to be translated.
+		 * @param table  Table describing the arc.
+		 * @param startX Translation at which the motion starts along X axis.
+		 * @param startY Translation at which the motion starts along Y axis.
+		 * @param endX   Translation at which the motion ends along X axis.
+		 * @param endY   Translation at which the motion ends along Y axis.
+		 */
+		TranslationUpdateListener(
+				final View view,
+				final ArcMotionTable table,
+				final float startX,
+				final float startY,
+				final float endX,
+				final float endY
+		) {
+			this.view = view;
+			this.table = table;
+			this.startX = startX;
+			this.startY = startY;
+			this.deltaX = endX - startX;
+			this.deltaY = endY - startY;
+		}
+
+		/**
+		 */
+		@Override public void onAnimationUpdate(@NonNull final ValueAnimator animation) {
+			update(animation.getAnimatedFraction());
+		}
+
+		/**
+		 * Translates the view to the position on the arc at the specified <var>fraction</var>.
+		 *
+		 * @param fraction Fraction of the motion from the range {@code [0, 1]}.
+		 */
+		void update(final float fraction) {
+			final float u = table.u(fraction);
+			final float v = table.v(fraction);
+			// Perpendicular of the chord [deltaX, deltaY] is [-deltaY, deltaX].
+			view.setTranslationX(startX + u * deltaX - v * deltaY);
+			view.setTranslationY(startY + u * deltaY + v * deltaX);
+		}
+	}
+}
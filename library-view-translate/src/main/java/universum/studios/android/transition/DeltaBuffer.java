@@ -0,0 +1,207 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2018 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.transition;
+
+import android.view.View;
+import android.view.ViewGroup;
+
+import java.util.Arrays;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.UiThread;
+
+/**
+ * A buffer which holds translation deltas resolved via {@link Translate.BatchDeltaResolver} for all
+ * views recorded in a {@link LocationBuffer} during a single capture pass of {@link Translate}
+ * transition.
+ * <p>
+ * Sizes of the recorded views are collected into primitive arrays indexed by slots of the location
+ * buffer and deltas for all of them are resolved in one call for each axis, so size of the scene
+ * is read only once per pass. Arrays are reused, so once the buffer has grown to the capacity of
+ * the location buffer, subsequent passes do not allocate.
+ * <p>
+ * The buffer is not thread safe and is expected to be used only from the UI thread.
+ *
+ * @author Martin Albedinsky
+ */
+@UiThread
+final class DeltaBuffer {
+
+	/*
+	 * Constants ===================================================================================
+	 */
+
+	/**
+	 * Log TAG.
+	 */
+	// private static final String TAG = "DeltaBuffer";
+
+	/*
+	 * Interface ===================================================================================
+	 */
+
+	/*
+	 * Static members ==============================================================================
+	 */
+
+	/*
+	 * Members =====================================================================================
+	 */
+
+	/**
+	 * Sizes of the recorded views at the corresponding slots of the location buffer.
+	 */
+	private int[] widths, heights;
+
+	/**
+	 * Relativities of the delta values for all slots.
+	 */
+	private int[] relativitiesX, relativitiesY;
+
+	/**
+	 * Delta values from which to resolve deltas for all slots.
+	 */
+	private float[] valuesX, valuesY;
+
+	/**
+	 * Deltas resolved for the corresponding slots of the location buffer.
+	 */
+	private float[] deltasX, deltasY;
+
+	/**
+	 * Boolean flag indicating whether this buffer holds deltas resolved for the current pass.
+	 */
+	private boolean resolved;
+
+	/*
+	 * Constructors ================================================================================
+	 */
+
+	/**
+	 * Creates a new empty instance of DeltaBuffer.
+	 */
+	DeltaBuffer() {
+		ensureCapacity(0);
+	}
+
+	/*
+	 * Methods =====================================================================================
+	 */
+
+	/**
+	 * Resolves translation deltas for all views recorded in the specified <var>locations</var> via
+	 * the given batch <var>resolver</var>.
+	 *
+	 * @param resolver    The resolver used to resolve the deltas.
+	 * @param sceneRoot   Root of the scene containing the recorded views.
+	 * @param locations   Buffer with views for which to resolve deltas.
+	 * @param xRelativity Relativity of the <var>xValue</var>.
+	 * @param xValue      Delta value along X axis.
+	 * @param yRelativity Relativity of the <var>yValue</var>.
+	 * @param yValue      Delta value along Y axis.
+	 */
+	void resolve(
+			@NonNull final Translate.BatchDeltaResolver resolver,
+			@NonNull final ViewGroup sceneRoot,
+			@NonNull final LocationBuffer locations,
+			final int xRelativity,
+			final float xValue,
+			final int yRelativity,
+			final float yValue
+	) {
+		final int capacity = locations.capacity();
+		ensureCapacity(capacity);
+		for (int slot = 0; slot < capacity; slot++) {
+			final View view = locations.viewAt(slot);
+			if (view == null) {
+				this.widths[slot] = 0;
+				this.heights[slot] = 0;
+			} else {
+				this.widths[slot] = view.getWidth();
+				this.heights[slot] = view.getHeight();
+			}
+		}
+		Arrays.fill(relativitiesX, 0, capacity, xRelativity);
+		Arrays.fill(relativitiesY, 0, capacity, yRelativity);
+		Arrays.fill(valuesX, 0, capacity, xValue);
+		Arrays.fill(valuesY, 0, capacity, yValue);
+		resolver.resolveDeltasX(sceneRoot, widths, relativitiesX, valuesX, deltasX, capacity);
+		resolver.resolveDeltasY(sceneRoot, heights, relativitiesY, valuesY, deltasY, capacity);
+		this.resolved = true;
+	}
+
+	/**
+	 * Ensures that arrays of this buffer can hold at least the specified count of slots.
+	 *
+	 * @param capacity The desired capacity.
+	 */
+	private void ensureCapacity(final int capacity) {
+		if (widths == null || widths.length < capacity) {
+			this.widths = new int[capacity];
+			this.heights = new int[capacity];
+			this.relativitiesX = new int[capacity];
+			this.relativitiesY = new int[capacity];
+			this.valuesX = new float[capacity];
+			this.valuesY = new float[capacity];
+			this.deltasX = new float[capacity];
+			this.deltasY = new float[capacity];
+		}
+	}
+
+	/**
+	 * Checks whether this buffer holds deltas resolved for the current pass.
+	 *
+	 * @return {@code True} if deltas have been resolved and not invalidated since, {@code false} otherwise.
+	 *
+	 * @see #invalidate()
+	 */
+	boolean isResolved() {
+		return resolved;
+	}
+
+	/**
+	 * Returns delta along X axis resolved for a view at the specified <var>slot</var> of the location
+	 * buffer.
+	 *
+	 * @param slot Slot of the view.
+	 * @return Resolved delta in pixels.
+	 */
+	float getDeltaX(final int slot) {
+		return deltasX[slot];
+	}
+
+	/**
+	 * Returns delta along Y axis resolved for a view at the specified <var>slot</var> of the location
+	 * buffer.
+	 *
+	 * @param slot Slot of the view.
+	 * @return Resolved delta in pixels.
+	 */
+	float getDeltaY(final int slot) {
+		return deltasY[slot];
+	}
+
+	/**
+	 * Invalidates the resolved deltas so they are resolved again for the next pass. Capacity of
+	 * the buffer is preserved.
+	 */
+	void invalidate() {
+		this.resolved = false;
+	}
+}
@@ -0,0 +1,258 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2018 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.transition;
+
+import android.view.View;
+import android.view.ViewParent;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.UiThread;
+
+/**
+ * A buffer which records locations on screen of views captured during a single capture pass of
+ * {@link Translate} transition.
+ * <p>
+ * Views are captured by transitions from top to bottom of a view hierarchy, so location of a view
+ * may be resolved from the already recorded location of its nearest recorded ancestor and offsets
+ * of views between them, instead of walking the whole parent chain via {@link View#getLocationOnScreen(int[])}
+ * for each view. Whenever there is no recorded ancestor or any of the views on the way is rotated
+ * or scaled, the buffer falls back to {@link View#getLocationOnScreen(int[])}.
+ * <p>
+ * Locations are stored as packed primitive values in a {@link ViewTable} which holds the recorded
+ * views strongly, so once the buffer has grown to the size of the captured hierarchy, subsequent
+ * passes do not allocate. The buffer should be cleared once the pass is no longer needed.
+ * <p>
+ * The buffer is not thread safe and is expected to be used only from the UI thread.
+ *
+ * @author Martin Albedinsky
+ */
+@UiThread
+final class LocationBuffer {
+
+	/*
+	 * Constants ===================================================================================
+	 */
+
+	/**
+	 * Log TAG.
+	 */
+	// private static final String TAG = "LocationBuffer";
+
+	/**
+	 * Initial capacity of the buffer. Must be a power of two.
+	 */
+	private static final int INITIAL_CAPACITY = 64;
+
+	/*
+	 * Interface ===================================================================================
+	 */
+
+	/*
+	 * Static members ==============================================================================
+	 */
+
+	/*
+	 * Members =====================================================================================
+	 */
+
+	/**
+	 * Table with locations of the recorded views with raw bits of float x coordinate in upper and
+	 * of float y coordinate in lower 32 bits.
+	 */
+	private final ViewTable locations = new ViewTable(INITIAL_CAPACITY, false);
+
+	/**
+	 * Buffer used to obtain location of a view via {@link View#getLocationOnScreen(int[])}.
+	 */
+	private final int[] screenLocation = new int[2];
+
+	/*
+	 * Constructors ================================================================================
+	 */
+
+	/*
+	 * Methods =====================================================================================
+	 */
+
+	/**
+	 * Resolves and records location on screen of the given <var>view</var>.
+	 *
+	 * @param view The view of which location to record.
+	 */
+	void record(@NonNull final View view) {
+		if (!locations.contains(view)) {
+			locations.put(view, resolveLocation(view));
+		}
+	}
+
+	/**
+	 * Checks whether the given <var>view</var> has its location recorded in this buffer.
+	 *
+	 * @param view The view to be checked.
+	 * @return {@code True} if location of the view has been recorded, {@code false} otherwise.
+	 */
+	boolean contains(@NonNull final View view) {
+		return locations.contains(view);
+	}
+
+	/**
+	 * Copies recorded location of the given <var>view</var> into the specified <var>outLocation</var>.
+	 * Coordinates are rounded the same way as by {@link View#getLocationOnScreen(int[])}.
+	 *
+	 * @param view        The view of which location to obtain.
+	 * @param outLocation Array into which to copy x coordinate at {@code [0]} and y coordinate at {@code [1]}.
+	 * @return {@code True} if location of the view has been recorded and copied, {@code false} otherwise.
+	 */
+	boolean getLocation(@NonNull final View view, @NonNull final int[] outLocation) {
+		final long location = locations.get(view);
+		if (location == ViewTable.NO_VALUE) {
+			return false;
+		}
+		outLocation[0] = (int) (unpackX(location) + 0.5f);
+		outLocation[1] = (int) (unpackY(location) + 0.5f);
+		return true;
+	}
+
+	/**
+	 * Returns count of views recorded in this buffer.
+	 *
+	 * @return Size of the buffer.
+	 */
+	int size() {
+		return locations.size();
+	}
+
+	/**
+	 * Returns count of slots of this buffer. Views recorded in this buffer may be iterated via
+	 * {@link #viewAt(int)} for all slots from {@code [0, capacity())}.
+	 *
+	 * @return Capacity of the buffer.
+	 */
+	int capacity() {
+		return locations.capacity();
+	}
+
+	/**
+	 * Returns the view recorded at the specified <var>slot</var>.
+	 *
+	 * @param slot Slot from the {@code [0, capacity())} range.
+	 * @return The recorded view or {@code null} if the slot is empty.
+	 *
+	 * @see #slotOf(View)
+	 */
+	View viewAt(final int slot) {
+		return locations.keyAt(slot);
+	}
+
+	/**
+	 * Returns slot at which is the given <var>view</var> recorded in this buffer.
+	 *
+	 * @param view The view of which slot to resolve.
+	 * @return Slot of the view or {@code -1} if the view is not recorded.
+	 *
+	 * @see #viewAt(int)
+	 */
+	int slotOf(@NonNull final View view) {
+		return locations.slotOf(view);
+	}
+
+	/**
+	 * Removes all recorded views from this buffer. Capacity of the buffer is preserved.
+	 */
+	void clear() {
+		this.locations.clear();
+	}
+
+	/**
+	 * Resolves location on screen of the given <var>view</var> either from location of its nearest
+	 * recorded ancestor or via {@link View#getLocationOnScreen(int[])}.
+	 *
+	 * @param view The view of which location to resolve.
+	 * @return Packed location of the view.
+	 */
+	private long resolveLocation(final View view) {
+		float x = 0, y = 0;
+		View current = view;
+		while (hasTranslationOnlyTransform(current)) {
+			x += current.getLeft() + current.getTranslationX();
+			y += current.getTop() + current.getTranslationY();
+			final ViewParent parent = current.getParent();
+			if (!(parent instanceof View)) {
+				break;
+			}
+			current = (View) parent;
+			x -= current.getScrollX();
+			y -= current.getScrollY();
+			final long location = locations.get(current);
+			if (location != ViewTable.NO_VALUE) {
+				if (!hasTranslationOnlyTransform(current)) {
+					break;
+				}
+				return pack(unpackX(location) + x, unpackY(location) + y);
+			}
+		}
+		view.getLocationOnScreen(screenLocation);
+		return pack(screenLocation[0], screenLocation[1]);
+	}
+
+	/**
+	 * Checks whether the given <var>view</var> is only translated, that is it is not scaled nor
+	 * rotated, so locations of its children may be derived by offsetting its location.
+	 *
+	 * @param view The view to be checked.
+	 * @return {@code True} if the view has no other transformation than translation, {@code false} otherwise.
+	 */
+	private static boolean hasTranslationOnlyTransform(final View view) {
+		return view.getScaleX() == 1 && view.getScaleY() == 1 &&
+				view.getRotation() == 0 && view.getRotationX() == 0 && view.getRotationY() == 0;
+	}
+
+	/**
+	 * Packs the given coordinates into a single long value.
+	 *
+	 * @param x The x coordinate to be packed.
+	 * @param y The y coordinate to be packed.
+	 * @return Packed location.
+	 */
+	private static long pack(final float x, final float y) {
+		// Adding positive zero turns negative zero into positive one, so a packed location never
+		// equals to ViewTable.NO_VALUE.
+		return ((long) Float.floatToRawIntBits(x + 0f) << 32) | (Float.floatToRawIntBits(y + 0f) & 0xffffffffL);
+	}
+
+	/**
+	 * Unpacks x coordinate from the given <var>location</var>.
+	 *
+	 * @param location The location packed via {@link #pack(float, float)}.
+	 * @return The x coordinate.
+	 */
+	private static float unpackX(final long location) {
+		return Float.intBitsToFloat((int) (location >> 32));
+	}
+
+	/**
+	 * Unpacks y coordinate from the given <var>location</var>.
+	 *
+	 * @param location The location packed via {@link #pack(float, float)}.
+	 * @return The y coordinate.
+	 */
+	private static float unpackY(final long location) {
+		return Float.intBitsToFloat((int) location);
+	}
+}
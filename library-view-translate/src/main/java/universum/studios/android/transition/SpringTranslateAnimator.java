@@ -0,0 +1,565 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2018 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.transition;
+
+import android.animation.Animator;
+import android.animation.TimeInterpolator;
+import android.view.View;
+
+import java.util.ArrayList;
+
+import androidx.annotation.NonNull;
+import androidx.annotation.Nullable;
+import androidx.dynamicanimation.animation.DynamicAnimation;
+import androidx.dynamicanimation.animation.SpringAnimation;
+import androidx.dynamicanimation.animation.SpringForce;
+
+/**
+ * An {@link Animator} implementation which translates a view along X and Y axes via a pair of
+ * {@link SpringAnimation SpringAnimations}, so it may be returned by {@link Translate} transition
+ * as any other animator.
+ * <p>
+ * Springs are not driven by duration nor by interpolator, so values specified via {@link #setDuration(long)}
+ * and {@link #setInterpolator(TimeInterpolator)} are only stored. The animator tracks the current
+ * velocity of the springs, so when it is cancelled, its velocity may be carried into a subsequent
+ * animation of the same view via {@link #getVelocityX()} and {@link #getVelocityY()}.
+ *
+ * @author Martin Albedinsky
+ */
+final class SpringTranslateAnimator extends Animator {
+
+	/*
+	 * Constants ===================================================================================
+	 */
+
+	/**
+	 * Log TAG.
+	 */
+	// private static final String TAG = "SpringTranslateAnimator";
+
+	/*
+	 * Interface ===================================================================================
+	 */
+
+	/*
+	 * Static members ==============================================================================
+	 */
+
+	/*
+	 * Members =====================================================================================
+	 */
+
+	/**
+	 * View to be translated.
+	 */
+	private final View view;
+
+	/**
+	 * Translations at which should the springs start.
+	 */
+	private final float startX, startY;
+
+	/**
+	 * Velocities with which should the springs start in pixels per second.
+	 */
+	private final float startVelocityX, startVelocityY;
+
+	/**
+	 * Translations at which should the springs settle.
+	 */
+	private final float endX, endY;
+
+	/**
+	 * Stiffness of the springs.
+	 */
+	private final float stiffness;
+
+	/**
+	 * Damping ratio of the springs.
+	 */
+	private final float dampingRatio;
+
+	/**
+	 * Springs translating the view along X and Y axes.
+	 */
+	private SpringAnimation springX, springY;
+
+	/**
+	 * Current velocities of the springs in pixels per second.
+	 */
+	private float velocityX, velocityY;
+
+	/**
+	 * Count of springs that are currently running.
+	 */
+	private int runningSprings;
+
+	/**
+	 * Delay after which should be the springs started.
+	 */
+	private long startDelay;
+
+	/**
+	 * Duration specified for this animator. Not used by the springs.
+	 */
+	private long duration = -1;
+
+	/**
+	 * Interpolator specified for this animator. Not used by the springs.
+	 */
+	private TimeInterpolator interpolator;
+
+	/**
+	 * Boolean flag indicating whether this animator has been started and not ended or cancelled yet.
+	 */
+	private boolean started;
+
+	/**
+	 * Boolean flag indicating whether this animator is paused.
+	 */
+	private boolean paused;
+
+	/**
+	 * Pause listeners attached to this animator.
+	 */
+	private ArrayList<AnimatorPauseListener> pauseListeners;
+
+	/**
+	 * Runnable used to start the springs after the start delay elapses.
+	 */
+	private final Runnable startRunnable = new Runnable() {
+
+		/**
+		 */
+		@Override public void run() {
+			startSprings(startX, startY);
+		}
+	};
+
+	/**
+	 * Listener used to track velocities of the springs.
+	 */
+	private final DynamicAnimation.OnAnimationUpdateListener updateListener = new DynamicAnimation.OnAnimationUpdateListener() {
+
+		/**
+		 */
+		@Override public void onAnimationUpdate(@NonNull final DynamicAnimation animation, final float value, final float velocity) {
+			if (animation == springX) {
+				velocityX = velocity;
+			} else {
+				velocityY = velocity;
+			}
+		}
+	};
+
+	/**
+	 * Listener used to end this animator once both springs settle.
+	 */
+	private final DynamicAnimation.OnAnimationEndListener endListener = new DynamicAnimation.OnAnimationEndListener() {
+
+		/**
+		 */
+		@Override public void onAnimationEnd(
+				@NonNull final DynamicAnimation animation,
+				final boolean canceled,
+				final float value,
+				final float velocity
+		) {
+			if (animation == springX) {
+				velocityX = velocity;
+			} else {
+				velocityY = velocity;
+			}
+			if (!canceled && runningSprings > 0 && --runningSprings == 0) {
+				finish(false);
+			}
+		}
+	};
+
+	/*
+	 * Constructors ================================================================================
+	 */
+
+	/**
+	 * Creates a new instance of SpringTranslateAnimator for the specified <var>view</var>.
+	 *
+	 * @param view           The view to be translated.
+	 * @param startX         Translation from which to start the springs along X axis.
+	 * @param startY         Translation from which to start the springs along Y axis.
+	 * @param startVelocityX Velocity with which to start the spring along X axis.
+	 * @param startVelocityY Velocity with which to start the spring along Y axis.
+	 * @param endX           Translation at which should the spring settle along X axis.
+	 * @param endY           Translation at which should the spring settle along Y axis.
+	 * @param stiffness      Stiffness of the springs.
+	 * @param dampingRatio   Damping ratio of the springs.
+	 */
+	SpringTranslateAnimator(
+			@NonNull final View view,
+			final float startX,
+			final float startY,
+			final float startVelocityX,
+			final float startVelocityY,
+			final float endX,
+			final float endY,
+			final float stiffness,
+			final float dampingRatio
+	) {
+		super();
+		this.view = view;
+		this.startX = startX;
+		this.startY = startY;
+		this.startVelocityX = startVelocityX;
+		this.startVelocityY = startVelocityY;
+		this.endX = endX;
+		this.endY = endY;
+		this.stiffness = stiffness;
+		this.dampingRatio = dampingRatio;
+		this.velocityX = startVelocityX;
+		this.velocityY = startVelocityY;
+	}
+
+	/*
+	 * Methods =====================================================================================
+	 */
+
+	/**
+	 * Returns the current velocity of translation along X axis.
+	 *
+	 * @return Velocity in pixels per second.
+	 */
+	float getVelocityX() {
+		return velocityX;
+	}
+
+	/**
+	 * Returns the current velocity of translation along Y axis.
+	 *
+	 * @return Velocity in pixels per second.
+	 */
+	float getVelocityY() {
+		return velocityY;
+	}
+
+	/**
+	 */
+	@Override public void setStartDelay(final long startDelay) {
+		this.startDelay = Math.max(0, startDelay);
+	}
+
+	/**
+	 */
+	@Override public long getStartDelay() {
+		return startDelay;
+	}
+
+	/**
+	 */
+	@Override public Animator setDuration(final long duration) {
+		this.duration = duration;
+		return this;
+	}
+
+	/**
+	 */
+	@Override public long getDuration() {
+		return duration;
+	}
+
+	/**
+	 */
+	@Override public void setInterpolator(@Nullable final TimeInterpolator interpolator) {
+		this.interpolator = interpolator;
+	}
+
+	/**
+	 */
+	@Override @Nullable public TimeInterpolator getInterpolator() {
+		return interpolator;
+	}
+
+	/**
+	 */
+	@Override public void start() {
+		if (started) {
+			return;
+		}
+		this.started = true;
+		this.paused = false;
+		this.velocityX = startVelocityX;
+		this.velocityY = startVelocityY;
+		final ArrayList<AnimatorListener> listeners = copyListeners();
+		if (listeners != null) {
+			for (final AnimatorListener listener : listeners) {
+				listener.onAnimationStart(this);
+			}
+		}
+		if (startDelay > 0) {
+			view.postDelayed(startRunnable, startDelay);
+		} else {
+			startSprings(startX, startY);
+		}
+	}
+
+	/**
+	 * Starts both springs from the specified translations with the current velocities.
+	 *
+	 * @param fromX Translation from which to start the spring along X axis.
+	 * @param fromY Translation from which to start the spring along Y axis.
+	 */
+	private void startSprings(final float fromX, final float fromY) {
+		if (!started || paused) {
+			return;
+		}
+		this.springX = createSpring(DynamicAnimation.TRANSLATION_X, fromX, velocityX, endX);
+		this.springY = createSpring(DynamicAnimation.TRANSLATION_Y, fromY, velocityY, endY);
+		this.runningSprings = 2;
+		this.springX.start();
+		this.springY.start();
+	}
+
+	/**
+	 * Creates a spring animating the specified <var>property</var> of the view.
+	 *
+	 * @param property      The property to be animated.
+	 * @param startValue    Value from which to start the spring.
+	 * @param startVelocity Velocity with which to start the spring.
+	 * @param finalPosition Value at which should the spring settle.
+	 * @return Spring ready to be started.
+	 */
+	private SpringAnimation createSpring(
+			final DynamicAnimation.ViewProperty property,
+			final float startValue,
+			final float startVelocity,
+			final float finalPosition
+	) {
+		final SpringAnimation spring = new SpringAnimation(view, property, finalPosition);
+		final SpringForce force = spring.getSpring();
+		force.setStiffness(stiffness);
+		force.setDampingRatio(dampingRatio);
+		spring.setStartValue(startValue);
+		spring.setStartVelocity(startVelocity);
+		spring.addUpdateListener(updateListener);
+		spring.addEndListener(endListener);
+		return spring;
+	}
+
+	/**
+	 */
+	@Override public boolean isStarted() {
+		return started;
+	}
+
+	/**
+	 */
+	@Override public boolean isRunning() {
+		return started && runningSprings > 0;
+	}
+
+	/**
+	 */
+	@Override public void pause() {
+		if (started && !paused) {
+			this.paused = true;
+			view.removeCallbacks(startRunnable);
+			cancelSprings();
+			final ArrayList<AnimatorPauseListener> listeners = copyPauseListeners();
+			if (listeners != null) {
+				for (final AnimatorPauseListener listener : listeners) {
+					listener.onAnimationPause(this);
+				}
+			}
+		}
+	}
+
+	/**
+	 */
+	@Override public boolean isPaused() {
+		return paused;
+	}
+
+	/**
+	 * Resumes this animator. The springs are restarted from the current translation of the view
+	 * with the velocity they had when this animator has been paused.
+	 */
+	@Override public void resume() {
+		if (paused) {
+			this.paused = false;
+			final ArrayList<AnimatorPauseListener> listeners = copyPauseListeners();
+			if (listeners != null) {
+				for (final AnimatorPauseListener listener : listeners) {
+					listener.onAnimationResume(this);
+				}
+			}
+			if (springX == null) {
+				startSprings(startX, startY);
+			} else {
+				startSprings(view.getTranslationX(), view.getTranslationY());
+			}
+		}
+	}
+
+	/**
+	 * Cancels this animator, leaving the view at its current translation. Velocities of the springs
+	 * at the time of cancellation remain available via {@link #getVelocityX()} and {@link #getVelocityY()}.
+	 */
+	@Override public void cancel() {
+		if (started) {
+			view.removeCallbacks(startRunnable);
+			cancelSprings();
+			final ArrayList<AnimatorListener> listeners = copyListeners();
+			if (listeners != null) {
+				for (final AnimatorListener listener : listeners) {
+					listener.onAnimationCancel(this);
+				}
+			}
+			finish(true);
+		}
+	}
+
+	/**
+	 * Ends this animator, moving the view immediately to the end translations.
+	 */
+	@Override public void end() {
+		if (!started) {
+			start();
+		}
+		view.removeCallbacks(startRunnable);
+		cancelSprings();
+		view.setTranslationX(endX);
+		view.setTranslationY(endY);
+		this.velocityX = 0;
+		this.velocityY = 0;
+		finish(false);
+	}
+
+	/**
+	 * Cancels both springs, if running. Velocities of the springs at the time of cancellation are
+	 * delivered to the end listener.
+	 */
+	private void cancelSprings() {
+		this.runningSprings = 0;
+		if (springX != null) {
+			this.springX.cancel();
+			this.springY.cancel();
+		}
+	}
+
+	/**
+	 * Finishes this animator and notifies end listeners.
+	 *
+	 * @param canceled {@code True} if this animator has been cancelled, {@code false} if it has ended.
+	 */
+	private void finish(final boolean canceled) {
+		if (!started) {
+			return;
+		}
+		this.started = false;
+		this.paused = false;
+		this.runningSprings = 0;
+		if (!canceled) {
+			this.velocityX = 0;
+			this.velocityY = 0;
+		}
+		final ArrayList<AnimatorListener> listeners = copyListeners();
+		if (listeners != null) {
+			for (final AnimatorListener listener : listeners) {
+				listener.onAnimationEnd(this);
+			}
+		}
+	}
+
+	/**
+	 * Returns a copy of the attached animator listeners, so they may remove themselves while being
+	 * notified.
+	 *
+	 * @return Copy of the listeners or {@code null} if there are no listeners attached.
+	 */
+	@SuppressWarnings("unchecked")
+	private ArrayList<AnimatorListener> copyListeners() {
+		final ArrayList<AnimatorListener> listeners = getListeners();
+		return listeners == null || listeners.isEmpty() ? null : (ArrayList<AnimatorListener>) listeners.clone();
+	}
+
+	/**
+	 * Returns a copy of the attached animator pause listeners, so they may remove themselves while
+	 * being notified.
+	 *
+	 * @return Copy of the pause listeners or {@code null} if there are no listeners attached.
+	 */
+	private ArrayList<AnimatorPauseListener> copyPauseListeners() {
+		return pauseListeners == null || pauseListeners.isEmpty() ? null : new ArrayList<>(pauseListeners);
+	}
+
+	/**
+	 */
+	@Override public void addPauseListener(@NonNull final AnimatorPauseListener listener) {
+		if (pauseListeners == null) {
+			this.pauseListeners = new ArrayList<>(1);
+		}
+		this.pauseListeners.add(listener);
+	}
+
+	/**
+	 */
+	@Override public void removePauseListener(@NonNull final AnimatorPauseListener listener) {
+		if (pauseListeners != null) {
+			this.pauseListeners.remove(listener);
+		}
+	}
+
+	/**
+	 */
+	@Override public void removeAllListeners() {
+		super.removeAllListeners();
+		if (pauseListeners != null) {
+			this.pauseListeners.clear();
+		}
+	}
+
+	/**
+	 */
+	@Override public SpringTranslateAnimator clone() {
+		final SpringTranslateAnimator clone = new SpringTranslateAnimator(
+				view,
+				startX, startY,
+				startVelocityX, startVelocityY,
+				endX, endY,
+				stiffness, dampingRatio
+		);
+		clone.startDelay = startDelay;
+		clone.duration = duration;
+		clone.interpolator = interpolator;
+		final ArrayList<AnimatorListener> listeners = getListeners();
+		if (listeners != null) {
+			for (final AnimatorListener listener : listeners) {
+				clone.addListener(listener);
+			}
+		}
+		if (pauseListeners != null) {
+			for (final AnimatorPauseListener listener : pauseListeners) {
+				clone.addPauseListener(listener);
+			}
+		}
+		return clone;
+	}
+
+	/*
+	 * Inner classes ===============================================================================
+	 */
+}
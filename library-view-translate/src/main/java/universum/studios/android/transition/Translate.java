@@ -21,11 +21,12 @@ package universum.studios.android.transition;
 import android.animation.Animator;
 import android.animation.AnimatorListenerAdapter;
 import android.animation.ObjectAnimator;
+import android.animation.PropertyValuesHolder;
 import android.animation.TimeInterpolator;
+import android.animation.ValueAnimator;
 import android.content.Context;
 import android.content.res.Resources;
 import android.content.res.TypedArray;
-import android.graphics.Path;
 import android.os.Build;
 import android.transition.Transition;
 import android.transition.TransitionValues;
@@ -43,8 +44,13 @@ import androidx.annotation.NonNull;
 import androidx.annotation.Nullable;
 import androidx.annotation.RequiresApi;
 import androidx.annotation.VisibleForTesting;
+import androidx.dynamicanimation.animation.SpringForce;
 import androidx.interpolator.view.animation.FastOutSlowInInterpolator;
+import universum.studios.android.transition.util.AnimatorWrapper;
+import universum.studios.android.transition.util.LayerPolicy;
+import universum.studios.android.transition.util.PropertyAnimators;
 import universum.studios.android.transition.util.TransitionUtils;
+import universum.studios.android.transition.util.ViewPropertyAnimatorWrapper;
 
 /**
  * A {@link Visibility} transition implementation that tracks changes to the visibility of target
@@ -92,9 +98,35 @@ public class Translate extends Visibility {
 	public @interface TranslateMode {}
 
 	/**
-	 * Name of the property holding position on screen for animating view in {@link TransitionValues}.
+	 * Name of the property holding {@link CapturedValues} with position on screen for animating view
+	 * in {@link TransitionValues}.
 	 */
-	@VisibleForTesting static final String PROPERTY_TRANSITION_LOCATION_ON_SCREEN = Translate.class.getName() + ":transition.locationOnScreen";
+	@VisibleForTesting static final String PROPERTY_TRANSITION_VALUES = Translate.class.getName() + ":transition.values";
+
+	/**
+	 * Index of the int slot of {@link CapturedValues} holding x coordinate of position on screen.
+	 */
+	@VisibleForTesting static final int SLOT_LOCATION_X = 0;
+
+	/**
+	 * Index of the int slot of {@link CapturedValues} holding y coordinate of position on screen.
+	 */
+	@VisibleForTesting static final int SLOT_LOCATION_Y = 1;
+
+	/**
+	 * Flag indicating that there is no capture pass in progress.
+	 */
+	private static final int CAPTURE_PASS_NONE = 0;
+
+	/**
+	 * Flag indicating that start values are being captured.
+	 */
+	private static final int CAPTURE_PASS_START = 1;
+
+	/**
+	 * Flag indicating that end values are being captured.
+	 */
+	private static final int CAPTURE_PASS_END = 2;
 
 	/*
 	 * Interface ===================================================================================
@@ -144,6 +176,67 @@ public class Translate extends Visibility {
 		float resolveDeltaY(@NonNull ViewGroup sceneRoot, @NonNull View view, @Description.ValueRelativity int valueRelativity, float value);
 	}
 
+	/**
+	 * A {@link DeltaResolver} which may also resolve delta values for multiple views at once. Batch
+	 * methods take sizes of views instead of the views themselves, so sizes may be collected once
+	 * and deltas for all views resolved in a single tight loop with size of the scene read only
+	 * once per call.
+	 * <p>
+	 * When {@link #setSinglePassCaptureEnabled(boolean) single pass capture} is enabled, Translate
+	 * resolves deltas for all views captured in a pass via a single call of the batch methods.
+	 *
+	 * @author Martin Albedinsky
+	 * @since 1.4
+	 */
+	public interface BatchDeltaResolver extends DeltaResolver {
+
+		/**
+		 * Resolves delta values for translate animations along X axis for the first <var>count</var>
+		 * views described by the specified arrays.
+		 *
+		 * @param sceneRoot         Root view of the scene containing the target views.
+		 * @param viewWidths        Widths of the target views.
+		 * @param valueRelativities Relativity types describing how the corresponding <var>values</var>
+		 *                          should be treated.
+		 * @param values            Either absolute or relative delta values.
+		 * @param outDeltas         Array into which to put the resolved delta values in pixels.
+		 * @param count             Count of views for which to resolve delta values.
+		 *
+		 * @see #resolveDeltaX(ViewGroup, View, int, float)
+		 */
+		void resolveDeltasX(
+				@NonNull ViewGroup sceneRoot,
+				@NonNull int[] viewWidths,
+				@NonNull int[] valueRelativities,
+				@NonNull float[] values,
+				@NonNull float[] outDeltas,
+				int count
+		);
+
+		/**
+		 * Resolves delta values for translate animations along Y axis for the first <var>count</var>
+		 * views described by the specified arrays.
+		 *
+		 * @param sceneRoot         Root view of the scene containing the target views.
+		 * @param viewHeights       Heights of the target views.
+		 * @param valueRelativities Relativity types describing how the corresponding <var>values</var>
+		 *                          should be treated.
+		 * @param values            Either absolute or relative delta values.
+		 * @param outDeltas         Array into which to put the resolved delta values in pixels.
+		 * @param count             Count of views for which to resolve delta values.
+		 *
+		 * @see #resolveDeltaY(ViewGroup, View, int, float)
+		 */
+		void resolveDeltasY(
+				@NonNull ViewGroup sceneRoot,
+				@NonNull int[] viewHeights,
+				@NonNull int[] valueRelativities,
+				@NonNull float[] values,
+				@NonNull float[] outDeltas,
+				int count
+		);
+	}
+
 	/*
 	 * Static members ==============================================================================
 	 */
@@ -154,61 +247,31 @@ public class Translate extends Visibility {
 	public static final TimeInterpolator INTERPOLATOR = new FastOutSlowInInterpolator();
 
 	/**
-	 * Default implementation of {@link DeltaResolver} used to resolve translation delta values
-	 * for {@link #onAppear(ViewGroup, TransitionValues, int, TransitionValues, int)} and
-	 * {@link #onDisappear(ViewGroup, TransitionValues, int, TransitionValues, int)} methods.
+	 * Cache of configurations parsed from attributes of Translate transitions inflated from XML.
 	 */
-	public static final DeltaResolver DELTA_RESOLVER = new DeltaResolver() {
+	@VisibleForTesting static final ParsedAttributesCache<ParsedAttributes> ATTRIBUTES_CACHE = new ParsedAttributesCache<ParsedAttributes>();
 
-		/**
-		 */
-		@Override public float resolveDeltaX(
-				@NonNull final ViewGroup sceneRoot,
-				@NonNull final View view,
-				@Description.ValueRelativity final int valueRelativity,
-				final float value
-		) {
-			return resolveDelta(valueRelativity, value, sceneRoot.getWidth(), view.getWidth());
-		}
+	/**
+	 * Table with positions of views at which have been theirs translate animations interrupted.
+	 * A subsequent translate animation of such view starts from its interrupted position.
+	 */
+	@VisibleForTesting static final ViewTable INTERRUPTED_POSITIONS = new ViewTable(true);
 
-		/**
-		 */
-		@Override public float resolveDeltaY(
-				@NonNull final ViewGroup sceneRoot,
-				@NonNull final View view,
-				@Description.ValueRelativity final int valueRelativity,
-				final float value
-		) {
-			return resolveDelta(valueRelativity, value, sceneRoot.getHeight(), view.getHeight());
-		}
+	/**
+	 * Table with velocities in pixels per second at which have been spring driven translate animations
+	 * of views interrupted. A subsequent spring driven translate animation of such view starts with
+	 * its interrupted velocity.
+	 */
+	@VisibleForTesting static final ViewTable INTERRUPTED_VELOCITIES = new ViewTable(true);
 
-		/**
-		 * Resolves delta value for translation based on the specified parameters.
-		 *
-		 * @param valueRelativity Relativity of the given <var>value</var> determining how the value
-		 *                        should be treated.
-		 * @param value           Value from which to resolve translation delta.
-		 * @param sceneSize       Size of the scene in which is presented the view to be translated.
-		 * @param viewSize        Size of the view to be translated.
-		 * @return Resolved translation delta according to the specified parameters.
-		 */
-		private float resolveDelta(
-				@Description.ValueRelativity final int valueRelativity,
-				final float value,
-				final int sceneSize,
-				final int viewSize
-		) {
-			switch (valueRelativity) {
-				case Description.RELATIVE_TO_TARGET:
-					return value * viewSize;
-				case Description.RELATIVE_TO_SCENE:
-					return value * sceneSize;
-				case Description.NONE:
-				default:
-					return value;
-			}
-		}
-	};
+	/**
+	 * Default implementation of {@link DeltaResolver} used to resolve translation delta values
+	 * for {@link #onAppear(ViewGroup, TransitionValues, int, TransitionValues, int)} and
+	 * {@link #onDisappear(ViewGroup, TransitionValues, int, TransitionValues, int)} methods,
+	 * unless a different resolver is specified via {@link #setDeltaResolver(DeltaResolver)}.
+	 * The resolver is an instance of {@link DefaultDeltaResolver}, so it also supports batch resolving.
+	 */
+	public static final DeltaResolver DELTA_RESOLVER = new DefaultDeltaResolver();
 
 	/*
 	 * Members =====================================================================================
@@ -246,6 +309,97 @@ public class Translate extends Visibility {
 	 */
 	private int translationYRelativity = Description.NONE;
 
+	/**
+	 * Policy determining whether target views should be rendered into a hardware layer while translated.
+	 */
+	private int layerPolicy = LayerPolicy.NONE;
+
+	/**
+	 * Boolean flag indicating whether locations of target views should be captured in a single pass
+	 * over the view hierarchy.
+	 */
+	private boolean singlePassCaptureEnabled;
+
+	/**
+	 * Boolean flag indicating whether target views should be translated via springs instead of
+	 * interpolated animations.
+	 */
+	private boolean springEnabled;
+
+	/**
+	 * Stiffness of springs used to translate target views.
+	 */
+	private float springStiffness = SpringForce.STIFFNESS_MEDIUM;
+
+	/**
+	 * Damping ratio of springs used to translate target views.
+	 */
+	private float springDampingRatio = SpringForce.DAMPING_RATIO_NO_BOUNCY;
+
+	/**
+	 * Curvature of arcs along which should be target views translated. Zero for straight lines.
+	 */
+	private float arcMotionCurvature;
+
+	/**
+	 * Boolean flag indicating whether target views should be translated via theirs view property
+	 * animators.
+	 */
+	private boolean viewPropertyAnimatorEnabled;
+
+	/**
+	 * Configuration of animators created for target views, resolved from {@link #springEnabled},
+	 * {@link #arcMotionCurvature} and {@link #viewPropertyAnimatorEnabled} whenever one of them
+	 * changes.
+	 */
+	private AnimatorConfig animatorConfig = AnimatorConfig.INTERPOLATED;
+
+	/**
+	 * Resolver used to resolve translation deltas for target views.
+	 */
+	private DeltaResolver deltaResolver = DELTA_RESOLVER;
+
+	/**
+	 * Current capture pass. One of {@link #CAPTURE_PASS_NONE}, {@link #CAPTURE_PASS_START} or
+	 * {@link #CAPTURE_PASS_END}.
+	 */
+	private int capturePass = CAPTURE_PASS_NONE;
+
+	/**
+	 * Buffers with locations recorded during the start and end capture passes when single pass
+	 * capture is enabled.
+	 */
+	private LocationBuffer startLocations, endLocations;
+
+	/**
+	 * Buffers with deltas resolved in batch for views recorded in {@link #startLocations} and
+	 * {@link #endLocations} when single pass capture is enabled and the delta resolver is a
+	 * {@link BatchDeltaResolver}.
+	 */
+	private DeltaBuffer startDeltas, endDeltas;
+
+	/**
+	 * Values of the view captured last during the start capture pass. Used to detect start of a new
+	 * capture run.
+	 */
+	private TransitionValues lastStartValues;
+
+	/**
+	 * Listener used to release recorded locations once this transition ends or is cancelled.
+	 */
+	private LocationsReleaseListener locationsReleaseListener;
+
+	/**
+	 * Buffer into which is obtained location on screen of the currently transitioning view.
+	 */
+	private final int[] locationBuffer = new int[2];
+
+	/**
+	 * Buffer into which are resolved translation deltas along X [0] and Y [1] axis for the currently
+	 * transitioning view.
+	 */
+	private final float[] deltaBuffer = new float[2];
+
 	/*
 	 * Constructors ================================================================================
 	 */
@@ -277,6 +431,11 @@ public class Translate extends Visibility {
 	 */
 	public Translate(@NonNull final Context context, @Nullable final AttributeSet attrs) {
 		super(context, attrs);
+		final ParsedAttributes parsedAttributes = ATTRIBUTES_CACHE.get(context, attrs);
+		if (parsedAttributes != null) {
+			applyParsedAttributes(parsedAttributes);
+			return;
+		}
 		final Resources resources = context.getResources();
 		final TypedArray attributes = context.obtainStyledAttributes(attrs, R.styleable.Transition_Translate, 0, 0);
 		final int attributeCount = attributes.getIndexCount();
@@ -293,12 +452,26 @@ public class Translate extends Visibility {
 			}
 		}
 		attributes.recycle();
+		ATTRIBUTES_CACHE.put(context, attrs, new ParsedAttributes(this));
 	}
 
 	/*
 	 * Methods =====================================================================================
 	 */
 
+	/**
+	 * Applies the given <var>parsedAttributes</var> to this transition.
+	 *
+	 * @param parsedAttributes The attributes previously parsed for transition inflated from the same
+	 *                         XML attributes.
+	 */
+	private void applyParsedAttributes(final ParsedAttributes parsedAttributes) {
+		this.translationXDelta = parsedAttributes.translationXDelta;
+		this.translationYDelta = parsedAttributes.translationYDelta;
+		this.translationXRelativity = parsedAttributes.translationXRelativity;
+		this.translationYRelativity = parsedAttributes.translationYRelativity;
+	}
+
 	/**
 	 * Creates a new instance of Animator that animates both, translation X and translation Y, properties
 	 * of the specified <var>view</var> with respect to its current translation values.
@@ -307,6 +480,10 @@ public class Translate extends Visibility {
 	 * paused or canceled, and possibly resumed later.
 	 * <p>
 	 * The returned animator will also have the default {@link #INTERPOLATOR} attached.
+	 * <p>
+	 * <b>Note, that the returned animator is not wrapped in {@link AnimatorWrapper}, so the time
+	 * scale specified via {@link AnimatorWrapper#setTimeScale(float)} does not apply to it.</b> Only
+	 * animators created by the Translate transition itself are wrapped.
 	 *
 	 * @param transition       The transition that was requested to animate the given <var>view</var>.
 	 * @param view             The view for which to create the requested animator.
@@ -322,7 +499,6 @@ public class Translate extends Visibility {
 	 * specified parameters when started or {@code null} if the start and end translation values are
 	 * the same or the target view is already detached from window.
 	 */
-	@SuppressWarnings("UnnecessaryLocalVariable")
 	@Nullable public static Animator createAnimator(
 			@NonNull final Transition transition,
 			@NonNull final View view,
@@ -333,6 +509,97 @@ public class Translate extends Visibility {
 			final float startY,
 			final float endX,
 			final float endY
+	) {
+		return createAnimatorInner(transition, view, transitionValues, viewX, viewY, startX, startY, endX, endY, AnimatorConfig.INTERPOLATED);
+	}
+
+	/**
+	 * Same as {@link #createAnimator(Transition, View, TransitionValues, int, int, float, float, float, float)}
+	 * but the returned animator translates the specified <var>view</var> via its {@link android.view.ViewPropertyAnimator ViewPropertyAnimator}
+	 * which updates both translation properties of the view at once on each animation frame.
+	 * <p>
+	 * The returned animator cannot be paused.
+	 *
+	 * @return {@link ViewPropertyAnimatorWrapper} that will play translate animation for the specified
+	 * view according to the specified parameters when started or {@code null} if the start and end
+	 * translation values are the same or the target view is already detached from window.
+	 *
+	 * @see #setViewPropertyAnimatorEnabled(boolean)
+	 * @since 1.4
+	 */
+	@Nullable public static Animator createViewPropertyAnimator(
+			@NonNull final Transition transition,
+			@NonNull final View view,
+			@NonNull final TransitionValues transitionValues,
+			final int viewX,
+			final int viewY,
+			final float startX,
+			final float startY,
+			final float endX,
+			final float endY
+	) {
+		return createAnimatorInner(transition, view, transitionValues, viewX, viewY, startX, startY, endX, endY, AnimatorConfig.VIEW_PROPERTY);
+	}
+
+	/**
+	 * Same as {@link #createAnimator(Transition, View, TransitionValues, int, int, float, float, float, float)}
+	 * but the returned animator translates the specified <var>view</var> via a pair of springs
+	 * instead of an interpolated animation. If a previous spring animation of the view has been
+	 * interrupted, the new animation starts from the interrupted position with the interrupted
+	 * velocity, so rapid changes of direction remain continuous and the view settles in a time
+	 * proportional to the remaining distance instead of for a full duration.
+	 * <p>
+	 * Duration and interpolator specified for the returned animator are ignored.
+	 *
+	 * @param stiffness    Stiffness of the springs. See {@link SpringForce#setStiffness(float)}.
+	 * @param dampingRatio Damping ratio of the springs. See {@link SpringForce#setDampingRatio(float)}.
+	 *
+	 * @see #setSpringEnabled(boolean)
+	 * @since 1.4
+	 */
+	@Nullable public static Animator createSpringAnimator(
+			@NonNull final Transition transition,
+			@NonNull final View view,
+			@NonNull final TransitionValues transitionValues,
+			final int viewX,
+			final int viewY,
+			final float startX,
+			final float startY,
+			final float endX,
+			final float endY,
+			final float stiffness,
+			final float dampingRatio
+	) {
+		return createAnimatorInner(
+				transition, view, transitionValues,
+				viewX, viewY,
+				startX, startY,
+				endX, endY,
+				AnimatorConfig.spring(stiffness, dampingRatio)
+		);
+	}
+
+	/**
+	 * Creates an animator translating the specified <var>view</var> as specified by the given
+	 * <var>config</var>.
+	 *
+	 * @param config Configuration determining which animator to create.
+	 * @return Animator translating the view or {@code null} if there is nothing to be translated.
+	 *
+	 * @see #createAnimator(Transition, View, TransitionValues, int, int, float, float, float, float)
+	 */
+	@SuppressWarnings("UnnecessaryLocalVariable")
+	private static Animator createAnimatorInner(
+			final Transition transition,
+			final View view,
+			final TransitionValues transitionValues,
+			final int viewX,
+			final int viewY,
+			final float startX,
+			final float startY,
+			final float endX,
+			final float endY,
+			final AnimatorConfig config
 	) {
 		if (!TransitionUtils.isViewAttachedToWindow(view)) {
 			return null;
@@ -344,10 +611,12 @@ public class Translate extends Visibility {
 		final float viewEndX = view.getTranslationX();
 		final float viewEndY = view.getTranslationY();
 		// Correct animation start coordinates by view's position on screen.
-		final int[] startPosition = (int[]) transitionValues.view.getTag(R.id.ui_transition_tag_position);
-		if (startPosition != null) {
-			animationStartX = startPosition[0] - viewX + viewEndX;
-			animationStartY = startPosition[1] - viewY + viewEndY;
+		final long startPosition = INTERRUPTED_POSITIONS.get(transitionValues.view);
+		long startVelocity = ViewTable.NO_VALUE;
+		if (startPosition != ViewTable.NO_VALUE) {
+			animationStartX = unpackX(startPosition) - viewX + viewEndX;
+			animationStartY = unpackY(startPosition) - viewY + viewEndY;
+			startVelocity = INTERRUPTED_VELOCITIES.get(transitionValues.view);
 		}
 		if (animationStartX == animationEndX && animationStartY == animationEndY) {
 			return null;
@@ -356,12 +625,12 @@ public class Translate extends Visibility {
 		view.setTranslationY(animationStartY);
 		final int viewStartX = viewX + Math.round(startX - viewEndX);
 		final int viewStartY = viewY + Math.round(startY - viewEndY);
-		// Create path with animation properties and animator that will be used to play the desired
-		// translate animation for the view.
-		final Path path = new Path();
-		path.moveTo(animationStartX, animationStartY);
-		path.lineTo(animationEndX, animationEndY);
-		final ObjectAnimator animator = ObjectAnimator.ofFloat(view, View.TRANSLATION_X, View.TRANSLATION_Y, path);
+		final Animator animator = config.createAnimator(
+				view,
+				animationStartX, animationStartY,
+				animationEndX, animationEndY,
+				startVelocity
+		);
 		final TransitionAnimatorListener listener = new TransitionAnimatorListener(
 				view,
 				transitionValues.view,
@@ -371,7 +640,118 @@ public class Translate extends Visibility {
 		transition.addListener(listener);
 		animator.addListener(listener);
 		animator.addPauseListener(listener);
-		animator.setInterpolator(INTERPOLATOR);
+		return animator;
+	}
+
+	/**
+	 * Wraps the given <var>animator</var> created for this transition in {@link AnimatorWrapper},
+	 * so it respects the time scale specified via {@link AnimatorWrapper#setTimeScale(float)}.
+	 * Spring animation is driven by physics rather than by duration, so the time scale affects
+	 * only its start delay.
+	 *
+	 * @param animator The animator to be wrapped. May be {@code null}.
+	 * @return The wrapped animator, the given animator if it is already a wrapper or {@code null}
+	 * if the given animator is {@code null}.
+	 */
+	private static Animator wrapAnimator(final Animator animator) {
+		return animator == null || animator instanceof AnimatorWrapper ? animator : new AnimatorWrapper(animator);
+	}
+
+	/**
+	 * Packs the given coordinates into a single long value which may be stored in
+	 * {@link #INTERRUPTED_POSITIONS} or {@link #INTERRUPTED_VELOCITIES} table.
+	 *
+	 * @param x The x coordinate to be packed.
+	 * @param y The y coordinate to be packed.
+	 * @return Packed coordinates.
+	 */
+	@VisibleForTesting static long pack(final int x, final int y) {
+		return ((long) x << 32) | (y & 0xffffffffL);
+	}
+
+	/**
+	 * Unpacks x coordinate from the given <var>packed</var> value.
+	 *
+	 * @param packed The coordinates packed via {@link #pack(int, int)}.
+	 * @return The x coordinate.
+	 */
+	@VisibleForTesting static int unpackX(final long packed) {
+		return (int) (packed >> 32);
+	}
+
+	/**
+	 * Unpacks y coordinate from the given <var>packed</var> value.
+	 *
+	 * @param packed The coordinates packed via {@link #pack(int, int)}.
+	 * @return The y coordinate.
+	 */
+	@VisibleForTesting static int unpackY(final long packed) {
+		return (int) packed;
+	}
+
+	/**
+	 * Creates an animator that translates the given <var>view</var> along a straight line between
+	 * the specified translations.
+	 * <p>
+	 * The animator animates each axis via its own float {@link PropertyValuesHolder} so, unlike an
+	 * animator created for a {@link android.graphics.Path Path}, there is no path to be approximated
+	 * into keyframes for each animated view.
+	 *
+	 * @param view   The view to be translated.
+	 * @param startX Translation from which to start the animation along X axis.
+	 * @param startY Translation from which to start the animation along Y axis.
+	 * @param endX   Translation at which should the animation end along X axis.
+	 * @param endY   Translation at which should the animation end along Y axis.
+	 * @return Animator translating the view.
+	 */
+	@VisibleForTesting
+	@NonNull static ObjectAnimator createTranslationAnimator(
+			final View view,
+			final float startX,
+			final float startY,
+			final float endX,
+			final float endY
+	) {
+		return PropertyAnimators.ofFloat(
+				view,
+				View.TRANSLATION_X, startX, endX,
+				View.TRANSLATION_Y, startY, endY
+		);
+	}
+
+	/**
+	 * Creates an animator that translates the given <var>view</var> along an arc between the specified
+	 * translations.
+	 * <p>
+	 * Keyframes of the arc are not computed for each view. They are obtained from a table normalized
+	 * to the chord of the arc, which is shared via a LRU cache by all arcs with similar curvature,
+	 * so creating an arc animator costs about the same as creating a straight one. The view is
+	 * translated from an update listener of the animator, so no value is boxed per frame.
+	 *
+	 * @param view      The view to be translated.
+	 * @param startX    Translation from which to start the animation along X axis.
+	 * @param startY    Translation from which to start the animation along Y axis.
+	 * @param endX      Translation at which should the animation end along X axis.
+	 * @param endY      Translation at which should the animation end along Y axis.
+	 * @param curvature Curvature of the arc. See {@link #setArcMotionCurvature(float)}.
+	 * @return Animator translating the view.
+	 */
+	@VisibleForTesting
+	@NonNull static ValueAnimator createArcTranslationAnimator(
+			final View view,
+			final float startX,
+			final float startY,
+			final float endX,
+			final float endY,
+			final float curvature
+	) {
+		final ValueAnimator animator = ValueAnimator.ofFloat(0f, 1f);
+		animator.addUpdateListener(new ArcMotionTable.TranslationUpdateListener(
+				view,
+				ArcMotionTable.obtain(curvature),
+				startX, startY,
+				endX, endY
+		));
 		return animator;
 	}
 
@@ -498,29 +878,443 @@ public class Translate extends Visibility {
 	}
 
 	/**
+	 * Sets a curvature of arcs along which should this transition translate its target views.
+	 * <p>
+	 * The curvature is the height of an arc as fraction of the distance between its start and end
+	 * points. Positive values bend the arc to the right of the direction of the motion and negative
+	 * values to the left of it, as seen on the screen. Values are clamped to {@code [-1, 1]}
+	 * and zero means a straight line. The curvature is ignored when springs are enabled.
+	 * <p>
+	 * Default value: <b>{@code 0}</b>
+	 *
+	 * @param curvature The desired curvature.
+	 *
+	 * @see #getArcMotionCurvature()
 	 */
-	@Override public void captureStartValues(@NonNull final TransitionValues transitionValues) {
-		super.captureStartValues(transitionValues);
-		this.captureValues(transitionValues);
+	public void setArcMotionCurvature(final float curvature) {
+		this.arcMotionCurvature = Math.max(-ArcMotionTable.MAX_CURVATURE, Math.min(ArcMotionTable.MAX_CURVATURE, curvature));
+		this.updateAnimatorConfig();
 	}
 
 	/**
+	 * Returns the curvature of arcs along which this transition translates its target views.
+	 *
+	 * @return Arc curvature or {@code 0} for straight lines.
+	 *
+	 * @see #setArcMotionCurvature(float)
 	 */
-	@Override public void captureEndValues(@NonNull final TransitionValues transitionValues) {
-		super.captureEndValues(transitionValues);
-		this.captureValues(transitionValues);
+	public float getArcMotionCurvature() {
+		return arcMotionCurvature;
 	}
 
 	/**
-	 * Captures current location on screen for the view attached to the specified values and puts
-	 * such value into the values map.
+	 * Sets a boolean flag indicating whether this transition should translate its target views via
+	 * theirs {@link android.view.ViewPropertyAnimator ViewPropertyAnimators} instead of object animators.
+	 * <p>
+	 * View property animator updates both translation properties of a view at once on each frame
+	 * and renders the view into a hardware layer via {@link android.view.ViewPropertyAnimator#withLayer()}
+	 * when requested by the {@link #setLayerPolicy(int) layer policy}, which reduces main thread
+	 * work when many views are translated at the same time. Such animations cannot be paused. This
+	 * flag is ignored for translations along an arc or driven by springs.
+	 * <p>
+	 * Default value: <b>{@code false}</b>
+	 *
+	 * @param enabled {@code True} to translate target views via view property animators, {@code false}
+	 *                otherwise.
+	 *
+	 * @see #isViewPropertyAnimatorEnabled()
+	 * @see #createViewPropertyAnimator(Transition, View, TransitionValues, int, int, float, float, float, float)
+	 */
+	public void setViewPropertyAnimatorEnabled(final boolean enabled) {
+		this.viewPropertyAnimatorEnabled = enabled;
+		this.updateAnimatorConfig();
+	}
+
+	/**
+	 * Returns the boolean flag indicating whether this transition translates its target views via
+	 * theirs view property animators.
+	 *
+	 * @return {@code True} if view property animators are used, {@code false} otherwise.
+	 *
+	 * @see #setViewPropertyAnimatorEnabled(boolean)
+	 */
+	public boolean isViewPropertyAnimatorEnabled() {
+		return viewPropertyAnimatorEnabled;
+	}
+
+	/**
+	 * Sets a resolver that should be used by this transition to resolve translation deltas for its
+	 * target views.
+	 * <p>
+	 * Default value: <b>{@link #DELTA_RESOLVER}</b>
+	 *
+	 * @param resolver The desired resolver. May be {@code null} to use the default one.
+	 *
+	 * @see #getDeltaResolver()
+	 */
+	public void setDeltaResolver(@Nullable final DeltaResolver resolver) {
+		this.deltaResolver = resolver == null ? DELTA_RESOLVER : resolver;
+	}
+
+	/**
+	 * Returns the resolver used by this transition to resolve translation deltas for its target views.
+	 *
+	 * @return Delta resolver of this transition.
+	 *
+	 * @see #setDeltaResolver(DeltaResolver)
+	 */
+	@NonNull public DeltaResolver getDeltaResolver() {
+		return deltaResolver;
+	}
+
+	/**
+	 * Sets a policy determining whether target views should be rendered into a hardware layer while
+	 * they are translated. When a view is rendered into a hardware layer, each frame of the translate
+	 * animation only recomposites the cached texture of the view instead of re-drawing its content.
+	 * <p>
+	 * Default value: <b>{@link LayerPolicy#NONE}</b>
+	 *
+	 * @param policy The desired policy. One of {@link LayerPolicy#NONE}, {@link LayerPolicy#ALWAYS}
+	 *               or {@link LayerPolicy#AUTO}.
+	 *
+	 * @see #getLayerPolicy()
+	 */
+	public void setLayerPolicy(@LayerPolicy.Policy final int policy) {
+		this.layerPolicy = policy;
+	}
+
+	/**
+	 * Returns the policy determining whether target views are rendered into a hardware layer while
+	 * translated.
+	 *
+	 * @return One of {@link LayerPolicy#NONE}, {@link LayerPolicy#ALWAYS} or {@link LayerPolicy#AUTO}.
+	 *
+	 * @see #setLayerPolicy(int)
+	 */
+	@LayerPolicy.Policy public int getLayerPolicy() {
+		return layerPolicy;
+	}
+
+	/**
+	 * Sets a boolean flag indicating whether this transition should capture locations on screen of
+	 * its target views in a single pass over the view hierarchy.
+	 * <p>
+	 * By default, location of each target view is obtained via {@link View#getLocationOnScreen(int[])}
+	 * which walks the whole parent chain of the view, so capturing large hierarchies costs
+	 * {@code O(n * depth)}. When single pass capture is enabled, locations are recorded into a buffer
+	 * while views are captured from top to bottom and location of each view is derived from location
+	 * of its already recorded parent. Locations are captured only for visible views, as only those
+	 * may be translated in or out, and no per-view arrays are allocated. If the current delta resolver
+	 * is a {@link BatchDeltaResolver}, translation deltas for all recorded views are also resolved at
+	 * once for each pass.
+	 * <p>
+	 * Default value: <b>{@code false}</b>
+	 *
+	 * @param enabled {@code True} to capture locations in a single pass, {@code false} otherwise.
+	 *
+	 * @see #isSinglePassCaptureEnabled()
+	 */
+	public void setSinglePassCaptureEnabled(final boolean enabled) {
+		this.singlePassCaptureEnabled = enabled;
+	}
+
+	/**
+	 * Returns the boolean flag indicating whether this transition captures locations of its target
+	 * views in a single pass over the view hierarchy.
+	 *
+	 * @return {@code True} if single pass capture is enabled, {@code false} otherwise.
+	 *
+	 * @see #setSinglePassCaptureEnabled(boolean)
+	 */
+	public boolean isSinglePassCaptureEnabled() {
+		return singlePassCaptureEnabled;
+	}
+
+	/**
+	 * Sets a boolean flag indicating whether this transition should translate its target views via
+	 * springs instead of interpolated animations.
+	 * <p>
+	 * When a spring driven translation of a view is interrupted, for example by a rapid back navigation,
+	 * the next translation of the same view continues from the interrupted position with the
+	 * interrupted velocity instead of starting from rest for the full duration. Spring driven
+	 * translations ignore duration and interpolator of this transition.
+	 * <p>
+	 * Default value: <b>{@code false}</b>
+	 *
+	 * @param enabled {@code True} to translate target views via springs, {@code false} otherwise.
+	 *
+	 * @see #isSpringEnabled()
+	 * @see #setSpringStiffness(float)
+	 * @see #setSpringDampingRatio(float)
+	 */
+	public void setSpringEnabled(final boolean enabled) {
+		this.springEnabled = enabled;
+		this.updateAnimatorConfig();
+	}
+
+	/**
+	 * Returns the boolean flag indicating whether this transition translates its target views via
+	 * springs.
+	 *
+	 * @return {@code True} if springs are used, {@code false} otherwise.
+	 *
+	 * @see #setSpringEnabled(boolean)
+	 */
+	public boolean isSpringEnabled() {
+		return springEnabled;
+	}
+
+	/**
+	 * Sets a stiffness of springs used to translate target views when springs are enabled.
+	 * <p>
+	 * Default value: <b>{@link SpringForce#STIFFNESS_MEDIUM}</b>
+	 *
+	 * @param stiffness The desired stiffness. Must be greater than {@code 0}.
+	 *
+	 * @see #getSpringStiffness()
+	 * @see SpringForce#setStiffness(float)
+	 */
+	public void setSpringStiffness(final float stiffness) {
+		if (stiffness <= 0) {
+			throw new IllegalArgumentException("Spring stiffness must be greater than 0.");
+		}
+		this.springStiffness = stiffness;
+		this.updateAnimatorConfig();
+	}
+
+	/**
+	 * Returns the stiffness of springs used to translate target views.
+	 *
+	 * @return Spring stiffness.
+	 *
+	 * @see #setSpringStiffness(float)
+	 */
+	public float getSpringStiffness() {
+		return springStiffness;
+	}
+
+	/**
+	 * Sets a damping ratio of springs used to translate target views when springs are enabled.
+	 * <p>
+	 * Default value: <b>{@link SpringForce#DAMPING_RATIO_NO_BOUNCY}</b>
+	 *
+	 * @param dampingRatio The desired damping ratio. Must not be negative.
+	 *
+	 * @see #getSpringDampingRatio()
+	 * @see SpringForce#setDampingRatio(float)
+	 */
+	public void setSpringDampingRatio(final float dampingRatio) {
+		if (dampingRatio < 0) {
+			throw new IllegalArgumentException("Spring damping ratio must not be negative.");
+		}
+		this.springDampingRatio = dampingRatio;
+		this.updateAnimatorConfig();
+	}
+
+	/**
+	 * Returns the damping ratio of springs used to translate target views.
+	 *
+	 * @return Spring damping ratio.
+	 *
+	 * @see #setSpringDampingRatio(float)
+	 */
+	public float getSpringDampingRatio() {
+		return springDampingRatio;
+	}
+
+	/**
+	 * Updates {@link #animatorConfig} according to the current spring, arc motion and view property
+	 * animator configuration of this transition.
+	 */
+	private void updateAnimatorConfig() {
+		if (springEnabled) {
+			this.animatorConfig = AnimatorConfig.spring(springStiffness, springDampingRatio);
+		} else if (arcMotionCurvature != 0) {
+			this.animatorConfig = AnimatorConfig.arc(arcMotionCurvature);
+		} else if (viewPropertyAnimatorEnabled) {
+			this.animatorConfig = AnimatorConfig.VIEW_PROPERTY;
+		} else {
+			this.animatorConfig = AnimatorConfig.INTERPOLATED;
+		}
+	}
+
+	/**
+	 */
+	@Override public Translate clone() {
+		final Translate clone = (Translate) super.clone();
+		// Each clone needs its own location buffers as clones may run independently.
+		clone.capturePass = CAPTURE_PASS_NONE;
+		clone.startLocations = null;
+		clone.endLocations = null;
+		clone.startDeltas = null;
+		clone.endDeltas = null;
+		clone.lastStartValues = null;
+		clone.locationsReleaseListener = null;
+		return clone;
+	}
+
+	/**
+	 */
+	@Override public void captureStartValues(@NonNull final TransitionValues transitionValues) {
+		super.captureStartValues(transitionValues);
+		if (singlePassCaptureEnabled) {
+			this.captureLocation(transitionValues, CAPTURE_PASS_START);
+		} else {
+			this.captureValues(transitionValues);
+		}
+	}
+
+	/**
+	 */
+	@Override public void captureEndValues(@NonNull final TransitionValues transitionValues) {
+		super.captureEndValues(transitionValues);
+		if (singlePassCaptureEnabled) {
+			this.captureLocation(transitionValues, CAPTURE_PASS_END);
+		} else {
+			this.captureValues(transitionValues);
+		}
+	}
+
+	/**
+	 * Captures current location on screen for the view attached to the specified values and puts
+	 * such value into the values map.
 	 *
 	 * @param values The values where to put captured values.
 	 */
 	private void captureValues(final TransitionValues values) {
-		final int[] locationOnScreen = new int[2];
-		values.view.getLocationOnScreen(locationOnScreen);
-		values.values.put(PROPERTY_TRANSITION_LOCATION_ON_SCREEN, locationOnScreen);
+		values.view.getLocationOnScreen(locationBuffer);
+		CapturedValues.obtain(values, PROPERTY_TRANSITION_VALUES)
+				.putInt(SLOT_LOCATION_X, locationBuffer[0])
+				.putInt(SLOT_LOCATION_Y, locationBuffer[1]);
+	}
+
+	/**
+	 * Records location on screen of the view attached to the specified values into location buffer
+	 * of the specified capture <var>pass</var>. Buffers are invalidated whenever the pass changes
+	 * and at the first start capture of each transition run.
+	 *
+	 * @param values The values of which view location to record.
+	 * @param pass   The current capture pass.
+	 */
+	private void captureLocation(final TransitionValues values, final int pass) {
+		if (capturePass != pass || (pass == CAPTURE_PASS_START && !isCapturedInCurrentRun(lastStartValues))) {
+			switchCapturePass(pass);
+		}
+		if (pass == CAPTURE_PASS_START) {
+			this.lastStartValues = values;
+		}
+		// Only visible views may be translated in (end pass) or out (start pass).
+		if (values.view.getVisibility() == View.VISIBLE) {
+			(pass == CAPTURE_PASS_START ? startLocations : endLocations).record(values.view);
+		}
+	}
+
+	/**
+	 * Checks whether the specified start <var>values</var> have been captured during the current
+	 * run of this transition. Start values of all views are cleared at the beginning of each run,
+	 * so values captured in a previous run are no longer held by this transition.
+	 *
+	 * @param values The start values to check. May be {@code null}.
+	 * @return {@code True} if the values are held as start values of their view, {@code false} otherwise.
+	 */
+	private boolean isCapturedInCurrentRun(final TransitionValues values) {
+		return values != null && getTransitionValues(values.view, true) == values;
+	}
+
+	/**
+	 * Switches the current capture pass to the specified one and invalidates locations that are
+	 * no longer valid.
+	 *
+	 * @param pass The capture pass to switch to.
+	 */
+	private void switchCapturePass(final int pass) {
+		if (startLocations == null) {
+			this.startLocations = new LocationBuffer();
+			this.endLocations = new LocationBuffer();
+			this.startDeltas = new DeltaBuffer();
+			this.endDeltas = new DeltaBuffer();
+		}
+		if (pass == CAPTURE_PASS_START) {
+			this.startLocations.clear();
+			this.endLocations.clear();
+			this.startDeltas.invalidate();
+			if (locationsReleaseListener == null) {
+				this.locationsReleaseListener = new LocationsReleaseListener();
+				addListener(locationsReleaseListener);
+			}
+		} else {
+			this.endLocations.clear();
+		}
+		this.endDeltas.invalidate();
+		this.capturePass = pass;
+	}
+
+	/**
+	 * Obtains location on screen captured for view attached to the specified values.
+	 *
+	 * @param values    The values for which to obtain the captured location.
+	 * @param locations Buffer with locations recorded in single pass capture. May be {@code null}.
+	 * @return {@code True} if location has been captured and obtained into {@link #locationBuffer},
+	 * {@code false} otherwise.
+	 */
+	private boolean obtainLocationOnScreen(final TransitionValues values, final LocationBuffer locations) {
+		final CapturedValues capturedValues = CapturedValues.get(values, PROPERTY_TRANSITION_VALUES);
+		if (capturedValues != null) {
+			this.locationBuffer[0] = capturedValues.getInt(SLOT_LOCATION_X);
+			this.locationBuffer[1] = capturedValues.getInt(SLOT_LOCATION_Y);
+			return true;
+		}
+		// Capturing is finished once animators are being created, so the next capture starts a new pass.
+		this.capturePass = CAPTURE_PASS_NONE;
+		return locations != null && locations.getLocation(values.view, locationBuffer);
+	}
+
+	/**
+	 * Releases locations recorded during single pass capture.
+	 */
+	private void releaseLocations() {
+		if (startLocations != null) {
+			this.startLocations.clear();
+			this.endLocations.clear();
+			this.startDeltas.invalidate();
+			this.endDeltas.invalidate();
+		}
+		this.lastStartValues = null;
+		this.capturePass = CAPTURE_PASS_NONE;
+	}
+
+	/**
+	 * Resolves translation deltas for the specified <var>view</var> into {@link #deltaBuffer}.
+	 * <p>
+	 * If the view has its location recorded in the given <var>locations</var> buffer and the current
+	 * delta resolver supports batch resolving, deltas for all recorded views are resolved at once
+	 * for the first view of the pass and only looked up for the subsequent ones.
+	 *
+	 * @param sceneRoot Root of the scene containing the view.
+	 * @param view      The view for which to resolve the deltas.
+	 * @param locations Buffer with locations recorded in single pass capture. May be {@code null}.
+	 * @param deltas    Buffer with deltas resolved for the recorded locations. May be {@code null}.
+	 */
+	private void resolveDeltas(final ViewGroup sceneRoot, final View view, final LocationBuffer locations, final DeltaBuffer deltas) {
+		if (singlePassCaptureEnabled && locations != null && deltaResolver instanceof BatchDeltaResolver) {
+			final int slot = locations.slotOf(view);
+			if (slot != -1) {
+				if (!deltas.isResolved()) {
+					deltas.resolve(
+							(BatchDeltaResolver) deltaResolver,
+							sceneRoot,
+							locations,
+							translationXRelativity, translationXDelta,
+							translationYRelativity, translationYDelta
+					);
+				}
+				this.deltaBuffer[0] = deltas.getDeltaX(slot);
+				this.deltaBuffer[1] = deltas.getDeltaY(slot);
+				return;
+			}
+		}
+		this.deltaBuffer[0] = deltaResolver.resolveDeltaX(sceneRoot, view, translationXRelativity, translationXDelta);
+		this.deltaBuffer[1] = deltaResolver.resolveDeltaY(sceneRoot, view, translationYRelativity, translationYDelta);
 	}
 
 	/**
@@ -534,22 +1328,25 @@ public class Translate extends Visibility {
 		if (endValues == null) {
 			return null;
 		}
-		final int[] locationOnScreen = (int[]) endValues.values.get(PROPERTY_TRANSITION_LOCATION_ON_SCREEN);
-		if (locationOnScreen == null) {
+		if (!obtainLocationOnScreen(endValues, endLocations)) {
 			return null;
 		}
 		final float endX = view.getTranslationX();
 		final float endY = view.getTranslationY();
-		final float startX = endX + DELTA_RESOLVER.resolveDeltaX(sceneRoot, view, translationXRelativity, translationXDelta);
-		final float startY = endY + DELTA_RESOLVER.resolveDeltaY(sceneRoot, view, translationYRelativity, translationYDelta);
-		return createAnimator(
+		resolveDeltas(sceneRoot, view, endLocations, endDeltas);
+		final float startX = endX + deltaBuffer[0];
+		final float startY = endY + deltaBuffer[1];
+		final Animator animator = wrapAnimator(createAnimatorInner(
 				this,
 				view,
 				endValues,
-				locationOnScreen[0], locationOnScreen[1],
+				locationBuffer[0], locationBuffer[1],
 				startX, startY,
-				endX, endY
-		);
+				endX, endY,
+				animatorConfig
+		));
+		LayerPolicy.apply(layerPolicy, animator, view);
+		return animator;
 	}
 
 	/**
@@ -563,28 +1360,360 @@ public class Translate extends Visibility {
 		if (startValues == null) {
 			return null;
 		}
-		final int[] locationOnScreen = (int[]) startValues.values.get(PROPERTY_TRANSITION_LOCATION_ON_SCREEN);
-		if (locationOnScreen == null) {
+		if (!obtainLocationOnScreen(startValues, startLocations)) {
 			return null;
 		}
 		final float startX = view.getTranslationX();
 		final float startY = view.getTranslationY();
-		final float endX = startX + DELTA_RESOLVER.resolveDeltaX(sceneRoot, view, translationXRelativity, translationXDelta);
-		final float endY = startY + DELTA_RESOLVER.resolveDeltaY(sceneRoot, view, translationYRelativity, translationYDelta);
-		return createAnimator(
+		resolveDeltas(sceneRoot, view, startLocations, startDeltas);
+		final float endX = startX + deltaBuffer[0];
+		final float endY = startY + deltaBuffer[1];
+		final Animator animator = wrapAnimator(createAnimatorInner(
 				this,
 				view,
 				startValues,
-				locationOnScreen[0], locationOnScreen[1],
+				locationBuffer[0], locationBuffer[1],
 				startX, startY,
-				endX, endY
-		);
+				endX, endY,
+				animatorConfig
+		));
+		LayerPolicy.apply(layerPolicy, animator, view);
+		return animator;
 	}
 
 	/*
 	 * Inner classes ===============================================================================
 	 */
 
+	/**
+	 * Immutable configuration of {@link Translate} transition parsed from XML attributes.
+	 *
+	 * @see #ATTRIBUTES_CACHE
+	 */
+	@VisibleForTesting static final class ParsedAttributes {
+
+		/**
+		 * Parsed translation deltas.
+		 */
+		final float translationXDelta, translationYDelta;
+
+		/**
+		 * Parsed relativities of the translation deltas.
+		 */
+		final int translationXRelativity, translationYRelativity;
+
+		/**
+		 * Creates a new instance of ParsedAttributes with values of the given <var>translate</var>
+		 * transition which has been just created from XML attributes.
+		 *
+		 * @param translate The transition of which configuration to copy.
+		 */
+		ParsedAttributes(final Translate translate) {
+			this.translationXDelta = translate.translationXDelta;
+			this.translationYDelta = translate.translationYDelta;
+			this.translationXRelativity = translate.translationXRelativity;
+			this.translationYRelativity = translate.translationYRelativity;
+		}
+	}
+
+	/**
+	 * Immutable configuration determining which animator is created to translate a view. Each kind
+	 * of animator is created by its own factory method.
+	 */
+	@VisibleForTesting static final class AnimatorConfig {
+
+		/**
+		 * Kind of animator interpolating the translation along a straight line via an object animator.
+		 */
+		private static final int INTERPOLATED_KIND = 0;
+
+		/**
+		 * Kind of animator interpolating the translation along a straight line via a view property
+		 * animator.
+		 */
+		private static final int VIEW_PROPERTY_KIND = 1;
+
+		/**
+		 * Kind of animator interpolating the translation along an arc.
+		 */
+		private static final int ARC_KIND = 2;
+
+		/**
+		 * Kind of animator driving the translation via springs.
+		 */
+		private static final int SPRING_KIND = 3;
+
+		/**
+		 * Configuration for animators created via {@link Translate#createTranslationAnimator(View, float, float, float, float)}.
+		 */
+		static final AnimatorConfig INTERPOLATED = new AnimatorConfig(INTERPOLATED_KIND, 0, 0, 0);
+
+		/**
+		 * Configuration for animators created via {@link ViewPropertyAnimatorWrapper}.
+		 */
+		static final AnimatorConfig VIEW_PROPERTY = new AnimatorConfig(VIEW_PROPERTY_KIND, 0, 0, 0);
+
+		/**
+		 * Kind of animator to be created.
+		 */
+		private final int kind;
+
+		/**
+		 * Curvature of an arc along which to translate the view.
+		 */
+		private final float arcCurvature;
+
+		/**
+		 * Stiffness and damping ratio of the springs.
+		 */
+		private final float stiffness, dampingRatio;
+
+		/**
+		 * Creates a new instance of AnimatorConfig with the specified parameters.
+		 *
+		 * @param kind         Kind of animator to be created.
+		 * @param arcCurvature Curvature of an arc for {@link #ARC_KIND}.
+		 * @param stiffness    Stiffness of the springs for {@link #SPRING_KIND}.
+		 * @param dampingRatio Damping ratio of the springs for {@link #SPRING_KIND}.
+		 */
+		private AnimatorConfig(final int kind, final float arcCurvature, final float stiffness, final float dampingRatio) {
+			this.kind = kind;
+			this.arcCurvature = arcCurvature;
+			this.stiffness = stiffness;
+			this.dampingRatio = dampingRatio;
+		}
+
+		/**
+		 * Creates a configuration for animators translating views along an arc.
+		 *
+		 * @param curvature Curvature of the arc. See {@link Translate#setArcMotionCurvature(float)}.
+		 * @return The configuration.
+		 */
+		static AnimatorConfig arc(final float curvature) {
+			return new AnimatorConfig(ARC_KIND, curvature, 0, 0);
+		}
+
+		/**
+		 * Creates a configuration for animators translating views via springs.
+		 *
+		 * @param stiffness    Stiffness of the springs. See {@link SpringForce#setStiffness(float)}.
+		 * @param dampingRatio Damping ratio of the springs. See {@link SpringForce#setDampingRatio(float)}.
+		 * @return The configuration.
+		 */
+		static AnimatorConfig spring(final float stiffness, final float dampingRatio) {
+			return new AnimatorConfig(SPRING_KIND, 0, stiffness, dampingRatio);
+		}
+
+		/**
+		 * Creates an animator translating the given <var>view</var> between the specified translations.
+		 *
+		 * @param view          The view to be translated.
+		 * @param startX        Translation from which to start the animation along X axis.
+		 * @param startY        Translation from which to start the animation along Y axis.
+		 * @param endX          Translation at which should the animation end along X axis.
+		 * @param endY          Translation at which should the animation end along Y axis.
+		 * @param startVelocity Packed velocity of an interrupted animation of the view or
+		 *                      {@link ViewTable#NO_VALUE}. Used only by spring driven animators.
+		 * @return Animator translating the view.
+		 */
+		Animator createAnimator(
+				final View view,
+				final float startX,
+				final float startY,
+				final float endX,
+				final float endY,
+				final long startVelocity
+		) {
+			switch (kind) {
+				case VIEW_PROPERTY_KIND:
+					return createViewPropertyAnimator(view, startX, startY, endX, endY);
+				case ARC_KIND:
+					return createArcAnimator(view, startX, startY, endX, endY);
+				case SPRING_KIND:
+					return createSpringAnimator(view, startX, startY, endX, endY, startVelocity);
+				default:
+					return createInterpolatedAnimator(view, startX, startY, endX, endY);
+			}
+		}
+
+		/**
+		 * Creates an object animator translating the view along a straight line.
+		 */
+		private static Animator createInterpolatedAnimator(
+				final View view,
+				final float startX,
+				final float startY,
+				final float endX,
+				final float endY
+		) {
+			final Animator animator = createTranslationAnimator(view, startX, startY, endX, endY);
+			animator.setInterpolator(INTERPOLATOR);
+			return animator;
+		}
+
+		/**
+		 * Creates a view property animator translating the view along a straight line.
+		 */
+		private static Animator createViewPropertyAnimator(
+				final View view,
+				final float startX,
+				final float startY,
+				final float endX,
+				final float endY
+		) {
+			final Animator animator = new ViewPropertyAnimatorWrapper(view)
+					.animateProperty(ViewPropertyAnimatorWrapper.TRANSLATION_X, startX, endX)
+					.animateProperty(ViewPropertyAnimatorWrapper.TRANSLATION_Y, startY, endY);
+			animator.setInterpolator(INTERPOLATOR);
+			return animator;
+		}
+
+		/**
+		 * Creates an animator translating the view along an arc with curvature of this configuration.
+		 */
+		private Animator createArcAnimator(
+				final View view,
+				final float startX,
+				final float startY,
+				final float endX,
+				final float endY
+		) {
+			final Animator animator = createArcTranslationAnimator(view, startX, startY, endX, endY, arcCurvature);
+			animator.setInterpolator(INTERPOLATOR);
+			return animator;
+		}
+
+		/**
+		 * Creates a spring driven animator translating the view with springs of this configuration.
+		 */
+		private Animator createSpringAnimator(
+				final View view,
+				final float startX,
+				final float startY,
+				final float endX,
+				final float endY,
+				final long startVelocity
+		) {
+			final boolean hasVelocity = startVelocity != ViewTable.NO_VALUE;
+			return new SpringTranslateAnimator(
+					view,
+					startX, startY,
+					hasVelocity ? unpackX(startVelocity) : 0,
+					hasVelocity ? unpackY(startVelocity) : 0,
+					endX, endY,
+					stiffness, dampingRatio
+			);
+		}
+	}
+
+	/**
+	 * Default {@link BatchDeltaResolver} implementation which resolves delta values either as absolute
+	 * values or as fractions of size of the target view or of the scene root.
+	 *
+	 * @author Martin Albedinsky
+	 * @since 1.4
+	 */
+	public static class DefaultDeltaResolver implements BatchDeltaResolver {
+
+		/**
+		 */
+		@Override public float resolveDeltaX(
+				@NonNull final ViewGroup sceneRoot,
+				@NonNull final View view,
+				@Description.ValueRelativity final int valueRelativity,
+				final float value
+		) {
+			return resolveDelta(valueRelativity, value, sceneRoot.getWidth(), view.getWidth());
+		}
+
+		/**
+		 */
+		@Override public float resolveDeltaY(
+				@NonNull final ViewGroup sceneRoot,
+				@NonNull final View view,
+				@Description.ValueRelativity final int valueRelativity,
+				final float value
+		) {
+			return resolveDelta(valueRelativity, value, sceneRoot.getHeight(), view.getHeight());
+		}
+
+		/**
+		 */
+		@Override public void resolveDeltasX(
+				@NonNull final ViewGroup sceneRoot,
+				@NonNull final int[] viewWidths,
+				@NonNull final int[] valueRelativities,
+				@NonNull final float[] values,
+				@NonNull final float[] outDeltas,
+				final int count
+		) {
+			resolveDeltas(sceneRoot.getWidth(), viewWidths, valueRelativities, values, outDeltas, count);
+		}
+
+		/**
+		 */
+		@Override public void resolveDeltasY(
+				@NonNull final ViewGroup sceneRoot,
+				@NonNull final int[] viewHeights,
+				@NonNull final int[] valueRelativities,
+				@NonNull final float[] values,
+				@NonNull final float[] outDeltas,
+				final int count
+		) {
+			resolveDeltas(sceneRoot.getHeight(), viewHeights, valueRelativities, values, outDeltas, count);
+		}
+
+		/**
+		 * Resolves delta values for the first <var>count</var> views with the specified sizes.
+		 *
+		 * @param sceneSize         Size of the scene in which are presented the views to be translated.
+		 * @param viewSizes         Sizes of the views to be translated.
+		 * @param valueRelativities Relativities of the corresponding <var>values</var>.
+		 * @param values            Values from which to resolve translation deltas.
+		 * @param outDeltas         Array into which to put the resolved deltas.
+		 * @param count             Count of views for which to resolve deltas.
+		 */
+		private static void resolveDeltas(
+				final int sceneSize,
+				final int[] viewSizes,
+				final int[] valueRelativities,
+				final float[] values,
+				final float[] outDeltas,
+				final int count
+		) {
+			for (int i = 0; i < count; i++) {
+				outDeltas[i] = resolveDelta(valueRelativities[i], values[i], sceneSize, viewSizes[i]);
+			}
+		}
+
+		/**
+		 * Resolves delta value for translation based on the specified parameters.
+		 *
+		 * @param valueRelativity Relativity of the given <var>value</var> determining how the value
+		 *                        should be treated.
+		 * @param value           Value from which to resolve translation delta.
+		 * @param sceneSize       Size of the scene in which is presented the view to be translated.
+		 * @param viewSize        Size of the view to be translated.
+		 * @return Resolved translation delta according to the specified parameters.
+		 */
+		protected static float resolveDelta(
+				@Description.ValueRelativity final int valueRelativity,
+				final float value,
+				final int sceneSize,
+				final int viewSize
+		) {
+			switch (valueRelativity) {
+				case Description.RELATIVE_TO_TARGET:
+					return value * viewSize;
+				case Description.RELATIVE_TO_SCENE:
+					return value * sceneSize;
+				case Description.NONE:
+				default:
+					return value;
+			}
+		}
+	}
+
 	/**
 	 * Describes a translation delta value specified via one of {@link R.attr#transitionTranslationXDelta uiTranslationXDelta},
 	 * {@link R.attr#transitionTranslationYDelta uiTranslationYDelta} attributes.
@@ -687,7 +1816,8 @@ public class Translate extends Visibility {
 
 	/**
 	 * Listener that is used by {@link Translate} transition to change properties of the animating
-	 * view according to the received animation callbacks.
+	 * view according to the received animation callbacks. The listener removes itself from the
+	 * transition once the transition ends or is cancelled.
 	 */
 	@VisibleForTesting static final class TransitionAnimatorListener extends AnimatorListenerAdapter implements TransitionListener {
 
@@ -701,11 +1831,6 @@ public class Translate extends Visibility {
 		 */
 		private final View staticView;
 
-		/**
-		 * Pair of current positions of translate animation.
-		 */
-		private int[] animationPosition;
-
 		/**
 		 * Position where should the translate animation start along X axis.
 		 */
@@ -763,21 +1888,27 @@ public class Translate extends Visibility {
 			this.startY = startY - Math.round(animatingView.getTranslationY());
 			this.endX = endX;
 			this.endY = endY;
-			this.animationPosition = (int[]) staticView.getTag(R.id.ui_transition_tag_position);
-			if (animationPosition != null) {
-				staticView.setTag(R.id.ui_transition_tag_position, null);
-			}
+			INTERRUPTED_POSITIONS.reset(staticView);
+			INTERRUPTED_VELOCITIES.reset(staticView);
 		}
 
 		/**
 		 */
 		@Override public void onAnimationCancel(@NonNull final Animator animation) {
-			if (animationPosition == null) {
-				this.animationPosition = new int[2];
+			INTERRUPTED_POSITIONS.put(staticView, pack(
+					Math.round(startX + animatingView.getTranslationX()),
+					Math.round(startY + animatingView.getTranslationY())
+			));
+			final Animator animator = animation instanceof AnimatorWrapper ?
+					((AnimatorWrapper) animation).getWrappedAnimator() :
+					animation;
+			if (animator instanceof SpringTranslateAnimator) {
+				final SpringTranslateAnimator springAnimator = (SpringTranslateAnimator) animator;
+				INTERRUPTED_VELOCITIES.put(staticView, pack(
+						Math.round(springAnimator.getVelocityX()),
+						Math.round(springAnimator.getVelocityY())
+				));
 			}
-			this.animationPosition[0] = Math.round(startX + animatingView.getTranslationX());
-			this.animationPosition[1] = Math.round(startY + animatingView.getTranslationY());
-			this.staticView.setTag(R.id.ui_transition_tag_position, animationPosition);
 		}
 
 		/**
@@ -807,12 +1938,15 @@ public class Translate extends Visibility {
 		@Override public void onTransitionEnd(@NonNull final Transition transition) {
 			this.animatingView.setTranslationX(endX);
 			this.animatingView.setTranslationY(endY);
+			// This listener is added for each animated view, so it needs to be removed once the
+			// transition finishes, otherwise it would remain attached to a reused transition.
+			transition.removeListener(this);
 		}
 
 		/**
 		 */
-		@Override public void onTransitionCancel(@NonNull Transition transition) {
-			// Ignored.
+		@Override public void onTransitionCancel(@NonNull final Transition transition) {
+			transition.removeListener(this);
 		}
 
 		/**
@@ -827,4 +1961,55 @@ public class Translate extends Visibility {
 			// Ignored.
 		}
 	}
-}
\ No newline at end of file
+
+	/**
+	 * Listener used by {@link Translate} transition to release locations recorded during single pass
+	 * capture once the transition ends or is cancelled, so the recorded views are not held longer
+	 * than necessary.
+	 */
+	private final class LocationsReleaseListener implements TransitionListener {
+
+		/**
+		 */
+		@Override public void onTransitionStart(@NonNull final Transition transition) {
+			// Ignored.
+		}
+
+		/**
+		 */
+		@Override public void onTransitionEnd(@NonNull final Transition transition) {
+			release(transition);
+		}
+
+		/**
+		 */
+		@Override public void onTransitionCancel(@NonNull final Transition transition) {
+			release(transition);
+		}
+
+		/**
+		 * Releases the recorded locations and removes this listener from the given <var>transition</var>.
+		 *
+		 * @param transition The transition to which is this listener attached.
+		 */
+		private void release(final Transition transition) {
+			releaseLocations();
+			transition.removeListener(this);
+			if (locationsReleaseListener == this) {
+				locationsReleaseListener = null;
+			}
+		}
+
+		/**
+		 */
+		@Override public void onTransitionPause(@NonNull final Transition transition) {
+			// Ignored.
+		}
+
+		/**
+		 */
+		@Override public void onTransitionResume(@NonNull final Transition transition) {
+			// Ignored.
+		}
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2018 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.transition;
+
+import android.os.Build;
+import android.view.View;
+
+import org.junit.Test;
+import org.robolectric.annotation.Config;
+
+import universum.studios.android.test.local.AllocationCounter;
+import universum.studios.android.test.local.ViewTransitionTestCase;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.CoreMatchers.sameInstance;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.number.IsCloseTo.closeTo;
+import static org.hamcrest.number.OrderingComparison.lessThan;
+import static org.junit.Assume.assumeTrue;
+
+/**
+ * @author Martin Albedinsky
+ */
+@Config(sdk = Build.VERSION_CODES.LOLLIPOP)
+public final class ArcMotionTableTest extends ViewTransitionTestCase {
+
+	private static final double TOLERANCE = 0.01;
+
+	@Test public void testStraightLine() {
+		// Act:
+		final ArcMotionTable table = new ArcMotionTable(0);
+		// Assert:
+		for (int i = 0; i <= 10; i++) {
+			final float fraction = i / 10f;
+			assertThat((double) table.u(fraction), is(closeTo(fraction, TOLERANCE)));
+			assertThat((double) table.v(fraction), is(closeTo(0, TOLERANCE)));
+		}
+	}
+
+	@Test public void testArc() {
+		// Act:
+		final ArcMotionTable table = new ArcMotionTable(0.5f);
+		// Assert:
+		assertThat(table.u(0), is(0f));
+		assertThat(table.v(0), is(0f));
+		assertThat((double) table.u(0.5f), is(closeTo(0.5, TOLERANCE)));
+		assertThat((double) table.v(0.5f), is(closeTo(0.5, TOLERANCE)));
+		assertThat(table.u(1), is(1f));
+		assertThat(table.v(1), is(0f));
+	}
+
+	@Test public void testArcIsUniformByLength() {
+		// Arrange:
+		final ArcMotionTable table = new ArcMotionTable(1f);
+		final int steps = 20;
+		final double[] lengths = new double[steps];
+		// Act:
+		for (int i = 0; i < steps; i++) {
+			final double du = table.u((i + 1) / (float) steps) - table.u(i / (float) steps);
+			final double dv = table.v((i + 1) / (float) steps) - table.v(i / (float) steps);
+			lengths[i] = Math.sqrt(du * du + dv * dv);
+		}
+		// Assert:
+		for (int i = 1; i < steps; i++) {
+			assertThat(lengths[i], is(closeTo(lengths[0], TOLERANCE)));
+		}
+	}
+
+	@Test public void testObtain() {
+		// Arrange:
+		ArcMotionTable.CACHE.evictAll();
+		// Act:
+		final ArcMotionTable table = ArcMotionTable.obtain(0.25f);
+		// Assert:
+		assertThat(ArcMotionTable.CACHE.size(), is(1));
+		assertThat(ArcMotionTable.obtain(0.25f + 0.1f / ArcMotionTable.CURVATURE_BUCKETS), is(sameInstance(table)));
+		assertThat(ArcMotionTable.obtain(-0.25f), is(not(sameInstance(table))));
+		assertThat(ArcMotionTable.CACHE.size(), is(2));
+	}
+
+	@Test public void testObtainClampsCurvature() {
+		// Arrange:
+		ArcMotionTable.CACHE.evictAll();
+		// Act + Assert:
+		assertThat(ArcMotionTable.obtain(10f), is(sameInstance(ArcMotionTable.obtain(ArcMotionTable.MAX_CURVATURE))));
+		assertThat((double) ArcMotionTable.obtain(10f).v(0.5f), is(closeTo(ArcMotionTable.MAX_CURVATURE, TOLERANCE)));
+	}
+
+	@Test public void testObtainForCachedTableDoesNotAllocate() {
+		assumeTrue(AllocationCounter.isSupported());
+		// Arrange:
+		ArcMotionTable.obtain(0.5f);
+		final int iterations = 1000;
+		// Act:
+		final long allocatedBytes = AllocationCounter.measure(iterations, new Runnable() {
+
+			@Override public void run() {
+				ArcMotionTable.obtain(0.5f);
+			}
+		});
+		// Assert:
+		assertThat(allocatedBytes, is(lessThan((long) iterations)));
+	}
+
+	@Test public void testTranslationUpdateListener() {
+		// Arrange:
+		final View view = new View(context);
+		final ArcMotionTable.TranslationUpdateListener listener = new ArcMotionTable.TranslationUpdateListener(
+				view,
+				ArcMotionTable.obtain(0.5f),
+				0f, 0f,
+				100f, 0f
+		);
+		// Act + Assert:
+		listener.update(0f);
+		assertThat(view.getTranslationX(), is(0f));
+		assertThat(view.getTranslationY(), is(0f));
+		listener.update(0.5f);
+		assertThat((double) view.getTranslationX(), is(closeTo(50, 1)));
+		assertThat((double) view.getTranslationY(), is(closeTo(50, 1)));
+		listener.update(1f);
+		assertThat(view.getTranslationX(), is(100f));
+		assertThat(view.getTranslationY(), is(0f));
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2018 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.transition;
+
+import android.os.Build;
+import android.view.View;
+import android.widget.FrameLayout;
+
+import org.junit.Test;
+import org.robolectric.annotation.Config;
+
+import universum.studios.android.test.local.ViewTransitionTestCase;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * @author Martin Albedinsky
+ */
+@Config(sdk = Build.VERSION_CODES.LOLLIPOP)
+public final class DeltaBufferTest extends ViewTransitionTestCase {
+
+	@Test public void testInstantiation() {
+		// Act:
+		final DeltaBuffer buffer = new DeltaBuffer();
+		// Assert:
+		assertThat(buffer.isResolved(), is(false));
+	}
+
+	@Test public void testResolve() {
+		// Arrange:
+		final FrameLayout sceneRoot = spy(new FrameLayout(context));
+		sceneRoot.setRight(400);
+		sceneRoot.setBottom(800);
+		final View firstView = createViewWithSize(100, 50);
+		final View secondView = createViewWithSize(20, 10);
+		final LocationBuffer locations = new LocationBuffer();
+		locations.record(firstView);
+		locations.record(secondView);
+		final DeltaBuffer buffer = new DeltaBuffer();
+		clearInvocations(sceneRoot);
+		// Act:
+		buffer.resolve(
+				new Translate.DefaultDeltaResolver(),
+				sceneRoot,
+				locations,
+				Translate.Description.RELATIVE_TO_TARGET, 0.5f,
+				Translate.Description.RELATIVE_TO_SCENE, 0.25f
+		);
+		// Assert:
+		assertThat(buffer.isResolved(), is(true));
+		assertThat(buffer.getDeltaX(locations.slotOf(firstView)), is(50f));
+		assertThat(buffer.getDeltaY(locations.slotOf(firstView)), is(200f));
+		assertThat(buffer.getDeltaX(locations.slotOf(secondView)), is(10f));
+		assertThat(buffer.getDeltaY(locations.slotOf(secondView)), is(200f));
+		verify(sceneRoot, times(1)).getWidth();
+		verify(sceneRoot, times(1)).getHeight();
+	}
+
+	@Test public void testInvalidate() {
+		// Arrange:
+		final LocationBuffer locations = new LocationBuffer();
+		locations.record(createViewWithSize(10, 10));
+		final DeltaBuffer buffer = new DeltaBuffer();
+		buffer.resolve(new Translate.DefaultDeltaResolver(), new FrameLayout(context), locations, Translate.Description.NONE, 1, Translate.Description.NONE, 1);
+		// Act:
+		buffer.invalidate();
+		// Assert:
+		assertThat(buffer.isResolved(), is(false));
+	}
+
+	private View createViewWithSize(final int width, final int height) {
+		final View view = new View(context);
+		view.setRight(width);
+		view.setBottom(height);
+		return view;
+	}
+}
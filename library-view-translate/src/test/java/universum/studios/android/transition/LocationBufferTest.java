@@ -0,0 +1,193 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2018 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.transition;
+
+import android.os.Build;
+import android.view.View;
+import android.view.ViewGroup;
+import android.widget.FrameLayout;
+
+import org.junit.Test;
+import org.robolectric.annotation.Config;
+
+import universum.studios.android.test.local.ViewTransitionTestCase;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.verify;
+
+/**
+ * @author Martin Albedinsky
+ */
+@Config(sdk = Build.VERSION_CODES.LOLLIPOP)
+public final class LocationBufferTest extends ViewTransitionTestCase {
+
+	@Test public void testInstantiation() {
+		// Act:
+		final LocationBuffer buffer = new LocationBuffer();
+		// Assert:
+		assertThat(buffer.size(), is(0));
+	}
+
+	@Test public void testRecordHierarchy() {
+		// Arrange:
+		final FrameLayout root = createGroup(null, 10, 20);
+		final FrameLayout group = createGroup(root, 30, 40);
+		group.setTranslationX(5);
+		group.setScrollY(15);
+		final View child = createView(group, 7, 9);
+		child.setTranslationY(-3);
+		final LocationBuffer buffer = new LocationBuffer();
+		// Act:
+		buffer.record(root);
+		buffer.record(group);
+		buffer.record(child);
+		// Assert:
+		assertThat(buffer.size(), is(3));
+		assertThatLocationIsRecorded(buffer, root);
+		assertThatLocationIsRecorded(buffer, group);
+		assertThatLocationIsRecorded(buffer, child);
+	}
+
+	@Test public void testRecordDerivesLocationFromRecordedAncestor() {
+		// Arrange:
+		final FrameLayout root = createGroup(null, 10, 20);
+		final FrameLayout group = createGroup(root, 30, 40);
+		final View child = spy(createView(group, 7, 9));
+		final LocationBuffer buffer = new LocationBuffer();
+		buffer.record(root);
+		// Act:
+		buffer.record(child);
+		// Assert:
+		verify(child, never()).getLocationOnScreen(any(int[].class));
+		assertThatLocationIsRecorded(buffer, child);
+	}
+
+	@Test public void testRecordForScaledAncestor() {
+		// Arrange:
+		final FrameLayout root = createGroup(null, 10, 20);
+		final FrameLayout group = createGroup(root, 30, 40);
+		group.setScaleX(0.5f);
+		group.setPivotX(0);
+		final View child = createView(group, 8, 8);
+		final LocationBuffer buffer = new LocationBuffer();
+		// Act:
+		buffer.record(root);
+		buffer.record(group);
+		buffer.record(child);
+		// Assert:
+		assertThatLocationIsRecorded(buffer, group);
+		assertThatLocationIsRecorded(buffer, child);
+	}
+
+	@Test public void testRecordBeyondInitialCapacity() {
+		// Arrange:
+		final FrameLayout root = createGroup(null, 0, 0);
+		final int count = 300;
+		final View[] views = new View[count];
+		for (int i = 0; i < count; i++) {
+			views[i] = createView(root, i, 2 * i);
+		}
+		final LocationBuffer buffer = new LocationBuffer();
+		// Act:
+		buffer.record(root);
+		for (final View view : views) {
+			buffer.record(view);
+		}
+		// Assert:
+		assertThat(buffer.size(), is(count + 1));
+		for (final View view : views) {
+			assertThatLocationIsRecorded(buffer, view);
+		}
+	}
+
+	@Test public void testGetLocationForViewNotRecorded() {
+		// Arrange:
+		final LocationBuffer buffer = new LocationBuffer();
+		// Act + Assert:
+		assertThat(buffer.getLocation(new View(context), new int[2]), is(false));
+	}
+
+	@Test public void testSlots() {
+		// Arrange:
+		final View view = createView(null, 0, 0);
+		final LocationBuffer buffer = new LocationBuffer();
+		buffer.record(view);
+		// Act:
+		final int slot = buffer.slotOf(view);
+		// Assert:
+		assertThat(slot, is(not(-1)));
+		assertThat(buffer.viewAt(slot), is(view));
+		assertThat(buffer.slotOf(new View(context)), is(-1));
+		int recordedCount = 0;
+		for (int i = 0; i < buffer.capacity(); i++) {
+			if (buffer.viewAt(i) != null) {
+				recordedCount++;
+			}
+		}
+		assertThat(recordedCount, is(1));
+	}
+
+	@Test public void testClear() {
+		// Arrange:
+		final View view = createView(null, 0, 0);
+		final LocationBuffer buffer = new LocationBuffer();
+		buffer.record(view);
+		// Act:
+		buffer.clear();
+		// Assert:
+		assertThat(buffer.size(), is(0));
+		assertThat(buffer.contains(view), is(false));
+	}
+
+	private static void assertThatLocationIsRecorded(final LocationBuffer buffer, final View view) {
+		final int[] expectedLocation = new int[2];
+		view.getLocationOnScreen(expectedLocation);
+		final int[] location = new int[2];
+		assertThat(buffer.getLocation(view, location), is(true));
+		assertThat(location[0], is(expectedLocation[0]));
+		assertThat(location[1], is(expectedLocation[1]));
+	}
+
+	private FrameLayout createGroup(final ViewGroup parent, final int left, final int top) {
+		final FrameLayout group = new FrameLayout(context);
+		layout(parent, group, left, top);
+		return group;
+	}
+
+	private View createView(final ViewGroup parent, final int left, final int top) {
+		final View view = new View(context);
+		layout(parent, view, left, top);
+		return view;
+	}
+
+	private static void layout(final ViewGroup parent, final View view, final int left, final int top) {
+		if (parent != null) {
+			parent.addView(view);
+		}
+		view.setLeft(left);
+		view.setTop(top);
+		view.setRight(left + 100);
+		view.setBottom(top + 100);
+	}
+}
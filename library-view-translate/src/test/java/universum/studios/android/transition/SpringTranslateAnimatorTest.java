@@ -0,0 +1,196 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2018 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.transition;
+
+import android.animation.Animator;
+import android.os.Build;
+import android.view.View;
+
+import org.junit.Test;
+import org.mockito.InOrder;
+import org.robolectric.annotation.Config;
+
+import androidx.dynamicanimation.animation.SpringForce;
+import universum.studios.android.test.local.ViewTransitionTestCase;
+
+import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyZeroInteractions;
+
+/**
+ * @author Martin Albedinsky
+ */
+@Config(sdk = Build.VERSION_CODES.LOLLIPOP)
+public final class SpringTranslateAnimatorTest extends ViewTransitionTestCase {
+
+	@Test public void testInstantiation() {
+		// Act:
+		final SpringTranslateAnimator animator = createAnimator(createViewAttachedToWindow(), 100f, -200f);
+		// Assert:
+		assertThat(animator.getVelocityX(), is(100f));
+		assertThat(animator.getVelocityY(), is(-200f));
+		assertThat(animator.getStartDelay(), is(0L));
+		assertThat(animator.getDuration(), is(-1L));
+		assertThat(animator.getInterpolator(), is(nullValue()));
+		assertThat(animator.isStarted(), is(false));
+		assertThat(animator.isRunning(), is(false));
+		assertThat(animator.isPaused(), is(false));
+	}
+
+	@Test public void testStartDelay() {
+		// Arrange:
+		final SpringTranslateAnimator animator = createAnimator(createViewAttachedToWindow(), 0, 0);
+		// Act + Assert:
+		animator.setStartDelay(150);
+		assertThat(animator.getStartDelay(), is(150L));
+		animator.setStartDelay(-1);
+		assertThat(animator.getStartDelay(), is(0L));
+	}
+
+	@Test public void testStart() {
+		// Arrange:
+		final SpringTranslateAnimator animator = createAnimator(createViewAttachedToWindow(), 0, 0);
+		final Animator.AnimatorListener mockListener = mock(Animator.AnimatorListener.class);
+		animator.addListener(mockListener);
+		// Act:
+		animator.start();
+		// Assert:
+		assertThat(animator.isStarted(), is(true));
+		assertThat(animator.isRunning(), is(true));
+		verify(mockListener).onAnimationStart(animator);
+		verify(mockListener, never()).onAnimationEnd(animator);
+	}
+
+	@Test public void testStartWithStartDelay() {
+		// Arrange:
+		final SpringTranslateAnimator animator = createAnimator(createViewAttachedToWindow(), 0, 0);
+		animator.setStartDelay(1000);
+		// Act:
+		animator.start();
+		// Assert:
+		assertThat(animator.isStarted(), is(true));
+		assertThat(animator.isRunning(), is(false));
+	}
+
+	@Test public void testCancel() {
+		// Arrange:
+		final View view = createViewAttachedToWindow();
+		final SpringTranslateAnimator animator = createAnimator(view, 300f, 0);
+		final Animator.AnimatorListener mockListener = mock(Animator.AnimatorListener.class);
+		animator.addListener(mockListener);
+		animator.start();
+		// Act:
+		animator.cancel();
+		// Assert:
+		assertThat(animator.isStarted(), is(false));
+		assertThat(animator.isRunning(), is(false));
+		assertThat(animator.getVelocityX(), is(300f));
+		assertThat(view.getTranslationX(), is(0f));
+		final InOrder inOrder = inOrder(mockListener);
+		inOrder.verify(mockListener).onAnimationStart(animator);
+		inOrder.verify(mockListener).onAnimationCancel(animator);
+		inOrder.verify(mockListener).onAnimationEnd(animator);
+	}
+
+	@Test public void testCancelNotStarted() {
+		// Arrange:
+		final SpringTranslateAnimator animator = createAnimator(createViewAttachedToWindow(), 0, 0);
+		final Animator.AnimatorListener mockListener = mock(Animator.AnimatorListener.class);
+		animator.addListener(mockListener);
+		// Act:
+		animator.cancel();
+		// Assert:
+		verifyZeroInteractions(mockListener);
+	}
+
+	@Test public void testEnd() {
+		// Arrange:
+		final View view = createViewAttachedToWindow();
+		final SpringTranslateAnimator animator = createAnimator(view, 300f, 0);
+		final Animator.AnimatorListener mockListener = mock(Animator.AnimatorListener.class);
+		animator.addListener(mockListener);
+		animator.start();
+		// Act:
+		animator.end();
+		// Assert:
+		assertThat(animator.isStarted(), is(false));
+		assertThat(animator.getVelocityX(), is(0f));
+		assertThat(view.getTranslationX(), is(100f));
+		assertThat(view.getTranslationY(), is(50f));
+		verify(mockListener).onAnimationEnd(animator);
+		verify(mockListener, never()).onAnimationCancel(animator);
+	}
+
+	@Test public void testPauseResume() {
+		// Arrange:
+		final SpringTranslateAnimator animator = createAnimator(createViewAttachedToWindow(), 0, 0);
+		final Animator.AnimatorPauseListener mockListener = mock(Animator.AnimatorPauseListener.class);
+		animator.addPauseListener(mockListener);
+		animator.start();
+		// Act + Assert:
+		animator.pause();
+		assertThat(animator.isPaused(), is(true));
+		assertThat(animator.isRunning(), is(false));
+		verify(mockListener).onAnimationPause(animator);
+		animator.resume();
+		assertThat(animator.isPaused(), is(false));
+		assertThat(animator.isRunning(), is(true));
+		verify(mockListener).onAnimationResume(animator);
+	}
+
+	@Test public void testPauseNotStarted() {
+		// Arrange:
+		final SpringTranslateAnimator animator = createAnimator(createViewAttachedToWindow(), 0, 0);
+		final Animator.AnimatorPauseListener mockListener = mock(Animator.AnimatorPauseListener.class);
+		animator.addPauseListener(mockListener);
+		// Act:
+		animator.pause();
+		// Assert:
+		assertThat(animator.isPaused(), is(false));
+		verifyZeroInteractions(mockListener);
+	}
+
+	@Test public void testClone() {
+		// Arrange:
+		final SpringTranslateAnimator animator = createAnimator(createViewAttachedToWindow(), 10f, 20f);
+		animator.setStartDelay(100);
+		// Act:
+		final SpringTranslateAnimator clone = animator.clone();
+		// Assert:
+		assertThat(clone == animator, is(false));
+		assertThat(clone.getStartDelay(), is(100L));
+		assertThat(clone.getVelocityX(), is(10f));
+		assertThat(clone.getVelocityY(), is(20f));
+	}
+
+	private static SpringTranslateAnimator createAnimator(final View view, final float velocityX, final float velocityY) {
+		return new SpringTranslateAnimator(
+				view,
+				0f, 0f,
+				velocityX, velocityY,
+				100f, 50f,
+				SpringForce.STIFFNESS_MEDIUM, SpringForce.DAMPING_RATIO_NO_BOUNCY
+		);
+	}
+}
@@ -21,26 +21,47 @@ package universum.studios.android.transition;
 import android.animation.Animator;
 import android.animation.ObjectAnimator;
 import android.animation.PropertyValuesHolder;
+import android.animation.ValueAnimator;
 import android.os.Build;
+import android.transition.Transition;
 import android.transition.TransitionValues;
+import android.util.AttributeSet;
 import android.view.View;
 import android.widget.FrameLayout;
 
 import org.hamcrest.core.Is;
 import org.junit.Test;
+import org.robolectric.Robolectric;
 import org.robolectric.annotation.Config;
+import org.robolectric.util.ReflectionHelpers;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 import androidx.annotation.Size;
+import androidx.dynamicanimation.animation.SpringForce;
 import universum.studios.android.test.local.ViewTransitionTestCase;
+import universum.studios.android.transition.util.AnimatorWrapper;
+import universum.studios.android.transition.util.LayerPolicy;
+import universum.studios.android.transition.util.ViewPropertyAnimatorWrapper;
 
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.not;
 import static org.hamcrest.CoreMatchers.notNullValue;
 import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyFloat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.clearInvocations;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
 
 /**
  * @author Martin Albedinsky
@@ -73,6 +94,18 @@ public final class TranslateTest extends ViewTransitionTestCase {
 		assertThat(translate.getMode(), is(Scale.MODE_IN | Scale.MODE_OUT));
 	}
 
+	@Test public void testInstantiationWithCachedAttributeSet() {
+		// Arrange:
+		Translate.ATTRIBUTES_CACHE.clear();
+		final AttributeSet attrs = Robolectric.buildAttributeSet().addAttribute(R.attr.transitionTranslationXDelta, "50%").build();
+		final Translate parsedTranslate = new Translate(context, attrs);
+		// Act:
+		final Translate translate = new Translate(context, attrs);
+		// Assert:
+		assertThat(Translate.ATTRIBUTES_CACHE.size(), is(1));
+		assertThat(translate.getTranslationXDelta(), is(parsedTranslate.getTranslationXDelta()));
+	}
+
 	@Test public void testCreateAnimator() {
 		// Arrange:
 		final Translate translate = new Translate();
@@ -90,11 +123,99 @@ public final class TranslateTest extends ViewTransitionTestCase {
 		), view);
 	}
 
+	@Test public void testCreateSpringAnimator() {
+		// Arrange:
+		final Translate translate = new Translate();
+		final View view = createViewAttachedToWindow();
+		final TransitionValues values = new TransitionValues();
+		values.view = view;
+		// Act:
+		final Animator animator = Translate.createSpringAnimator(
+				translate,
+				view,
+				values,
+				0, 0,
+				10f, 20f,
+				100f, 100f,
+				SpringForce.STIFFNESS_MEDIUM, SpringForce.DAMPING_RATIO_NO_BOUNCY
+		);
+		// Assert:
+		assertThat(animator, instanceOf(SpringTranslateAnimator.class));
+		assertThat(((SpringTranslateAnimator) animator).getVelocityX(), is(0f));
+		assertThat(((SpringTranslateAnimator) animator).getVelocityY(), is(0f));
+		assertThat(view.getTranslationX(), is(10f));
+		assertThat(view.getTranslationY(), is(20f));
+	}
+
+	@Test public void testPackAndUnpack() {
+		// Act + Assert:
+		assertThat(Translate.unpackX(Translate.pack(100, -200)), is(100));
+		assertThat(Translate.unpackY(Translate.pack(100, -200)), is(-200));
+		assertThat(Translate.unpackX(Translate.pack(-1, Integer.MAX_VALUE)), is(-1));
+		assertThat(Translate.unpackY(Translate.pack(-1, Integer.MAX_VALUE)), is(Integer.MAX_VALUE));
+	}
+
+	@Test public void testCreateSpringAnimatorWithInterruptedVelocity() {
+		// Arrange:
+		final Translate translate = new Translate();
+		final View view = createViewAttachedToWindow();
+		Translate.INTERRUPTED_POSITIONS.put(view, Translate.pack(50, 60));
+		Translate.INTERRUPTED_VELOCITIES.put(view, Translate.pack(-400, 800));
+		final TransitionValues values = new TransitionValues();
+		values.view = view;
+		// Act:
+		final Animator animator = Translate.createSpringAnimator(
+				translate,
+				view,
+				values,
+				0, 0,
+				0f, 0f,
+				100f, 100f,
+				SpringForce.STIFFNESS_MEDIUM, SpringForce.DAMPING_RATIO_NO_BOUNCY
+		);
+		// Assert:
+		assertThat(animator, instanceOf(SpringTranslateAnimator.class));
+		assertThat(((SpringTranslateAnimator) animator).getVelocityX(), is(-400f));
+		assertThat(((SpringTranslateAnimator) animator).getVelocityY(), is(800f));
+		assertThat(view.getTranslationX(), is(50f));
+		assertThat(view.getTranslationY(), is(60f));
+		assertThat(Translate.INTERRUPTED_VELOCITIES.get(view), is(ViewTable.NO_VALUE));
+	}
+
+	@Test public void testCreateTranslationAnimator() {
+		// Arrange:
+		final View view = createViewAttachedToWindow();
+		// Act:
+		final ObjectAnimator animator = Translate.createTranslationAnimator(view, 10, 20, 0, 5);
+		// Assert:
+		assertThatAnimatorForViewIsValid(animator, view);
+		animator.setCurrentPlayTime(0);
+		assertThat(view.getTranslationX(), is(10f));
+		assertThat(view.getTranslationY(), is(20f));
+		animator.setCurrentPlayTime(animator.getDuration());
+		assertThat(view.getTranslationX(), is(0f));
+		assertThat(view.getTranslationY(), is(5f));
+	}
+
+	@Test public void testCreateArcTranslationAnimator() {
+		// Arrange:
+		final View view = createViewAttachedToWindow();
+		// Act:
+		final ValueAnimator animator = Translate.createArcTranslationAnimator(view, 10, 20, 0, 5, 0.5f);
+		// Assert:
+		animator.setCurrentPlayTime(0);
+		assertThat(view.getTranslationX(), is(10f));
+		assertThat(view.getTranslationY(), is(20f));
+		animator.setCurrentPlayTime(animator.getDuration());
+		assertThat(view.getTranslationX(), is(0f));
+		assertThat(view.getTranslationY(), is(5f));
+	}
+
 	@Test public void testCreateAnimatorWithKnownLocationOnScreen() {
 		// Arrange:
 		final Translate translate = new Translate();
 		final View view = createViewAttachedToWindow();
-		view.setTag(R.id.ui_transition_tag_position, new int[]{50, 50});
+		Translate.INTERRUPTED_POSITIONS.put(view, Translate.pack(50, 50));
 		final TransitionValues values = new TransitionValues();
 		values.view = view;
 		// Act + Assert:
@@ -219,6 +340,165 @@ public final class TranslateTest extends ViewTransitionTestCase {
 		assertThat(translate.getTranslationYRelativity(), is(Translate.Description.NONE));
 	}
 
+	@Test public void testArcMotionCurvature() {
+		// Arrange:
+		final Translate translate = new Translate();
+		// Act + Assert:
+		assertThat(translate.getArcMotionCurvature(), is(0f));
+		translate.setArcMotionCurvature(0.25f);
+		assertThat(translate.getArcMotionCurvature(), is(0.25f));
+		translate.setArcMotionCurvature(-2f);
+		assertThat(translate.getArcMotionCurvature(), is(-ArcMotionTable.MAX_CURVATURE));
+		translate.setArcMotionCurvature(2f);
+		assertThat(translate.getArcMotionCurvature(), is(ArcMotionTable.MAX_CURVATURE));
+	}
+
+	@Test public void testDeltaResolver() {
+		// Arrange:
+		final Translate translate = new Translate();
+		final Translate.DeltaResolver mockResolver = mock(Translate.DeltaResolver.class);
+		// Act + Assert:
+		assertThat(translate.getDeltaResolver(), is(Translate.DELTA_RESOLVER));
+		translate.setDeltaResolver(mockResolver);
+		assertThat(translate.getDeltaResolver(), is(mockResolver));
+		translate.setDeltaResolver(null);
+		assertThat(translate.getDeltaResolver(), is(Translate.DELTA_RESOLVER));
+	}
+
+	@Test public void testDefaultDeltaResolver() {
+		// Arrange:
+		final FrameLayout sceneRoot = new FrameLayout(context);
+		sceneRoot.setRight(400);
+		sceneRoot.setBottom(800);
+		final View view = new View(context);
+		view.setRight(100);
+		view.setBottom(50);
+		final Translate.DeltaResolver resolver = Translate.DELTA_RESOLVER;
+		// Act + Assert:
+		assertThat(resolver, instanceOf(Translate.BatchDeltaResolver.class));
+		assertThat(resolver.resolveDeltaX(sceneRoot, view, Translate.Description.NONE, 20f), is(20f));
+		assertThat(resolver.resolveDeltaX(sceneRoot, view, Translate.Description.RELATIVE_TO_TARGET, 0.5f), is(50f));
+		assertThat(resolver.resolveDeltaX(sceneRoot, view, Translate.Description.RELATIVE_TO_SCENE, 0.5f), is(200f));
+		assertThat(resolver.resolveDeltaY(sceneRoot, view, Translate.Description.NONE, -20f), is(-20f));
+		assertThat(resolver.resolveDeltaY(sceneRoot, view, Translate.Description.RELATIVE_TO_TARGET, 0.5f), is(25f));
+		assertThat(resolver.resolveDeltaY(sceneRoot, view, Translate.Description.RELATIVE_TO_SCENE, 0.5f), is(400f));
+	}
+
+	@Test public void testDefaultDeltaResolverBatch() {
+		// Arrange:
+		final FrameLayout sceneRoot = spy(new FrameLayout(context));
+		sceneRoot.setRight(400);
+		sceneRoot.setBottom(800);
+		final int[] viewSizes = {100, 50, 10};
+		final int[] relativities = {
+				Translate.Description.NONE,
+				Translate.Description.RELATIVE_TO_TARGET,
+				Translate.Description.RELATIVE_TO_SCENE
+		};
+		final float[] values = {20f, 0.5f, -0.25f};
+		final float[] deltasX = new float[3];
+		final float[] deltasY = new float[3];
+		final Translate.BatchDeltaResolver resolver = new Translate.DefaultDeltaResolver();
+		clearInvocations(sceneRoot);
+		// Act:
+		resolver.resolveDeltasX(sceneRoot, viewSizes, relativities, values, deltasX, 3);
+		resolver.resolveDeltasY(sceneRoot, viewSizes, relativities, values, deltasY, 2);
+		// Assert:
+		assertThat(deltasX[0], is(20f));
+		assertThat(deltasX[1], is(25f));
+		assertThat(deltasX[2], is(-100f));
+		assertThat(deltasY[0], is(20f));
+		assertThat(deltasY[1], is(25f));
+		assertThat(deltasY[2], is(0f));
+		verify(sceneRoot).getWidth();
+		verify(sceneRoot).getHeight();
+	}
+
+	@Test public void testOnAppearWithCustomDeltaResolver() {
+		// Arrange:
+		final View view = createViewAttachedToWindow();
+		final TransitionValues values = new TransitionValues();
+		values.view = view;
+		CapturedValues.obtain(values, Translate.PROPERTY_TRANSITION_VALUES);
+		final FrameLayout sceneRoot = new FrameLayout(context);
+		final Translate.DeltaResolver mockResolver = mock(Translate.DeltaResolver.class);
+		when(mockResolver.resolveDeltaX(any(FrameLayout.class), any(View.class), anyInt(), anyFloat())).thenReturn(100f);
+		final Translate translate = new Translate();
+		translate.setTranslationXDelta(0.5f);
+		translate.setTranslationXRelativity(Translate.Description.RELATIVE_TO_SCENE);
+		translate.setDeltaResolver(mockResolver);
+		// Act:
+		final Animator animator = translate.onAppear(sceneRoot, view, null, values);
+		// Assert:
+		assertThatTransitionAnimatorForViewIsValid(animator, view);
+		assertThat(view.getTranslationX(), is(100f));
+		verify(mockResolver).resolveDeltaX(sceneRoot, view, Translate.Description.RELATIVE_TO_SCENE, 0.5f);
+		verify(mockResolver).resolveDeltaY(sceneRoot, view, Translate.Description.NONE, 0f);
+	}
+
+	@Test public void testLayerPolicy() {
+		// Arrange:
+		final Translate translate = new Translate();
+		// Act + Assert:
+		assertThat(translate.getLayerPolicy(), is(LayerPolicy.NONE));
+		translate.setLayerPolicy(LayerPolicy.AUTO);
+		assertThat(translate.getLayerPolicy(), is(LayerPolicy.AUTO));
+	}
+
+	@Test public void testViewPropertyAnimatorEnabled() {
+		// Arrange:
+		final Translate translate = new Translate();
+		// Act + Assert:
+		assertThat(translate.isViewPropertyAnimatorEnabled(), is(false));
+		translate.setViewPropertyAnimatorEnabled(true);
+		assertThat(translate.isViewPropertyAnimatorEnabled(), is(true));
+	}
+
+	@Test public void testSpringEnabled() {
+		// Arrange:
+		final Translate translate = new Translate();
+		// Act + Assert:
+		assertThat(translate.isSpringEnabled(), is(false));
+		translate.setSpringEnabled(true);
+		assertThat(translate.isSpringEnabled(), is(true));
+		translate.setSpringEnabled(false);
+		assertThat(translate.isSpringEnabled(), is(false));
+	}
+
+	@Test public void testSpringStiffness() {
+		// Arrange:
+		final Translate translate = new Translate();
+		// Act + Assert:
+		assertThat(translate.getSpringStiffness(), is(SpringForce.STIFFNESS_MEDIUM));
+		translate.setSpringStiffness(SpringForce.STIFFNESS_LOW);
+		assertThat(translate.getSpringStiffness(), is(SpringForce.STIFFNESS_LOW));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testSpringStiffnessNotPositive() {
+		// Arrange:
+		final Translate translate = new Translate();
+		// Act:
+		translate.setSpringStiffness(0);
+	}
+
+	@Test public void testSpringDampingRatio() {
+		// Arrange:
+		final Translate translate = new Translate();
+		// Act + Assert:
+		assertThat(translate.getSpringDampingRatio(), is(SpringForce.DAMPING_RATIO_NO_BOUNCY));
+		translate.setSpringDampingRatio(SpringForce.DAMPING_RATIO_LOW_BOUNCY);
+		assertThat(translate.getSpringDampingRatio(), is(SpringForce.DAMPING_RATIO_LOW_BOUNCY));
+	}
+
+	@Test(expected = IllegalArgumentException.class)
+	public void testSpringDampingRatioNegative() {
+		// Arrange:
+		final Translate translate = new Translate();
+		// Act:
+		translate.setSpringDampingRatio(-1);
+	}
+
 	@Test public void testCaptureStartValues() {
 		// Arrange:
 		final int[] mockLocationOnScreen = new int[]{200, 400};
@@ -235,11 +515,10 @@ public final class TranslateTest extends ViewTransitionTestCase {
 		// Act:
 		translate.captureStartValues(values);
 		// Assert:
-		final int[] locationOnScreen = (int[]) values.values.get(Translate.PROPERTY_TRANSITION_LOCATION_ON_SCREEN);
-		assertThat(locationOnScreen, is(notNullValue()));
-		assertThat(locationOnScreen.length, is(2));
-		assertThat(locationOnScreen[0], is(mockLocationOnScreen[0]));
-		assertThat(locationOnScreen[1], is(mockLocationOnScreen[1]));
+		final CapturedValues capturedValues = CapturedValues.get(values, Translate.PROPERTY_TRANSITION_VALUES);
+		assertThat(capturedValues, is(notNullValue()));
+		assertThat(capturedValues.getInt(Translate.SLOT_LOCATION_X), is(mockLocationOnScreen[0]));
+		assertThat(capturedValues.getInt(Translate.SLOT_LOCATION_Y), is(mockLocationOnScreen[1]));
 	}
 
 	@Test public void testCaptureEndValues() {
@@ -258,11 +537,119 @@ public final class TranslateTest extends ViewTransitionTestCase {
 		// Act:
 		translate.captureEndValues(values);
 		// Assert:
-		final int[] locationOnScreen = (int[]) values.values.get(Translate.PROPERTY_TRANSITION_LOCATION_ON_SCREEN);
-		assertThat(locationOnScreen, is(notNullValue()));
-		assertThat(locationOnScreen.length, is(2));
-		assertThat(locationOnScreen[0], is(mockLocationOnScreen[0]));
-		assertThat(locationOnScreen[1], is(mockLocationOnScreen[1]));
+		final CapturedValues capturedValues = CapturedValues.get(values, Translate.PROPERTY_TRANSITION_VALUES);
+		assertThat(capturedValues, is(notNullValue()));
+		assertThat(capturedValues.getInt(Translate.SLOT_LOCATION_X), is(mockLocationOnScreen[0]));
+		assertThat(capturedValues.getInt(Translate.SLOT_LOCATION_Y), is(mockLocationOnScreen[1]));
+	}
+
+	@Test public void testSinglePassCaptureEnabled() {
+		// Arrange:
+		final Translate translate = new Translate();
+		// Act + Assert:
+		assertThat(translate.isSinglePassCaptureEnabled(), is(false));
+		translate.setSinglePassCaptureEnabled(true);
+		assertThat(translate.isSinglePassCaptureEnabled(), is(true));
+		assertThat(translate.clone().isSinglePassCaptureEnabled(), is(true));
+	}
+
+	@Test public void testCaptureStartValuesInSinglePass() {
+		// Arrange:
+		final View view = createViewAttachedToWindow();
+		final TransitionValues values = new TransitionValues();
+		values.view = view;
+		final Translate translate = new Translate();
+		translate.setSinglePassCaptureEnabled(true);
+		translate.setTranslationXDelta(100);
+		// Act:
+		translate.captureStartValues(values);
+		// Assert:
+		assertThat(values.values.get(Translate.PROPERTY_TRANSITION_VALUES), is(nullValue()));
+		assertThat(getTransitionListenersCount(translate), is(1));
+		assertThat(translate.onDisappear(new FrameLayout(context), view, values, null), is(notNullValue()));
+	}
+
+	@Test public void testCaptureEndValuesInSinglePassForInvisibleView() {
+		// Arrange:
+		final View view = createViewAttachedToWindow();
+		view.setVisibility(View.INVISIBLE);
+		final TransitionValues values = new TransitionValues();
+		values.view = view;
+		final Translate translate = new Translate();
+		translate.setSinglePassCaptureEnabled(true);
+		translate.setTranslationXDelta(100);
+		// Act:
+		translate.captureEndValues(values);
+		// Assert:
+		assertThat(values.values.get(Translate.PROPERTY_TRANSITION_VALUES), is(nullValue()));
+		assertThat(translate.onAppear(new FrameLayout(context), view, null, values), is(nullValue()));
+	}
+
+	@Test public void testCaptureStartValuesInSinglePassOfNextRun() {
+		// Arrange:
+		final View view = createViewAttachedToWindow();
+		final TransitionValues previousValues = new TransitionValues();
+		previousValues.view = view;
+		final Translate translate = new Translate();
+		translate.setSinglePassCaptureEnabled(true);
+		translate.setTranslationXDelta(100);
+		// Previous run which has captured start values but created no animators.
+		translate.captureStartValues(previousValues);
+		view.setVisibility(View.INVISIBLE);
+		final TransitionValues values = new TransitionValues();
+		values.view = view;
+		// Act:
+		translate.captureStartValues(values);
+		// Assert:
+		assertThat(translate.onDisappear(new FrameLayout(context), view, values, null), is(nullValue()));
+	}
+
+	@Test public void testOnAppearInSinglePassResolvesDeltasInBatch() {
+		// Arrange:
+		final View firstView = createViewAttachedToWindow();
+		final View secondView = createViewAttachedToWindow();
+		final TransitionValues firstValues = new TransitionValues();
+		firstValues.view = firstView;
+		final TransitionValues secondValues = new TransitionValues();
+		secondValues.view = secondView;
+		final FrameLayout sceneRoot = new FrameLayout(context);
+		final Translate.BatchDeltaResolver resolver = spy(new Translate.DefaultDeltaResolver());
+		final Translate translate = new Translate();
+		translate.setSinglePassCaptureEnabled(true);
+		translate.setTranslationXDelta(100);
+		translate.setDeltaResolver(resolver);
+		translate.captureEndValues(firstValues);
+		translate.captureEndValues(secondValues);
+		// Act:
+		final Animator firstAnimator = translate.onAppear(sceneRoot, firstView, null, firstValues);
+		final Animator secondAnimator = translate.onAppear(sceneRoot, secondView, null, secondValues);
+		// Assert:
+		assertThat(firstAnimator, is(notNullValue()));
+		assertThat(secondAnimator, is(notNullValue()));
+		assertThat(firstView.getTranslationX(), is(100f));
+		assertThat(secondView.getTranslationX(), is(100f));
+		verify(resolver).resolveDeltasX(any(FrameLayout.class), any(int[].class), any(int[].class), any(float[].class), any(float[].class), anyInt());
+		verify(resolver).resolveDeltasY(any(FrameLayout.class), any(int[].class), any(int[].class), any(float[].class), any(float[].class), anyInt());
+		verify(resolver, never()).resolveDeltaX(any(FrameLayout.class), any(View.class), anyInt(), anyFloat());
+		verify(resolver, never()).resolveDeltaY(any(FrameLayout.class), any(View.class), anyInt(), anyFloat());
+	}
+
+	@Test public void testSinglePassLocationsReleasedOnTransitionEnd() {
+		// Arrange:
+		final View view = createViewAttachedToWindow();
+		final TransitionValues values = new TransitionValues();
+		values.view = view;
+		final Translate translate = new Translate();
+		translate.setSinglePassCaptureEnabled(true);
+		translate.setTranslationXDelta(100);
+		translate.captureStartValues(values);
+		// Act:
+		for (final Transition.TransitionListener listener : new ArrayList<>(getTransitionListeners(translate))) {
+			listener.onTransitionEnd(translate);
+		}
+		// Assert:
+		assertThat(getTransitionListenersCount(translate), is(0));
+		assertThat(translate.onDisappear(new FrameLayout(context), view, values, null), is(nullValue()));
 	}
 
 	@Test public void testOnAppear() {
@@ -270,12 +657,106 @@ public final class TranslateTest extends ViewTransitionTestCase {
 		final View view = createViewAttachedToWindow();
 		final TransitionValues values = new TransitionValues();
 		values.view = view;
-		values.values.put(Translate.PROPERTY_TRANSITION_LOCATION_ON_SCREEN, new int[]{0, 0});
+		CapturedValues.obtain(values, Translate.PROPERTY_TRANSITION_VALUES);
 		final Translate translate = new Translate();
 		translate.setTranslationXDelta(-100f);
 		translate.setTranslationYDelta(-100f);
 		// Act + Assert:
-		assertThatAnimatorForViewIsValid(translate.onAppear(new FrameLayout(context), view, null, values), view);
+		assertThatTransitionAnimatorForViewIsValid(translate.onAppear(new FrameLayout(context), view, null, values), view);
+	}
+
+	@Test public void testOnAppearWithArcMotion() {
+		// Arrange:
+		final View view = createViewAttachedToWindow();
+		final TransitionValues values = new TransitionValues();
+		values.view = view;
+		CapturedValues.obtain(values, Translate.PROPERTY_TRANSITION_VALUES);
+		final Translate translate = new Translate();
+		translate.setTranslationXDelta(-100f);
+		translate.setArcMotionCurvature(0.5f);
+		// Act:
+		final Animator animator = translate.onAppear(new FrameLayout(context), view, null, values);
+		// Assert:
+		final Animator valueAnimator = unwrap(animator);
+		assertThat(valueAnimator, instanceOf(ValueAnimator.class));
+		assertThat(animator.getInterpolator(), is(Translate.INTERPOLATOR));
+		((ValueAnimator) valueAnimator).setCurrentPlayTime(animator.getDuration());
+		assertThat(view.getTranslationX(), is(0f));
+		assertThat(view.getTranslationY(), is(0f));
+	}
+
+	@Test public void testOnAppearWithSpringEnabled() {
+		// Arrange:
+		final View view = createViewAttachedToWindow();
+		final TransitionValues values = new TransitionValues();
+		values.view = view;
+		CapturedValues.obtain(values, Translate.PROPERTY_TRANSITION_VALUES);
+		final Translate translate = new Translate();
+		translate.setTranslationXDelta(-100f);
+		translate.setSpringEnabled(true);
+		// Act:
+		final Animator animator = translate.onAppear(new FrameLayout(context), view, null, values);
+		// Assert:
+		assertThat(unwrap(animator), instanceOf(SpringTranslateAnimator.class));
+	}
+
+	@Test public void testOnAppearWithViewPropertyAnimatorEnabled() {
+		// Arrange:
+		final View view = createViewAttachedToWindow();
+		final TransitionValues values = new TransitionValues();
+		values.view = view;
+		CapturedValues.obtain(values, Translate.PROPERTY_TRANSITION_VALUES);
+		final Translate translate = new Translate();
+		translate.setTranslationXDelta(-100f);
+		translate.setViewPropertyAnimatorEnabled(true);
+		translate.setLayerPolicy(LayerPolicy.ALWAYS);
+		// Act:
+		final Animator animator = translate.onAppear(new FrameLayout(context), view, null, values);
+		// Assert:
+		assertThat(animator, instanceOf(ViewPropertyAnimatorWrapper.class));
+		final ViewPropertyAnimatorWrapper wrapper = (ViewPropertyAnimatorWrapper) animator;
+		assertThat(wrapper.getStartValue(ViewPropertyAnimatorWrapper.TRANSLATION_X), is(-100f));
+		assertThat(wrapper.getEndValue(ViewPropertyAnimatorWrapper.TRANSLATION_X), is(0f));
+		assertThat(wrapper.isPropertyAnimated(ViewPropertyAnimatorWrapper.TRANSLATION_Y), is(true));
+		assertThat(wrapper.isWithLayer(), is(true));
+		assertThat(animator.getInterpolator(), is(Translate.INTERPOLATOR));
+		assertThat(view.getTranslationX(), is(-100f));
+		animator.start();
+		animator.end();
+		assertThat(view.getTranslationX(), is(0f));
+	}
+
+	@Test public void testOnAppearWithViewPropertyAnimatorAndArcMotion() {
+		// Arrange:
+		final View view = createViewAttachedToWindow();
+		final TransitionValues values = new TransitionValues();
+		values.view = view;
+		CapturedValues.obtain(values, Translate.PROPERTY_TRANSITION_VALUES);
+		final Translate translate = new Translate();
+		translate.setTranslationXDelta(-100f);
+		translate.setViewPropertyAnimatorEnabled(true);
+		translate.setArcMotionCurvature(0.5f);
+		// Act:
+		final Animator animator = translate.onAppear(new FrameLayout(context), view, null, values);
+		// Assert:
+		assertThat(animator, not(instanceOf(ViewPropertyAnimatorWrapper.class)));
+		assertThat(unwrap(animator), instanceOf(ValueAnimator.class));
+	}
+
+	@Test public void testOnAppearWithSpringEnabledAndArcMotion() {
+		// Arrange:
+		final View view = createViewAttachedToWindow();
+		final TransitionValues values = new TransitionValues();
+		values.view = view;
+		CapturedValues.obtain(values, Translate.PROPERTY_TRANSITION_VALUES);
+		final Translate translate = new Translate();
+		translate.setTranslationXDelta(-100f);
+		translate.setArcMotionCurvature(0.5f);
+		translate.setSpringEnabled(true);
+		// Act + Assert:
+		assertThat(unwrap(translate.onAppear(new FrameLayout(context), view, null, values)), instanceOf(SpringTranslateAnimator.class));
+		translate.setSpringEnabled(false);
+		assertThat(unwrap(translate.onAppear(new FrameLayout(context), view, null, values)), instanceOf(ValueAnimator.class));
 	}
 
 	@Test public void testOnAppearWithZeroTranslationDeltas() {
@@ -284,7 +765,7 @@ public final class TranslateTest extends ViewTransitionTestCase {
 		final View view = new View(context);
 		final TransitionValues values = new TransitionValues();
 		values.view = view;
-		values.values.put(Translate.PROPERTY_TRANSITION_LOCATION_ON_SCREEN, new int[]{0, 0});
+		CapturedValues.obtain(values, Translate.PROPERTY_TRANSITION_VALUES);
 		// Act + Assert:
 		assertThat(translate.onAppear(new FrameLayout(context), view, null, values), is(nullValue()));
 	}
@@ -319,12 +800,12 @@ public final class TranslateTest extends ViewTransitionTestCase {
 		final View view = createViewAttachedToWindow();
 		final TransitionValues values = new TransitionValues();
 		values.view = view;
-		values.values.put(Translate.PROPERTY_TRANSITION_LOCATION_ON_SCREEN, new int[]{0, 0});
+		CapturedValues.obtain(values, Translate.PROPERTY_TRANSITION_VALUES);
 		final Translate translate = new Translate();
 		translate.setTranslationXDelta(100f);
 		translate.setTranslationYDelta(100f);
 		// Act + Assert:
-		assertThatAnimatorForViewIsValid(translate.onDisappear(new FrameLayout(context), view, values, null), view);
+		assertThatTransitionAnimatorForViewIsValid(translate.onDisappear(new FrameLayout(context), view, values, null), view);
 	}
 
 	@Test public void testOnDisappearWithZeroTranslationDeltas() {
@@ -332,7 +813,7 @@ public final class TranslateTest extends ViewTransitionTestCase {
 		final View view = new View(context);
 		final TransitionValues values = new TransitionValues();
 		values.view = view;
-		values.values.put(Translate.PROPERTY_TRANSITION_LOCATION_ON_SCREEN, new int[]{0, 0});
+		CapturedValues.obtain(values, Translate.PROPERTY_TRANSITION_VALUES);
 		// Act + Assert:
 		assertThat(new Translate().onDisappear(new FrameLayout(context), view, values, null), is(nullValue()));
 	}
@@ -369,7 +850,7 @@ public final class TranslateTest extends ViewTransitionTestCase {
 		animatingView.setTranslationX(100f);
 		animatingView.setTranslationY(200f);
 		final View viewInHierarchy = new View(context);
-		viewInHierarchy.setTag(R.id.ui_transition_tag_position, new int[]{0, 0});
+		Translate.INTERRUPTED_POSITIONS.put(viewInHierarchy, Translate.pack(0, 0));
 		final Translate.TransitionAnimatorListener listener = new Translate.TransitionAnimatorListener(
 				animatingView,
 				viewInHierarchy,
@@ -379,11 +860,77 @@ public final class TranslateTest extends ViewTransitionTestCase {
 		// Act:
 		listener.onAnimationCancel(mock(Animator.class));
 		// Assert:
-		final int[] transitionPosition = (int[]) viewInHierarchy.getTag(R.id.ui_transition_tag_position);
-		assertThat(transitionPosition, is(notNullValue()));
-		assertThat(transitionPosition.length, is(2));
-		assertThat(transitionPosition[0], is(Math.round(15f)));
-		assertThat(transitionPosition[1], is(Math.round(35f)));
+		final long transitionPosition = Translate.INTERRUPTED_POSITIONS.get(viewInHierarchy);
+		assertThat(transitionPosition, is(not(ViewTable.NO_VALUE)));
+		assertThat(Translate.unpackX(transitionPosition), is(Math.round(15f)));
+		assertThat(Translate.unpackY(transitionPosition), is(Math.round(35f)));
+		assertThat(viewInHierarchy.getTag(R.id.ui_transition_tag_position), is(nullValue()));
+	}
+
+	@Test public void testTransitionAnimatorListenerOnSpringAnimationCancel() {
+		// Arrange:
+		final View animatingView = new View(context);
+		final View viewInHierarchy = new View(context);
+		final Translate.TransitionAnimatorListener listener = new Translate.TransitionAnimatorListener(
+				animatingView,
+				viewInHierarchy,
+				0f, 0f,
+				100f, 100f
+		);
+		final SpringTranslateAnimator animator = new SpringTranslateAnimator(
+				animatingView,
+				0f, 0f,
+				250f, -500f,
+				100f, 100f,
+				SpringForce.STIFFNESS_MEDIUM, SpringForce.DAMPING_RATIO_NO_BOUNCY
+		);
+		// Act:
+		listener.onAnimationCancel(animator);
+		// Assert:
+		final long velocity = Translate.INTERRUPTED_VELOCITIES.get(viewInHierarchy);
+		assertThat(velocity, is(not(ViewTable.NO_VALUE)));
+		assertThat(Translate.unpackX(velocity), is(250));
+		assertThat(Translate.unpackY(velocity), is(-500));
+	}
+
+	@Test public void testTransitionAnimatorListenerOnWrappedSpringAnimationCancel() {
+		// Arrange:
+		final View animatingView = new View(context);
+		final View viewInHierarchy = new View(context);
+		final Translate.TransitionAnimatorListener listener = new Translate.TransitionAnimatorListener(
+				animatingView,
+				viewInHierarchy,
+				0f, 0f,
+				100f, 100f
+		);
+		final Animator animator = new AnimatorWrapper(new SpringTranslateAnimator(
+				animatingView,
+				0f, 0f,
+				250f, -500f,
+				100f, 100f,
+				SpringForce.STIFFNESS_MEDIUM, SpringForce.DAMPING_RATIO_NO_BOUNCY
+		));
+		// Act:
+		listener.onAnimationCancel(animator);
+		// Assert:
+		final long velocity = Translate.INTERRUPTED_VELOCITIES.get(viewInHierarchy);
+		assertThat(Translate.unpackX(velocity), is(250));
+		assertThat(Translate.unpackY(velocity), is(-500));
+	}
+
+	@Test public void testTransitionAnimatorListenerResetsInterruptedPosition() {
+		// Arrange:
+		final View viewInHierarchy = new View(context);
+		Translate.INTERRUPTED_POSITIONS.put(viewInHierarchy, Translate.pack(10, 20));
+		// Act:
+		new Translate.TransitionAnimatorListener(
+				new View(context),
+				viewInHierarchy,
+				15f, 35f,
+				0f, 0f
+		);
+		// Assert:
+		assertThat(Translate.INTERRUPTED_POSITIONS.get(viewInHierarchy), is(ViewTable.NO_VALUE));
 	}
 
 	@Test public void testTransitionAnimatorListenerOnAnimationPauseResume() {
@@ -418,11 +965,14 @@ public final class TranslateTest extends ViewTransitionTestCase {
 				0, 0,
 				15f, 35f
 		);
+		final Translate translate = new Translate();
+		translate.addListener(listener);
 		// Act:
-		listener.onTransitionEnd(new Translate());
+		listener.onTransitionEnd(translate);
 		// Assert:
 		assertThat(animatingView.getTranslationX(), is(15f));
 		assertThat(animatingView.getTranslationY(), is(35f));
+		assertThat(getTransitionListenersCount(translate), is(0));
 	}
 
 	@Test public void testTransitionAnimatorListenerOnTransitionCancel() {
@@ -439,10 +989,47 @@ public final class TranslateTest extends ViewTransitionTestCase {
 		// Assert:
 		verify(mockView).getTranslationX();
 		verify(mockView).getTranslationY();
-		verify(mockView).getTag(R.id.ui_transition_tag_position);
 		verifyNoMoreInteractions(mockView);
 	}
 
+	@Test public void testTransitionAnimatorListenerOnTransitionCancelRemovesListener() {
+		// Arrange:
+		final Translate.TransitionAnimatorListener listener = new Translate.TransitionAnimatorListener(
+				new View(context),
+				new View(context),
+				0, 0,
+				15f, 35f
+		);
+		final Translate translate = new Translate();
+		translate.addListener(listener);
+		// Act:
+		listener.onTransitionCancel(translate);
+		// Assert:
+		assertThat(getTransitionListenersCount(translate), is(0));
+	}
+
+	@Test public void testTransitionListenersCountForReusedTransition() {
+		// Arrange:
+		final Translate translate = new Translate();
+		final View view = createViewAttachedToWindow();
+		final TransitionValues values = new TransitionValues();
+		values.view = view;
+		// Act + Assert:
+		for (int i = 0; i < 100; i++) {
+			Translate.createAnimator(translate, view, values, 0, 0, 0f, 0f, 100f, 100f);
+			assertThat(getTransitionListenersCount(translate), is(1));
+			final List<Transition.TransitionListener> listeners = new ArrayList<>(getTransitionListeners(translate));
+			for (final Transition.TransitionListener listener : listeners) {
+				if (i % 2 == 0) {
+					listener.onTransitionEnd(translate);
+				} else {
+					listener.onTransitionCancel(translate);
+				}
+			}
+			assertThat(getTransitionListenersCount(translate), is(0));
+		}
+	}
+
 	@Test public void testTransitionAnimatorListenerOnTransitionStart() {
 		// Arrange:
 		final View mockView = mock(FrameLayout.class);
@@ -457,7 +1044,6 @@ public final class TranslateTest extends ViewTransitionTestCase {
 		// Assert:
 		verify(mockView).getTranslationX();
 		verify(mockView).getTranslationY();
-		verify(mockView).getTag(R.id.ui_transition_tag_position);
 		verifyNoMoreInteractions(mockView);
 	}
 
@@ -475,7 +1061,6 @@ public final class TranslateTest extends ViewTransitionTestCase {
 		// Assert:
 		verify(mockView).getTranslationX();
 		verify(mockView).getTranslationY();
-		verify(mockView).getTag(R.id.ui_transition_tag_position);
 		verifyNoMoreInteractions(mockView);
 	}
 
@@ -493,10 +1078,29 @@ public final class TranslateTest extends ViewTransitionTestCase {
 		// Assert:
 		verify(mockView).getTranslationX();
 		verify(mockView).getTranslationY();
-		verify(mockView).getTag(R.id.ui_transition_tag_position);
 		verifyNoMoreInteractions(mockView);
 	}
 
+	private static List<Transition.TransitionListener> getTransitionListeners(final Transition transition) {
+		final List<Transition.TransitionListener> listeners = ReflectionHelpers.getField(transition, "mListeners");
+		return listeners == null ? Collections.<Transition.TransitionListener>emptyList() : listeners;
+	}
+
+	private static int getTransitionListenersCount(final Transition transition) {
+		return getTransitionListeners(transition).size();
+	}
+
+	private static Animator unwrap(final Animator animator) {
+		assertThat(animator, instanceOf(AnimatorWrapper.class));
+		return ((AnimatorWrapper) animator).getWrappedAnimator();
+	}
+
+	private void assertThatTransitionAnimatorForViewIsValid(Animator animator, View view) {
+		// Assert:
+		assertThat(animator, is(notNullValue()));
+		assertThatAnimatorForViewIsValid(unwrap(animator), view);
+	}
+
 	private void assertThatAnimatorForViewIsValid(Animator animator, View view) {
 		// Assert:
 		assertThat(animator, is(notNullValue()));
@@ -0,0 +1,127 @@
+/*
+ * *************************************************************************************************
+ *                                 Copyright 2018 Universum Studios
+ * *************************************************************************************************
+ *                  Licensed under the Apache License, Version 2.0 (the "License")
+ * -------------------------------------------------------------------------------------------------
+ * You may not use this file except in compliance with the License. You may obtain a copy of the
+ * License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License
+ * is distributed on an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express
+ * or implied.
+ *
+ * See the License for the specific language governing permissions and limitations under the License.
+ * *************************************************************************************************
+ */
+package universum.studios.android.test.local;
+
+import java.lang.reflect.Method;
+
+import androidx.annotation.NonNull;
+
+/**
+ * Utility that may be used to measure count of bytes allocated on the heap by the <b>current thread</b>
+ * while running a block of code on a local <i>JVM</i>.
+ * <p>
+ * The counter relies on {@code com.sun.management.ThreadMXBean} which is not part of the Android
+ * SDK, so it is accessed reflectively. When such bean is not available, {@link #isSupported()}
+ * returns {@code false} and tests relying on this counter should be skipped.
+ *
+ * @author Martin Albedinsky
+ */
+public final class AllocationCounter {
+
+	/**
+	 * Thread MX bean used to query allocated bytes. May be {@code null} if not supported.
+	 */
+	private static final Object THREAD_BEAN;
+
+	/**
+	 * Method used to query count of bytes allocated by a specific thread.
+	 */
+	private static final Method ALLOCATED_BYTES_METHOD;
+
+	static {
+		Object bean = null;
+		Method method = null;
+		try {
+			final Class<?> factoryClass = Class.forName("java.lang.management.ManagementFactory");
+			bean = factoryClass.getMethod("getThreadMXBean").invoke(null);
+			final Class<?> beanClass = Class.forName("com.sun.management.ThreadMXBean");
+			if (beanClass.isInstance(bean)) {
+				method = beanClass.getMethod("getThreadAllocatedBytes", long.class);
+			} else {
+				bean = null;
+			}
+		} catch (Exception e) {
+			bean = null;
+			method = null;
+		}
+		THREAD_BEAN = bean;
+		ALLOCATED_BYTES_METHOD = method;
+	}
+
+	/**
+	 */
+	private AllocationCounter() {
+		// Not allowed to be instantiated publicly.
+		throw new UnsupportedOperationException();
+	}
+
+	/**
+	 * Checks whether the allocation counting is supported by the current JVM.
+	 *
+	 * @return {@code True} if allocations may be counted, {@code false} otherwise.
+	 */
+	public static boolean isSupported() {
+		return THREAD_BEAN != null && ALLOCATED_BYTES_METHOD != null;
+	}
+
+	/**
+	 * Runs the given <var>block</var> of code the specified count of times and returns count of
+	 * bytes allocated by the current thread during those runs.
+	 * <p>
+	 * The block is run once before the measurement starts so any lazily initialized state does
+	 * not participate in the result.
+	 *
+	 * @param iterations Count of times to run the block.
+	 * @param block      The block of code to measure.
+	 * @return Count of allocated bytes or {@code -1} if counting is not supported.
+	 *
+	 * @see #isSupported()
+	 */
+	public static long measure(final int iterations, @NonNull final Runnable block) {
+		if (!isSupported()) {
+			return -1;
+		}
+		block.run();
+		final long threadId = Thread.currentThread().getId();
+		// Calibrate overhead of the query itself (boxing and reflection) so it is not counted.
+		final long calibrationStart = allocatedBytes(threadId);
+		final long calibrationEnd = allocatedBytes(threadId);
+		final long overhead = calibrationEnd - calibrationStart;
+		final long start = allocatedBytes(threadId);
+		for (int i = 0; i < iterations; i++) {
+			block.run();
+		}
+		final long end = allocatedBytes(threadId);
+		return Math.max(0, end - start - overhead);
+	}
+
+	/**
+	 * Queries count of bytes allocated by a thread with the specified <var>threadId</var>.
+	 *
+	 * @param threadId Id of the desired thread.
+	 * @return Count of allocated bytes.
+	 */
+	private static long allocatedBytes(final long threadId) {
+		try {
+			return (Long) ALLOCATED_BYTES_METHOD.invoke(THREAD_BEAN, threadId);
+		} catch (Exception e) {
+			throw new IllegalStateException("Failed to query allocated bytes.", e);
+		}
+	}
+}